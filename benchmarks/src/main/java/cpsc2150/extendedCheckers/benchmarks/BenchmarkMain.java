@@ -0,0 +1,36 @@
+package cpsc2150.extendedCheckers.benchmarks;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkMain is the entry point of the benchmarks jar. It runs JMH with the options given on the command line, the
+ * same as JMH's own main, but always adds the GC profiler so that every result comes with its allocation rate and
+ * bytes allocated per operation.
+ *
+ * @invariant [args from compilation are always obtained via the terminal]
+ */
+public class BenchmarkMain {
+    /**
+     * Main function for the benchmarks. Accepts one parameter.
+     * @param args Any JMH command line options, as an array of Strings
+     * @throws CommandLineOptionException when the options can not be parsed
+     * @throws RunnerException when a benchmark fails to run
+     *
+     * @pre None
+     *
+     * @post main = [runs the chosen benchmarks with allocation profiling and prints their results]
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        Options options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
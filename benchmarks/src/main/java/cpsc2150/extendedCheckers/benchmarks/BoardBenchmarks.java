@@ -0,0 +1,193 @@
+package cpsc2150.extendedCheckers.benchmarks;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoardBenchmarks measures the primary ICheckerBoard operations on every implementation at every board size. Each
+ * benchmark leaves the board the way it found it, so that every invocation measures the same position: the starting
+ * position from putPlayersOnNewBoard, plus one extra player two piece in front of player one's front row for the jump
+ * benchmark to capture.
+ *
+ * @invariant [board is in the same position before and after every benchmark invocation]
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmarks {
+    /**
+     * the board implementation to measure: f (CheckerBoard), m (CheckerBoardMem), b (CheckerBoardBit), or c
+     * (CheckerBoardCompact)
+     */
+    @Param({"f", "m", "b", "c"})
+    public char backend;
+
+    /**
+     * the dimension of the board
+     */
+    @Param({"8", "10", "12", "14", "16"})
+    public int boardSize;
+
+    /**
+     * the board being measured
+     */
+    private ICheckerBoard board;
+
+    /**
+     * a player one piece on the front row, the empty position diagonally in front of it (SE), and a player one
+     * piece on the front row with a player two piece in front of it (SE) that it can jump
+     */
+    private BoardPosition frontPiece, emptyPos, jumpingPiece, jumpedPiece;
+
+    /**
+     * Makes the board and picks the positions the benchmarks use.
+     *
+     * @pre backend = [f, m, b, or c] AND boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post board = [the starting position with a player two piece in front of jumpingPiece]
+     */
+    @Setup
+    public void setUp() {
+        int frontRow = boardSize / ICheckerBoard.EVEN_DIVISOR - ICheckerBoard.TWO_POSITIONS;
+
+        if (backend == 'm') {
+            board = new CheckerBoardMem(boardSize);
+        }
+        else if (backend == 'b') {
+            board = new CheckerBoardBit(boardSize);
+        }
+        else if (backend == 'c') {
+            board = new CheckerBoardCompact(boardSize);
+        }
+        else {
+            board = new CheckerBoard(boardSize);
+        }
+        board.putPlayersOnNewBoard('x', 'o');
+
+        // front row pieces sit on even columns when the row is even and odd columns when it is odd
+        frontPiece = new BoardPosition(frontRow, frontRow % ICheckerBoard.EVEN_DIVISOR);
+        emptyPos = new BoardPosition(frontRow + 1, frontPiece.getColumn() + 1);
+        jumpingPiece = new BoardPosition(frontRow, frontPiece.getColumn() + ICheckerBoard.TWO_POSITIONS * ICheckerBoard.TWO_POSITIONS);
+        jumpedPiece = new BoardPosition(frontRow + 1, jumpingPiece.getColumn() + 1);
+        board.placePiece(jumpedPiece, board.getPlayerTwo());
+    }
+
+    /**
+     * Reads every position on the board, the way toString and a full-board scan do.
+     * @param blackhole Consumes the result so it is not optimized away, as a Blackhole
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public void whatsAtPosScan(Blackhole blackhole) {
+        for (int row = 0; row < boardSize; row++) {
+            for (int column = 0; column < boardSize; column++) {
+                blackhole.consume(board.whatsAtPos(new BoardPosition(row, column)));
+            }
+        }
+    }
+
+    /**
+     * Places a piece on an empty position and removes it again.
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public void placeAndRemovePiece() {
+        board.placePiece(emptyPos, board.getPlayerOne());
+        board.removePiece(emptyPos);
+    }
+
+    /**
+     * Moves a front row piece forward and back again.
+     * @param blackhole Consumes the results so they are not optimized away, as a Blackhole
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public void movePiece(Blackhole blackhole) {
+        BoardPosition moved = board.movePiece(frontPiece, DirectionEnum.SE);
+        blackhole.consume(board.movePiece(moved, DirectionEnum.NW));
+    }
+
+    /**
+     * Jumps the extra player two piece, then puts both pieces back where they were.
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public void jumpPiece() {
+        BoardPosition landed = board.jumpPiece(jumpingPiece, DirectionEnum.SE);
+        board.removePiece(landed);
+        board.placePiece(jumpingPiece, board.getPlayerOne());
+        board.placePiece(jumpedPiece, board.getPlayerTwo());
+    }
+
+    /**
+     * Scans the positions around the jumping piece.
+     * @return The surrounding positions, as a HashMap containing a DirectionEnum and a Character
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public HashMap<DirectionEnum, Character> scanSurroundingPositions() {
+        return board.scanSurroundingPositions(jumpingPiece);
+    }
+
+    /**
+     * Works out the directions the jumping piece can move in.
+     *
+     * @pre None
+     *
+     * @post [player one's viableDirections are set for jumpingPiece] AND [the pieces on board are unchanged]
+     */
+    @Benchmark
+    public void determineViableDirections() {
+        board.determineViableDirections(jumpingPiece);
+    }
+
+    /**
+     * Renders the board the way CheckersFE prints it every turn.
+     * @return The rendered board, as a String
+     *
+     * @pre None
+     *
+     * @post board = #board
+     */
+    @Benchmark
+    public String boardToString() {
+        return board.toString();
+    }
+}
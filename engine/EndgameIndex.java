@@ -0,0 +1,368 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+
+/**
+ * EndgameIndex numbers every position of one material signature on an 8x8 board: how many standard pieces and kings
+ * each player has, whatever squares they stand on. The numbering is a perfect index, so a table of results for the
+ * signature is a plain array with one entry per number. Positions are given as four bitmasks of the 32 playable
+ * squares, indexed by piece type (ICheckerBoard.PLAYER_ONE_TYPE, PLAYER_ONE_KING_TYPE, PLAYER_TWO_TYPE, and
+ * PLAYER_TWO_KING_TYPE), so a position is the same whatever chars the players picked.
+ *
+ * A number is built from the rank of each set of squares among the squares it could stand on: player one's standard
+ * pieces among the 28 squares off their crowning row, then player two's among the 28 off theirs, then player one's
+ * kings among the squares the standard pieces leave free, then player two's kings among the squares still free, and
+ * finally the player to move. The two sets of standard pieces are ranked separately, so a few numbers put both players'
+ * standard pieces on one square; decode reports those as INVALID and they never belong to a position.
+ *
+ * @invariant 0 <= menOne, kingsOne, menTwo, kingsTwo AND 1 <= menOne + kingsOne AND 1 <= menTwo + kingsTwo AND
+ * [the four counts add up to at most MAX_PIECES] AND size = 2 * positionsPerSide
+ */
+public final class EndgameIndex {
+    // represents the board size endgame tables are made for, and its number of playable squares
+    public static final int BOARD_SIZE = 8;
+    public static final int SQUARE_COUNT = 32;
+    // represents the most pieces a signature can hold, which keeps every number within an int
+    public static final int MAX_PIECES = 6;
+    // represents the player to move of a number, and what decode returns for a number that is not a position
+    public static final int PLAYER_ONE_TO_MOVE = 0;
+    public static final int PLAYER_TWO_TO_MOVE = 1;
+    public static final int INVALID = -1;
+    // represents the number of piece types, which is the length of a position's array of bitmasks
+    public static final int PIECE_TYPES = 4;
+
+    // represents the squares of one row, and the squares a standard piece can stand on (all but its crowning row)
+    private static final int ROW_SQUARES = BOARD_SIZE / 2;
+    private static final int MAN_SQUARES = SQUARE_COUNT - ROW_SQUARES;
+    // represents the bits of a signature that hold each count
+    private static final int COUNT_BITS = 3;
+
+    // represents n choose k for every 0 <= n <= SQUARE_COUNT and 0 <= k <= MAX_PIECES
+    private static final int[][] CHOOSE = new int[SQUARE_COUNT + 1][MAX_PIECES + 1];
+
+    static {
+        for (int n = 0; n <= SQUARE_COUNT; n++) {
+            CHOOSE[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, MAX_PIECES); k++) {
+                CHOOSE[n][k] = CHOOSE[n - 1][k - 1] + CHOOSE[n - 1][k];
+            }
+        }
+    }
+
+    /**
+     * the number of standard pieces and kings of each player
+     */
+    private final int menOne;
+    private final int kingsOne;
+    private final int menTwo;
+    private final int kingsTwo;
+
+    /**
+     * the number of ways each set of squares can be placed, and the number of positions with each player to move
+     */
+    private final int menTwoCount;
+    private final int kingsOneCount;
+    private final int kingsTwoCount;
+    private final int positionsPerSide;
+
+    /**
+     * Constructor for EndgameIndex object. Accepts four parameters.
+     * @param aMenOne The number of player one's standard pieces, as an int
+     * @param aKingsOne The number of player one's kings, as an int
+     * @param aMenTwo The number of player two's standard pieces, as an int
+     * @param aKingsTwo The number of player two's kings, as an int
+     * @throws IllegalArgumentException When a player has no pieces, a count is negative, or there are more than
+     * MAX_PIECES pieces
+     *
+     * @pre None
+     *
+     * @post menOne = aMenOne AND kingsOne = aKingsOne AND menTwo = aMenTwo AND kingsTwo = aKingsTwo AND
+     * positionsPerSide = [the number of ways to place the pieces]
+     */
+    public EndgameIndex(int aMenOne, int aKingsOne, int aMenTwo, int aKingsTwo) {
+        if (aMenOne < 0 || aKingsOne < 0 || aMenTwo < 0 || aKingsTwo < 0 || aMenOne + aKingsOne == 0
+                || aMenTwo + aKingsTwo == 0 || aMenOne + aKingsOne + aMenTwo + aKingsTwo > MAX_PIECES) {
+            throw new IllegalArgumentException("no endgame table for " + aMenOne + " " + aKingsOne + " " + aMenTwo + " " + aKingsTwo);
+        }
+        menOne = aMenOne;
+        kingsOne = aKingsOne;
+        menTwo = aMenTwo;
+        kingsTwo = aKingsTwo;
+        menTwoCount = CHOOSE[MAN_SQUARES][menTwo];
+        kingsOneCount = CHOOSE[SQUARE_COUNT - menOne - menTwo][kingsOne];
+        kingsTwoCount = CHOOSE[SQUARE_COUNT - menOne - menTwo - kingsOne][kingsTwo];
+        positionsPerSide = CHOOSE[MAN_SQUARES][menOne] * menTwoCount * kingsOneCount * kingsTwoCount;
+    }
+
+    /**
+     * Packs the four piece counts of a material signature into one int, which is the same for every position with
+     * those pieces. Accepts four parameters.
+     * @param menOne The number of player one's standard pieces, as an int
+     * @param kingsOne The number of player one's kings, as an int
+     * @param menTwo The number of player two's standard pieces, as an int
+     * @param kingsTwo The number of player two's kings, as an int
+     * @return The signature, as an int
+     *
+     * @pre 0 <= menOne, kingsOne, menTwo, kingsTwo <= MAX_PIECES
+     *
+     * @post signature = [the four counts packed COUNT_BITS bits apart]
+     */
+    public static int signature(int menOne, int kingsOne, int menTwo, int kingsTwo) {
+        return (((menOne << COUNT_BITS | kingsOne) << COUNT_BITS | menTwo) << COUNT_BITS) | kingsTwo;
+    }
+
+    /**
+     * Finds the material signature of a position. Accepts one parameter.
+     * @param masks The squares of each piece type, indexed by piece type, as an int[]
+     * @return The signature, as an int
+     *
+     * @pre masks.length = PIECE_TYPES AND [no mask has more than MAX_PIECES squares]
+     *
+     * @post signatureOf = signature([the number of squares in each mask])
+     */
+    public static int signatureOf(int[] masks) {
+        return signature(Integer.bitCount(masks[ICheckerBoard.PLAYER_ONE_TYPE]), Integer.bitCount(masks[ICheckerBoard.PLAYER_ONE_KING_TYPE]),
+                Integer.bitCount(masks[ICheckerBoard.PLAYER_TWO_TYPE]), Integer.bitCount(masks[ICheckerBoard.PLAYER_TWO_KING_TYPE]));
+    }
+
+    /**
+     * Finds the number of a position. Accepts two parameters.
+     * @param masks The squares of each piece type, indexed by piece type, as an int[]
+     * @param side PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE, as an int
+     * @return The number of the position, as an int
+     *
+     * @pre signatureOf(masks) = getSignature() AND [no square is in two masks] AND [no standard piece is on its
+     * crowning row] AND side = [PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE]
+     *
+     * @post index = [the number that decode turns back into masks and side] AND 0 <= index < getSize()
+     */
+    public int index(int[] masks, int side) {
+        return index(masks[ICheckerBoard.PLAYER_ONE_TYPE], masks[ICheckerBoard.PLAYER_ONE_KING_TYPE], masks[ICheckerBoard.PLAYER_TWO_TYPE],
+                masks[ICheckerBoard.PLAYER_TWO_KING_TYPE], side);
+    }
+
+    /**
+     * Finds the number of the position on a board, with the board's player to move, without allocating. Accepts one
+     * parameter.
+     * @param board The board, as an ICheckerBoard
+     * @return The number of the position, as an int
+     *
+     * @pre board.getBoardSize() = BOARD_SIZE AND [the pieces on board have this signature]
+     *
+     * @post index = index([the squares of each piece type on board], [the side of board.getPlayerToMove()]) AND
+     * board = #board
+     */
+    public int index(ICheckerBoard board) {
+        int menOneMask = 0, kingsOneMask = 0, menTwoMask = 0, kingsTwoMask = 0;
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            switch (board.pieceType(board.whatsAtSquare(square))) {
+                case ICheckerBoard.PLAYER_ONE_TYPE -> menOneMask |= 1 << square;
+                case ICheckerBoard.PLAYER_ONE_KING_TYPE -> kingsOneMask |= 1 << square;
+                case ICheckerBoard.PLAYER_TWO_TYPE -> menTwoMask |= 1 << square;
+                case ICheckerBoard.PLAYER_TWO_KING_TYPE -> kingsTwoMask |= 1 << square;
+                default -> { }
+            }
+        }
+        int side = (board.getPlayerToMove() == board.getPlayerOne()) ? PLAYER_ONE_TO_MOVE : PLAYER_TWO_TO_MOVE;
+        return index(menOneMask, kingsOneMask, menTwoMask, kingsTwoMask, side);
+    }
+
+    /**
+     * Finds the number of a position from the squares of each piece type. Accepts five parameters.
+     * @param menOneMask The squares of player one's standard pieces, as an int
+     * @param kingsOneMask The squares of player one's kings, as an int
+     * @param menTwoMask The squares of player two's standard pieces, as an int
+     * @param kingsTwoMask The squares of player two's kings, as an int
+     * @param side PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE, as an int
+     * @return The number of the position, as an int
+     *
+     * @pre [the masks have this signature, share no square, and hold no standard piece on its crowning row] AND side =
+     * [PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE]
+     *
+     * @post index = [the number that decode turns back into the masks and side] AND 0 <= index < getSize()
+     */
+    private int index(int menOneMask, int kingsOneMask, int menTwoMask, int kingsTwoMask, int side) {
+        int men = menOneMask | menTwoMask;
+        int index = rank(menOneMask);
+
+        // player two crowns on the first row, so their standard pieces are ranked from the second row on
+        index = index * menTwoCount + rank(menTwoMask >>> ROW_SQUARES);
+        index = index * kingsOneCount + rank(compress(kingsOneMask, men));
+        index = index * kingsTwoCount + rank(compress(kingsTwoMask, men | kingsOneMask));
+        return side * positionsPerSide + index;
+    }
+
+    /**
+     * Turns a number back into its position. Accepts two parameters.
+     * @param index The number, as an int
+     * @param masks The array the squares of each piece type are written into, indexed by piece type, as an int[]
+     * @return The player to move (PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE), or INVALID when the number puts both
+     * players' standard pieces on one square, as an int
+     *
+     * @pre 0 <= index < getSize() AND masks.length = PIECE_TYPES
+     *
+     * @post decode = [the player to move of index, or INVALID] AND masks = [the squares of each piece type of index]
+     */
+    public int decode(int index, int[] masks) {
+        int side = index / positionsPerSide;
+        int rest = index % positionsPerSide;
+        int kingsTwoRank = rest % kingsTwoCount;
+        rest /= kingsTwoCount;
+        int kingsOneRank = rest % kingsOneCount;
+        rest /= kingsOneCount;
+        int menTwoRank = rest % menTwoCount;
+        rest /= menTwoCount;
+
+        masks[ICheckerBoard.PLAYER_ONE_TYPE] = unrank(rest, menOne, MAN_SQUARES);
+        masks[ICheckerBoard.PLAYER_TWO_TYPE] = unrank(menTwoRank, menTwo, MAN_SQUARES) << ROW_SQUARES;
+        int men = masks[ICheckerBoard.PLAYER_ONE_TYPE] | masks[ICheckerBoard.PLAYER_TWO_TYPE];
+        masks[ICheckerBoard.PLAYER_ONE_KING_TYPE] = expand(unrank(kingsOneRank, kingsOne, SQUARE_COUNT - menOne - menTwo), men);
+        masks[ICheckerBoard.PLAYER_TWO_KING_TYPE] = expand(unrank(kingsTwoRank, kingsTwo, SQUARE_COUNT - menOne - menTwo - kingsOne),
+                men | masks[ICheckerBoard.PLAYER_ONE_KING_TYPE]);
+        return ((masks[ICheckerBoard.PLAYER_ONE_TYPE] & masks[ICheckerBoard.PLAYER_TWO_TYPE]) != 0) ? INVALID : side;
+    }
+
+    /**
+     * Ranks a set of squares among every set of the same size, in colexicographic order. Accepts one parameter.
+     * @param mask The set of squares, as an int
+     * @return The rank of the set, as an int
+     *
+     * @pre Integer.bitCount(mask) <= MAX_PIECES
+     *
+     * @post rank = [the sum of CHOOSE[square][i + 1] over the i-th lowest square of mask]
+     */
+    private static int rank(int mask) {
+        int rank = 0;
+        for (int i = 1; mask != 0; i++) {
+            rank += CHOOSE[Integer.numberOfTrailingZeros(mask)][i];
+            mask &= mask - 1;
+        }
+        return rank;
+    }
+
+    /**
+     * Finds the set of squares of a rank. Accepts three parameters.
+     * @param rank The rank, as an int
+     * @param count The number of squares in the set, as an int
+     * @param limit The number of squares the set is picked from, as an int
+     * @return The set of squares, as an int
+     *
+     * @pre 0 <= count <= MAX_PIECES AND 0 <= rank < CHOOSE[limit][count]
+     *
+     * @post rank(unrank) = rank AND Integer.bitCount(unrank) = count
+     */
+    private static int unrank(int rank, int count, int limit) {
+        int mask = 0;
+        // the highest square of the set is the largest whose count of smaller sets is not above the rank
+        for (int i = count; i >= 1; i--) {
+            int square = limit - 1;
+            while (CHOOSE[square][i] > rank) {
+                square--;
+            }
+            mask |= 1 << square;
+            rank -= CHOOSE[square][i];
+            limit = square;
+        }
+        return mask;
+    }
+
+    /**
+     * Renumbers a set of squares so that only the squares not in an occupied set are counted. Accepts two parameters.
+     * @param mask The set of squares, none of which are occupied, as an int
+     * @param occupied The occupied squares, as an int
+     * @return The renumbered set, as an int
+     *
+     * @pre (mask & occupied) = 0
+     *
+     * @post compress = [each square of mask, less the number of occupied squares below it]
+     */
+    private static int compress(int mask, int occupied) {
+        int result = 0;
+        while (mask != 0) {
+            int square = Integer.numberOfTrailingZeros(mask);
+            result |= 1 << (square - Integer.bitCount(occupied & ((1 << square) - 1)));
+            mask &= mask - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Undoes compress: turns a set numbered among the squares not in an occupied set back into squares. Accepts two
+     * parameters.
+     * @param mask The renumbered set, as an int
+     * @param occupied The occupied squares, as an int
+     * @return The set of squares, as an int
+     *
+     * @pre Integer.bitCount(mask) + Integer.bitCount(occupied) <= SQUARE_COUNT
+     *
+     * @post compress(expand, occupied) = mask AND (expand & occupied) = 0
+     */
+    private static int expand(int mask, int occupied) {
+        int result = 0, free = 0;
+        for (int square = 0; square < SQUARE_COUNT && (mask >>> free) != 0; square++) {
+            if ((occupied & (1 << square)) == 0) {
+                if ((mask & (1 << free)) != 0) {
+                    result |= 1 << square;
+                }
+                free++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Simple accessor for the number of pieces of one type. Accepts one parameter.
+     * @param type The piece type (ICheckerBoard.PLAYER_ONE_TYPE, PLAYER_ONE_KING_TYPE, PLAYER_TWO_TYPE, or
+     * PLAYER_TWO_KING_TYPE), as an int
+     * @return The number of pieces, as an int
+     *
+     * @pre type = [a piece type]
+     *
+     * @post getPieceCount = [menOne, kingsOne, menTwo, or kingsTwo]
+     */
+    public int getPieceCount(int type) {
+        return switch (type) {
+            case ICheckerBoard.PLAYER_ONE_TYPE -> menOne;
+            case ICheckerBoard.PLAYER_ONE_KING_TYPE -> kingsOne;
+            case ICheckerBoard.PLAYER_TWO_TYPE -> menTwo;
+            default -> kingsTwo;
+        };
+    }
+
+    /**
+     * Simple accessor for the material signature of the index.
+     * @return The signature, as an int
+     *
+     * @pre None
+     *
+     * @post getSignature = signature(menOne, kingsOne, menTwo, kingsTwo)
+     */
+    public int getSignature() {
+        return signature(menOne, kingsOne, menTwo, kingsTwo);
+    }
+
+    /**
+     * Simple accessor for the number of numbers, which is the length of a table of the signature.
+     * @return The number of numbers, as an int
+     *
+     * @pre None
+     *
+     * @post getSize = 2 * positionsPerSide
+     */
+    public int getSize() {
+        return 2 * positionsPerSide;
+    }
+
+    /**
+     * Names the signature by its four counts, e.g. "1021" for one standard piece and no kings against two standard
+     * pieces and one king.
+     * @return The name, as a String
+     *
+     * @pre None
+     *
+     * @post toString = [menOne, kingsOne, menTwo, and kingsTwo as digits]
+     */
+    @Override
+    public String toString() {
+        return "" + menOne + kingsOne + menTwo + kingsTwo;
+    }
+}
@@ -0,0 +1,229 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * EndgameTable holds the solved result of every position of one material signature (see EndgameIndex): whether the
+ * player to move wins, loses, or draws with best play, and for a win or a loss the distance to conversion, which is
+ * the number of plies until the next capture or crowning when the winner hurries and the loser holds out. A capture or
+ * a crowning changes the signature, so the distance is how far the position is from a smaller or simpler table.
+ *
+ * Each result is one byte, at the position's number in the EndgameIndex: DRAW is 0, a win in d plies is d, and a
+ * loss in d plies is -d - 1, so a player with no moves has lost in 0 plies. A table file is a header of HEADER_BYTES
+ * bytes (MAGIC, VERSION, and the four piece counts of the signature, as big-endian ints) followed by the results in
+ * order, one byte each, and is named by the signature (see fileName).
+ *
+ * @invariant values.length = index.getSize() AND [every value is DRAW, a win, or a loss of at most MAX_DISTANCE plies]
+ */
+public final class EndgameTable {
+    // represents the first int of every endgame table file ("CTB1"), and the version of the file layout
+    public static final int MAGIC = 0x43544231;
+    public static final int VERSION = 1;
+    // represents the size in bytes of the header
+    public static final int HEADER_BYTES = 6 * Integer.BYTES;
+    // represents the result of a drawn position (and of a number that is not a position), and the longest distance
+    // to conversion a result can hold
+    public static final byte DRAW = 0;
+    public static final int MAX_DISTANCE = Byte.MAX_VALUE;
+    // represents the start and end of every table file name
+    private static final String FILE_PREFIX = "endgame-";
+    private static final String FILE_SUFFIX = ".tb";
+
+    /**
+     * the numbering of the table's positions, and the result of each
+     */
+    private final EndgameIndex index;
+    private final byte[] values;
+
+    /**
+     * Constructor for EndgameTable object. The table keeps the array it is given rather than a copy. Accepts two
+     * parameters.
+     * @param anIndex The numbering of the positions, as an EndgameIndex
+     * @param aValues The result of every position, as a byte[]
+     *
+     * @pre anIndex != null AND aValues.length = anIndex.getSize()
+     *
+     * @post index = anIndex AND values = aValues
+     */
+    public EndgameTable(EndgameIndex anIndex, byte[] aValues) {
+        index = anIndex;
+        values = aValues;
+    }
+
+    /**
+     * Makes the result of a win. Accepts one parameter.
+     * @param distance The plies to conversion, as an int
+     * @return The result, as a byte
+     *
+     * @pre 1 <= distance <= MAX_DISTANCE
+     *
+     * @post win = distance
+     */
+    public static byte win(int distance) {
+        return (byte) distance;
+    }
+
+    /**
+     * Makes the result of a loss. Accepts one parameter.
+     * @param distance The plies to conversion, as an int
+     * @return The result, as a byte
+     *
+     * @pre 0 <= distance <= MAX_DISTANCE
+     *
+     * @post loss = -distance - 1
+     */
+    public static byte loss(int distance) {
+        return (byte) (-distance - 1);
+    }
+
+    /**
+     * Checks whether a result is a win for the player to move. Accepts one parameter.
+     * @param value The result, as a byte
+     * @return True when the result is a win, as a boolean
+     *
+     * @pre None
+     *
+     * @post isWin = value > 0
+     */
+    public static boolean isWin(byte value) {
+        return value > 0;
+    }
+
+    /**
+     * Checks whether a result is a loss for the player to move. Accepts one parameter.
+     * @param value The result, as a byte
+     * @return True when the result is a loss, as a boolean
+     *
+     * @pre None
+     *
+     * @post isLoss = value < 0
+     */
+    public static boolean isLoss(byte value) {
+        return value < 0;
+    }
+
+    /**
+     * Finds the distance to conversion of a result. Accepts one parameter.
+     * @param value The result, as a byte
+     * @return The plies to conversion of a win or a loss, or 0 for a draw, as an int
+     *
+     * @pre None
+     *
+     * @post distance = [value for a win, -value - 1 for a loss, or 0]
+     */
+    public static int distance(byte value) {
+        return (value < 0) ? -value - 1 : value;
+    }
+
+    /**
+     * Names the file of a signature's table, e.g. "endgame-1021.tb". Accepts one parameter.
+     * @param anIndex The numbering of the signature, as an EndgameIndex
+     * @return The file name, as a String
+     *
+     * @pre anIndex != null
+     *
+     * @post fileName = FILE_PREFIX + anIndex + FILE_SUFFIX
+     */
+    public static String fileName(EndgameIndex anIndex) {
+        return FILE_PREFIX + anIndex + FILE_SUFFIX;
+    }
+
+    /**
+     * Writes the table into a directory, named by fileName. Accepts one parameter.
+     * @param directory The directory to write into, which must exist, as a Path
+     * @return The file written, which is replaced when it exists, as a Path
+     * @throws IOException When the file can not be written
+     *
+     * @pre directory != null
+     *
+     * @post write = directory.resolve(fileName(index)) AND [the file holds the table]
+     */
+    public Path write(Path directory) throws IOException {
+        Path file = directory.resolve(fileName(index));
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                out.writeInt(index.getPieceCount(type));
+            }
+            out.write(values);
+        }
+        return file;
+    }
+
+    /**
+     * Reads a table file written by write. Accepts one parameter.
+     * @param file The table file, as a Path
+     * @return The table, as an EndgameTable
+     * @throws IOException When the file can not be read, or is not an endgame table of this version
+     *
+     * @pre file != null
+     *
+     * @post read = [the table in file]
+     */
+    public static EndgameTable read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException(file + " is not an endgame table of version " + VERSION);
+            }
+            EndgameIndex index;
+            try {
+                index = new EndgameIndex(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+            }
+            catch (IllegalArgumentException e) {
+                throw new IOException(file + " has a bad signature: " + e.getMessage(), e);
+            }
+            if (Files.size(file) != HEADER_BYTES + (long) index.getSize()) {
+                throw new IOException(file + " does not hold every position of " + index);
+            }
+            byte[] values = new byte[index.getSize()];
+            in.readFully(values);
+            return new EndgameTable(index, values);
+        }
+    }
+
+    /**
+     * Finds the result of the position on a board, for its player to move. Accepts one parameter.
+     * @param board The board, as an ICheckerBoard
+     * @return The result, as a byte
+     *
+     * @pre board.getBoardSize() = EndgameIndex.BOARD_SIZE AND [the pieces on board have the table's signature]
+     *
+     * @post probe = getValue(index.index(board)) AND board = #board
+     */
+    public byte probe(ICheckerBoard board) {
+        return values[index.index(board)];
+    }
+
+    /**
+     * Simple accessor for the result of a position. Accepts one parameter.
+     * @param position The number of the position (see EndgameIndex), as an int
+     * @return The result, as a byte
+     *
+     * @pre 0 <= position < index.getSize()
+     *
+     * @post getValue = values[position]
+     */
+    public byte getValue(int position) {
+        return values[position];
+    }
+
+    /**
+     * Simple accessor for the numbering of the table's positions.
+     * @return The numbering, as an EndgameIndex
+     *
+     * @pre None
+     *
+     * @post getIndex = index
+     */
+    public EndgameIndex getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,143 @@
+package cpsc2150.extendedCheckers.engine;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * EvalWeights holds the weight of every FeatureEnum an Evaluator scores positions with. Weights are read from a file of
+ * "key = value" lines (the java.util.Properties format), where each key is a FeatureEnum's getKey and each value is a
+ * whole number; a feature the file leaves out keeps its default weight, and a weight of 0 turns the feature off.
+ * EvalWeights can not be changed once it is made, so one can be shared by every search thread.
+ *
+ * @invariant weights.length = [the number of FeatureEnums]
+ */
+public final class EvalWeights {
+    // represents the weights of every feature at their defaults
+    public static final EvalWeights DEFAULT = new EvalWeights();
+
+    /**
+     * the weight of every feature, indexed by FeatureEnum ordinal
+     */
+    private final int[] weights;
+
+    /**
+     * Constructor for EvalWeights object, with every feature at its default weight.
+     *
+     * @pre None
+     *
+     * @post weights = [the default weight of every feature]
+     */
+    private EvalWeights() {
+        weights = new int[FeatureEnum.values().length];
+        for (FeatureEnum feature : FeatureEnum.values()) {
+            weights[feature.ordinal()] = feature.getDefaultWeight();
+        }
+    }
+
+    /**
+     * Constructor for EvalWeights object, with the weights of another EvalWeights. Accepts one parameter.
+     * @param source The weights being copied, as an EvalWeights
+     *
+     * @pre source != null
+     *
+     * @post weights = [a copy of source.weights]
+     */
+    private EvalWeights(EvalWeights source) {
+        weights = source.weights.clone();
+    }
+
+    /**
+     * Reads the weights in a file. Accepts one parameter.
+     * @param file The weights file, as a Path
+     * @return The weights the file gives, with every other feature at its default weight, as an EvalWeights
+     * @throws IOException When the file can not be read
+     * @throws IllegalArgumentException When a key is not a feature or a value is not a whole number
+     *
+     * @pre file != null
+     *
+     * @post load = [the weights given by the file, and the default weight of every feature it leaves out]
+     */
+    public static EvalWeights load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return fromProperties(properties);
+    }
+
+    /**
+     * Makes weights from Properties whose keys are FeatureEnum keys. Accepts one parameter.
+     * @param properties The weights, as Properties
+     * @return The weights given, with every other feature at its default weight, as an EvalWeights
+     * @throws IllegalArgumentException When a key is not a feature or a value is not a whole number
+     *
+     * @pre properties != null
+     *
+     * @post fromProperties = [the weights given, and the default weight of every feature left out]
+     */
+    public static EvalWeights fromProperties(Properties properties) {
+        EvalWeights result = new EvalWeights();
+
+        for (String key : properties.stringPropertyNames()) {
+            FeatureEnum feature = featureFor(key);
+            String value = properties.getProperty(key).trim();
+            try {
+                result.weights[feature.ordinal()] = Integer.parseInt(value);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("weight of " + key + " is not a whole number: " + value, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the feature a weights file key belongs to. Accepts one parameter.
+     * @param key The key, as a String
+     * @return The feature whose getKey is key, ignoring case and surrounding spaces, as a FeatureEnum
+     * @throws IllegalArgumentException When no feature has the key
+     *
+     * @pre key != null
+     *
+     * @post featureFor = [the feature whose key is key]
+     */
+    private static FeatureEnum featureFor(String key) {
+        for (FeatureEnum feature : FeatureEnum.values()) {
+            if (feature.getKey().equalsIgnoreCase(key.trim())) {
+                return feature;
+            }
+        }
+        throw new IllegalArgumentException("unknown evaluation feature: " + key);
+    }
+
+    /**
+     * Makes a copy of these weights with the weight of one feature changed. Accepts two parameters.
+     * @param feature The feature whose weight changes, as a FeatureEnum
+     * @param weight The new weight, as an int
+     * @return The changed copy, as an EvalWeights
+     *
+     * @pre feature != null
+     *
+     * @post with = [an EvalWeights with the same weights, except that feature has weight] AND weights = #weights
+     */
+    public EvalWeights with(FeatureEnum feature, int weight) {
+        EvalWeights result = new EvalWeights(this);
+        result.weights[feature.ordinal()] = weight;
+        return result;
+    }
+
+    /**
+     * Simple accessor for the weight of a feature. Accepts one parameter.
+     * @param feature The feature, as a FeatureEnum
+     * @return The weight of the feature, as an int
+     *
+     * @pre feature != null
+     *
+     * @post get = weights[feature.ordinal()]
+     */
+    public int get(FeatureEnum feature) {
+        return weights[feature.ordinal()];
+    }
+}
@@ -0,0 +1,301 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.models.PositionListener;
+import cpsc2150.extendedCheckers.models.SquareTable;
+
+/**
+ * Evaluator scores the position of a board with the weighted features of FeatureEnum. It is attached to one board at a
+ * time as the board's PositionListener, and keeps its score up to date as pieces are placed and removed, so that
+ * scoring a position is a single addition however many pieces are on the board, and costs nothing to allocate.
+ *
+ * The features that only depend on a piece and its square (material, advancement, center control, and the back row
+ * guard) are looked up in a table of every type of piece on every square, made when the Evaluator is attached to a
+ * board of a new size. The features that depend on the squares around a piece (mobility and runaway pieces) are kept
+ * for every piece, and when a square changes only the piece on it and the pieces next to it are scored again.
+ *
+ * @invariant [occupant holds the type plus one of the piece on every square of board, or 0] AND staticScore = [the
+ * sum of pieceSquare of every piece on board] AND local[square] = localValue(square) for every square of board AND
+ * localScore = [the sum of local]
+ */
+public class Evaluator implements PositionListener {
+    // represents the number of types of pieces and the most playable squares on any board (16x16)
+    private static final int NUM_TYPES = ICheckerBoard.PLAYER_TWO_KING_TYPE + 1;
+    private static final int MAX_SQUARES = ICheckerBoard.MAX_BOARD_SIZE * ICheckerBoard.MAX_BOARD_SIZE / ICheckerBoard.EVEN_DIVISOR;
+    // represents the number of rows from being crowned a standard piece can be to count as a runaway
+    private static final int RUNAWAY_ROWS = 2;
+    // represents the fraction of the rows and columns on each side of the board that are not in the center
+    private static final int CENTER_DIVISOR = 4;
+
+    /**
+     * the weights of the features
+     */
+    private final EvalWeights weights;
+    private final int mobilityWeight, runawayWeight;
+
+    /**
+     * the value of every type of piece on every square, from player one's point of view, indexed by
+     * type * squareCount + square, for the board size it was made for
+     */
+    private final int[] pieceSquare = new int[NUM_TYPES * MAX_SQUARES];
+    private int tableSize;
+
+    /**
+     * the type plus one of the piece on every square, or 0 for an empty square
+     */
+    private final byte[] occupant = new byte[MAX_SQUARES];
+
+    /**
+     * the mobility and runaway value of every square, kept so that a change only scores the squares around it once
+     */
+    private final int[] local = new int[MAX_SQUARES];
+
+    /**
+     * the board being scored, or null, and the geometry of its size
+     */
+    private ICheckerBoard board;
+    private SquareTable squares;
+
+    /**
+     * the score of the pieces on their squares, and the score of the squares around them, from player one's point of
+     * view
+     */
+    private int staticScore;
+    private int localScore;
+
+    /**
+     * Constructor for Evaluator object. Accepts one parameter.
+     * @param aWeights The weights of the features, as an EvalWeights
+     *
+     * @pre aWeights != null
+     *
+     * @post weights = aWeights AND board = null
+     */
+    public Evaluator(EvalWeights aWeights) {
+        weights = aWeights;
+        mobilityWeight = weights.get(FeatureEnum.MOBILITY);
+        runawayWeight = weights.get(FeatureEnum.RUNAWAY);
+    }
+
+    /**
+     * Starts scoring a board: reads every piece on it once, and becomes its PositionListener so that every later change
+     * is followed. An Evaluator that was attached to another board is detached from it first. Accepts one parameter.
+     * @param aBoard The board to score, as an ICheckerBoard
+     *
+     * @pre aBoard != null
+     *
+     * @post board = aBoard AND [the score is of aBoard's position] AND [this is aBoard's PositionListener]
+     */
+    public void attach(ICheckerBoard aBoard) {
+        detach();
+        board = aBoard;
+        squares = SquareTable.forSize(board.getBoardSize());
+        if (tableSize != board.getBoardSize()) {
+            fillPieceSquare(board.getBoardSize());
+        }
+        positionCleared();
+        for (int square = 0; square < squares.getSquareCount(); square++) {
+            int type = board.pieceType(board.whatsAtSquare(square));
+            if (type != ICheckerBoard.NO_PIECE_TYPE) {
+                occupant[square] = (byte) (type + 1);
+                staticScore += pieceSquare[type * squares.getSquareCount() + square];
+            }
+        }
+        for (int square = 0; square < squares.getSquareCount(); square++) {
+            local[square] = localValue(square);
+            localScore += local[square];
+        }
+        board.setPositionListener(this);
+    }
+
+    /**
+     * Stops scoring the board it is attached to, if any.
+     *
+     * @pre None
+     *
+     * @post board = null AND [this is no longer #board's PositionListener]
+     */
+    public void detach() {
+        if (board != null) {
+            board.setPositionListener(null);
+            board = null;
+        }
+    }
+
+    /**
+     * Scores the position of the attached board from the point of view of a player. Accepts one parameter.
+     * @param side The player (or that player's king) the score is for, as a char
+     * @return The score of the position, higher when it is better for side, as an int
+     *
+     * @pre [attached to a board] AND side = [player1, player2, player1King, or player2King]
+     *
+     * @post evaluate = [the weighted features of side's pieces minus the weighted features of the opponent's pieces]
+     */
+    public int evaluate(char side) {
+        int score = staticScore + localScore;
+        return (board.pieceType(side) < ICheckerBoard.PLAYER_TWO_TYPE) ? score : -score;
+    }
+
+    /**
+     * Adds a piece that was placed on the board to the score. Accepts two parameters.
+     * @param square The playable square number the piece was placed on, as an int
+     * @param type The type of the piece, as an int
+     *
+     * @pre occupant[square] = 0
+     *
+     * @post occupant[square] = type + 1 AND [the score includes the piece and its effect on the pieces next to it]
+     */
+    @Override
+    public void pieceAdded(int square, int type) {
+        occupant[square] = (byte) (type + 1);
+        if (mobilityWeight != 0 || runawayWeight != 0) {
+            localScore += rescoreAround(square);
+        }
+        staticScore += pieceSquare[type * squares.getSquareCount() + square];
+    }
+
+    /**
+     * Takes a piece that was removed from the board out of the score. Accepts two parameters.
+     * @param square The playable square number the piece was removed from, as an int
+     * @param type The type of the piece, as an int
+     *
+     * @pre occupant[square] = type + 1
+     *
+     * @post occupant[square] = 0 AND [the score no longer includes the piece or its effect on the pieces next to it]
+     */
+    @Override
+    public void pieceRemoved(int square, int type) {
+        occupant[square] = 0;
+        if (mobilityWeight != 0 || runawayWeight != 0) {
+            localScore += rescoreAround(square);
+        }
+        staticScore -= pieceSquare[type * squares.getSquareCount() + square];
+    }
+
+    /**
+     * Empties the board the score is of.
+     *
+     * @pre [attached to a board]
+     *
+     * @post [every square of occupant and local is 0] AND staticScore = 0 AND localScore = 0
+     */
+    @Override
+    public void positionCleared() {
+        for (int square = 0; square < squares.getSquareCount(); square++) {
+            occupant[square] = 0;
+            local[square] = 0;
+        }
+        staticScore = 0;
+        localScore = 0;
+    }
+
+    /**
+     * Fills pieceSquare with the material, advancement, center, and back row value of every type of piece on every
+     * square of a board size. Accepts one parameter.
+     * @param boardSize The dimension of the board, as an int
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post pieceSquare = [the value of every type of piece on every square, negative for player two] AND tableSize =
+     * boardSize
+     */
+    private void fillPieceSquare(int boardSize) {
+        SquareTable table = SquareTable.forSize(boardSize);
+        int squareCount = table.getSquareCount();
+        int edge = boardSize / CENTER_DIVISOR;
+        int man = weights.get(FeatureEnum.MAN), king = weights.get(FeatureEnum.KING);
+        int advance = weights.get(FeatureEnum.ADVANCE), center = weights.get(FeatureEnum.CENTER);
+        int backRank = weights.get(FeatureEnum.BACK_RANK);
+
+        for (int square = 0; square < squareCount; square++) {
+            int row = table.row(square), column = table.column(square);
+            boolean isCenter = row >= edge && row < boardSize - edge && column >= edge && column < boardSize - edge;
+            int centerValue = isCenter ? center : 0;
+            // player one starts at row 0 and is crowned on the last row; player two the other way around
+            pieceSquare[ICheckerBoard.PLAYER_ONE_TYPE * squareCount + square] = man + advance * row + centerValue
+                    + ((row == 0) ? backRank : 0);
+            pieceSquare[ICheckerBoard.PLAYER_ONE_KING_TYPE * squareCount + square] = king + centerValue;
+            pieceSquare[ICheckerBoard.PLAYER_TWO_TYPE * squareCount + square] = -(man + advance * (boardSize - 1 - row)
+                    + centerValue + ((row == boardSize - 1) ? backRank : 0));
+            pieceSquare[ICheckerBoard.PLAYER_TWO_KING_TYPE * squareCount + square] = -(king + centerValue);
+        }
+        tableSize = boardSize;
+    }
+
+    /**
+     * Scores the mobility and runaway value of a square and of the squares next to it again, which are every square
+     * whose value can change when the square changes. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return How much the sum of their values changed, as an int
+     *
+     * @pre 0 <= square < squareCount AND [occupant[square] is already changed]
+     *
+     * @post rescoreAround = [the sum of local over square and its neighbors minus the sum of #local over them] AND
+     * local[square] = localValue(square) AND [local of every neighbor of square = its localValue]
+     */
+    private int rescoreAround(int square) {
+        int change = rescore(square);
+        for (int dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+            int neighbor = squares.neighbor(square, dir);
+            if (neighbor != SquareTable.OFF_BOARD) {
+                change += rescore(neighbor);
+            }
+        }
+        return change;
+    }
+
+    /**
+     * Scores the mobility and runaway value of one square again. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return How much the value of the square changed, as an int
+     *
+     * @pre 0 <= square < squareCount
+     *
+     * @post rescore = localValue(square) - #local[square] AND local[square] = localValue(square)
+     */
+    private int rescore(int square) {
+        int value = localValue(square);
+        int change = value - local[square];
+        local[square] = value;
+        return change;
+    }
+
+    /**
+     * Scores the mobility and runaway features of the piece on a square: every empty square it can step to, and
+     * whether it is a standard piece close to being crowned with a way forward. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return The value of the piece's surroundings from player one's point of view, or 0 for an empty square, as an
+     * int
+     *
+     * @pre 0 <= square < squareCount
+     *
+     * @post localValue = [the mobility and runaway value of the piece on square, negative for player two]
+     */
+    private int localValue(int square) {
+        int type = occupant[square] - 1;
+        if (type == ICheckerBoard.NO_PIECE_TYPE) {
+            return 0;
+        }
+        boolean isPlayerOne = type < ICheckerBoard.PLAYER_TWO_TYPE;
+        boolean isKing = type == ICheckerBoard.PLAYER_ONE_KING_TYPE || type == ICheckerBoard.PLAYER_TWO_KING_TYPE;
+        int forward = isPlayerOne ? 1 : -1;
+        int openSquares = 0, value;
+
+        // standard pieces only step forward, kings step every way
+        for (int dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+            int neighbor = squares.neighbor(square, dir);
+            if ((isKing || Move.rowStep(dir) == forward) && neighbor != SquareTable.OFF_BOARD && occupant[neighbor] == 0) {
+                openSquares++;
+            }
+        }
+        value = mobilityWeight * openSquares;
+        if (!isKing && openSquares > 0) {
+            int row = squares.row(square);
+            int rowsToCrown = isPlayerOne ? squares.getBoardSize() - 1 - row : row;
+            if (rowsToCrown <= RUNAWAY_ROWS) {
+                value += runawayWeight;
+            }
+        }
+        return isPlayerOne ? value : -value;
+    }
+}
@@ -0,0 +1,63 @@
+package cpsc2150.extendedCheckers.engine;
+
+/**
+ * FeatureEnum is an enumeration of the features an Evaluator scores a position with. Each feature has the key it is
+ * given by in a weights file (see EvalWeights) and the weight it has when the file does not give one. Every feature
+ * is counted for player one's pieces and for player two's pieces, and the difference is the score.
+ *
+ * @invariant [MAN is the value of a standard piece] AND [KING is the value of a king] AND [ADVANCE is the value of
+ * every row a standard piece has moved toward the row it is crowned on] AND [CENTER is the value of a piece on one of
+ * the middle half of the rows and the middle half of the columns] AND [BACK_RANK is the value of a standard piece
+ * still guarding its own back row] AND [MOBILITY is the value of every empty square a piece can step to] AND [RUNAWAY
+ * is the value of a standard piece within two rows of being crowned with an empty square in front of it]
+ */
+public enum FeatureEnum {
+    MAN(100),
+    KING(160),
+    ADVANCE(2),
+    CENTER(3),
+    BACK_RANK(4),
+    MOBILITY(1),
+    RUNAWAY(12);
+
+    /**
+     * the weight of the feature when a weights file does not give one
+     */
+    private final int defaultWeight;
+
+    /**
+     * Constructor for FeatureEnum. Accepts one parameter.
+     * @param aDefaultWeight The weight of the feature when none is given, as an int
+     *
+     * @pre None
+     *
+     * @post defaultWeight = aDefaultWeight
+     */
+    FeatureEnum(int aDefaultWeight) {
+        defaultWeight = aDefaultWeight;
+    }
+
+    /**
+     * Simple accessor for the weight of the feature when a weights file does not give one.
+     * @return The default weight, as an int
+     *
+     * @pre None
+     *
+     * @post getDefaultWeight = defaultWeight
+     */
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Simple accessor for the key that gives the feature's weight in a weights file: its name in lowercase.
+     * @return The key of the feature, as a String
+     *
+     * @pre None
+     *
+     * @post getKey = [the name of the feature in lowercase]
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,212 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * OpeningBook reads an opening book file written by OpeningBookBuilder, and finds the moves it holds for a position.
+ * The file is memory-mapped rather than read, so opening a book of any size is instant, only the pages a lookup touches
+ * are ever loaded, and every engine in the process shares the same pages. The records are sorted by position hash, so
+ * a lookup is a binary search over the mapped file that allocates nothing. A book can be used by any number of threads
+ * at once.
+ *
+ * The file is a header of HEADER_BYTES bytes (MAGIC, VERSION, the board size, and the number of records, as ints)
+ * followed by the records, RECORD_BYTES bytes each: the position's Zobrist hash (see ICheckerBoard.hash) and the
+ * packed move (see Move) as longs, then the number of games the move was played in and the half points the player who
+ * played it scored, as ints. All numbers are big-endian. The records of a position are sorted with the most played
+ * move first.
+ *
+ * @invariant [buffer holds HEADER_BYTES + recordCount * RECORD_BYTES bytes] AND [the records are sorted by hash, then
+ * by games from most to fewest]
+ */
+public final class OpeningBook {
+    // represents the first int of every opening book file ("CBK1"), and the version of the file layout
+    public static final int MAGIC = 0x43424B31;
+    public static final int VERSION = 1;
+    // represents the size in bytes of the header and of each record
+    public static final int HEADER_BYTES = 4 * Integer.BYTES;
+    public static final int RECORD_BYTES = 2 * Long.BYTES + 2 * Integer.BYTES;
+    // represents the byte offsets of the fields of the header and of a record
+    private static final int BOARD_SIZE_OFFSET = 2 * Integer.BYTES;
+    private static final int RECORD_COUNT_OFFSET = 3 * Integer.BYTES;
+    private static final int MOVE_OFFSET = Long.BYTES;
+    private static final int GAMES_OFFSET = 2 * Long.BYTES;
+    private static final int HALF_POINTS_OFFSET = 2 * Long.BYTES + Integer.BYTES;
+
+    /**
+     * the mapped file, the board size its positions are of, and the number of records it holds
+     */
+    private final MappedByteBuffer buffer;
+    private final int boardSize;
+    private final int recordCount;
+
+    /**
+     * Constructor for OpeningBook object. Accepts three parameters.
+     * @param aBuffer The mapped file, as a MappedByteBuffer
+     * @param aBoardSize The board size of the book's positions, as an int
+     * @param aRecordCount The number of records in the book, as an int
+     *
+     * @pre [aBuffer holds a checked opening book file of aRecordCount records for aBoardSize]
+     *
+     * @post buffer = aBuffer AND boardSize = aBoardSize AND recordCount = aRecordCount
+     */
+    private OpeningBook(MappedByteBuffer aBuffer, int aBoardSize, int aRecordCount) {
+        buffer = aBuffer;
+        boardSize = aBoardSize;
+        recordCount = aRecordCount;
+    }
+
+    /**
+     * Maps an opening book file into memory. The file stays mapped until the OpeningBook is garbage collected, even
+     * though it is closed as soon as it has been mapped. Accepts one parameter.
+     * @param file The opening book file, as a Path
+     * @return The book, as an OpeningBook
+     * @throws IOException When the file can not be read, or is not an opening book of this version
+     *
+     * @pre file != null
+     *
+     * @post open = [an OpeningBook of the records in file]
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not an opening book");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int boardSize = mapped.getInt(BOARD_SIZE_OFFSET);
+            int recordCount = mapped.getInt(RECORD_COUNT_OFFSET);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(Integer.BYTES) != VERSION || recordCount < 0
+                    || size != HEADER_BYTES + (long) recordCount * RECORD_BYTES) {
+                throw new IOException(file + " is not an opening book of version " + VERSION);
+            }
+            return new OpeningBook(mapped, boardSize, recordCount);
+        }
+    }
+
+    /**
+     * Finds the book move of the position on a board: the move played in the most games from it. Accepts one
+     * parameter.
+     * @param board The board whose position is looked up, with its player to move set, as an ICheckerBoard
+     * @return The most played move, as a packed long (see Move), or Move.NO_MOVE when the position is not in the book
+     * or the board is not the book's size
+     *
+     * @pre board != null
+     *
+     * @post findMove = [the move of the first record whose hash is board.hash(), or Move.NO_MOVE] AND board = #board
+     */
+    public long findMove(ICheckerBoard board) {
+        if (board.getBoardSize() != boardSize) {
+            return Move.NO_MOVE;
+        }
+        int record = firstRecord(board.hash());
+        return (record < 0) ? Move.NO_MOVE : getMove(record);
+    }
+
+    /**
+     * Finds the first record of a position by binary search. Accepts one parameter.
+     * @param hash The Zobrist hash of the position, as a long
+     * @return The number of the position's first record, or -1 when the position is not in the book, as an int
+     *
+     * @pre None
+     *
+     * @post firstRecord = [the lowest record number whose hash is hash, or -1]
+     */
+    public int firstRecord(long hash) {
+        int low = 0, high = recordCount;
+
+        // finds the first record whose hash is not below the one looked for
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getHash(middle) < hash) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return (low < recordCount && getHash(low) == hash) ? low : -1;
+    }
+
+    /**
+     * Simple accessor for the position hash of a record. Accepts one parameter.
+     * @param record The record number, as an int
+     * @return The Zobrist hash of the record's position, as a long
+     *
+     * @pre 0 <= record < recordCount
+     *
+     * @post getHash = [the hash of the record]
+     */
+    public long getHash(int record) {
+        return buffer.getLong(HEADER_BYTES + record * RECORD_BYTES);
+    }
+
+    /**
+     * Simple accessor for the move of a record. Accepts one parameter.
+     * @param record The record number, as an int
+     * @return The move, as a packed long (see Move)
+     *
+     * @pre 0 <= record < recordCount
+     *
+     * @post getMove = [the move of the record]
+     */
+    public long getMove(int record) {
+        return buffer.getLong(HEADER_BYTES + record * RECORD_BYTES + MOVE_OFFSET);
+    }
+
+    /**
+     * Simple accessor for the number of games a record's move was played in. Accepts one parameter.
+     * @param record The record number, as an int
+     * @return The number of games, as an int
+     *
+     * @pre 0 <= record < recordCount
+     *
+     * @post getGames = [the games of the record]
+     */
+    public int getGames(int record) {
+        return buffer.getInt(HEADER_BYTES + record * RECORD_BYTES + GAMES_OFFSET);
+    }
+
+    /**
+     * Simple accessor for the half points the player who played a record's move scored: 2 for each win and 1 for
+     * each draw. Accepts one parameter.
+     * @param record The record number, as an int
+     * @return The number of half points, as an int
+     *
+     * @pre 0 <= record < recordCount
+     *
+     * @post getHalfPoints = [the half points of the record]
+     */
+    public int getHalfPoints(int record) {
+        return buffer.getInt(HEADER_BYTES + record * RECORD_BYTES + HALF_POINTS_OFFSET);
+    }
+
+    /**
+     * Simple accessor for the board size the book's positions are of.
+     * @return The board size, as an int
+     *
+     * @pre None
+     *
+     * @post getBoardSize = boardSize
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Simple accessor for the number of records in the book.
+     * @return The number of records, as an int
+     *
+     * @pre None
+     *
+     * @post getRecordCount = recordCount
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+}
@@ -0,0 +1,230 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.PdnReader;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * OpeningBookBuilder collects the opening moves of finished games and writes them as an opening book file that
+ * OpeningBook can read (see OpeningBook for the layout). Every game is replayed from its starting position for its
+ * first maxPlies plies; each position reached is keyed by its Zobrist hash, so the same position reached by different
+ * move orders is counted together, and for each move played from it the builder counts the games and the half points
+ * the player who played it went on to score. Only moves played in at least a minimum number of games are written.
+ *
+ * @invariant maxPlies >= 0 AND gameCount >= 0 AND [every MoveStats in positions is of a position of boardSize]
+ */
+public class OpeningBookBuilder {
+    // represents the half points a player scores for a win and for a draw
+    private static final int WIN_HALF_POINTS = 2;
+    private static final int DRAW_HALF_POINTS = 1;
+
+    /**
+     * the board size of the games, and the number of plies of each game that are collected
+     */
+    private final int boardSize;
+    private final int maxPlies;
+
+    /**
+     * the statistics of every move collected, grouped by the hash of the position it was played from
+     */
+    private final HashMap<Long, List<MoveStats>> positions = new HashMap<>();
+    private int gameCount;
+
+    /**
+     * MoveStats counts the games a move was played in from one position, and the half points its player scored.
+     *
+     * @invariant games > 0 AND 0 <= halfPoints <= 2 * games
+     */
+    private static final class MoveStats {
+        private final long hash;
+        private final long move;
+        private int games;
+        private int halfPoints;
+
+        /**
+         * Constructor for MoveStats object, with no games counted yet. Accepts two parameters.
+         * @param aHash The Zobrist hash of the position, as a long
+         * @param aMove The move played from it, as a packed long (see Move)
+         *
+         * @pre None
+         *
+         * @post hash = aHash AND move = aMove AND games = 0 AND halfPoints = 0
+         */
+        private MoveStats(long aHash, long aMove) {
+            hash = aHash;
+            move = aMove;
+        }
+    }
+
+    /**
+     * Constructor for OpeningBookBuilder object. Accepts two parameters.
+     * @param aBoardSize The board size of the games that will be added, as an int
+     * @param aMaxPlies The number of plies of each game to collect, as an int
+     *
+     * @pre aBoardSize = [8, 10, 12, 14, or 16] AND aMaxPlies >= 0
+     *
+     * @post boardSize = aBoardSize AND maxPlies = aMaxPlies AND gameCount = 0 AND positions = [empty]
+     */
+    public OpeningBookBuilder(int aBoardSize, int aMaxPlies) {
+        boardSize = aBoardSize;
+        maxPlies = aMaxPlies;
+    }
+
+    /**
+     * Adds the opening of a finished game: replays its moves on a copy of the starting board, counting the first
+     * maxPlies of them. Accepts four parameters.
+     * @param start The board the game started from, with its player to move set, as an ICheckerBoard
+     * @param moves The moves of the game in order, as packed longs (see Move), as a long[]
+     * @param moveCount The number of moves in the game, as an int
+     * @param result How the game ended, as a GameStatusEnum. A game that was stopped (IN_PROGRESS) counts as a draw.
+     * @throws IllegalArgumentException When start is not of the builder's board size
+     *
+     * @pre start != null AND 0 <= moveCount <= moves.length AND [moves is a legal game from start] AND result != null
+     *
+     * @post gameCount = #gameCount + 1 AND [the first maxPlies moves of the game are counted] AND start = #start
+     */
+    public void addGame(ICheckerBoard start, long[] moves, int moveCount, GameStatusEnum result) {
+        if (start.getBoardSize() != boardSize) {
+            throw new IllegalArgumentException("game is on a " + start.getBoardSize() + "x" + start.getBoardSize() + " board, not " + boardSize + "x" + boardSize);
+        }
+        ICheckerBoard board = start.copy();
+
+        for (int ply = 0; ply < Math.min(moveCount, maxPlies); ply++) {
+            char side = board.getPlayerToMove();
+            MoveStats stats = findOrAdd(board.hash(), moves[ply]);
+            stats.games++;
+            if (result == GameStatusEnum.PLAYER_ONE_WON || result == GameStatusEnum.PLAYER_TWO_WON) {
+                boolean sideWon = (side == board.getPlayerOne()) == (result == GameStatusEnum.PLAYER_ONE_WON);
+                stats.halfPoints += sideWon ? WIN_HALF_POINTS : 0;
+            }
+            else {
+                stats.halfPoints += DRAW_HALF_POINTS;
+            }
+            board.makeMove(moves[ply]);
+        }
+        gameCount++;
+    }
+
+    /**
+     * Adds the opening of every game left in a PDN collection that is played on the builder's board size, reading
+     * them one at a time, so that a collection of any size can be made into a book. Games on other board sizes are
+     * skipped. Accepts one parameter.
+     * @param reader The reader of the collection, as a PdnReader
+     * @return The number of games added, as an int
+     * @throws IOException When the collection can not be read, or a game in it is not valid PDN
+     *
+     * @pre reader != null
+     *
+     * @post addGames = [the number of games of boardSize read] AND [the first maxPlies moves of each are counted]
+     * AND gameCount = #gameCount + addGames
+     */
+    public int addGames(PdnReader reader) throws IOException {
+        int added = 0;
+        while (reader.next()) {
+            if (reader.getBoard().getBoardSize() == boardSize) {
+                addGame(reader.getBoard(), reader.getMoves(), reader.getMoveCount(), reader.getResult());
+                added++;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Finds the statistics of a move from a position, adding them when the move has not been collected before. Accepts
+     * two parameters.
+     * @param hash The Zobrist hash of the position, as a long
+     * @param move The move, as a packed long (see Move)
+     * @return The statistics of the move, as a MoveStats
+     *
+     * @pre None
+     *
+     * @post findOrAdd = [the MoveStats of move from hash] AND [it is in positions]
+     */
+    private MoveStats findOrAdd(long hash, long move) {
+        List<MoveStats> moves = positions.computeIfAbsent(hash, key -> new ArrayList<>());
+        for (MoveStats stats : moves) {
+            if (stats.move == move) {
+                return stats;
+            }
+        }
+        MoveStats stats = new MoveStats(hash, move);
+        moves.add(stats);
+        return stats;
+    }
+
+    /**
+     * Writes the collected moves as an opening book file, sorted by position hash and then from the most played move
+     * to the least. Accepts two parameters.
+     * @param file The file to write, which is replaced when it exists, as a Path
+     * @param minGames The fewest games a move must have been played in to be written, as an int
+     * @return The number of records written, as an int
+     * @throws IOException When the file can not be written
+     *
+     * @pre file != null AND minGames >= 1
+     *
+     * @post write = [the number of moves played in at least minGames games] AND [file holds those moves as an opening
+     * book]
+     */
+    public int write(Path file, int minGames) throws IOException {
+        List<MoveStats> records = new ArrayList<>();
+        for (List<MoveStats> moves : positions.values()) {
+            for (MoveStats stats : moves) {
+                if (stats.games >= minGames) {
+                    records.add(stats);
+                }
+            }
+        }
+        // ties are broken by score and then by move, so the same games always write the same file
+        records.sort(Comparator.comparingLong((MoveStats stats) -> stats.hash)
+                .thenComparing(stats -> stats.games, Comparator.reverseOrder())
+                .thenComparing(stats -> stats.halfPoints, Comparator.reverseOrder())
+                .thenComparingLong(stats -> stats.move));
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(OpeningBook.MAGIC);
+            out.writeInt(OpeningBook.VERSION);
+            out.writeInt(boardSize);
+            out.writeInt(records.size());
+            for (MoveStats stats : records) {
+                out.writeLong(stats.hash);
+                out.writeLong(stats.move);
+                out.writeInt(stats.games);
+                out.writeInt(stats.halfPoints);
+            }
+        }
+        return records.size();
+    }
+
+    /**
+     * Simple accessor for the number of games added.
+     * @return The number of games, as an int
+     *
+     * @pre None
+     *
+     * @post getGameCount = gameCount
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Simple accessor for the number of different positions collected.
+     * @return The number of positions, as an int
+     *
+     * @pre None
+     *
+     * @post getPositionCount = [the number of keys in positions]
+     */
+    public int getPositionCount() {
+        return positions.size();
+    }
+}
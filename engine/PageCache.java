@@ -0,0 +1,194 @@
+package cpsc2150.extendedCheckers.engine;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PageCache keeps a bounded number of pages (decompressed blocks of a file) in memory, keyed by a long, and throws away
+ * the least recently used page when it is full. It can be shared by any number of search threads: the pages are split
+ * into stripes by key, each its own small LRU list behind its own lock, so threads only wait for each other when they
+ * use the same stripe at the same moment, and only for as long as a map lookup takes. Pages are never changed once they
+ * are cached, so a page can be read after its lock is released.
+ *
+ * @invariant stripes.length = [a power of two] AND [each stripe holds at most pagesPerStripe pages]
+ */
+public final class PageCache {
+    // represents the number of stripes of a cache when none is given
+    public static final int DEFAULT_STRIPES = 64;
+
+    /**
+     * the stripes of the cache, and the shift that turns a mixed key into a stripe number
+     */
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int pagesPerStripe;
+
+    /**
+     * the counters of lookups that found their page and lookups that did not
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Stripe is one LRU list of pages: a LinkedHashMap in access order that drops its eldest page when it grows past
+     * its capacity.
+     *
+     * @invariant size() <= capacity
+     */
+    private static final class Stripe extends LinkedHashMap<Long, byte[]> {
+        // represents the version of the serialized form, which is never used because a Stripe is never serialized
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        /**
+         * Constructor for Stripe object, with no pages. Accepts one parameter.
+         * @param aCapacity The most pages the stripe holds, as an int
+         *
+         * @pre aCapacity >= 1
+         *
+         * @post capacity = aCapacity AND [the stripe is empty and ordered by access]
+         */
+        private Stripe(int aCapacity) {
+            super(2 * aCapacity, 0.75f, true);
+            capacity = aCapacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    /**
+     * Constructor for PageCache object, with no pages. The number of stripes is rounded down to a power of two, and
+     * every stripe holds at least one page. Accepts two parameters.
+     * @param maxPages The most pages the cache holds, as an int
+     * @param stripeCount The number of stripes to split the pages into, as an int
+     *
+     * @pre maxPages >= 0 AND stripeCount >= 1
+     *
+     * @post stripes = [Integer.highestOneBit(stripeCount) empty stripes] AND pagesPerStripe = max(1, maxPages /
+     * stripes.length)
+     */
+    public PageCache(int maxPages, int stripeCount) {
+        int count = Integer.highestOneBit(stripeCount);
+        stripes = new Stripe[count];
+        stripeShift = Long.SIZE - Integer.numberOfTrailingZeros(count);
+        pagesPerStripe = Math.max(1, maxPages / count);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(pagesPerStripe);
+        }
+    }
+
+    /**
+     * Finds the stripe of a key. The key is mixed first, so that the pages of one file spread over every stripe.
+     * Accepts one parameter.
+     * @param key The key of a page, as a long
+     * @return The stripe, as a Stripe
+     *
+     * @pre None
+     *
+     * @post stripeOf = [the stripe key belongs to]
+     */
+    private Stripe stripeOf(long key) {
+        // a single stripe has no bits to pick it with, and a shift of 64 would not shift at all
+        return (stripes.length == 1) ? stripes[0] : stripes[(int) ((key * 0x9E3779B97F4A7C15L) >>> stripeShift)];
+    }
+
+    /**
+     * Looks up a page, marking it as the most recently used of its stripe. Accepts one parameter.
+     * @param key The key of the page, as a long
+     * @return The page, or null when it is not cached, as a byte[]
+     *
+     * @pre None
+     *
+     * @post get = [the page cached under key, or null] AND [hits or misses is counted]
+     */
+    public byte[] get(long key) {
+        Stripe stripe = stripeOf(key);
+        byte[] page;
+        synchronized (stripe) {
+            page = stripe.get(key);
+        }
+        if (page == null) {
+            misses.increment();
+        }
+        else {
+            hits.increment();
+        }
+        return page;
+    }
+
+    /**
+     * Caches a page, throwing away the least recently used page of its stripe when the stripe is full. Two threads
+     * that miss the same page may both load it; the page cached last is kept, and both are the same. Accepts two
+     * parameters.
+     * @param key The key of the page, as a long
+     * @param page The page, which must not be changed afterwards, as a byte[]
+     *
+     * @pre page != null
+     *
+     * @post [page is cached under key] AND [its stripe holds at most pagesPerStripe pages]
+     */
+    public void put(long key, byte[] page) {
+        Stripe stripe = stripeOf(key);
+        synchronized (stripe) {
+            stripe.put(key, page);
+        }
+    }
+
+    /**
+     * Counts the pages cached in every stripe.
+     * @return The number of pages cached, as an int
+     *
+     * @pre None
+     *
+     * @post getPageCount = [the number of pages in every stripe]
+     */
+    public int getPageCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Simple accessor for the most pages the cache holds.
+     * @return The capacity in pages, as an int
+     *
+     * @pre None
+     *
+     * @post getCapacity = stripes.length * pagesPerStripe
+     */
+    public int getCapacity() {
+        return stripes.length * pagesPerStripe;
+    }
+
+    /**
+     * Simple accessor for the number of lookups that found their page.
+     * @return The number of hits, as a long
+     *
+     * @pre None
+     *
+     * @post getHits = [the number of get calls that returned a page]
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Simple accessor for the number of lookups that did not find their page.
+     * @return The number of misses, as a long
+     *
+     * @pre None
+     *
+     * @post getMisses = [the number of get calls that returned null]
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+}
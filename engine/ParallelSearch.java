@@ -0,0 +1,283 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelSearch runs a Lazy SMP search: several SearchEngines search the same position at once, each on its own copy
+ * of the board, and they share nothing but a TranspositionTable. Results one thread stores are found by the others,
+ * which lets each thread skip work and steers the threads into different parts of the tree. Half of the helper threads
+ * start one ply deeper than the main thread to spread them out further. The main thread runs on the caller's thread
+ * and decides when the search ends; the helpers are then stopped, and the move of whichever thread finished the
+ * deepest iteration is played (the main thread's on a tie).
+ *
+ * @invariant engines.length = threads AND threads >= 1 AND [every engine shares table]
+ */
+public class ParallelSearch implements AutoCloseable {
+    /**
+     * the table shared by every thread, and one engine per thread (engines[0] runs on the caller's thread)
+     */
+    private final TranspositionTable table;
+    private final SearchEngine[] engines;
+
+    /**
+     * the threads the helper engines run on, or null when there is only one thread
+     */
+    private final ExecutorService helpers;
+
+    /**
+     * the results of the last search
+     */
+    private long nodes;
+    private int depthReached;
+    private int bestScore;
+
+    /**
+     * Constructor for ParallelSearch object. Accepts two parameters.
+     * @param threads The number of threads to search with, as an int
+     * @param tableSizeMb The size of the shared transposition table in megabytes, as an int
+     *
+     * @pre threads >= 1 AND tableSizeMb > 0
+     *
+     * @post table = [a new TranspositionTable of tableSizeMb megabytes] AND engines = [threads new SearchEngines that
+     * share table] AND helpers = [a pool of threads - 1 daemon threads, or null when threads = 1]
+     */
+    public ParallelSearch(int threads, int tableSizeMb) {
+        table = new TranspositionTable(tableSizeMb);
+        engines = new SearchEngine[Math.max(1, threads)];
+        for (int i = 0; i < engines.length; i++) {
+            engines[i] = new SearchEngine(table);
+            // every other helper starts one ply deeper, so the helpers do not all follow the main thread
+            engines[i].setStartDepth(1 + i % 2);
+        }
+        if (engines.length > 1) {
+            helpers = Executors.newFixedThreadPool(engines.length - 1, runnable -> {
+                Thread thread = new Thread(runnable, "search-helper");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        else {
+            helpers = null;
+        }
+    }
+
+    /**
+     * Searches the board on every thread and picks the best move for a player. The board is left exactly as it was
+     * given; every thread searches its own copy. Accepts two parameters.
+     * @param aBoard The board to search, as an ICheckerBoard
+     * @param player The player (or that player's king) to pick a move for, as a char
+     * @return The move of the thread that finished the deepest iteration, as a packed long (see Move), or
+     * Move.NO_MOVE when the player has no legal moves
+     *
+     * @pre aBoard != null AND player = [player1, player2, player1King, or player2King]
+     *
+     * @post findBestMove = [the move of the deepest finished iteration of any thread] AND aBoard = #aBoard AND
+     * getNodes = [the positions searched by every thread]
+     */
+    public long findBestMove(ICheckerBoard aBoard, char player) {
+        List<Future<Long>> results = new ArrayList<>(engines.length - 1);
+        long[] moves = new long[engines.length];
+        int best = 0;
+
+        table.newSearch();
+        for (SearchEngine engine : engines) {
+            engine.clearStop();
+        }
+        for (int i = 1; i < engines.length; i++) {
+            SearchEngine engine = engines[i];
+            ICheckerBoard copy = aBoard.copy();
+            results.add(helpers.submit(() -> engine.searchPosition(copy, player)));
+        }
+        // the main thread's budget decides when every thread stops
+        moves[0] = engines[0].searchPosition(aBoard.copy(), player);
+        for (int i = 1; i < engines.length; i++) {
+            engines[i].stop();
+        }
+
+        nodes = engines[0].getNodes();
+        for (int i = 1; i < engines.length; i++) {
+            try {
+                moves[i] = results.get(i - 1).get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                moves[i] = Move.NO_MOVE;
+            }
+            catch (ExecutionException e) {
+                throw new IllegalStateException("search helper failed", e.getCause());
+            }
+            nodes += engines[i].getNodes();
+            if (moves[i] != Move.NO_MOVE && engines[i].getDepthReached() > engines[best].getDepthReached()) {
+                best = i;
+            }
+        }
+        depthReached = engines[best].getDepthReached();
+        bestScore = engines[best].getBestScore();
+        return moves[best];
+    }
+
+    /**
+     * Simple setter for the time a search may take. Accepts one parameter.
+     * @param millis The time budget in milliseconds, or SearchEngine.NO_LIMIT, as a long
+     *
+     * @pre millis >= 0
+     *
+     * @post [every engine's time limit is millis]
+     */
+    public void setTimeLimitMillis(long millis) {
+        for (SearchEngine engine : engines) {
+            engine.setTimeLimitMillis(millis);
+        }
+    }
+
+    /**
+     * Simple setter for the number of positions the main thread may visit. The helpers are stopped when the main
+     * thread finishes, so they are not given a node budget of their own. Accepts one parameter.
+     * @param limit The node budget of the main thread, or SearchEngine.NO_LIMIT, as a long
+     *
+     * @pre limit >= 0
+     *
+     * @post [engines[0]'s node limit is limit]
+     */
+    public void setNodeLimit(long limit) {
+        engines[0].setNodeLimit(limit);
+    }
+
+    /**
+     * Simple setter for the deepest iteration any thread may start. Accepts one parameter.
+     * @param depth The maximum depth in plies, as an int
+     *
+     * @pre 1 <= depth <= SearchEngine.MAX_PLY
+     *
+     * @post [every engine's maximum depth is depth]
+     */
+    public void setMaxDepth(int depth) {
+        for (SearchEngine engine : engines) {
+            engine.setMaxDepth(depth);
+        }
+    }
+
+    /**
+     * Simple setter for the weights every thread scores positions with. Accepts one parameter.
+     * @param weights The weights of the evaluation features, as an EvalWeights
+     *
+     * @pre weights != null AND [no search is running]
+     *
+     * @post [every engine's evaluator uses weights]
+     */
+    public void setWeights(EvalWeights weights) {
+        for (SearchEngine engine : engines) {
+            engine.setWeights(weights);
+        }
+    }
+
+    /**
+     * Simple setter for the opening book every thread consults before searching. Accepts one parameter.
+     * @param book The opening book, or null for none, as an OpeningBook
+     *
+     * @pre [no search is running]
+     *
+     * @post [every engine consults book]
+     */
+    public void setOpeningBook(OpeningBook book) {
+        for (SearchEngine engine : engines) {
+            engine.setOpeningBook(book);
+        }
+    }
+
+    /**
+     * Simple setter for the endgame tablebase every thread probes while searching. The threads share its cache of
+     * decompressed blocks. Accepts one parameter.
+     * @param tablebase The tablebase, or null for none, as a Tablebase
+     *
+     * @pre [no search is running]
+     *
+     * @post [every engine probes tablebase]
+     */
+    public void setTablebase(Tablebase tablebase) {
+        for (SearchEngine engine : engines) {
+            engine.setTablebase(tablebase);
+        }
+    }
+
+    /**
+     * Simple accessor for the number of threads searching.
+     * @return The number of threads, as an int
+     *
+     * @pre None
+     *
+     * @post getThreads = engines.length
+     */
+    public int getThreads() {
+        return engines.length;
+    }
+
+    /**
+     * Simple accessor for the transposition table shared by every thread.
+     * @return The shared transposition table, as a TranspositionTable
+     *
+     * @pre None
+     *
+     * @post getTranspositionTable = table
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Simple accessor for the number of positions every thread visited in the last search.
+     * @return The total node count of the last search, as a long
+     *
+     * @pre None
+     *
+     * @post getNodes = nodes
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Simple accessor for the deepest iteration finished by the thread whose move was picked.
+     * @return The depth reached, as an int
+     *
+     * @pre None
+     *
+     * @post getDepthReached = depthReached
+     */
+    public int getDepthReached() {
+        return depthReached;
+    }
+
+    /**
+     * Simple accessor for the score of the move the last search picked.
+     * @return The best score, from the point of view of the player the move was picked for, as an int
+     *
+     * @pre None
+     *
+     * @post getBestScore = bestScore
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Shuts down the helper threads. The ParallelSearch can not search again afterwards.
+     *
+     * @pre [no search is running]
+     *
+     * @post [helpers is shut down]
+     */
+    @Override
+    public void close() {
+        if (helpers != null) {
+            helpers.shutdownNow();
+        }
+    }
+}
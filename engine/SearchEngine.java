@@ -0,0 +1,746 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+
+import java.util.Arrays;
+
+/**
+ * SearchEngine picks a move for a player on any ICheckerBoard. It runs a negamax search with alpha-beta pruning,
+ * deepening one ply at a time until its time budget, node budget, or maximum depth runs out, and plays the best move of
+ * the deepest search that finished. Every move after the first at a position is searched with a null window first, and
+ * only searched again with the whole window when it beats the best move so far. Captures are searched first (longest
+ * chains first), followed by the killer moves that caused cutoffs at the same ply and then by quiet moves with the best
+ * history scores. Positions that were already searched are looked up in a TranspositionTable, which can cut the search
+ * short and supplies the best move found last time to search first. Positions at the end of the search are followed
+ * through forced captures before they are scored by an Evaluator, which is attached to the board while it is searched
+ * and follows every move made on it. When an OpeningBook is set, a position it holds a legal move for is played from
+ * the book without searching. When a Tablebase is set, positions with few enough pieces are scored by their result in
+ * the tablebase instead of searched. Every buffer the search needs is allocated when the engine is constructed, and a
+ * move buffer only grows for a position with more legal moves than it holds.
+ *
+ * @invariant 1 <= maxDepth <= MAX_PLY AND timeLimitMillis >= 0 AND nodeLimit >= 0
+ */
+public class SearchEngine {
+    // represents the deepest ply the search can reach, including the plies spent following forced captures
+    public static final int MAX_PLY = 64;
+    // represents the score of a won position, before it is reduced by the number of plies needed to win
+    public static final int WIN_SCORE = 1000000;
+    // represents a budget that never runs out
+    public static final long NO_LIMIT = 0;
+    // represents the score of a position the tablebase has as won, before it is reduced by the plies needed to win
+    public static final int TABLEBASE_WIN_SCORE = WIN_SCORE / 2;
+    // represents the lowest score of a tablebase win: one found at the deepest ply, the longest distance away
+    private static final int TABLEBASE_WIN_MIN = TABLEBASE_WIN_SCORE - MAX_PLY - EndgameTable.MAX_DISTANCE;
+
+    // represents how often (in nodes) the clock is checked
+    private static final int CLOCK_CHECK_INTERVAL = 1024;
+    // represents the move ordering scores of captures and killer moves, above any history score
+    private static final int CAPTURE_ORDER = 1 << 30;
+    private static final int CAPTURE_STEP_ORDER = 1 << 20;
+    private static final int KILLER_ORDER = 1 << 29;
+    private static final int NUM_KILLERS = 2;
+    // represents the most playable squares on any board (16x16)
+    private static final int MAX_SQUARES = ICheckerBoard.MAX_BOARD_SIZE * ICheckerBoard.MAX_BOARD_SIZE / ICheckerBoard.EVEN_DIVISOR;
+
+    /**
+     * the limits of a search: the time it may take, the nodes it may search, and the deepest iteration it may start
+     */
+    private long timeLimitMillis = 1000;
+    private long nodeLimit = NO_LIMIT;
+    private int maxDepth = MAX_PLY;
+
+    /**
+     * the depth the first iteration searches to. Helper threads of a ParallelSearch start deeper than the main thread
+     * so that they do not all search the same tree.
+     */
+    private int startDepth = 1;
+
+    /**
+     * the move buffers and move ordering scores of every ply, which grow for a position with more legal moves than
+     * they hold
+     */
+    private final long[][] moves = new long[MAX_PLY + 1][ICheckerBoard.MOVE_BUFFER_SIZE];
+    private final int[][] orderScores = new int[MAX_PLY + 1][ICheckerBoard.MOVE_BUFFER_SIZE];
+
+    /**
+     * the quiet moves that caused a cutoff at each ply, and the history score of every quiet move by its from and to
+     * squares
+     */
+    private final long[][] killers = new long[MAX_PLY + 1][NUM_KILLERS];
+    private final int[] history = new int[MAX_SQUARES * MAX_SQUARES];
+
+    /**
+     * the table of positions already searched, which may be shared with other engines
+     */
+    private final TranspositionTable table;
+
+    /**
+     * the evaluation that scores the positions at the end of the search
+     */
+    private Evaluator evaluator = new Evaluator(EvalWeights.DEFAULT);
+
+    /**
+     * the opening book consulted before searching, or null
+     */
+    private OpeningBook book;
+
+    /**
+     * the endgame tablebase probed during the search, or null
+     */
+    private Tablebase tablebase;
+
+    /**
+     * the state of the search that is running: the board, the counters, and the
+     * deadline
+     */
+    private ICheckerBoard board;
+    private long nodes;
+    private long deadline;
+    private boolean stopped;
+    private volatile boolean stopRequested;
+
+    /**
+     * the results of the last search
+     */
+    private int depthReached;
+    private int bestScore;
+
+    /**
+     * Default constructor for SearchEngine object. Allocates every buffer the search will use, and a transposition
+     * table of TranspositionTable.DEFAULT_SIZE_MB megabytes.
+     *
+     * @pre None
+     *
+     * @post timeLimitMillis = 1000 AND nodeLimit = NO_LIMIT AND maxDepth = MAX_PLY AND table = [a new, empty
+     * TranspositionTable]
+     */
+    public SearchEngine() {
+        this(new TranspositionTable());
+    }
+
+    /**
+     * Constructor for SearchEngine object. Allocates every buffer the search will use, and searches with a given
+     * transposition table, which may be shared with other engines. Accepts one parameter.
+     * @param aTable The transposition table to use, as a TranspositionTable
+     *
+     * @pre aTable != null
+     *
+     * @post timeLimitMillis = 1000 AND nodeLimit = NO_LIMIT AND maxDepth = MAX_PLY AND table = aTable
+     */
+    public SearchEngine(TranspositionTable aTable) {
+        table = aTable;
+    }
+
+    /**
+     * Searches the board and picks the best move for a player. The board is left exactly as it was given. Accepts
+     * two parameters.
+     * @param aBoard The board to search, as an ICheckerBoard
+     * @param player The player (or that player's king) to pick a move for, as a char
+     * @return The best move found, as a packed long (see Move), or Move.NO_MOVE when the player has no legal moves
+     *
+     * @pre aBoard != null AND player = [player1, player2, player1King, or player2King]
+     *
+     * @post findBestMove = [the best move of the deepest finished iteration, or a legal move when no iteration
+     * finished] AND aBoard = #aBoard AND
+     * getDepthReached = [the deepest finished iteration] AND getNodes = [the number of positions searched]
+     */
+    public long findBestMove(ICheckerBoard aBoard, char player) {
+        table.newSearch();
+        stopRequested = false;
+        return searchPosition(aBoard, player);
+    }
+
+    /**
+     * Searches the board and picks the best move for a player, without starting a new generation in the
+     * transposition table and without clearing a stop request. ParallelSearch calls this on every thread, after
+     * starting the generation and clearing the stop requests once, so that a stop can never be missed by a thread that
+     * starts late. Accepts two parameters.
+     * @param aBoard The board to search, as an ICheckerBoard
+     * @param player The player (or that player's king) to pick a move for, as a char
+     * @return The best move found, as a packed long (see Move), or Move.NO_MOVE when the player has no legal moves
+     *
+     * @pre aBoard != null AND player = [player1, player2, player1King, or player2King]
+     *
+     * @post searchPosition = [the best move of the deepest finished iteration, or a legal move when no iteration
+     * finished] AND aBoard = #aBoard
+     */
+    long searchPosition(ICheckerBoard aBoard, char player) {
+        long bestMove = Move.NO_MOVE;
+        char side = toStandardPiece(aBoard, player);
+        char originalToMove = aBoard.getPlayerToMove();
+        int count, depth, score;
+
+        board = aBoard;
+        nodes = 0;
+        stopped = false;
+        depthReached = 0;
+        bestScore = 0;
+        deadline = (timeLimitMillis == NO_LIMIT) ? Long.MAX_VALUE : System.nanoTime() + timeLimitMillis * 1000000L;
+        clearHeuristics();
+        board.setPlayerToMove(side);
+        evaluator.attach(board);
+
+        try {
+            count = generateMoves(side, 0);
+            if (count == 1) {
+                bestMove = moves[0][0];
+            }
+            // a legal move from the opening book is played without searching, as if it were the only move
+            else if (book != null) {
+                long bookMove = book.findMove(board);
+                for (int i = 0; i < count; i++) {
+                    if (moves[0][i] == bookMove) {
+                        bestMove = bookMove;
+                        count = 1;
+                        break;
+                    }
+                }
+            }
+            // deepens one ply at a time, keeping the result of each iteration that finishes
+            for (depth = startDepth; count > 1 && depth <= maxDepth && !stopped; depth++) {
+                score = searchRoot(side, count, depth, bestMove);
+                if (!stopped) {
+                    bestMove = moves[0][0];
+                    bestScore = score;
+                    depthReached = depth;
+                    // a forced win or loss found at this depth will not change with deeper searches
+                    if (Math.abs(score) >= WIN_SCORE - MAX_PLY) {
+                        break;
+                    }
+                }
+            }
+            // a budget spent before the first iteration finished still plays a legal move: the first in move order
+            if (bestMove == Move.NO_MOVE && count > 0) {
+                bestMove = moves[0][0];
+            }
+        }
+        finally {
+            evaluator.detach();
+            board.setPlayerToMove(originalToMove);
+        }
+        return bestMove;
+    }
+
+    /**
+     * Searches every root move to a depth, moving the best move to the front of the root move buffer. Accepts four
+     * parameters.
+     * @param side The player to move, as a char
+     * @param count The number of root moves, as an int
+     * @param depth The depth to search to, as an int
+     * @param previousBest The best move of the previous iteration, searched first, as a long
+     * @return The score of the best root move, as an int
+     *
+     * @pre count > 0 AND depth > 0
+     *
+     * @post searchRoot = [the score of the best root move] AND moves[0][0] = [the best root move, when not stopped]
+     */
+    private int searchRoot(char side, int count, int depth, long previousBest) {
+        int alpha = -WIN_SCORE - 1, beta = WIN_SCORE + 1;
+        char opponent = opponentOf(side);
+        int bestIndex = 0, score;
+
+        scoreMoves(0, count, previousBest & TranspositionTable.MOVE_HINT_MASK);
+        for (int i = 0; i < count; i++) {
+            pickMove(0, i, count);
+            board.makeMove(moves[0][i]);
+            score = searchChild(opponent, depth - 1, alpha, beta, 1, i == 0);
+            board.unmakeMove();
+            if (stopped) {
+                break;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestIndex = i;
+            }
+        }
+        // keeps the best root move at the front so it is played, and searched first next iteration
+        long best = moves[0][bestIndex];
+        moves[0][bestIndex] = moves[0][0];
+        moves[0][0] = best;
+        return alpha;
+    }
+
+    /**
+     * Searches a position with negamax and alpha-beta pruning. Once the depth runs out, forced captures are still
+     * followed, so that positions are only evaluated when no piece is about to be taken. Accepts five parameters.
+     * @param side The player to move, as a char
+     * @param depth The number of plies left to search, as an int
+     * @param alpha The score the side to move is already guaranteed, as an int
+     * @param beta The score the opponent is already guaranteed, negated, as an int
+     * @param ply The distance from the root, as an int
+     * @return The score of the position for the side to move, as an int
+     *
+     * @pre 0 < ply <= MAX_PLY AND alpha < beta
+     *
+     * @post search = [the score of the position, within alpha and beta when it falls outside of them] AND
+     * board = #board
+     */
+    private int search(char side, int depth, int alpha, int beta, int ply) {
+        int count, score, best, bound, originalAlpha = alpha;
+        long move, bestMove = Move.NO_MOVE, hashHint = Move.NO_MOVE, entry, key;
+        char opponent;
+
+        nodes++;
+        if ((nodes % CLOCK_CHECK_INTERVAL == 0 && (stopRequested || System.nanoTime() > deadline)) || (nodeLimit != NO_LIMIT && nodes >= nodeLimit)) {
+            stopped = true;
+        }
+        if (stopped) {
+            return 0;
+        }
+
+        // a result from the table that is deep enough, and whose bound falls outside the window, ends the search here
+        key = board.hash();
+        entry = table.probe(key);
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashHint = TranspositionTable.getMoveHint(entry);
+            if (TranspositionTable.getDepth(entry) >= Math.max(depth, 0)) {
+                score = fromTableScore(TranspositionTable.getScore(entry), ply);
+                bound = TranspositionTable.getBound(entry);
+                if (bound == TranspositionTable.EXACT || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        // an endgame the tablebase holds is scored by its result, a quicker win scoring higher
+        if (tablebase != null) {
+            score = tablebase.probe(board);
+            if (score != Tablebase.NOT_FOUND) {
+                if (EndgameTable.isWin((byte) score)) {
+                    return TABLEBASE_WIN_SCORE - ply - EndgameTable.distance((byte) score);
+                }
+                if (EndgameTable.isLoss((byte) score)) {
+                    return -TABLEBASE_WIN_SCORE + ply + EndgameTable.distance((byte) score);
+                }
+                return 0;
+            }
+        }
+
+        count = generateMoves(side, ply);
+        // a player with no pieces or no legal moves loses, and a quicker win scores higher
+        if (count == 0) {
+            return -WIN_SCORE + ply;
+        }
+        if (ply >= MAX_PLY || (depth <= 0 && !Move.isCapture(moves[ply][0]))) {
+            return evaluator.evaluate(side);
+        }
+
+        opponent = opponentOf(side);
+        best = -WIN_SCORE - 1;
+        scoreMoves(ply, count, hashHint);
+        for (int i = 0; i < count; i++) {
+            pickMove(ply, i, count);
+            move = moves[ply][i];
+            board.makeMove(move);
+            score = searchChild(opponent, depth - 1, alpha, beta, ply + 1, i == 0);
+            board.unmakeMove();
+            if (stopped) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestMove = move;
+            }
+            if (score > alpha) {
+                alpha = score;
+            }
+            if (alpha >= beta) {
+                rememberCutoff(move, ply, depth);
+                break;
+            }
+        }
+
+        if (best <= originalAlpha) {
+            bound = TranspositionTable.UPPER_BOUND;
+        }
+        else if (best >= beta) {
+            bound = TranspositionTable.LOWER_BOUND;
+        }
+        else {
+            bound = TranspositionTable.EXACT;
+        }
+        table.store(key, Math.max(depth, 0), bound, toTableScore(best, ply), bestMove);
+        return best;
+    }
+
+    /**
+     * Searches the position after one of the moves of a node and scores it for the side that moved. The first move is
+     * searched with the whole window; every later move is first searched with a null window just above alpha, which
+     * only shows whether it beats the best move so far, and is searched again with the whole window when it does.
+     * Accepts six parameters.
+     * @param opponent The player to move after the move, as a char
+     * @param depth The number of plies left to search after the move, as an int
+     * @param alpha The score the side that moved is already guaranteed, as an int
+     * @param beta The score the opponent is already guaranteed, negated, as an int
+     * @param ply The distance of the position after the move from the root, as an int
+     * @param isFirst True for the first move searched at the node, as a boolean
+     * @return The score of the move for the side that moved, as an int
+     *
+     * @pre 0 < ply <= MAX_PLY AND alpha < beta AND [the move is made on the board]
+     *
+     * @post searchChild = [the score of the move, within alpha and beta when it falls outside of them] AND
+     * board = #board
+     */
+    private int searchChild(char opponent, int depth, int alpha, int beta, int ply, boolean isFirst) {
+        if (isFirst || beta - alpha == 1) {
+            return -search(opponent, depth, -beta, -alpha, ply);
+        }
+        int score = -search(opponent, depth, -alpha - 1, -alpha, ply);
+        if (score > alpha && score < beta && !stopped) {
+            score = -search(opponent, depth, -beta, -alpha, ply);
+        }
+        return score;
+    }
+
+    /**
+     * Turns a score into the form it is stored in the transposition table. Win and loss scores, from the search or
+     * from the tablebase, count plies from the root, so they are stored counting plies from the position instead.
+     * Accepts two parameters.
+     * @param score The score counting plies from the root, as an int
+     * @param ply The distance of the position from the root, as an int
+     * @return The score counting plies from the position, as an int
+     *
+     * @pre 0 <= ply <= MAX_PLY
+     *
+     * @post toTableScore = [score moved ply plies further from a win or loss, when it is one]
+     */
+    private static int toTableScore(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY || (score >= TABLEBASE_WIN_MIN && score <= TABLEBASE_WIN_SCORE)) {
+            return score + ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY || (score <= -TABLEBASE_WIN_MIN && score >= -TABLEBASE_WIN_SCORE)) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    /**
+     * Turns a score stored in the transposition table back into a score counting plies from the root, for wins and
+     * losses from the search or from the tablebase. Accepts two parameters.
+     * @param score The score counting plies from the position, as an int
+     * @param ply The distance of the position from the root, as an int
+     * @return The score counting plies from the root, as an int
+     *
+     * @pre 0 <= ply <= MAX_PLY
+     *
+     * @post fromTableScore = [score moved ply plies closer to a win or loss, when it is one]
+     */
+    private static int fromTableScore(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_PLY || (score >= TABLEBASE_WIN_MIN && score <= TABLEBASE_WIN_SCORE)) {
+            return score - ply;
+        }
+        if (score <= -WIN_SCORE + MAX_PLY || (score <= -TABLEBASE_WIN_MIN && score >= -TABLEBASE_WIN_SCORE)) {
+            return score + ply;
+        }
+        return score;
+    }
+
+    /**
+     * Writes the legal moves of the side to move into the move buffer of a ply, first growing the ply's buffers when
+     * the position has more legal moves than they hold. Accepts two parameters.
+     * @param side The player to move, as a char
+     * @param ply The distance from the root, as an int
+     * @return The number of legal moves, as an int
+     *
+     * @pre 0 <= ply <= MAX_PLY
+     *
+     * @post generateMoves = [the number of legal moves of side] AND moves[ply][0, generateMoves) = [every legal move]
+     * AND orderScores[ply].length >= generateMoves AND board = #board
+     */
+    private int generateMoves(char side, int ply) {
+        int count = board.generateLegalMoves(side, moves[ply]);
+        if (count > moves[ply].length) {
+            moves[ply] = new long[count];
+            orderScores[ply] = new int[count];
+            board.generateLegalMoves(side, moves[ply]);
+        }
+        return count;
+    }
+
+    /**
+     * Gives every move at a ply its ordering score: the move to try first, then captures by length, then killer
+     * moves, then quiet moves by history score. Accepts three parameters.
+     * @param ply The ply whose moves are scored, as an int
+     * @param count The number of moves at the ply, as an int
+     * @param firstHint The from square, to square, capture flag and step count (see
+     * TranspositionTable.MOVE_HINT_MASK) of a move that should be searched before all others, or Move.NO_MOVE, as a
+     * long
+     *
+     * @pre 0 <= ply <= MAX_PLY AND count >= 0
+     *
+     * @post orderScores[ply][0, count) = [the ordering score of each move]
+     */
+    private void scoreMoves(int ply, int count, long firstHint) {
+        long move;
+
+        for (int i = 0; i < count; i++) {
+            move = moves[ply][i];
+            if (firstHint != Move.NO_MOVE && (move & TranspositionTable.MOVE_HINT_MASK) == firstHint) {
+                orderScores[ply][i] = Integer.MAX_VALUE;
+            }
+            else if (Move.isCapture(move)) {
+                orderScores[ply][i] = CAPTURE_ORDER + CAPTURE_STEP_ORDER * Move.getStepCount(move);
+            }
+            else if (move == killers[ply][0] || move == killers[ply][1]) {
+                orderScores[ply][i] = KILLER_ORDER;
+            }
+            else {
+                orderScores[ply][i] = history[Move.getFrom(move) * MAX_SQUARES + Move.getTo(move)];
+            }
+        }
+    }
+
+    /**
+     * Moves the remaining move with the highest ordering score into position next, so that moves are sorted only as
+     * far as the search gets before a cutoff. Accepts three parameters.
+     * @param ply The ply whose moves are ordered, as an int
+     * @param next The index to fill, as an int
+     * @param count The number of moves at the ply, as an int
+     *
+     * @pre 0 <= next < count
+     *
+     * @post moves[ply][next] = [the remaining move with the highest ordering score]
+     */
+    private void pickMove(int ply, int next, int count) {
+        long[] plyMoves = moves[ply];
+        int[] scores = orderScores[ply];
+        int bestIndex = next;
+
+        for (int i = next + 1; i < count; i++) {
+            if (scores[i] > scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex != next) {
+            long move = plyMoves[next];
+            int score = scores[next];
+            plyMoves[next] = plyMoves[bestIndex];
+            scores[next] = scores[bestIndex];
+            plyMoves[bestIndex] = move;
+            scores[bestIndex] = score;
+        }
+    }
+
+    /**
+     * Remembers a quiet move that caused a cutoff as a killer move for its ply and raises its history score.
+     * Captures are always searched first, so they are not remembered. Accepts three parameters.
+     * @param move The move that caused the cutoff, as a long
+     * @param ply The ply of the cutoff, as an int
+     * @param depth The depth left at the cutoff, as an int
+     *
+     * @pre 0 <= ply <= MAX_PLY
+     *
+     * @post [killers and history include move when it is not a capture]
+     */
+    private void rememberCutoff(long move, int ply, int depth) {
+        if (Move.isCapture(move)) {
+            return;
+        }
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        int index = Move.getFrom(move) * MAX_SQUARES + Move.getTo(move);
+        history[index] = Math.min(history[index] + depth * depth, KILLER_ORDER - 1);
+    }
+
+    /**
+     * Clears the killer moves and history scores left from the previous search.
+     *
+     * @pre None
+     *
+     * @post killers = [every entry Move.NO_MOVE] AND history = [every entry 0]
+     */
+    private void clearHeuristics() {
+        for (long[] plyKillers : killers) {
+            plyKillers[0] = Move.NO_MOVE;
+            plyKillers[1] = Move.NO_MOVE;
+        }
+        Arrays.fill(history, 0);
+    }
+
+    /**
+     * Finds the opponent of a player on the board being searched. Accepts one parameter.
+     * @param side The player, as a char
+     * @return The opponent's standard piece, as a char
+     *
+     * @pre side = [player1 or player2]
+     *
+     * @post opponentOf = [player2 when side is player1, and player1 otherwise]
+     */
+    private char opponentOf(char side) {
+        return (side == board.getPlayerOne()) ? board.getPlayerTwo() : board.getPlayerOne();
+    }
+
+    /**
+     * Finds the standard piece of a player, given either of that player's pieces. Accepts two parameters.
+     * @param aBoard The board the player is on, as an ICheckerBoard
+     * @param player The player or that player's king, as a char
+     * @return The player's standard piece, as a char
+     *
+     * @pre aBoard != null
+     *
+     * @post toStandardPiece = [player1 when player is player1 or player1King, and player2 otherwise]
+     */
+    private static char toStandardPiece(ICheckerBoard aBoard, char player) {
+        return (player == aBoard.getPlayerOne() || player == aBoard.getPlayerOneKing()) ? aBoard.getPlayerOne() : aBoard.getPlayerTwo();
+    }
+
+    /**
+     * Asks a search that is running on another thread to stop. The search notices within CLOCK_CHECK_INTERVAL nodes
+     * and returns the best move of the deepest iteration it finished.
+     *
+     * @pre None
+     *
+     * @post stopRequested = true
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Clears a stop request left from an earlier search.
+     *
+     * @pre [no search is running]
+     *
+     * @post stopRequested = false
+     */
+    void clearStop() {
+        stopRequested = false;
+    }
+
+    /**
+     * Simple setter for the depth the first iteration searches to. Accepts one parameter.
+     * @param depth The first depth in plies, as an int
+     *
+     * @pre 1 <= depth <= MAX_PLY
+     *
+     * @post startDepth = depth
+     */
+    void setStartDepth(int depth) {
+        startDepth = Math.max(1, Math.min(depth, MAX_PLY));
+    }
+
+    /**
+     * Simple setter for the time a search may take. Accepts one parameter.
+     * @param millis The time budget in milliseconds, or NO_LIMIT, as a long
+     *
+     * @pre millis >= 0
+     *
+     * @post timeLimitMillis = millis
+     */
+    public void setTimeLimitMillis(long millis) {
+        timeLimitMillis = millis;
+    }
+
+    /**
+     * Simple setter for the number of positions a search may visit. Accepts one parameter.
+     * @param limit The node budget, or NO_LIMIT, as a long
+     *
+     * @pre limit >= 0
+     *
+     * @post nodeLimit = limit
+     */
+    public void setNodeLimit(long limit) {
+        nodeLimit = limit;
+    }
+
+    /**
+     * Simple setter for the weights the positions at the end of the search are scored with. Accepts one parameter.
+     * @param weights The weights of the evaluation features, as an EvalWeights
+     *
+     * @pre weights != null AND [no search is running]
+     *
+     * @post evaluator = [a new Evaluator with weights]
+     */
+    public void setWeights(EvalWeights weights) {
+        evaluator = new Evaluator(weights);
+    }
+
+    /**
+     * Simple setter for the opening book consulted before every search. A position the book holds a legal move for is
+     * not searched at all. Accepts one parameter.
+     * @param aBook The opening book, or null for none, as an OpeningBook
+     *
+     * @pre None
+     *
+     * @post book = aBook
+     */
+    public void setOpeningBook(OpeningBook aBook) {
+        book = aBook;
+    }
+
+    /**
+     * Simple setter for the endgame tablebase probed during every search. A position below the root that the
+     * tablebase holds is scored by its result, and is not searched any further. Accepts one parameter.
+     * @param aTablebase The tablebase, or null for none, as a Tablebase
+     *
+     * @pre None
+     *
+     * @post tablebase = aTablebase
+     */
+    public void setTablebase(Tablebase aTablebase) {
+        tablebase = aTablebase;
+    }
+
+    /**
+     * Simple setter for the deepest iteration a search may start. Accepts one parameter.
+     * @param depth The maximum depth in plies, as an int
+     *
+     * @pre 1 <= depth <= MAX_PLY
+     *
+     * @post maxDepth = depth
+     */
+    public void setMaxDepth(int depth) {
+        maxDepth = Math.max(1, Math.min(depth, MAX_PLY));
+    }
+
+    /**
+     * Simple accessor for the transposition table the engine searches with.
+     * @return The transposition table, as a TranspositionTable
+     *
+     * @pre None
+     *
+     * @post getTranspositionTable = table
+     */
+    public TranspositionTable getTranspositionTable() {
+        return table;
+    }
+
+    /**
+     * Simple accessor for the number of positions the last search visited.
+     * @return The node count of the last search, as a long
+     *
+     * @pre None
+     *
+     * @post getNodes = nodes
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Simple accessor for the deepest iteration the last search finished.
+     * @return The depth reached, as an int
+     *
+     * @pre None
+     *
+     * @post getDepthReached = depthReached
+     */
+    public int getDepthReached() {
+        return depthReached;
+    }
+
+    /**
+     * Simple accessor for the score of the move the last search picked.
+     * @return The best score, from the point of view of the player the move was picked for, as an int
+     *
+     * @pre None
+     *
+     * @post getBestScore = bestScore
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+}
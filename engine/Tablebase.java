@@ -0,0 +1,369 @@
+package cpsc2150.extendedCheckers.engine;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Tablebase answers whether the player to move wins, loses, or draws an 8x8 endgame, from a directory of
+ * block-compressed endgame tables. Every table file is memory-mapped when the tablebase is opened, and stays compressed:
+ * a probe numbers the position (see EndgameIndex), finds the block holding that number, and reads the result out of
+ * the decompressed block. Decompressed blocks are kept in a PageCache shared by every thread that probes, so a search
+ * that keeps probing the same endgames decompresses each block once. Probing never changes the tablebase, and any
+ * number of threads can probe at once.
+ *
+ * A compressed table file is a header of HEADER_BYTES bytes (MAGIC, VERSION, the four piece counts of the signature,
+ * the bytes per block, and the number of blocks, as ints), then the offset in the file of every block and of the end of
+ * the last block, as longs, then the blocks, each the results of blockBytes numbers (fewer for the last) compressed
+ * with Deflater. All numbers are big-endian. Files are named by the signature (see fileName).
+ *
+ * @invariant [tables[s] is the mapped file of signature s, or null] AND maxPieces = [the most pieces of any table]
+ */
+public final class Tablebase {
+    // represents the first int of every compressed table file ("CTB2"), and the version of the file layout
+    public static final int MAGIC = 0x43544232;
+    public static final int VERSION = 1;
+    // represents the size in bytes of the header
+    public static final int HEADER_BYTES = 8 * Integer.BYTES;
+    // represents the results in one block when none is given, and the megabytes of blocks cached when none is given
+    public static final int DEFAULT_BLOCK_BYTES = 4096;
+    public static final int DEFAULT_CACHE_MB = 64;
+    // represents what probe returns for a position no table holds
+    public static final int NOT_FOUND = Byte.MAX_VALUE + 1;
+    // represents the start and end of every compressed table file name
+    private static final String FILE_PREFIX = "endgame-";
+    private static final String FILE_SUFFIX = ".tbz";
+    // represents the byte offsets of the fields of the header
+    private static final int COUNTS_OFFSET = 2 * Integer.BYTES;
+    private static final int BLOCK_BYTES_OFFSET = 6 * Integer.BYTES;
+    private static final int BLOCK_COUNT_OFFSET = 7 * Integer.BYTES;
+    // represents the number of signatures, which is one more than the largest signature
+    private static final int SIGNATURES = EndgameIndex.signature(EndgameIndex.MAX_PIECES, EndgameIndex.MAX_PIECES,
+            EndgameIndex.MAX_PIECES, EndgameIndex.MAX_PIECES) + 1;
+    private static final int BYTES_PER_MB = 1024 * 1024;
+
+    /**
+     * the table of every signature there is a file for, indexed by signature, and the most pieces of any of them
+     */
+    private final TableFile[] tables;
+    private final int maxPieces;
+
+    /**
+     * the decompressed blocks of every table, and the Inflater of each probing thread
+     */
+    private final PageCache cache;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * TableFile is one mapped compressed table file.
+     *
+     * @invariant [buffer holds a checked compressed table of index's signature] AND blockBytes >= 1
+     */
+    private static final class TableFile {
+        private final EndgameIndex index;
+        private final MappedByteBuffer buffer;
+        private final int blockBytes;
+
+        /**
+         * Constructor for TableFile object. Accepts three parameters.
+         * @param anIndex The numbering of the table's signature, as an EndgameIndex
+         * @param aBuffer The mapped file, as a MappedByteBuffer
+         * @param aBlockBytes The results in each block, as an int
+         *
+         * @pre [aBuffer holds a checked compressed table of anIndex's signature with blocks of aBlockBytes]
+         *
+         * @post index = anIndex AND buffer = aBuffer AND blockBytes = aBlockBytes
+         */
+        private TableFile(EndgameIndex anIndex, MappedByteBuffer aBuffer, int aBlockBytes) {
+            index = anIndex;
+            buffer = aBuffer;
+            blockBytes = aBlockBytes;
+        }
+
+        /**
+         * Simple accessor for where a block starts in the file. Accepts one parameter.
+         * @param block The block number, or the number of blocks for the end of the last block, as an int
+         * @return The offset of the block, as an int
+         *
+         * @pre 0 <= block <= [the number of blocks]
+         *
+         * @post blockOffset = [the offset stored for block]
+         */
+        private int blockOffset(int block) {
+            return (int) buffer.getLong(HEADER_BYTES + block * Long.BYTES);
+        }
+    }
+
+    /**
+     * Constructor for Tablebase object. Accepts three parameters.
+     * @param aTables The table of every signature, or null, indexed by signature, as a TableFile[]
+     * @param aMaxPieces The most pieces of any table, as an int
+     * @param aCache The cache of decompressed blocks, as a PageCache
+     *
+     * @pre aTables.length = SIGNATURES AND aCache != null
+     *
+     * @post tables = aTables AND maxPieces = aMaxPieces AND cache = aCache
+     */
+    private Tablebase(TableFile[] aTables, int aMaxPieces, PageCache aCache) {
+        tables = aTables;
+        maxPieces = aMaxPieces;
+        cache = aCache;
+    }
+
+    /**
+     * Names the compressed file of a signature's table, e.g. "endgame-1021.tbz". Accepts one parameter.
+     * @param index The numbering of the signature, as an EndgameIndex
+     * @return The file name, as a String
+     *
+     * @pre index != null
+     *
+     * @post fileName = FILE_PREFIX + index + FILE_SUFFIX
+     */
+    public static String fileName(EndgameIndex index) {
+        return FILE_PREFIX + index + FILE_SUFFIX;
+    }
+
+    /**
+     * Writes a solved table into a directory as a compressed table file, named by fileName. Accepts three
+     * parameters.
+     * @param table The solved table, as an EndgameTable
+     * @param directory The directory to write into, which must exist, as a Path
+     * @param blockBytes The results in each block, as an int
+     * @return The file written, which is replaced when it exists, as a Path
+     * @throws IOException When the file can not be written
+     *
+     * @pre table != null AND directory != null AND blockBytes >= 1
+     *
+     * @post write = directory.resolve(fileName(table.getIndex())) AND [the file holds the table]
+     */
+    public static Path write(EndgameTable table, Path directory, int blockBytes) throws IOException {
+        EndgameIndex index = table.getIndex();
+        int size = index.getSize();
+        int blockCount = (size + blockBytes - 1) / blockBytes;
+        byte[] values = new byte[blockBytes];
+        byte[] buffer = new byte[blockBytes];
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        long[] offsets = new long[blockCount + 1];
+        long firstOffset = HEADER_BYTES + (long) offsets.length * Long.BYTES;
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+        try {
+            for (int block = 0; block < blockCount; block++) {
+                int length = Math.min(blockBytes, size - block * blockBytes);
+                for (int i = 0; i < length; i++) {
+                    values[i] = table.getValue(block * blockBytes + i);
+                }
+                offsets[block] = firstOffset + blocks.size();
+                deflater.reset();
+                deflater.setInput(values, 0, length);
+                deflater.finish();
+                while (!deflater.finished()) {
+                    blocks.write(buffer, 0, deflater.deflate(buffer));
+                }
+            }
+        }
+        finally {
+            deflater.end();
+        }
+        offsets[blockCount] = firstOffset + blocks.size();
+        if (offsets[blockCount] > Integer.MAX_VALUE) {
+            throw new IOException("endgame " + index + " does not fit in one compressed table file");
+        }
+
+        Path file = directory.resolve(fileName(index));
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                out.writeInt(index.getPieceCount(type));
+            }
+            out.writeInt(blockBytes);
+            out.writeInt(blockCount);
+            for (long offset : offsets) {
+                out.writeLong(offset);
+            }
+            blocks.writeTo(out);
+        }
+        return file;
+    }
+
+    /**
+     * Maps every compressed table file in a directory. The files stay mapped until the Tablebase is garbage collected.
+     * Accepts two parameters.
+     * @param directory The directory holding the table files, as a Path
+     * @param cacheMb The megabytes of decompressed blocks to keep in memory, as an int
+     * @return The tablebase, as a Tablebase
+     * @throws IOException When the directory or a table file can not be read, or a file is not a compressed table of
+     * this version
+     *
+     * @pre directory != null AND cacheMb >= 0
+     *
+     * @post open = [a Tablebase of every table in directory, with a cache of about cacheMb megabytes and at least one
+     * block per stripe]
+     */
+    public static Tablebase open(Path directory, int cacheMb) throws IOException {
+        TableFile[] tables = new TableFile[SIGNATURES];
+        int maxPieces = 0, blockBytes = DEFAULT_BLOCK_BYTES;
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                TableFile table = map(file);
+                tables[table.index.getSignature()] = table;
+                int pieces = 0;
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    pieces += table.index.getPieceCount(type);
+                }
+                maxPieces = Math.max(maxPieces, pieces);
+                // every file of a tablebase is written with the same block size, so any of them sizes the cache
+                blockBytes = table.blockBytes;
+            }
+        }
+        int pages = (int) Math.min(Integer.MAX_VALUE, (long) cacheMb * BYTES_PER_MB / blockBytes);
+        return new Tablebase(tables, maxPieces, new PageCache(pages, PageCache.DEFAULT_STRIPES));
+    }
+
+    /**
+     * Maps one compressed table file and checks its header and block offsets. Accepts one parameter.
+     * @param file The table file, as a Path
+     * @return The mapped table, as a TableFile
+     * @throws IOException When the file can not be read, or is not a compressed table of this version
+     *
+     * @pre file != null
+     *
+     * @post map = [the mapped table in file]
+     */
+    private static TableFile map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is not a compressed endgame table");
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException(file + " is not a compressed endgame table of version " + VERSION);
+            }
+            EndgameIndex index;
+            try {
+                index = new EndgameIndex(mapped.getInt(COUNTS_OFFSET), mapped.getInt(COUNTS_OFFSET + Integer.BYTES),
+                        mapped.getInt(COUNTS_OFFSET + 2 * Integer.BYTES), mapped.getInt(COUNTS_OFFSET + 3 * Integer.BYTES));
+            }
+            catch (IllegalArgumentException e) {
+                throw new IOException(file + " has a bad signature: " + e.getMessage(), e);
+            }
+            int blockBytes = mapped.getInt(BLOCK_BYTES_OFFSET);
+            int blockCount = mapped.getInt(BLOCK_COUNT_OFFSET);
+            if (blockBytes < 1 || blockCount != (index.getSize() + (long) blockBytes - 1) / blockBytes
+                    || size < HEADER_BYTES + (blockCount + 1L) * Long.BYTES) {
+                throw new IOException(file + " does not hold every position of " + index);
+            }
+            TableFile table = new TableFile(index, mapped, blockBytes);
+            if (table.blockOffset(blockCount) != size) {
+                throw new IOException(file + " does not hold every block of " + index);
+            }
+            return table;
+        }
+    }
+
+    /**
+     * Finds the result of the position on a board, for its player to move. Accepts one parameter.
+     * @param board The board, as an ICheckerBoard
+     * @return The result (see EndgameTable), or NOT_FOUND when the board is not 8x8 or no table holds its pieces, as
+     * an int
+     * @throws IllegalStateException When the block holding the position is corrupt
+     *
+     * @pre board != null
+     *
+     * @post probe = [the result of the position in its table, or NOT_FOUND] AND board = #board
+     */
+    public int probe(ICheckerBoard board) {
+        if (board.getBoardSize() != EndgameIndex.BOARD_SIZE) {
+            return NOT_FOUND;
+        }
+        char playerOne = board.getPlayerOne(), playerTwo = board.getPlayerTwo();
+        int menOne = board.getMenCount(playerOne), kingsOne = board.getKingCount(playerOne);
+        int menTwo = board.getMenCount(playerTwo), kingsTwo = board.getKingCount(playerTwo);
+        if (menOne + kingsOne + menTwo + kingsTwo > maxPieces) {
+            return NOT_FOUND;
+        }
+        TableFile table = tables[EndgameIndex.signature(menOne, kingsOne, menTwo, kingsTwo)];
+        if (table == null) {
+            return NOT_FOUND;
+        }
+
+        int position = table.index.index(board);
+        int block = position / table.blockBytes;
+        long key = (long) table.index.getSignature() << Integer.SIZE | block;
+        byte[] page = cache.get(key);
+        if (page == null) {
+            page = decompress(table, block);
+            cache.put(key, page);
+        }
+        return page[position % table.blockBytes];
+    }
+
+    /**
+     * Decompresses one block of a table straight out of the mapped file, with the calling thread's Inflater. Accepts
+     * two parameters.
+     * @param table The table, as a TableFile
+     * @param block The block number, as an int
+     * @return The results of the block, as a byte[]
+     * @throws IllegalStateException When the block is corrupt
+     *
+     * @pre 0 <= block < [the number of blocks of table]
+     *
+     * @post decompress = [the results of the numbers in block]
+     */
+    private byte[] decompress(TableFile table, int block) {
+        int start = table.blockOffset(block);
+        int length = Math.min(table.blockBytes, table.index.getSize() - block * table.blockBytes);
+        byte[] page = new byte[length];
+        Inflater inflater = inflaters.get();
+
+        inflater.reset();
+        inflater.setInput(table.buffer.slice(start, table.blockOffset(block + 1) - start));
+        try {
+            if (inflater.inflate(page) != length || !inflater.finished()) {
+                throw new IllegalStateException("block " + block + " of endgame " + table.index + " is corrupt");
+            }
+        }
+        catch (DataFormatException e) {
+            throw new IllegalStateException("block " + block + " of endgame " + table.index + " is corrupt", e);
+        }
+        return page;
+    }
+
+    /**
+     * Simple accessor for the most pieces of any table, so that a search only probes positions that could be held.
+     * @return The most pieces, or 0 when there are no tables, as an int
+     *
+     * @pre None
+     *
+     * @post getMaxPieces = maxPieces
+     */
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    /**
+     * Simple accessor for the cache of decompressed blocks.
+     * @return The cache, as a PageCache
+     *
+     * @pre None
+     *
+     * @post getCache = cache
+     */
+    public PageCache getCache() {
+        return cache;
+    }
+}
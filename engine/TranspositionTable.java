@@ -0,0 +1,295 @@
+package cpsc2150.extendedCheckers.engine;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TranspositionTable remembers the results of positions the search has already scored, keyed by the position's
+ * Zobrist hash (see ICheckerBoard.hash). Entries live in one flat long[] of power-of-two size. Each bucket holds two
+ * entries: the first keeps the deepest result (unless it is left over from an older search) and the second is always
+ * replaced. An entry is two longs, the data and the hash XOR the data, and it is only used when the two agree with the
+ * hash being looked up. That way several search threads can share one table without locks: an entry that was torn by
+ * two threads writing at once simply looks like a miss.
+ *
+ * The data of an entry packs, from the lowest bit up: the bound (2 bits), the depth (8 bits), the search generation
+ * (8 bits), the from square, to square, capture flag and step count of the best move (22 bits, see Move), and the
+ * score (24 bits, signed). The bound is never NO_BOUND in a stored entry, so stored data is never 0.
+ *
+ * @invariant table.length = 4 * [a power of two] AND [every entry is empty, or its two longs XOR to the hash it was
+ * stored under]
+ */
+public class TranspositionTable {
+    // represents the bound of an entry's score: none (an empty entry), exact, at least (a cutoff), or at most
+    public static final int NO_BOUND = 0;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    // represents the data returned when a position is not in the table
+    public static final long NO_ENTRY = 0;
+    // represents the size in megabytes of a table when none is given
+    public static final int DEFAULT_SIZE_MB = 16;
+
+    // represents the layout of a bucket: two entries of two longs each
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int LONGS_PER_BUCKET = 2 * LONGS_PER_ENTRY;
+    private static final int BYTES_PER_BUCKET = LONGS_PER_BUCKET * Long.BYTES;
+    // represents the most buckets a table can hold, so that its long[] stays within the largest array size
+    private static final int MAX_BUCKETS = 1 << 28;
+    // represents the positions and widths of the fields packed into an entry's data
+    private static final int DEPTH_SHIFT = 2;
+    private static final int GENERATION_SHIFT = 10;
+    private static final int MOVE_SHIFT = 18;
+    private static final int SCORE_SHIFT = 40;
+    private static final long BOUND_MASK = 0x3L;
+    private static final long BYTE_MASK = 0xFFL;
+    // represents the bits of a packed move (from, to, capture flag, and step count) that are kept in an entry
+    public static final long MOVE_HINT_MASK = (1L << 22) - 1;
+
+    /**
+     * the buckets of the table, and the mask that turns a hash into a bucket number
+     */
+    private final long[] table;
+    private final long bucketMask;
+
+    /**
+     * the generation of the current search, used to replace entries left over from older searches first
+     */
+    private volatile int generation;
+
+    /**
+     * the counters of probes that found their position, probes that did not, and misses whose bucket was holding
+     * other positions
+     */
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Default constructor for TranspositionTable object. Makes a table of DEFAULT_SIZE_MB megabytes.
+     *
+     * @pre None
+     *
+     * @post [table holds the most buckets that fit in DEFAULT_SIZE_MB megabytes, all empty] AND generation = 0
+     */
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB);
+    }
+
+    /**
+     * Constructor for TranspositionTable object. The number of buckets is the largest power of two that fits in the
+     * given size. Accepts one parameter.
+     * @param sizeMb The most memory the table may use, in megabytes, as an int
+     *
+     * @pre sizeMb > 0
+     *
+     * @post [table holds the most buckets that fit in sizeMb megabytes, all empty] AND generation = 0
+     */
+    public TranspositionTable(int sizeMb) {
+        long buckets = Math.max(1, (long) sizeMb * 1024 * 1024 / BYTES_PER_BUCKET);
+        buckets = Math.min(Long.highestOneBit(buckets), MAX_BUCKETS);
+        table = new long[(int) buckets * LONGS_PER_BUCKET];
+        bucketMask = buckets - 1;
+    }
+
+    /**
+     * Looks up a position. Accepts one parameter.
+     * @param key The Zobrist hash of the position, as a long
+     * @return The data stored for the position, or NO_ENTRY when it is not in the table, as a long
+     *
+     * @pre None
+     *
+     * @post probe = [the data of the entry stored under key, or NO_ENTRY] AND table = #table AND [hits, or misses and
+     * possibly collisions, are counted]
+     */
+    public long probe(long key) {
+        int index = (int) (key & bucketMask) * LONGS_PER_BUCKET;
+        long check, data;
+        boolean occupied = false;
+
+        for (int entry = index; entry < index + LONGS_PER_BUCKET; entry += LONGS_PER_ENTRY) {
+            check = table[entry];
+            data = table[entry + 1];
+            if (data != NO_ENTRY) {
+                // the entry is only used when its two longs agree, which a torn write never does
+                if ((check ^ data) == key) {
+                    hits.increment();
+                    return data;
+                }
+                occupied = true;
+            }
+        }
+        misses.increment();
+        if (occupied) {
+            collisions.increment();
+        }
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores the result of searching a position. The first entry of the bucket is replaced when it holds the same
+     * position, a result from an older search, or a shallower result. Otherwise the second entry is replaced. Accepts
+     * five parameters.
+     * @param key The Zobrist hash of the position, as a long
+     * @param depth The depth the position was searched to, as an int
+     * @param bound The bound of the score (EXACT, LOWER_BOUND, or UPPER_BOUND), as an int
+     * @param score The score of the position, as an int
+     * @param move The best move found, or Move.NO_MOVE, as a packed long (see Move)
+     *
+     * @pre 0 <= depth <= 255 AND bound = [EXACT, LOWER_BOUND, or UPPER_BOUND] AND -2^23 <= score < 2^23
+     *
+     * @post [the position's entry is stored in one of the two entries of its bucket]
+     */
+    public void store(long key, int depth, int bound, int score, long move) {
+        int index = (int) (key & bucketMask) * LONGS_PER_BUCKET;
+        int currentGeneration = generation;
+        long data = ((long) score << SCORE_SHIFT) | ((move & MOVE_HINT_MASK) << MOVE_SHIFT)
+                | ((currentGeneration & BYTE_MASK) << GENERATION_SHIFT) | ((long) depth << DEPTH_SHIFT) | bound;
+        long firstData = table[index + 1];
+        boolean samePosition = (table[index] ^ firstData) == key;
+
+        // keeps a deeper result of this search in the first entry, and uses the always-replace entry instead
+        if (firstData != NO_ENTRY && !samePosition && getGeneration(firstData) == (currentGeneration & BYTE_MASK) && getDepth(firstData) > depth) {
+            index += LONGS_PER_ENTRY;
+        }
+        table[index] = key ^ data;
+        table[index + 1] = data;
+    }
+
+    /**
+     * Starts a new search, so that entries left from earlier searches are replaced before newer ones.
+     *
+     * @pre None
+     *
+     * @post generation = #generation + 1 AND table = #table
+     */
+    public void newSearch() {
+        generation++;
+    }
+
+    /**
+     * Empties every entry and resets the counters.
+     *
+     * @pre None
+     *
+     * @post [every entry is empty] AND hits = 0 AND misses = 0 AND collisions = 0
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        hits.reset();
+        misses.reset();
+        collisions.reset();
+    }
+
+    /**
+     * Simple accessor for the bound of an entry's score. Accepts one parameter.
+     * @param data The data of an entry, as a long
+     * @return The bound (EXACT, LOWER_BOUND, or UPPER_BOUND), as an int
+     *
+     * @pre data != NO_ENTRY
+     *
+     * @post getBound = [the bound packed in data]
+     */
+    public static int getBound(long data) {
+        return (int) (data & BOUND_MASK);
+    }
+
+    /**
+     * Simple accessor for the depth an entry was searched to. Accepts one parameter.
+     * @param data The data of an entry, as a long
+     * @return The depth, as an int
+     *
+     * @pre data != NO_ENTRY
+     *
+     * @post getDepth = [the depth packed in data]
+     */
+    public static int getDepth(long data) {
+        return (int) ((data >>> DEPTH_SHIFT) & BYTE_MASK);
+    }
+
+    /**
+     * Simple accessor for the score of an entry. Accepts one parameter.
+     * @param data The data of an entry, as a long
+     * @return The score, as an int
+     *
+     * @pre data != NO_ENTRY
+     *
+     * @post getScore = [the score packed in data]
+     */
+    public static int getScore(long data) {
+        return (int) (data >> SCORE_SHIFT);
+    }
+
+    /**
+     * Simple accessor for the best move of an entry. Only the from square, to square, capture flag and step count are
+     * kept, so the hint is compared against generated moves with MOVE_HINT_MASK. Accepts one parameter.
+     * @param data The data of an entry, as a long
+     * @return The best move's hint, or Move.NO_MOVE when the entry has no move, as a long
+     *
+     * @pre data != NO_ENTRY
+     *
+     * @post getMoveHint = [the move hint packed in data]
+     */
+    public static long getMoveHint(long data) {
+        return (data >>> MOVE_SHIFT) & MOVE_HINT_MASK;
+    }
+
+    /**
+     * Simple accessor for the search generation an entry was stored in. Accepts one parameter.
+     * @param data The data of an entry, as a long
+     * @return The generation, modulo 256, as an int
+     *
+     * @pre data != NO_ENTRY
+     *
+     * @post getGeneration = [the generation packed in data]
+     */
+    private static int getGeneration(long data) {
+        return (int) ((data >>> GENERATION_SHIFT) & BYTE_MASK);
+    }
+
+    /**
+     * Simple accessor for the number of entries the table can hold.
+     * @return The number of entries, as an int
+     *
+     * @pre None
+     *
+     * @post getCapacity = table.length / 2
+     */
+    public int getCapacity() {
+        return table.length / LONGS_PER_ENTRY;
+    }
+
+    /**
+     * Simple accessor for the number of probes that found their position.
+     * @return The number of hits since the table was made or cleared, as a long
+     *
+     * @pre None
+     *
+     * @post getHits = hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Simple accessor for the number of probes that did not find their position.
+     * @return The number of misses since the table was made or cleared, as a long
+     *
+     * @pre None
+     *
+     * @post getMisses = misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Simple accessor for the number of misses whose bucket was holding other positions.
+     * @return The number of collisions since the table was made or cleared, as a long
+     *
+     * @pre None
+     *
+     * @post getCollisions = collisions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+}
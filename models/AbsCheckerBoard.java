@@ -1,52 +1,519 @@
 package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 
 /**
  * AbsCheckerBoard is an implementation of ICheckerBoard that provides an override of toString(). It is implemented by
- * calling the primary methods in ICheckerBoard {@link ICheckerBoard}.
+ * calling the primary methods in ICheckerBoard {@link ICheckerBoard}. It also keeps the Zobrist hash of the position
+ * and the player to move, which every implementation updates through updateHash when it places or removes a piece,
+ * and the number of men and kings each player has, kept as primitives that implementations update through
+ * countPiece, which also tells the PositionListener (if any) about the change. It plays and takes back packed moves
+ * through placePiece and removePiece. Everything needed to take a move back (the move, the piece that moved, and every
+ * piece it captured) is kept on primitive stacks, so that a search never has to copy the board.
  *
  * @invariant 0 <= [boardArray row value][boardArray column value] < boardSize AND 0 <= pieces <= boardSize AND
- * 0 <= directions <= boardSize
+ * 0 <= directions <= boardSize AND zobristHash = [the XOR of the Zobrist keys of every piece on the board, and
+ * Zobrist.SIDE_KEY when playerTwo is to move] AND 0 <= undoDepth AND [the top undoDepth entries of the undo stacks
+ * take back the moves made, in reverse order] AND [playerOneMen, playerOneKings, playerTwoMen, and playerTwoKings
+ * are the numbers of each type of piece on the board]
  *
- * @cooresponds None, no private data
+ * @cooresponds hash: zobristHash
+ *          toMove: playerToMove
+ *          pieces: playerOneMen + playerOneKings and playerTwoMen + playerTwoKings
  */
 public abstract class AbsCheckerBoard implements ICheckerBoard {
+    // represents the number of moves the undo stacks hold before they first grow
+    private static final int INITIAL_UNDO_CAPACITY = 64;
+    // represents the number of chars in every cell of the rendered board, and the end of a cell after its char
+    private static final int CELL_WIDTH = 3;
+    private static final String CELL_END = " |";
+    // the rendered column header line of every board size (indexed by boardSize / 2), and the label of every row
+    private static final String[] COLUMN_HEADERS = new String[MAX_BOARD_SIZE / EVEN_DIVISOR + 1];
+    private static final String[] ROW_LABELS = new String[MAX_BOARD_SIZE];
+
+    static {
+        StringBuilder header = new StringBuilder("|  |");
+        for (int column = 0; column < MAX_BOARD_SIZE; column++) {
+            // column numbers are right aligned and row numbers left aligned, each in two chars
+            String number = Integer.toString(column);
+            header.append(number.length() == 1 ? " " : "").append(number).append('|');
+            ROW_LABELS[column] = "|" + number + (number.length() == 1 ? " " : "") + "|";
+            if ((column + 1) % EVEN_DIVISOR == 0 && column + 1 >= MIN_BOARD_SIZE) {
+                COLUMN_HEADERS[(column + 1) / EVEN_DIVISOR] = header + "\n";
+            }
+        }
+    }
+
+    /**
+     * the Zobrist hash of the current position
+     */
+    private long zobristHash;
+
+    /**
+     * the standard piece of the player to move, or NULL_POS before it is set (player one moves first)
+     */
+    private char playerToMove = NULL_POS;
+
+    /**
+     * the number of standard pieces and kings each player has on the board
+     */
+    private int playerOneMen, playerOneKings, playerTwoMen, playerTwoKings;
+
+    /**
+     * the listener told about every piece placed or removed, or null
+     */
+    private PositionListener listener;
+
+    /**
+     * the undo stacks: for each move made and not yet unmade, the move, the piece that moved, and every piece it
+     * captured (Move.MAX_STEPS slots per move). They are made on the first makeMove and grow as needed.
+     */
+    private long[] undoMoves;
+    private char[] undoPieces;
+    private char[] undoCaptured;
+    private int undoDepth;
+
+    /**
+     * Constructor for AbsCheckerBoard object, for a board with no pieces on it.
+     *
+     * @pre None
+     *
+     * @post zobristHash = 0 AND playerToMove = NULL_POS AND undoDepth = 0 AND [every piece count is 0]
+     */
+    protected AbsCheckerBoard() {
+    }
+
     /**
-     * Creates a String that represents the physical and current status of the checkerboard.
+     * Copy constructor for AbsCheckerBoard object. Implementations call this from their own copy constructors, which
+     * copy their pieces, so that copy() never has to place the pieces one at a time. The undo stacks are not copied,
+     * so the copy starts with no moves to take back. Accepts one parameter.
+     * @param source The board being copied, as an AbsCheckerBoard
+     *
+     * @pre source != null
+     *
+     * @post zobristHash = source.zobristHash AND playerToMove = source.playerToMove AND undoDepth = 0 AND [every
+     * piece count is source's]
+     */
+    protected AbsCheckerBoard(AbsCheckerBoard source) {
+        zobristHash = source.zobristHash;
+        playerToMove = source.playerToMove;
+        playerOneMen = source.playerOneMen;
+        playerOneKings = source.playerOneKings;
+        playerTwoMen = source.playerTwoMen;
+        playerTwoKings = source.playerTwoKings;
+    }
+
+    /**
+     * Creates a String that represents the physical and current status of the checkerboard. The String is rendered by
+     * renderTo into a StringBuilder that is sized for the whole board up front.
      * @return a "header" line to display all column numbers and a "header column" that displays all row numbers, as a
      * String
      *
      * @pre None
      *
      * @post toString = ["header" line to display all column numbers and "header column" to display all row numbers]
-     * board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne
-     * AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * board = #board AND playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen =
+     * #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
      * viableDirections = #viableDirections
      */
     @Override
     public String toString() {
-        StringBuilder result = new StringBuilder();
         int boardSize = getBoardSize();
-        int row, column;
-        char boardChar;
-        BoardPosition pos;
+        // every line is a leading '|', the cell of its label, a cell per column, and a newline
+        StringBuilder result = new StringBuilder((boardSize + 1) * (CELL_WIDTH * (boardSize + 1) + 2));
 
-        // adds the 0th row to the resulting checkerboard string as a header
-        result.append("|  |");
-        for (column = 0; column < boardSize; column++) {
-            result.append(String.format("%2d|", column));
+        try {
+            renderTo(result);
         }
-        result.append("\n");
+        catch (IOException e) {
+            throw new IllegalStateException("a StringBuilder can not fail to append", e);
+        }
+        return result.toString();
+    }
 
+    /**
+     * Writes the same text as toString into an Appendable, a row at a time and without building any Strings. The
+     * column header line and the row labels are made once for every board size, so rendering a board only appends
+     * them and the char of every position. Accepts one parameter.
+     * @param out Where the board is written, as an Appendable
+     * @throws IOException When out fails to append
+     *
+     * @pre out != null
+     *
+     * @post [out has toString() appended to it] AND zobristHash = #zobristHash AND playerToMove = #playerToMove
+     */
+    @Override
+    public void renderTo(Appendable out) throws IOException {
+        int boardSize = getBoardSize();
+
+        // adds the 0th row to the resulting checkerboard string as a header
+        out.append(COLUMN_HEADERS[boardSize / EVEN_DIVISOR]);
         // adds the rest of the checkerboard's elements to the string
-        for (row = 0; row < boardSize; row++) {
-            result.append(String.format("|%-2d|", row));
-            for (column = 0; column < boardSize; column++) {
-                pos = new BoardPosition(row, column);
-                boardChar = whatsAtPos(pos);
-                result.append(boardChar).append(" |");
+        for (int row = 0; row < boardSize; row++) {
+            out.append(ROW_LABELS[row]);
+            for (int column = 0; column < boardSize; column++) {
+                out.append(whatsAtPos(row, column)).append(CELL_END);
             }
-            result.append("\n");
+            out.append('\n');
         }
-        return result.toString();
+    }
+
+    /**
+     * Simple accessor for the Zobrist hash of the current position.
+     * @return The hash of the current position, as a long
+     *
+     * @pre None
+     *
+     * @post hash = zobristHash AND zobristHash = #zobristHash AND playerToMove = #playerToMove
+     */
+    @Override
+    public long hash() {
+        return zobristHash;
+    }
+
+    /**
+     * Simple accessor for the player whose turn it is.
+     * @return The standard piece of the player to move, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerToMove = [playerToMove, or player one when playerToMove was never set] AND zobristHash =
+     * #zobristHash AND playerToMove = #playerToMove
+     */
+    @Override
+    public char getPlayerToMove() {
+        return (playerToMove == NULL_POS) ? getPlayerOne() : playerToMove;
+    }
+
+    /**
+     * Simple setter for the player whose turn it is. Also, flips Zobrist.SIDE_KEY in the hash when the turn changes
+     * between player one and player two. Accepts one parameter.
+     * @param player The player (or that player's king) to move, as a char
+     *
+     * @pre player = [player1, player2, player1King, or player2King]
+     *
+     * @post playerToMove = [the standard piece of player] AND zobristHash = [#zobristHash with Zobrist.SIDE_KEY
+     * flipped when the turn changed]
+     */
+    @Override
+    public void setPlayerToMove(char player) {
+        boolean wasPlayerTwo = getPlayerToMove() == getPlayerTwo();
+        boolean isPlayerTwo = (player == getPlayerTwo() || player == getPlayerTwoKing());
+
+        if (wasPlayerTwo != isPlayerTwo) {
+            zobristHash ^= Zobrist.SIDE_KEY;
+        }
+        playerToMove = isPlayerTwo ? getPlayerTwo() : getPlayerOne();
+    }
+
+    /**
+     * Adds or removes (the XOR is the same) the Zobrist key of a piece on a row and column. Black tiles and chars that
+     * are not a player's piece do not change the hash. Implementations call this whenever a piece is placed on or
+     * removed from the board. Accepts three parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @param piece The piece being placed or removed, as a char
+     *
+     * @pre 0 <= row < boardSize AND 0 <= column < boardSize
+     *
+     * @post zobristHash = [#zobristHash with the piece's key flipped, when piece is a player's piece on a playable
+     * square] AND playerToMove = #playerToMove
+     */
+    protected void updateHash(int row, int column, char piece) {
+        if ((row + column) % EVEN_DIVISOR == 0) {
+            updateHash(BoardPosition.toSquare(row, column, getBoardSize()), piece);
+        }
+    }
+
+    /**
+     * Adds or removes (the XOR is the same) the Zobrist key of a piece on a playable square. Accepts two parameters.
+     * @param square The playable square number, as an int
+     * @param piece The piece being placed or removed, as a char
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2
+     *
+     * @post zobristHash = [#zobristHash with the piece's key flipped, when piece is a player's piece] AND
+     * playerToMove = #playerToMove
+     */
+    protected void updateHash(int square, char piece) {
+        int type = pieceType(piece);
+
+        if (type != NO_PIECE_TYPE) {
+            zobristHash ^= Zobrist.pieceKey(getBoardSize(), type, square);
+        }
+    }
+
+    /**
+     * Adds to or takes from the count of a piece's type, and tells the listener that the piece was placed or removed.
+     * Black tiles and chars that are not a player's piece do not change any count. Implementations call this whenever
+     * a piece is placed on (change = 1) or removed from (change = -1) the board, after the board has changed. Accepts
+     * three parameters.
+     * @param square The playable square number of the position, as an int
+     * @param piece The piece being placed or removed, as a char
+     * @param change The amount the count changes by, as an int
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2 AND change = [1 or -1]
+     *
+     * @post [the count of piece's type is #count + change, and the listener is told, when piece is a player's piece]
+     */
+    protected void countPiece(int square, char piece, int change) {
+        int type = pieceType(piece);
+
+        switch (type) {
+            case PLAYER_ONE_TYPE -> playerOneMen += change;
+            case PLAYER_ONE_KING_TYPE -> playerOneKings += change;
+            case PLAYER_TWO_TYPE -> playerTwoMen += change;
+            case PLAYER_TWO_KING_TYPE -> playerTwoKings += change;
+            default -> {
+                return;
+            }
+        }
+        if (listener != null) {
+            if (change > 0) {
+                listener.pieceAdded(square, type);
+            }
+            else {
+                listener.pieceRemoved(square, type);
+            }
+        }
+    }
+
+    /**
+     * Simple setter for the listener told about every piece placed on or removed from the board. Copies of the board
+     * do not share it. Accepts one parameter.
+     * @param aListener The listener, or null for none, as a PositionListener
+     *
+     * @pre None
+     *
+     * @post listener = aListener
+     */
+    @Override
+    public void setPositionListener(PositionListener aListener) {
+        listener = aListener;
+    }
+
+    /**
+     * Simple accessor for the number of standard pieces a player has on the board. Accepts one parameter.
+     * @param player The player (or that player's king), as a char
+     * @return The number of the player's standard pieces, or 0 when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post getMenCount = [playerOneMen or playerTwoMen, whichever belongs to player, or 0]
+     */
+    @Override
+    public int getMenCount(char player) {
+        return switch (pieceType(player)) {
+            case PLAYER_ONE_TYPE, PLAYER_ONE_KING_TYPE -> playerOneMen;
+            case PLAYER_TWO_TYPE, PLAYER_TWO_KING_TYPE -> playerTwoMen;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Simple accessor for the number of kings a player has on the board. Accepts one parameter.
+     * @param player The player (or that player's king), as a char
+     * @return The number of the player's kings, or 0 when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post getKingCount = [playerOneKings or playerTwoKings, whichever belongs to player, or 0]
+     */
+    @Override
+    public int getKingCount(char player) {
+        return switch (pieceType(player)) {
+            case PLAYER_ONE_TYPE, PLAYER_ONE_KING_TYPE -> playerOneKings;
+            case PLAYER_TWO_TYPE, PLAYER_TWO_KING_TYPE -> playerTwoKings;
+            default -> 0;
+        };
+    }
+
+    /**
+     * Accessor for the number of pieces each player has, as a HashMap keyed by each player's standard piece (or the
+     * lowercase of the king, when only the king has been set). The HashMap is only built when it is asked for, so
+     * placing and removing pieces never boxes a count.
+     * @return A player's piece count, as a HashMap containing a Character and an Integer
+     *
+     * @pre None
+     *
+     * @post getPieceCounts = [a new HashMap from every player that has been set to the number of its pieces]
+     */
+    @Override
+    public HashMap<Character, Integer> getPieceCounts() {
+        HashMap<Character, Integer> counts = new HashMap<>();
+
+        addCount(counts, getPlayerOne(), getPlayerOneKing(), playerOneMen + playerOneKings);
+        addCount(counts, getPlayerTwo(), getPlayerTwoKing(), playerTwoMen + playerTwoKings);
+        return counts;
+    }
+
+    /**
+     * Puts one player's piece count into a HashMap, under the player's standard piece, or under the lowercase of the
+     * player's king when the standard piece has not been set. Players with neither set are left out. Accepts four
+     * parameters.
+     * @param counts The HashMap being built, as a HashMap containing a Character and an Integer
+     * @param piece The player's standard piece, as a char
+     * @param king The player's king, as a char
+     * @param count The number of the player's pieces, as an int
+     *
+     * @pre counts != null
+     *
+     * @post counts = [#counts with the player's count added, when the player has been set]
+     */
+    private static void addCount(HashMap<Character, Integer> counts, char piece, char king, int count) {
+        if (piece != NULL_POS) {
+            counts.put(piece, count);
+        }
+        else if (king != NULL_POS) {
+            counts.put(Character.toLowerCase(king), count);
+        }
+    }
+
+    /**
+     * Copies a viableDirections HashMap, giving every player its own list of directions. Implementations use this in
+     * their copy constructors. Accepts one parameter.
+     * @param directions The viableDirections to copy, or null, as a HashMap containing a Character and an ArrayList of
+     * DirectionEnums
+     * @return A copy of directions, or null when directions is null, as a HashMap containing a Character and an
+     * ArrayList of DirectionEnums
+     *
+     * @pre None
+     *
+     * @post copyViableDirections = [a new HashMap with a new list for every player in directions] AND directions =
+     * #directions
+     */
+    protected static HashMap<Character, ArrayList<DirectionEnum>> copyViableDirections(HashMap<Character, ArrayList<DirectionEnum>> directions) {
+        if (directions == null) {
+            return null;
+        }
+        HashMap<Character, ArrayList<DirectionEnum>> result = new HashMap<>();
+        for (Character player : directions.keySet()) {
+            result.put(player, new ArrayList<>(directions.get(player)));
+        }
+        return result;
+    }
+
+    /**
+     * Clears the hash, the piece counts, and the undo stacks, and gives the turn to player one. Implementations call
+     * this when they empty the board to start a new game.
+     *
+     * @pre None
+     *
+     * @post zobristHash = 0 AND playerToMove = NULL_POS AND undoDepth = 0 AND [every piece count is 0]
+     */
+    protected void resetPosition() {
+        zobristHash = 0;
+        playerToMove = NULL_POS;
+        undoDepth = 0;
+        playerOneMen = 0;
+        playerOneKings = 0;
+        playerTwoMen = 0;
+        playerTwoKings = 0;
+        if (listener != null) {
+            listener.positionCleared();
+        }
+    }
+
+    /**
+     * Plays a packed move so that it can be taken back with unmakeMove, remembering the move, the moving piece, and
+     * every captured piece on the undo stacks. Accepts one parameter.
+     * @param move The packed move to play, as a long
+     *
+     * @pre [move was generated for the player to move on the current board]
+     *
+     * @post [the move is played] AND [the opponent is to move] AND undoDepth = #undoDepth + 1
+     */
+    @Override
+    public void makeMove(long move) {
+        int boardSize = getBoardSize();
+        BoardPosition fromPos = BoardPosition.ofSquare(Move.getFrom(move), boardSize);
+        BoardPosition toPos = BoardPosition.ofSquare(Move.getTo(move), boardSize);
+        char piece = whatsAtPos(fromPos);
+        boolean isPlayerOne = (piece == getPlayerOne() || piece == getPlayerOneKing());
+        char placed = piece;
+        BoardPosition capturedPos;
+
+        if (undoMoves == null || undoDepth == undoMoves.length) {
+            growUndoStacks();
+        }
+        undoMoves[undoDepth] = move;
+        undoPieces[undoDepth] = piece;
+        removePiece(fromPos);
+        // removes every captured piece, remembering what it was so it can be put back
+        if (Move.isCapture(move)) {
+            for (int step = 0; step < Move.getStepCount(move); step++) {
+                capturedPos = BoardPosition.ofSquare(Move.getCapturedSquare(move, step, boardSize), boardSize);
+                undoCaptured[undoDepth * Move.MAX_STEPS + step] = whatsAtPos(capturedPos);
+                removePiece(capturedPos);
+            }
+        }
+        // crowns a standard piece that reaches the opposite side of the board
+        if (piece == getPlayerOne() && toPos.getRow() == boardSize - 1) {
+            placed = getPlayerOneKing();
+        }
+        else if (piece == getPlayerTwo() && toPos.getRow() == 0) {
+            placed = getPlayerTwoKing();
+        }
+        placePiece(toPos, placed);
+        setPlayerToMove(isPlayerOne ? getPlayerTwo() : getPlayerOne());
+        undoDepth++;
+    }
+
+    /**
+     * Takes back the last move made, using the undo stacks to put back the moving piece and every captured piece.
+     *
+     * @pre undoDepth > 0 AND [the board was only changed through makeMove and unmakeMove since that move]
+     *
+     * @post [the board is the same as before the last move was made] AND undoDepth = #undoDepth - 1
+     */
+    @Override
+    public void unmakeMove() {
+        undoDepth--;
+        int boardSize = getBoardSize();
+        long move = undoMoves[undoDepth];
+        char piece = undoPieces[undoDepth];
+
+        removePiece(BoardPosition.ofSquare(Move.getTo(move), boardSize));
+        // puts every captured piece back where it was
+        if (Move.isCapture(move)) {
+            for (int step = 0; step < Move.getStepCount(move); step++) {
+                placePiece(BoardPosition.ofSquare(Move.getCapturedSquare(move, step, boardSize), boardSize), undoCaptured[undoDepth * Move.MAX_STEPS + step]);
+            }
+        }
+        placePiece(BoardPosition.ofSquare(Move.getFrom(move), boardSize), piece);
+        setPlayerToMove(piece);
+    }
+
+    /**
+     * Simple accessor for the number of moves made and not yet unmade.
+     * @return The number of moves on the undo stacks, as an int
+     *
+     * @pre None
+     *
+     * @post getUndoDepth = undoDepth AND undoDepth = #undoDepth
+     */
+    @Override
+    public int getUndoDepth() {
+        return undoDepth;
+    }
+
+    /**
+     * Makes the undo stacks, or doubles their size when they are full, keeping the moves already on them.
+     *
+     * @pre undoMoves = null OR undoDepth = undoMoves.length
+     *
+     * @post [the undo stacks have room for at least one more move] AND undoDepth = #undoDepth
+     */
+    private void growUndoStacks() {
+        int capacity = (undoMoves == null) ? INITIAL_UNDO_CAPACITY : undoMoves.length * 2;
+
+        undoMoves = (undoMoves == null) ? new long[capacity] : Arrays.copyOf(undoMoves, capacity);
+        undoPieces = (undoPieces == null) ? new char[capacity] : Arrays.copyOf(undoPieces, capacity);
+        undoCaptured = (undoCaptured == null) ? new char[capacity * Move.MAX_STEPS] : Arrays.copyOf(undoCaptured, capacity * Move.MAX_STEPS);
     }
 }
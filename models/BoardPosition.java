@@ -3,17 +3,33 @@ package cpsc2150.extendedCheckers.models;
 /**
  * BoardPosition is an object for storing information pertaining to the positions on the checkerboard for the checkers
  * game. Each BoardPosition has a row and a column. BoardPosition.java contains a method for checking whether two
- * BoardPositions are equal, and also provides means of converting a BoardPosition's information into a string
+ * BoardPositions are equal, and also provides means of converting a BoardPosition's information into a string.
+ * BoardPositions can not be changed once made, so of(int, int) hands out one shared BoardPosition for every row and
+ * column of the largest board (and the two rows and columns around it, which direction offsets and jumps off the edge
+ * reach), instead of creating a new one on every call.
  *
  * @invariant row >= 0 and row < [boardSize obtained in CheckersFE] AND column >= 0 and column < [boardSize obtained
  * in CheckersFE]
  */
 public class BoardPosition {
+    // represents how far outside of the largest board the shared BoardPositions reach, and how many there are per row
+    private static final int CACHE_MARGIN = ICheckerBoard.TWO_POSITIONS;
+    private static final int CACHE_WIDTH = ICheckerBoard.MAX_BOARD_SIZE + 2 * CACHE_MARGIN;
+
+    // the shared BoardPositions, indexed by (row + CACHE_MARGIN) * CACHE_WIDTH + (column + CACHE_MARGIN)
+    private static final BoardPosition[] CACHE = new BoardPosition[CACHE_WIDTH * CACHE_WIDTH];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new BoardPosition(i / CACHE_WIDTH - CACHE_MARGIN, i % CACHE_WIDTH - CACHE_MARGIN);
+        }
+    }
+
     // row component of the BoardPosition
-    private int row;
+    private final int row;
 
     // column component of the BoardPosition
-    private int column;
+    private final int column;
 
     /**
      * Parameterized constructor for BoardPosition object. Sets row and column instance variables to their respective
@@ -31,6 +47,42 @@ public class BoardPosition {
         this.column = aCol;
     }
 
+    /**
+     * Finds the shared BoardPosition for a row and column, so that looking up a position does not create an object.
+     * A row or column more than two positions outside of the largest board gets a new BoardPosition instead. Accepts
+     * two parameters.
+     * @param aRow The row number of the board position, as an int
+     * @param aCol The column number of the board position, as an int
+     * @return The BoardPosition with the row and column, as a BoardPosition
+     *
+     * @pre None
+     *
+     * @post of = [a BoardPosition with row = aRow AND column = aCol, which is the same object on every call when
+     * -2 <= aRow < ICheckerBoard.MAX_BOARD_SIZE + 2 AND -2 <= aCol < ICheckerBoard.MAX_BOARD_SIZE + 2]
+     */
+    public static BoardPosition of(int aRow, int aCol) {
+        int cacheRow = aRow + CACHE_MARGIN, cacheCol = aCol + CACHE_MARGIN;
+
+        if (cacheRow >= 0 && cacheRow < CACHE_WIDTH && cacheCol >= 0 && cacheCol < CACHE_WIDTH) {
+            return CACHE[cacheRow * CACHE_WIDTH + cacheCol];
+        }
+        return new BoardPosition(aRow, aCol);
+    }
+
+    /**
+     * Finds the shared BoardPosition of a playable square number. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param boardSize The dimension of the board, as an int
+     * @return The BoardPosition of the square, as a BoardPosition
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2
+     *
+     * @post ofSquare = of(squareRow(square, boardSize), squareColumn(square, boardSize))
+     */
+    public static BoardPosition ofSquare(int square, int boardSize) {
+        return of(squareRow(square, boardSize), squareColumn(square, boardSize));
+    }
+
     /**
      * Simple accessor for the row instance variable.
      * @return The row number of the board position, as an int
@@ -55,6 +107,64 @@ public class BoardPosition {
         return column;
     }
 
+    /**
+     * Converts the BoardPosition into its square number (see toSquare). Accepts one parameter.
+     * @param boardSize The dimension of the board, as an int
+     * @return The square number, as an int
+     *
+     * @pre [the BoardPosition is a playable square of a board of boardSize]
+     *
+     * @post getSquare = toSquare(row, column, boardSize) AND row = #row AND column = #column
+     */
+    public int getSquare(int boardSize) {
+        return toSquare(row, column, boardSize);
+    }
+
+    /**
+     * Converts a playable row and column into its square number. Only playable squares (where the row and column are
+     * both even or both odd) are numbered, left to right and top to bottom, starting at 0. Accepts three parameters.
+     * @param aRow The row number of the playable square, as an int
+     * @param aCol The column number of the playable square, as an int
+     * @param boardSize The dimension of the board, as an int
+     * @return The square number, as an int
+     *
+     * @pre 0 <= aRow < boardSize AND 0 <= aCol < boardSize AND (aRow + aCol) % 2 = 0
+     *
+     * @post toSquare = aRow * (boardSize / 2) + aCol / 2
+     */
+    public static int toSquare(int aRow, int aCol, int boardSize) {
+        return aRow * (boardSize / 2) + aCol / 2;
+    }
+
+    /**
+     * Converts a square number back into its row number. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param boardSize The dimension of the board, as an int
+     * @return The row number of the square, as an int
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2
+     *
+     * @post squareRow = square / (boardSize / 2)
+     */
+    public static int squareRow(int square, int boardSize) {
+        return square / (boardSize / 2);
+    }
+
+    /**
+     * Converts a square number back into its column number. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param boardSize The dimension of the board, as an int
+     * @return The column number of the square, as an int
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2
+     *
+     * @post squareColumn = 2 * (square % (boardSize / 2)) + [1 when the square's row is odd and 0 otherwise]
+     */
+    public static int squareColumn(int square, int boardSize) {
+        int squaresPerRow = boardSize / 2;
+        return 2 * (square % squaresPerRow) + (square / squaresPerRow) % 2;
+    }
+
     /**
      * Compares a BoardPosition to the parameter Object. Accepts one parameter.
      * @param obj An instance of BoardPosition, as an Object
@@ -74,12 +184,26 @@ public class BoardPosition {
         if (obj == this) {
             isEqual = true;
         }
-        else if (((BoardPosition) obj).getRow() == this.row && ((BoardPosition) obj).getColumn() == column) {
+        else if (obj instanceof BoardPosition && ((BoardPosition) obj).getRow() == this.row && ((BoardPosition) obj).getColumn() == column) {
             isEqual = true;
         }
         return isEqual;
     }
 
+    /**
+     * Computes a hash code that agrees with equals, so that BoardPositions can be used as keys of a HashMap or members
+     * of a HashSet.
+     * @return A hash code made from the row and column, as an int
+     *
+     * @pre None
+     *
+     * @post hashCode = row * ICheckerBoard.MAX_BOARD_SIZE + column AND row = #row AND column = #column
+     */
+    @Override
+    public int hashCode() {
+        return row * ICheckerBoard.MAX_BOARD_SIZE + column;
+    }
+
     /**
      * Creates a String that represents BoardPosition.
      * @return a representation of the BoardPosition in the format of "row,column", as a String
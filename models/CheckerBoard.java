@@ -7,16 +7,17 @@ import java.util.HashMap;
 
 /**
  * CheckerBoard extends AbsCheckerBoard and is an implementation of ICheckerBoard. It is for storing information
- * pertaining to the players' pieces on the checkerboard. Each CheckerBoard has a board, pieceCount, BOARD_DIMENSION,
- * playerOne, playerTwo, playerOneKing, playerTwoKing, and viableDirections. CheckerBoard.java provides means of placing
- * and removing pieces, scanning indices around board positions, removing pieces, setting viableDirections for players,
- * accessing private data variables, and creating/altering the state of the current checkerboard.
+ * pertaining to the players' pieces on the checkerboard. Each CheckerBoard has a board, BOARD_DIMENSION, playerOne,
+ * playerTwo, playerOneKing, playerTwoKing, and viableDirections, and AbsCheckerBoard keeps the men and king counts of
+ * each player (playerOneMen, playerOneKings, playerTwoMen, and playerTwoKings). CheckerBoard.java provides means of
+ * placing and removing pieces, scanning indices around board positions, removing pieces, setting viableDirections for
+ * players, accessing private data variables, and creating/altering the state of the current checkerboard.
  *
  * @invariant [player pieces cannot occupy the positions of black tiles] AND [a player's number of pieces can
  * never be negative] AND [pieces cannot go past the boardSize row and columns of the board]
  *
  * @cooresponds self: the board array
- *          pieces: the pieceCount of a player
+ *          pieces: playerOneMen + playerOneKings and playerTwoMen + playerTwoKings, kept by AbsCheckerBoard
  *          boardSize: the BOARD_DIMENSION of the checkerboard
  *          player1: the name of playerOne
  *          player2: the name of playerTwo
@@ -30,12 +31,6 @@ public class CheckerBoard extends AbsCheckerBoard {
      */
     private char[][] board;
 
-    /**
-     * a HashMap, with a Character key and an Integer value, that is used to map a player's char to the number of
-     * tokens that player still has left on the board.
-     */
-    private HashMap<Character, Integer> pieceCount;
-
     /**
      * represents the value of the size that the board will be (either 8x8, 10x10, 12x12, 14x14, or 16x16)
      */
@@ -61,21 +56,21 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre aDimension != null AND aDimension = [8, 10, 12, 14, or 16]
      *
-     * @post BOARD_DIMENSION = aDimension AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION
-     * = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing
-     * AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post BOARD_DIMENSION = aDimension AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     public CheckerBoard(int aDimension) {
         int row, column;
         BoardPosition pos;
         BOARD_DIMENSION = aDimension;
         board = new char[BOARD_DIMENSION][BOARD_DIMENSION];
-        pieceCount = new HashMap<>();
 
         // creates an empty board by filling in white spaces and black tiles
         for (row = 0; row < getBoardSize(); row++) {
             for (column = 0; column < getBoardSize(); column++) {
-                pos = new BoardPosition(row, column);
+                pos = BoardPosition.of(row, column);
                 if (row % EVEN_DIVISOR == 0 && column % EVEN_DIVISOR == 0) {
                     placePiece(pos, EMPTY_POS);
                 }
@@ -90,9 +85,9 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Fills in a new, current version of the checkerboard with player pieces. This method utilizes a 2D char array
-     * with the provided board dimension to initialize how large the board is. It also initializes the players'
-     * chars and pieceCounts. Then, it places the character pieces on the board. Finally, it initializes
+     * Fills in a new, current version of the checkerboard with player pieces. This method utilizes a 2D char array with
+     * the provided board dimension to initialize how large the board is. It also initializes the players' chars and
+     * their men and king counts. Then, it places the character pieces on the board. Finally, it initializes
      * viableDirections for the players. Accepts two parameters.
      * @param playerOnePiece The letter that represents player one's piece, as a char
      * @param playerTwoPiece The letter that represents player two's piece, as a char
@@ -100,10 +95,11 @@ public class CheckerBoard extends AbsCheckerBoard {
      * @pre playerOnePiece != null AND playerTwoPiece != null AND CheckersFE.PIECE_LETTER_MIN < playerOnePiece <
      * CheckersFE.PIECE_LETTER_MAX AND CheckersFE.PIECE_LETTER_MIN < playerTwoPiece < CheckersFE.PIECE_LETTER_MAX
      *
-     * @post putPlayersOnNewBoard = [board that's filled in] AND pieceCount = pieceCount++ AND viableDirections =
-     * [a starting list of viableDirections for each player] AND board = #board AND pieceCount = #pieceCount AND
-     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
-     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post putPlayersOnNewBoard = [board that's filled in] AND [playerOneMen and playerTwoMen are the men each player
+     * starts with] AND playerOneKings = 0 AND playerTwoKings = 0 AND viableDirections = [a starting list of
+     * viableDirections for each player] AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
      */
     @Override
     public void putPlayersOnNewBoard(char playerOnePiece, char playerTwoPiece) {
@@ -112,6 +108,14 @@ public class CheckerBoard extends AbsCheckerBoard {
         int playerOneRowEnd = (BOARD_DIMENSION / EVEN_DIVISOR) - TWO_POSITIONS;
         int playerTwoRowStart = playerOneRowEnd + TWO_POSITIONS + 1;
 
+        // clears any pieces left from a previous game, and starts the piece counts and the hash over
+        resetPosition();
+        for (row = 0; row < getBoardSize(); row++) {
+            for (column = row % EVEN_DIVISOR; column < getBoardSize(); column += EVEN_DIVISOR) {
+                board[row][column] = EMPTY_POS;
+            }
+        }
+
         // initializes player input piece chars
         setPlayerOne(playerOnePiece);
         setPlayerOneKing(playerOnePiece);
@@ -120,7 +124,7 @@ public class CheckerBoard extends AbsCheckerBoard {
 
         for (row = 0; row < getBoardSize(); row++) {
             for (column = 0; column < getBoardSize(); column++) {
-                pos = new BoardPosition(row, column);
+                pos = BoardPosition.of(row, column);
                 // adds playerOne's pieces to the checkerboard
                 if (row <= playerOneRowEnd && row % EVEN_DIVISOR == 0 && column % EVEN_DIVISOR == 0) {
                     placePiece(pos, getPlayerOne());
@@ -157,9 +161,10 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getViableDirections = viableDirections AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION
-     * = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
-     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post getViableDirections = viableDirections AND board = #board AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public HashMap<Character, ArrayList<DirectionEnum>> getViableDirections() {
@@ -167,52 +172,31 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Simple accessor for the pieceCount HashMap.
-     * @return A player's piece count, as a HashMap containing a Character and an Integer
-     *
-     * @pre None
-     *
-     * @post getPieceCounts = #pieceCount AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
-     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing
-     * AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
-     */
-    @Override
-    public HashMap<Character, Integer> getPieceCounts() {
-        return pieceCount;
-    }
-
-    /**
-     * Sets a given 2D index value within boardArray equal to the char given by player. Also, updates pieceCount.
-     * Accepts two parameters.
+     * Sets a given 2D index value within boardArray equal to the char given by player. Also, updates the men and king
+     * counts. Accepts two parameters.
      * @param pos The current position on the checkerboard, as a BoardPosition
      * @param pieceToPlace The letter that represents a player's name and pieces, as a char
      *
      * @pre pos != null AND player != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number]
      * < boardSize
      *
-     * @post placePiece = [a player's piece as a value in the given boardArray position] AND pieceCount = pieceCount + 1
-     * AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne
-     * AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
-     * viableDirections = #viableDirections
+     * @post placePiece = [a player's piece as a value in the given boardArray position] AND [the men or king count of
+     * the piece's owner is one more, and that of any piece it replaced is one less] AND board = #board AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void placePiece(BoardPosition pos, char pieceToPlace) {
-        int pieces;
+        char replaced = board[pos.getRow()][pos.getColumn()];
+        int square = pos.getSquare(BOARD_DIMENSION);
 
         // puts gets the row and column of the current position and places a piece in that position on the board
         board[pos.getRow()][pos.getColumn()] = pieceToPlace;
-        // updates pieceCount for playerOne
-        if (pieceToPlace == getPlayerOne() || pieceToPlace == getPlayerOneKing()) {
-            pieces = pieceCount.get(getPlayerOne());
-            pieces++;
-            pieceCount.replace(getPlayerOne(), pieces);
-        }
-        // updates pieceCount for playerTwo
-        else if (pieceToPlace == getPlayerTwo() || pieceToPlace == getPlayerTwoKing()) {
-            pieces = pieceCount.get(getPlayerTwo());
-            pieces++;
-            pieceCount.replace(getPlayerTwo(), pieces);
-        }
+        // takes any piece being replaced out of the hash and the counts, then adds the new piece
+        updateHash(pos.getRow(), pos.getColumn(), replaced);
+        countPiece(square, replaced, -1);
+        updateHash(pos.getRow(), pos.getColumn(), pieceToPlace);
+        countPiece(square, pieceToPlace, 1);
     }
 
     /**
@@ -223,7 +207,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre pos != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number] < boardSize
      *
-     * @post whatsAtPos = [what is located at pos in boardArray] AND board = #board AND pieceCount = #pieceCount AND
+     * @post whatsAtPos = [what is located at pos in boardArray] AND board = #board AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
      * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
      * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -239,37 +224,45 @@ public class CheckerBoard extends AbsCheckerBoard {
         return charInPos;
     }
 
+    /**
+     * A standard accessor for the 2D boardArray that does not need a BoardPosition. Identifies the character located
+     * at a given row and column. Accepts two parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @return What is located at the provided row and column, as a char
+     *
+     * @pre 0 <= row < BOARD_DIMENSION AND 0 <= column < BOARD_DIMENSION
+     *
+     * @post whatsAtPos = board[row][column] AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtPos(int row, int column) {
+        return board[row][column];
+    }
+
     /**
      * Removes an opponent's piece that has been jumped by a player's piece from the board. Accepts one parameter.
      * @param pos The board position of the piece the player wants to remove, as a BoardPosition
      *
      * @pre pos != null AND 0 < [pos row] < BOARD_DIMENSION AND 0 < [pos column] < BOARD_DIMENSION
      *
-     * @post removePiece = [removes a player's piece that has been jumped from the board] AND pieceCount
-     * = pieceCount - 1 AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
-     * #playerTwoKing AND viableDirections = #viableDirections
+     * @post removePiece = [removes a player's piece that has been jumped from the board] AND [the men or king count of
+     * the removed piece's owner is one less] AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
      */
     @Override
     public void removePiece(BoardPosition pos) {
         char pieceToRemove = whatsAtPos(pos);
-        int pieces;
 
         // puts an empty character in the spot of the piece that was removed
         board[pos.getRow()][pos.getColumn()] = EMPTY_POS;
-        // decreases the pieceCount for the player whose piece got jumped
-        // case for playerOne
-        if (pieceToRemove == getPlayerOne() || pieceToRemove == getPlayerOneKing()) {
-            pieces = pieceCount.get(getPlayerOne());
-            pieces--;
-            pieceCount.replace(getPlayerOne(), pieces);
-        }
-        // case for playerTwo
-        else {
-            pieces = pieceCount.get(getPlayerTwo());
-            pieces--;
-            pieceCount.replace(getPlayerTwo(), pieces);
-        }
+        updateHash(pos.getRow(), pos.getColumn(), pieceToRemove);
+        // decreases the count of the type of piece that got jumped
+        countPiece(pos.getSquare(BOARD_DIMENSION), pieceToRemove, -1);
     }
 
     /**
@@ -278,7 +271,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getRowNum = [BOARD_DIMENSION] AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getRowNum = [BOARD_DIMENSION] AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -293,7 +287,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getColNum = [BOARD_DIMENSION] AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getColNum = [BOARD_DIMENSION] AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -308,9 +303,10 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getBoardSize = BOARD_DIMENSION AND board = #board AND pieceCount = #pieceCount AND
-     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
-     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post getBoardSize = BOARD_DIMENSION AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public int getBoardSize() {
@@ -323,7 +319,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerOne = playerOne AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerOne = playerOne AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -333,23 +330,19 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player one's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player one's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerOne = [playerOne gets the value of piece and a starting pieceCount is assigned to piece] AND
-     * playerOne = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerTwo
-     * = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerOne = [playerOne gets the value of piece] AND playerOne = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * board = #board AND BOARD_DIMENSION = #boardDimension AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerOne(char piece) {
         this.playerOne = piece;
-        if (!pieceCount.containsKey(piece)) {
-            pieceCount.put(piece, 0);
-        }
     }
 
     /**
@@ -358,7 +351,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerOneKing = playerOneKing AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerOneKing = playerOneKing AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -368,23 +362,19 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player one king's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player one king's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one king, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerOneKing = [playerOneKing gets the value of piece and a starting pieceCount is assigned to piece]
-     * AND playerOneKing = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerOneKing = [playerOneKing gets the value of piece] AND playerOneKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerOneKing(char piece) {
-        this.playerOneKing = piece;
-        if (!pieceCount.containsKey(Character.toUpperCase(piece))) {
-            pieceCount.put(Character.toLowerCase(piece), 0);
-        }
+        this.playerOneKing = Character.toUpperCase(piece);
     }
 
     /**
@@ -393,7 +383,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerTwo = playerTwo AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerTwo = playerTwo AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -403,23 +394,19 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player two's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player two's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player two, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerTwo = [playerTwo gets the value of piece and a starting pieceCount is assigned to piece] AND
-     * playerTwo = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne
-     * = #playerOne AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerTwo = [playerTwo gets the value of piece] AND playerTwo = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerTwo(char piece) {
         this.playerTwo = piece;
-        if (!pieceCount.containsKey(piece)) {
-            pieceCount.put(piece, 0);
-        }
     }
 
     /**
@@ -428,7 +415,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerTwoKing = playerTwoKing AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerTwoKing = playerTwoKing AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -438,23 +426,19 @@ public class CheckerBoard extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player two king's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player two king's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one king, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece and a starting pieceCount is assigned to piece]
-     * AND playerTwoKing = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece] AND playerTwoKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerTwoKing(char piece) {
-        this.playerTwoKing = piece;
-        if (!pieceCount.containsKey(Character.toUpperCase(piece))) {
-            pieceCount.put(Character.toLowerCase(piece), 0);
-        }
+        this.playerTwoKing = Character.toUpperCase(piece);
     }
 
     /**
@@ -466,7 +450,8 @@ public class CheckerBoard extends AbsCheckerBoard {
      * @pre player != null AND possibleDirections != null
      *
      * @post setViableDirections = [player and ArrayList get updated in viableDirections] AND board = #board AND
-     * pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
+     * playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND
+     * playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
      * #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
      * #viableDirections
      */
@@ -487,4 +472,45 @@ public class CheckerBoard extends AbsCheckerBoard {
             viableDirections.put(player, possibleDirections);
         }
     }
+
+    /**
+     * Makes an independent copy of the board. The rows of the board array are copied whole, instead of placing every
+     * piece onto a new CheckerBoard.
+     * @return A copy of the board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post copy = [a new CheckerBoard with the same players, pieces, player to move, hash, and viableDirections] AND
+     * [self is unchanged]
+     */
+    @Override
+    public ICheckerBoard copy() {
+        return new CheckerBoard(this);
+    }
+
+    /**
+     * Copy constructor for CheckerBoard object, used by copy(). Accepts one parameter.
+     * @param source The board being copied, as a CheckerBoard
+     *
+     * @pre source != null
+     *
+     * @post board = [a new array with the same rows as source.board] AND playerOneMen = source.playerOneMen AND
+     * playerOneKings = source.playerOneKings AND playerTwoMen = source.playerTwoMen AND playerTwoKings =
+     * source.playerTwoKings AND BOARD_DIMENSION = source.BOARD_DIMENSION AND playerOne = source.playerOne AND playerTwo
+     * = source.playerTwo AND playerOneKing = source.playerOneKing AND playerTwoKing = source.playerTwoKing AND
+     * viableDirections = [a copy of source.viableDirections]
+     */
+    private CheckerBoard(CheckerBoard source) {
+        super(source);
+        BOARD_DIMENSION = source.BOARD_DIMENSION;
+        board = new char[BOARD_DIMENSION][BOARD_DIMENSION];
+        for (int row = 0; row < BOARD_DIMENSION; row++) {
+            System.arraycopy(source.board[row], 0, board[row], 0, BOARD_DIMENSION);
+        }
+        playerOne = source.playerOne;
+        playerTwo = source.playerTwo;
+        playerOneKing = source.playerOneKing;
+        playerTwoKing = source.playerTwoKing;
+        viableDirections = copyViableDirections(source.viableDirections);
+    }
 }
@@ -0,0 +1,735 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * CheckerBoardBit extends AbsCheckerBoard and is an implementation of ICheckerBoard. It is for storing information
+ * pertaining to the players' pieces on the checkerboard as bit masks. Only the playable squares of the board are
+ * numbered (row * (BOARD_DIMENSION / 2) + column / 2), and each type of piece (playerOne, playerOneKing, playerTwo,
+ * and playerTwoKing) owns one mask with a bit for every playable square. An 8x8 or a 10x10 board fits each mask in a
+ * single long, and 12x12 through 16x16 boards use two longs per mask. CheckerBoardBit.java provides means of placing
+ * and removing pieces, moving and jumping pieces with mask operations, setting viableDirections for players, accessing
+ * private data variables, and creating/altering the state of the current checkerboard.
+ *
+ * @invariant [player pieces cannot occupy the positions of black tiles] AND [a player's number of pieces can
+ * never be negative] AND [pieces cannot go past the boardSize row and columns of the board] AND [a playable square's
+ * bit is set in at most one of the piece masks]
+ *
+ * @cooresponds self: the long[] pieceMasks
+ *          pieces: playerOneMen + playerOneKings and playerTwoMen + playerTwoKings, kept by AbsCheckerBoard
+ *          boardSize: the BOARD_DIMENSION of the checkerboard
+ *          player1: the name of playerOne
+ *          player2: the name of playerTwo
+ *          player1King: the name of playerOneKing
+ *          player2King: the name of playerTwoKing
+ *          directions: the viableDirections a player can move a piece in
+ */
+public class CheckerBoardBit extends AbsCheckerBoard {
+    // represents the index of each type of piece's mask inside of pieceMasks
+    private static final int PLAYER_ONE_MASK = 0;
+    private static final int PLAYER_ONE_KING_MASK = 1;
+    private static final int PLAYER_TWO_MASK = 2;
+    private static final int PLAYER_TWO_KING_MASK = 3;
+    private static final int NUM_MASKS = 4;
+    private static final int NO_MASK = -1;
+    // represents the number of bits in a long, as a shift, so that a square number can be split into a word and a bit
+    private static final int WORD_SHIFT = 6;
+    private static final int BITS_PER_WORD = 1 << WORD_SHIFT;
+
+    /**
+     * an array of longs used to represent our checkerboard. The masks for every type of piece are stored one after
+     * the other, so the word for a square of a type of piece is located at [mask * wordsPerMask + square / 64].
+     */
+    private long[] pieceMasks;
+
+    /**
+     * represents the value of the size that the board will be (either 8x8, 10x10, 12x12, 14x14, or 16x16)
+     */
+    private final int BOARD_DIMENSION;
+
+    /**
+     * represents the number of playable squares in each row and the number of longs each piece mask needs
+     */
+    private final int squaresPerRow, wordsPerMask;
+
+    /**
+     * the neighbors and jump landing squares of every square of this board size
+     */
+    private final SquareTable squares;
+
+    /**
+     * represents types of player pieces
+     */
+    private char playerOne, playerTwo, playerOneKing, playerTwoKing;
+
+    /**
+     * A HashMap, with a Character key and an ArrayList of DirectionEnums value, used to map a player (and its king
+     * representation) to the directions that player can viably move in. A non-kinged (standard) piece can only move
+     * in the diagonal directions away from its starting position. A kinged piece can move in the same directions the
+     * standard piece can move in plus the opposite directions the standard piece can move in.
+     */
+    private HashMap<Character, ArrayList<DirectionEnum>> viableDirections;
+
+    /**
+     * Constructor for CheckerBoardBit object. Initializes BOARD_DIMENSION and empty piece masks. Accepts one parameter.
+     * @param aDimension The user-chosen dimension of the checkerboard's size, as an int
+     *
+     * @pre aDimension != null AND aDimension = [8, 10, 12, 14, or 16]
+     *
+     * @post BOARD_DIMENSION = aDimension AND pieceMasks = [all bits cleared] AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
+     * #playerTwoKing AND viableDirections = #viableDirections
+     */
+    public CheckerBoardBit(int aDimension) {
+        BOARD_DIMENSION = aDimension;
+        squaresPerRow = BOARD_DIMENSION / EVEN_DIVISOR;
+        wordsPerMask = (squaresPerRow * BOARD_DIMENSION + BITS_PER_WORD - 1) / BITS_PER_WORD;
+        pieceMasks = new long[NUM_MASKS * wordsPerMask];
+        squares = SquareTable.forSize(BOARD_DIMENSION);
+    }
+
+    /**
+     * Fills in a new, current version of the checkerboard with player pieces. This method clears every piece mask and
+     * initializes the players' chars and their men and king counts. Then, it places the character pieces on the board.
+     * Finally, it initializes viableDirections for the players. Accepts two parameters.
+     * @param playerOnePiece The letter that represents player one's piece, as a char
+     * @param playerTwoPiece The letter that represents player two's piece, as a char
+     *
+     * @pre playerOnePiece != null AND playerTwoPiece != null AND CheckersFE.PIECE_LETTER_MIN < playerOnePiece <
+     * CheckersFE.PIECE_LETTER_MAX AND CheckersFE.PIECE_LETTER_MIN < playerTwoPiece < CheckersFE.PIECE_LETTER_MAX
+     *
+     * @post putPlayersOnNewBoard = [board that's filled in] AND [playerOneMen and playerTwoMen are the men each player
+     * starts with] AND playerOneKings = 0 AND playerTwoKings = 0 AND viableDirections = [a starting list of
+     * viableDirections for each player] AND pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND
+     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
+     * #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void putPlayersOnNewBoard(char playerOnePiece, char playerTwoPiece) {
+        int row, column;
+        int playerOneRowEnd = (BOARD_DIMENSION / EVEN_DIVISOR) - TWO_POSITIONS;
+        int playerTwoRowStart = playerOneRowEnd + TWO_POSITIONS + 1;
+
+        // initializes player input piece chars
+        playerOne = playerOnePiece;
+        playerTwo = playerTwoPiece;
+        playerOneKing = Character.toUpperCase(playerOne);
+        playerTwoKing = Character.toUpperCase(playerTwo);
+
+        // clears every mask and the hash
+        pieceMasks = new long[NUM_MASKS * wordsPerMask];
+        resetPosition();
+
+        // only playable squares (where row and column are both even or both odd) can hold a piece
+        for (row = 0; row < getBoardSize(); row++) {
+            for (column = row % EVEN_DIVISOR; column < getBoardSize(); column += EVEN_DIVISOR) {
+                // adds playerOne's pieces to the checkerboard
+                if (row <= playerOneRowEnd) {
+                    placePiece(BoardPosition.of(row, column), getPlayerOne());
+                }
+                // adds playerTwo's pieces to the checkerboard
+                else if (row >= playerTwoRowStart) {
+                    placePiece(BoardPosition.of(row, column), getPlayerTwo());
+                }
+            }
+        }
+        // creates viableDirections for playerOne and playerTwo
+        viableDirections = new HashMap<>();
+        ArrayList<DirectionEnum> playerOneDirections = new ArrayList<>();
+        ArrayList<DirectionEnum> playerTwoDirections = new ArrayList<>();
+        // starting viableDirections for playerOne
+        playerOneDirections.add(DirectionEnum.SW);
+        playerOneDirections.add(DirectionEnum.SE);
+        setViableDirections(getPlayerOne(), playerOneDirections);
+        // starting viableDirections for playerTwo
+        playerTwoDirections.add(DirectionEnum.NW);
+        playerTwoDirections.add(DirectionEnum.NE);
+        setViableDirections(getPlayerTwo(), playerTwoDirections);
+    }
+
+    /**
+     * Simple accessor for the viableDirections HashMap.
+     * @return A player's viable directions, as a HashMap containing a Character and an ArrayList of DirectionEnums
+     *
+     * @pre None
+     *
+     * @post getViableDirections = viableDirections AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public HashMap<Character, ArrayList<DirectionEnum>> getViableDirections() {
+        return viableDirections;
+    }
+
+    /**
+     * Sets the bit of a given BoardPosition in the mask of the char given by player. Also, updates the men and king
+     * counts. Placing EMPTY_POS clears the position. Accepts two parameters.
+     * @param pos The current position on the checkerboard, as a BoardPosition
+     * @param pieceToPlace The letter that represents a player's name and pieces, as a char
+     *
+     * @pre pos != null AND player != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number]
+     * < boardSize AND [pos is not a black tile]
+     *
+     * @post placePiece = [a player's piece's bit is set for the given position] AND [the men or king count of the
+     * piece's owner is one more, and that of any piece it replaced is one less] AND pieceMasks = #pieceMasks AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void placePiece(BoardPosition pos, char pieceToPlace) {
+        int square = squareOf(pos.getRow(), pos.getColumn());
+
+        // removes any existing piece from the provided position before a piece gets placed there
+        if (maskAt(square) != NO_MASK) {
+            removePiece(pos);
+        }
+        placeOnSquare(square, pieceToPlace);
+    }
+
+    /**
+     * A standard accessor for the piece masks. Identifies the character located at a given BoardPosition by testing
+     * its bit in every mask. Accepts one parameter.
+     * @param pos The position on the checkerboard, as a BoardPosition
+     * @return What is located at the provided position, as a char
+     *
+     * @pre pos != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number] < boardSize
+     *
+     * @post whatsAtPos = [what is located at pos in pieceMasks] AND pieceMasks = #pieceMasks AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtPos(BoardPosition pos) {
+        return whatsAtPos(pos.getRow(), pos.getColumn());
+    }
+
+    /**
+     * A standard accessor for the piece masks that does not need a BoardPosition. Identifies the character located
+     * at a given row and column by testing its bit in every mask. Accepts two parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @return What is located at the provided row and column, as a char
+     *
+     * @pre 0 <= row < BOARD_DIMENSION AND 0 <= column < BOARD_DIMENSION
+     *
+     * @post whatsAtPos = [what is located at row and column in pieceMasks] AND pieceMasks = #pieceMasks AND
+     * playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND
+     * playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
+     * #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
+     * #viableDirections
+     */
+    @Override
+    public char whatsAtPos(int row, int column) {
+        // identifies black tiles, which never have a bit in any mask
+        if ((row + column) % EVEN_DIVISOR != 0) {
+            return BLACK_TILE;
+        }
+        return pieceForMask(maskAt(squareOf(row, column)));
+    }
+
+    /**
+     * A standard accessor for a playable square number that tests the square's bit in every mask without converting
+     * it to a row and column. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return What is located on the provided square, as a char
+     *
+     * @pre 0 <= square < squaresPerRow * BOARD_DIMENSION
+     *
+     * @post whatsAtSquare = [what is located on the square in pieceMasks] AND pieceMasks = #pieceMasks AND playerOneMen
+     * = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtSquare(int square) {
+        return pieceForMask(maskAt(square));
+    }
+
+    /**
+     * Removes an opponent's piece that has been jumped by a player's piece from the board by clearing its bit.
+     * Accepts one parameter.
+     * @param pos The board position of the piece the player wants to remove, as a BoardPosition
+     *
+     * @pre pos != null AND 0 <= [pos row] < BOARD_DIMENSION AND 0 <= [pos column] < BOARD_DIMENSION
+     *
+     * @post removePiece = [removes a player's piece that has been jumped from the board] AND [the men or king count of
+     * the removed piece's owner is one less] AND pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND
+     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
+     * #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void removePiece(BoardPosition pos) {
+        removeFromSquare(squareOf(pos.getRow(), pos.getColumn()));
+    }
+
+    /**
+     * Moves a piece on the board given a starting position and a direction to move in. The piece's bit is moved
+     * from one square to the other inside of its own mask. Accepts two parameters.
+     * @param startingPos The player's current position on the checkerboard, as a BoardPosition
+     * @param dir The direction the player's piece will move in, as a DirectionEnum
+     * @return The new position that the piece was moved will be located at, as a BoardPosition
+     *
+     * @pre startingPos != null AND dir != null AND 0 <= [position row number] < boardSize AND 0 <=
+     * [position column number] < boardSize
+     *
+     * @post movePiece = [the new position that the piece that was moved will be located at] AND pieceMasks =
+     * #pieceMasks AND playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen =
+     * #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
+     */
+    @Override
+    public BoardPosition movePiece(BoardPosition startingPos, DirectionEnum dir) {
+        int from = squareOf(startingPos.getRow(), startingPos.getColumn());
+        int to = squares.neighbor(from, dir.ordinal());
+        int mask = maskAt(from);
+
+        // the piece keeps its mask, so the move is a clear and a set with no change to the men and king counts
+        if (mask != NO_MASK) {
+            moveBit(mask, from, to);
+        }
+        return BoardPosition.ofSquare(to, BOARD_DIMENSION);
+    }
+
+    /**
+     * Performs operations to "jump" an opponent's piece (moves two positions). The piece's bit is moved two squares
+     * inside of its own mask and the jumped piece's bit is cleared. Accepts two parameters.
+     * @param startingPos The player's current position on the checkerboard, as a BoardPosition
+     * @param dir The direction the player's piece will move in, as a DirectionEnum
+     * @return The new position that a player's piece jumped to, as a BoardPosition. Also, removes one piece from the
+     * opponent's men or king count
+     *
+     * @pre startingPos != null AND dir != null AND 0 <= [position row number] < boardSize AND 0 <=
+     * [position column number] < boardSize
+     *
+     * @post jumpPiece = [the piece's new position after the jump] AND pieces = #pieces - 1 AND pieceMasks =
+     * #pieceMasks AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public BoardPosition jumpPiece(BoardPosition startingPos, DirectionEnum dir) {
+        int from = squareOf(startingPos.getRow(), startingPos.getColumn());
+        int to = squares.jump(from, dir.ordinal());
+        int mask = maskAt(from);
+
+        // moves the jumping piece's bit and clears the bit of the piece that was jumped
+        if (mask != NO_MASK) {
+            moveBit(mask, from, to);
+            removeFromSquare(squares.neighbor(from, dir.ordinal()));
+        }
+        return BoardPosition.ofSquare(to, BOARD_DIMENSION);
+    }
+
+    /**
+     * Simple accessor for the row integer of the checkerboard's size.
+     * @return The maximum row number of the checkerboard's size, as an int
+     *
+     * @pre None
+     *
+     * @post getRowNum = [BOARD_DIMENSION] AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getRowNum() {
+        return getBoardSize();
+    }
+
+    /**
+     * Simple accessor for the column integer of the checkerboard's size.
+     * @return The maximum column number of the checkerboard's size, as an int
+     *
+     * @pre None
+     *
+     * @post getColNum = [BOARD_DIMENSION] AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getColNum() {
+        return getBoardSize();
+    }
+
+    /**
+     * Simple accessor for the board size of the game's checkerboard.
+     * @return The checkerBoard's maximum dimension, as an int
+     *
+     * @pre None
+     *
+     * @post getBoardSize = BOARD_DIMENSION AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getBoardSize() {
+        return BOARD_DIMENSION;
+    }
+
+    /**
+     * Simple accessor for getting player one's name/piece name.
+     * @return Player one's name/piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerOne = playerOne AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerOne() {
+        return playerOne;
+    }
+
+    /**
+     * Simple setter for player one's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player one, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerOne = [playerOne gets the value of piece] AND playerOne = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerOne(char piece) {
+        this.playerOne = Character.toLowerCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player one's king piece name.
+     * @return Player one's king piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerOneKing = playerOneKing AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerOneKing() {
+        return playerOneKing;
+    }
+
+    /**
+     * Simple setter for player one king's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player one king, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerOneKing = [playerOneKing gets the value of piece] AND playerOneKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND
+     * playerTwo = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerOneKing(char piece) {
+        this.playerOneKing = Character.toUpperCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player two's name/piece name.
+     * @return Player two's name/piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerTwo = playerTwo AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerTwo() {
+        return playerTwo;
+    }
+
+    /**
+     * Simple setter for player two's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player two, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerTwo = [playerTwo gets the value of piece] AND playerTwo = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerTwo(char piece) {
+        this.playerTwo = Character.toLowerCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player two's king piece name.
+     * @return Player two's king piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerTwoKing = playerTwoKing AND pieceMasks = #pieceMasks AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerTwoKing() {
+        return playerTwoKing;
+    }
+
+    /**
+     * Simple setter for player two king's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player two king, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece] AND playerTwoKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND pieceMasks = #pieceMasks AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND
+     * playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerTwoKing(char piece) {
+        this.playerTwoKing = Character.toUpperCase(piece);
+    }
+
+    /**
+     * Sets a player's viableDirections. This method adds directions to the viableDirections HashMap by determining
+     * valid directions a player could move in given a board position. Accepts two parameters.
+     * @param player The character that represents a player, as a char
+     * @param possibleDirections The list of directions a player's piece can move, as an ArrayList<DirectionEnum>
+     *
+     * @pre player != null AND possibleDirections != null
+     *
+     * @post setViableDirections = [player and ArrayList get updated in viableDirections] AND pieceMasks = #pieceMasks
+     * AND playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND
+     * playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
+     * #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
+     * #viableDirections
+     */
+    @Override
+    public void setViableDirections(char player, ArrayList<DirectionEnum> possibleDirections) {
+        // when a player is represented by a king piece, the player's name gets reassigned to its lowercase equivalent
+        if (player == getPlayerOneKing()) {
+            player = getPlayerOne();
+        }
+        if (player == getPlayerTwoKing()) {
+            player = getPlayerTwo();
+        }
+        // updates viableDirections for a player, and puts a player's directions in viableDirections if they're not there
+        if (viableDirections == null) {
+            viableDirections = new HashMap<>();
+        }
+        viableDirections.put(player, possibleDirections);
+    }
+
+    /**
+     * Makes an independent copy of the board. The piece masks are cloned as one array, instead of placing every piece
+     * onto a new CheckerBoardBit.
+     * @return A copy of the board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post copy = [a new CheckerBoardBit with the same players, pieces, player to move, hash, and viableDirections] AND
+     * [self is unchanged]
+     */
+    @Override
+    public ICheckerBoard copy() {
+        return new CheckerBoardBit(this);
+    }
+
+    /**
+     * Copy constructor for CheckerBoardBit object, used by copy(). Accepts one parameter.
+     * @param source The board being copied, as a CheckerBoardBit
+     *
+     * @pre source != null
+     *
+     * @post pieceMasks = [a clone of source.pieceMasks] AND [the piece counts are source's] AND
+     * BOARD_DIMENSION = source.BOARD_DIMENSION AND playerOne = source.playerOne AND playerTwo = source.playerTwo AND
+     * playerOneKing = source.playerOneKing AND playerTwoKing = source.playerTwoKing AND viableDirections = [a copy of
+     * source.viableDirections]
+     */
+    private CheckerBoardBit(CheckerBoardBit source) {
+        super(source);
+        BOARD_DIMENSION = source.BOARD_DIMENSION;
+        squaresPerRow = source.squaresPerRow;
+        wordsPerMask = source.wordsPerMask;
+        squares = source.squares;
+        pieceMasks = source.pieceMasks.clone();
+        playerOne = source.playerOne;
+        playerTwo = source.playerTwo;
+        playerOneKing = source.playerOneKing;
+        playerTwoKing = source.playerTwoKing;
+        viableDirections = copyViableDirections(source.viableDirections);
+    }
+
+    /**
+     * Converts a playable row and column into its square number.
+     * @param row The row of the playable square, as an int
+     * @param column The column of the playable square, as an int
+     * @return The square number, as an int
+     *
+     * @pre 0 <= row < BOARD_DIMENSION AND 0 <= column < BOARD_DIMENSION AND (row + column) % 2 = 0
+     *
+     * @post squareOf = BoardPosition.toSquare(row, column, BOARD_DIMENSION)
+     */
+    private int squareOf(int row, int column) {
+        return BoardPosition.toSquare(row, column, BOARD_DIMENSION);
+    }
+
+    /**
+     * Finds the mask whose bit is set for a square.
+     * @param square The square number, as an int
+     * @return The index of the mask holding the square, or NO_MASK when the square is empty, as an int
+     *
+     * @pre 0 <= square < squaresPerRow * BOARD_DIMENSION
+     *
+     * @post maskAt = [the mask that has the square's bit set, or NO_MASK] AND pieceMasks = #pieceMasks
+     */
+    private int maskAt(int square) {
+        int word = square >>> WORD_SHIFT;
+        long bit = 1L << square;
+
+        for (int mask = 0; mask < NUM_MASKS; mask++) {
+            if ((pieceMasks[mask * wordsPerMask + word] & bit) != 0) {
+                return mask;
+            }
+        }
+        return NO_MASK;
+    }
+
+    /**
+     * Flips the bit of a square in one mask.
+     * @param mask The index of the mask, as an int
+     * @param square The square number, as an int
+     *
+     * @pre 0 <= mask < NUM_MASKS AND 0 <= square < squaresPerRow * BOARD_DIMENSION
+     *
+     * @post pieceMasks = [#pieceMasks with the square's bit flipped in mask]
+     */
+    private void toggleBit(int mask, int square) {
+        pieceMasks[mask * wordsPerMask + (square >>> WORD_SHIFT)] ^= 1L << square;
+    }
+
+    /**
+     * Moves a piece's bit from one square to another inside of its mask, moves its key in the hash, and tells the
+     * listener that it was removed and placed again.
+     * @param mask The index of the piece's mask, as an int
+     * @param from The square the piece leaves, as an int
+     * @param to The empty square the piece moves to, as an int
+     *
+     * @pre 0 <= mask < NUM_MASKS AND maskAt(from) = mask AND maskAt(to) = NO_MASK
+     *
+     * @post pieceMasks = [#pieceMasks with the bit moved from from to to in mask] AND hash = [#hash with the piece's
+     * key moved from from to to]
+     */
+    private void moveBit(int mask, int from, int to) {
+        char piece = pieceForMask(mask);
+
+        toggleBit(mask, from);
+        toggleBit(mask, to);
+        updateHash(from, piece);
+        updateHash(to, piece);
+        countPiece(from, piece, -1);
+        countPiece(to, piece, 1);
+    }
+
+    /**
+     * Sets the bit for a piece on an empty square and increases the owner's men or king count.
+     * @param square The square number, as an int
+     * @param pieceToPlace The piece being placed, as a char
+     *
+     * @pre maskAt(square) = NO_MASK
+     *
+     * @post pieceMasks = [#pieceMasks with the square's bit set in the piece's mask] AND [the men or king count of the
+     * piece's owner is one more]
+     */
+    private void placeOnSquare(int square, char pieceToPlace) {
+        int mask = maskForPiece(pieceToPlace);
+
+        if (mask == NO_MASK) {
+            return;
+        }
+        toggleBit(mask, square);
+        updateHash(square, pieceToPlace);
+        countPiece(square, pieceToPlace, 1);
+    }
+
+    /**
+     * Clears the bit for whatever piece is on a square and decreases the owner's men or king count.
+     * @param square The square number, as an int
+     *
+     * @pre 0 <= square < squaresPerRow * BOARD_DIMENSION
+     *
+     * @post pieceMasks = [#pieceMasks with the square's bit cleared] AND [the men or king count of the piece's owner is
+     * one less when a piece was on the square]
+     */
+    private void removeFromSquare(int square) {
+        int mask = maskAt(square);
+
+        if (mask == NO_MASK) {
+            return;
+        }
+        toggleBit(mask, square);
+        updateHash(square, pieceForMask(mask));
+        countPiece(square, pieceForMask(mask), -1);
+    }
+
+    /**
+     * Finds the mask that stores a piece.
+     * @param piece The piece, as a char
+     * @return The index of the piece's mask, or NO_MASK when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post maskForPiece = [the index of the piece's mask, or NO_MASK]
+     */
+    private int maskForPiece(char piece) {
+        if (piece == NULL_POS || piece == EMPTY_POS || piece == BLACK_TILE) {
+            return NO_MASK;
+        }
+        else if (piece == playerOne) {
+            return PLAYER_ONE_MASK;
+        }
+        else if (piece == playerOneKing) {
+            return PLAYER_ONE_KING_MASK;
+        }
+        else if (piece == playerTwo) {
+            return PLAYER_TWO_MASK;
+        }
+        else if (piece == playerTwoKing) {
+            return PLAYER_TWO_KING_MASK;
+        }
+        return NO_MASK;
+    }
+
+    /**
+     * Finds the piece that a mask stores.
+     * @param mask The index of the mask, or NO_MASK, as an int
+     * @return The piece stored by the mask, or EMPTY_POS for NO_MASK, as a char
+     *
+     * @pre NO_MASK <= mask < NUM_MASKS
+     *
+     * @post pieceForMask = [the piece stored by the mask, or EMPTY_POS]
+     */
+    private char pieceForMask(int mask) {
+        return switch (mask) {
+            case PLAYER_ONE_MASK -> playerOne;
+            case PLAYER_ONE_KING_MASK -> playerOneKing;
+            case PLAYER_TWO_MASK -> playerTwo;
+            case PLAYER_TWO_KING_MASK -> playerTwoKing;
+            default -> EMPTY_POS;
+        };
+    }
+
+}
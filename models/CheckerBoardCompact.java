@@ -0,0 +1,554 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * CheckerBoardCompact extends AbsCheckerBoard and is an implementation of ICheckerBoard. It is for storing information
+ * pertaining to the players' pieces on the checkerboard in as little memory as possible. Only the playable squares of
+ * the board are stored (row * (BOARD_DIMENSION / 2) + column / 2), one byte each, in a single flat array; black tiles
+ * are never stored, and whatsAtPos works them out from the parity of the row and column. Each byte holds the type of
+ * piece on the square (see ICheckerBoard.pieceType) plus one, or EMPTY_SQUARE. CheckerBoardCompact.java provides means
+ * of placing and removing pieces, setting viableDirections for players, accessing private data variables, and
+ * creating/altering the state of the current checkerboard.
+ *
+ * @invariant [player pieces cannot occupy the positions of black tiles] AND [a player's number of pieces can
+ * never be negative] AND [pieces cannot go past the boardSize row and columns of the board] AND [every byte of
+ * squares is EMPTY_SQUARE or a piece type plus one]
+ *
+ * @cooresponds self: the byte[] squares
+ *          pieces: playerOneMen + playerOneKings and playerTwoMen + playerTwoKings, kept by AbsCheckerBoard
+ *          boardSize: the BOARD_DIMENSION of the checkerboard
+ *          player1: the name of playerOne
+ *          player2: the name of playerTwo
+ *          player1King: the name of playerOneKing
+ *          player2King: the name of playerTwoKing
+ *          directions: the viableDirections a player can move a piece in
+ */
+public class CheckerBoardCompact extends AbsCheckerBoard {
+    // represents a square with no piece on it
+    private static final byte EMPTY_SQUARE = 0;
+
+    /**
+     * an array of bytes used to represent our checkerboard, with one byte for every playable square
+     */
+    private byte[] squares;
+
+    /**
+     * represents the value of the size that the board will be (either 8x8, 10x10, 12x12, 14x14, or 16x16)
+     */
+    private final int BOARD_DIMENSION;
+
+    /**
+     * represents types of player pieces
+     */
+    private char playerOne, playerTwo, playerOneKing, playerTwoKing;
+
+    /**
+     * A HashMap, with a Character key and an ArrayList of DirectionEnums value, used to map a player (and its king
+     * representation) to the directions that player can viably move in. A non-kinged (standard) piece can only move
+     * in the diagonal directions away from its starting position. A kinged piece can move in the same directions the
+     * standard piece can move in plus the opposite directions the standard piece can move in.
+     */
+    private HashMap<Character, ArrayList<DirectionEnum>> viableDirections;
+
+    /**
+     * Constructor for CheckerBoardCompact object. Initializes BOARD_DIMENSION and an empty board. Accepts one
+     * parameter.
+     * @param aDimension The user-chosen dimension of the checkerboard's size, as an int
+     *
+     * @pre aDimension != null AND aDimension = [8, 10, 12, 14, or 16]
+     *
+     * @post BOARD_DIMENSION = aDimension AND squares = [every square EMPTY_SQUARE] AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
+     * #playerTwoKing AND viableDirections = #viableDirections
+     */
+    public CheckerBoardCompact(int aDimension) {
+        BOARD_DIMENSION = aDimension;
+        squares = new byte[BOARD_DIMENSION * BOARD_DIMENSION / EVEN_DIVISOR];
+    }
+
+    /**
+     * Fills in a new, current version of the checkerboard with player pieces. This method clears every square and
+     * initializes the players' chars and their men and king counts. Then, it places the character pieces on the board.
+     * Finally, it initializes viableDirections for the players. Accepts two parameters.
+     * @param playerOnePiece The letter that represents player one's piece, as a char
+     * @param playerTwoPiece The letter that represents player two's piece, as a char
+     *
+     * @pre playerOnePiece != null AND playerTwoPiece != null AND CheckersFE.PIECE_LETTER_MIN < playerOnePiece <
+     * CheckersFE.PIECE_LETTER_MAX AND CheckersFE.PIECE_LETTER_MIN < playerTwoPiece < CheckersFE.PIECE_LETTER_MAX
+     *
+     * @post putPlayersOnNewBoard = [board that's filled in] AND [playerOneMen and playerTwoMen are the men each player
+     * starts with] AND playerOneKings = 0 AND playerTwoKings = 0 AND viableDirections = [a starting list of
+     * viableDirections for each player] AND squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
+     */
+    @Override
+    public void putPlayersOnNewBoard(char playerOnePiece, char playerTwoPiece) {
+        int row, column;
+        int playerOneRowEnd = (BOARD_DIMENSION / EVEN_DIVISOR) - TWO_POSITIONS;
+        int playerTwoRowStart = playerOneRowEnd + TWO_POSITIONS + 1;
+
+        // initializes player input piece chars
+        playerOne = playerOnePiece;
+        playerTwo = playerTwoPiece;
+        playerOneKing = Character.toUpperCase(playerOne);
+        playerTwoKing = Character.toUpperCase(playerTwo);
+
+        // clears every square and the hash
+        Arrays.fill(squares, EMPTY_SQUARE);
+        resetPosition();
+
+        // only playable squares (where row and column are both even or both odd) can hold a piece
+        for (row = 0; row < getBoardSize(); row++) {
+            for (column = row % EVEN_DIVISOR; column < getBoardSize(); column += EVEN_DIVISOR) {
+                // adds playerOne's pieces to the checkerboard
+                if (row <= playerOneRowEnd) {
+                    placePiece(BoardPosition.of(row, column), getPlayerOne());
+                }
+                // adds playerTwo's pieces to the checkerboard
+                else if (row >= playerTwoRowStart) {
+                    placePiece(BoardPosition.of(row, column), getPlayerTwo());
+                }
+            }
+        }
+        // creates viableDirections for playerOne and playerTwo
+        viableDirections = new HashMap<>();
+        ArrayList<DirectionEnum> playerOneDirections = new ArrayList<>();
+        ArrayList<DirectionEnum> playerTwoDirections = new ArrayList<>();
+        // starting viableDirections for playerOne
+        playerOneDirections.add(DirectionEnum.SW);
+        playerOneDirections.add(DirectionEnum.SE);
+        setViableDirections(getPlayerOne(), playerOneDirections);
+        // starting viableDirections for playerTwo
+        playerTwoDirections.add(DirectionEnum.NW);
+        playerTwoDirections.add(DirectionEnum.NE);
+        setViableDirections(getPlayerTwo(), playerTwoDirections);
+    }
+
+    /**
+     * Simple accessor for the viableDirections HashMap.
+     * @return A player's viable directions, as a HashMap containing a Character and an ArrayList of DirectionEnums
+     *
+     * @pre None
+     *
+     * @post getViableDirections = viableDirections AND squares = #squares AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public HashMap<Character, ArrayList<DirectionEnum>> getViableDirections() {
+        return viableDirections;
+    }
+
+    /**
+     * Sets the square of a given BoardPosition to the char given by player. Also, updates the men and king counts.
+     * Placing EMPTY_POS clears the position. Accepts two parameters.
+     * @param pos The current position on the checkerboard, as a BoardPosition
+     * @param pieceToPlace The letter that represents a player's name and pieces, as a char
+     *
+     * @pre pos != null AND player != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number]
+     * < boardSize AND [pos is not a black tile]
+     *
+     * @post placePiece = [a player's piece is stored on the given position's square] AND [the men or king count of the
+     * piece's owner is one more, and that of any piece it replaced is one less] AND squares = #squares AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void placePiece(BoardPosition pos, char pieceToPlace) {
+        int square = pos.getSquare(BOARD_DIMENSION);
+
+        // removes any existing piece from the provided position before a piece gets placed there
+        if (squares[square] != EMPTY_SQUARE) {
+            removeFromSquare(square);
+        }
+        placeOnSquare(square, pieceToPlace);
+    }
+
+    /**
+     * A standard accessor for the board. Identifies the character located at a given BoardPosition. Accepts one
+     * parameter.
+     * @param pos The position on the checkerboard, as a BoardPosition
+     * @return What is located at the provided position, as a char
+     *
+     * @pre pos != null AND 0 <= [position row number] < boardSize AND 0 <= [position column number] < boardSize
+     *
+     * @post whatsAtPos = [what is located at pos in squares] AND squares = #squares AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtPos(BoardPosition pos) {
+        return whatsAtPos(pos.getRow(), pos.getColumn());
+    }
+
+    /**
+     * A standard accessor for the board that does not need a BoardPosition. Identifies the character located at a
+     * given row and column, working out black tiles from the parity of the row and column. Accepts two parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @return What is located at the provided row and column, as a char
+     *
+     * @pre 0 <= row < BOARD_DIMENSION AND 0 <= column < BOARD_DIMENSION
+     *
+     * @post whatsAtPos = [what is located at row and column in squares] AND squares = #squares AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtPos(int row, int column) {
+        // identifies black tiles, which are never stored
+        if ((row + column) % EVEN_DIVISOR != 0) {
+            return BLACK_TILE;
+        }
+        return pieceForType(squares[BoardPosition.toSquare(row, column, BOARD_DIMENSION)] - 1);
+    }
+
+    /**
+     * A standard accessor for a playable square number that reads the square's byte without converting it to a row
+     * and column. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return What is located on the provided square, as a char
+     *
+     * @pre 0 <= square < BOARD_DIMENSION * BOARD_DIMENSION / 2
+     *
+     * @post whatsAtSquare = [what is located on the square in squares] AND squares = #squares AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtSquare(int square) {
+        return pieceForType(squares[square] - 1);
+    }
+
+    /**
+     * Removes an opponent's piece that has been jumped by a player's piece from the board by clearing its square.
+     * Accepts one parameter.
+     * @param pos The board position of the piece the player wants to remove, as a BoardPosition
+     *
+     * @pre pos != null AND 0 <= [pos row] < BOARD_DIMENSION AND 0 <= [pos column] < BOARD_DIMENSION
+     *
+     * @post removePiece = [removes a player's piece that has been jumped from the board] AND [the men or king count of
+     * the removed piece's owner is one less] AND squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerOne
+     * = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
+     */
+    @Override
+    public void removePiece(BoardPosition pos) {
+        removeFromSquare(pos.getSquare(BOARD_DIMENSION));
+    }
+
+    /**
+     * Simple accessor for the row integer of the checkerboard's size.
+     * @return The maximum row number of the checkerboard's size, as an int
+     *
+     * @pre None
+     *
+     * @post getRowNum = [BOARD_DIMENSION] AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getRowNum() {
+        return getBoardSize();
+    }
+
+    /**
+     * Simple accessor for the column integer of the checkerboard's size.
+     * @return The maximum column number of the checkerboard's size, as an int
+     *
+     * @pre None
+     *
+     * @post getColNum = [BOARD_DIMENSION] AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getColNum() {
+        return getBoardSize();
+    }
+
+    /**
+     * Simple accessor for the board size of the game's checkerboard.
+     * @return The checkerBoard's maximum dimension, as an int
+     *
+     * @pre None
+     *
+     * @post getBoardSize = BOARD_DIMENSION AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public int getBoardSize() {
+        return BOARD_DIMENSION;
+    }
+
+    /**
+     * Simple accessor for getting player one's name/piece name.
+     * @return Player one's name/piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerOne = playerOne AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerOne() {
+        return playerOne;
+    }
+
+    /**
+     * Simple setter for player one's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player one, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerOne = [playerOne gets the value of piece] AND playerOne = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerOne(char piece) {
+        this.playerOne = Character.toLowerCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player one's king piece name.
+     * @return Player one's king piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerOneKing = playerOneKing AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings
+     * = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerOneKing() {
+        return playerOneKing;
+    }
+
+    /**
+     * Simple setter for player one king's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player one king, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerOneKing = [playerOneKing gets the value of piece] AND playerOneKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND
+     * playerTwo = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerOneKing(char piece) {
+        this.playerOneKing = Character.toUpperCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player two's name/piece name.
+     * @return Player two's name/piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerTwo = playerTwo AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerTwo() {
+        return playerTwo;
+    }
+
+    /**
+     * Simple setter for player two's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player two, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerTwo = [playerTwo gets the value of piece] AND playerTwo = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerTwo(char piece) {
+        this.playerTwo = Character.toLowerCase(piece);
+    }
+
+    /**
+     * Simple accessor for getting player two's king piece name.
+     * @return Player two's king piece name, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerTwoKing = playerTwoKing AND squares = #squares AND playerOneMen = #playerOneMen AND playerOneKings
+     * = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char getPlayerTwoKing() {
+        return playerTwoKing;
+    }
+
+    /**
+     * Simple setter for player two king's name/piece name. Accepts one parameter.
+     * @param piece The piece associated with player two king, as a char
+     *
+     * @pre piece != null AND 'a' <= piece <= 'z'
+     *
+     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece] AND playerTwoKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND squares = #squares AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND
+     * playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public void setPlayerTwoKing(char piece) {
+        this.playerTwoKing = Character.toUpperCase(piece);
+    }
+
+    /**
+     * Sets a player's viableDirections. This method adds directions to the viableDirections HashMap by determining
+     * valid directions a player could move in given a board position. Accepts two parameters.
+     * @param player The character that represents a player, as a char
+     * @param possibleDirections The list of directions a player's piece can move, as an ArrayList<DirectionEnum>
+     *
+     * @pre player != null AND possibleDirections != null
+     *
+     * @post setViableDirections = [player and ArrayList get updated in viableDirections] AND squares = #squares AND
+     * playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND
+     * playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
+     * #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
+     * #viableDirections
+     */
+    @Override
+    public void setViableDirections(char player, ArrayList<DirectionEnum> possibleDirections) {
+        // when a player is represented by a king piece, the player's name gets reassigned to its lowercase equivalent
+        if (player == getPlayerOneKing()) {
+            player = getPlayerOne();
+        }
+        if (player == getPlayerTwoKing()) {
+            player = getPlayerTwo();
+        }
+        // updates viableDirections for a player, and puts a player's directions in viableDirections if they're not there
+        if (viableDirections == null) {
+            viableDirections = new HashMap<>();
+        }
+        viableDirections.put(player, possibleDirections);
+    }
+
+    /**
+     * Makes an independent copy of the board. The squares are cloned as one array, instead of placing every piece onto
+     * a new CheckerBoardCompact.
+     * @return A copy of the board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post copy = [a new CheckerBoardCompact with the same players, pieces, player to move, hash, and viableDirections] AND
+     * [self is unchanged]
+     */
+    @Override
+    public ICheckerBoard copy() {
+        return new CheckerBoardCompact(this);
+    }
+
+    /**
+     * Copy constructor for CheckerBoardCompact object, used by copy(). Accepts one parameter.
+     * @param source The board being copied, as a CheckerBoardCompact
+     *
+     * @pre source != null
+     *
+     * @post squares = [a clone of source.squares] AND [the piece counts are source's] AND
+     * BOARD_DIMENSION = source.BOARD_DIMENSION AND playerOne = source.playerOne AND playerTwo = source.playerTwo AND
+     * playerOneKing = source.playerOneKing AND playerTwoKing = source.playerTwoKing AND viableDirections = [a copy of
+     * source.viableDirections]
+     */
+    private CheckerBoardCompact(CheckerBoardCompact source) {
+        super(source);
+        BOARD_DIMENSION = source.BOARD_DIMENSION;
+        squares = source.squares.clone();
+        playerOne = source.playerOne;
+        playerTwo = source.playerTwo;
+        playerOneKing = source.playerOneKing;
+        playerTwoKing = source.playerTwoKing;
+        viableDirections = copyViableDirections(source.viableDirections);
+    }
+
+    /**
+     * Stores a piece on an empty square and increases the owner's men or king count. Chars that are not a player's
+     * piece leave the square empty. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param pieceToPlace The piece being placed, as a char
+     *
+     * @pre squares[square] = EMPTY_SQUARE
+     *
+     * @post squares = [#squares with the piece's type stored on the square] AND [the men or king count of the piece's
+     * owner is one more]
+     */
+    private void placeOnSquare(int square, char pieceToPlace) {
+        int type = pieceType(pieceToPlace);
+
+        if (type == NO_PIECE_TYPE) {
+            return;
+        }
+        squares[square] = (byte) (type + 1);
+        updateHash(square, pieceToPlace);
+        countPiece(square, pieceToPlace, 1);
+    }
+
+    /**
+     * Clears whatever piece is on a square and decreases the owner's men or king count. Accepts one parameter.
+     * @param square The square number, as an int
+     *
+     * @pre 0 <= square < BOARD_DIMENSION * BOARD_DIMENSION / 2
+     *
+     * @post squares = [#squares with the square cleared] AND [the men or king count of the piece's owner is one less
+     * when a piece was on the square]
+     */
+    private void removeFromSquare(int square) {
+        int type = squares[square] - 1;
+
+        if (type == NO_PIECE_TYPE) {
+            return;
+        }
+        squares[square] = EMPTY_SQUARE;
+        updateHash(square, pieceForType(type));
+        countPiece(square, pieceForType(type), -1);
+    }
+
+    /**
+     * Finds the piece that belongs to a type of piece. Accepts one parameter.
+     * @param type The type of piece (PLAYER_ONE_TYPE through PLAYER_TWO_KING_TYPE), or NO_PIECE_TYPE, as an int
+     * @return The piece of that type, or EMPTY_POS for NO_PIECE_TYPE, as a char
+     *
+     * @pre NO_PIECE_TYPE <= type <= PLAYER_TWO_KING_TYPE
+     *
+     * @post pieceForType = [the piece of the type, or EMPTY_POS]
+     */
+    private char pieceForType(int type) {
+        return switch (type) {
+            case PLAYER_ONE_TYPE -> playerOne;
+            case PLAYER_ONE_KING_TYPE -> playerOneKing;
+            case PLAYER_TWO_TYPE -> playerTwo;
+            case PLAYER_TWO_KING_TYPE -> playerTwoKing;
+            default -> EMPTY_POS;
+        };
+    }
+}
@@ -3,20 +3,27 @@ import cpsc2150.extendedCheckers.util.DirectionEnum;
 import cpsc2150.extendedCheckers.views.CheckersFE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 
 /**
  * CheckerBoardMem extends AbsCheckerBoard and is an implementation of ICheckerBoard. It is for storing information
- * pertaining to the players' pieces on the checkerboard. Each CheckerBoardMem has a board, pieceCount, BOARD_DIMENSION,
- * playerOne, playerTwo, playerOneKing, playerTwoKing, and viableDirections. CheckerBoardMem.java provides means of
+ * pertaining to the players' pieces on the checkerboard. Each CheckerBoardMem has a board, BOARD_DIMENSION, playerOne,
+ * playerTwo, playerOneKing, playerTwoKing, and viableDirections, and AbsCheckerBoard keeps the men and king counts of
+ * each player (playerOneMen, playerOneKings, playerTwoMen, and playerTwoKings). CheckerBoardMem.java provides means of
  * placing and removing pieces, scanning indices around board positions, removing pieces, setting viableDirections for
- * players, accessing private data variables, and creating/altering the state of the current checkerboard.
+ * players, accessing private data variables, and creating/altering the state of the current checkerboard. Next to the
+ * lists, two small byte arrays index every playable square by the type of piece on it and the piece's slot in its list,
+ * so that looking up, placing, and removing a piece take constant time instead of a search through the lists.
  *
  * @invariant [player pieces cannot occupy the positions of black tiles] AND [a player's number of pieces can
- * never be negative] AND [pieces cannot go past the boardSize row and columns of the board]
+ * never be negative] AND [pieces cannot go past the boardSize row and columns of the board] AND [for every
+ * playable square, squareType is 0 when no list holds the square, and otherwise board.get([the piece of type
+ * squareType - 1]).get(squareSlot) is at the square] AND [board, squareType, and squareSlot are never changed while
+ * sharesPieces is true]
  *
  * @cooresponds self: the HashMap<Character, ArrayList<BoardPosition>> board
- *          pieces: the pieceCount of a player
+ *          pieces: playerOneMen + playerOneKings and playerTwoMen + playerTwoKings, kept by AbsCheckerBoard
  *          boardSize: the BOARD_DIMENSION of the checkerboard
  *          player1: the name of playerOne
  *          player2: the name of playerTwo
@@ -31,10 +38,17 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     private HashMap<Character, ArrayList<BoardPosition>> board;
 
     /**
-     * a HashMap, with a Character key and an Integer value, that is used to map a player's char to the number of
-     * tokens that player still has left on the board.
+     * the index of the board, by playable square number: the type of piece on the square plus one (0 when the square
+     * is empty), and the slot of the square's BoardPosition in that piece's list
      */
-    private HashMap<Character, Integer> pieceCount;
+    private byte[] squareType;
+    private byte[] squareSlot;
+
+    /**
+     * true while board, squareType, and squareSlot (and the lists in board) are shared with a copy of this board or
+     * with the board this one was copied from. Shared pieces are never changed; the first change copies them.
+     */
+    private boolean sharesPieces;
 
     /**
      * represents the value of the size that the board will be (either 8x8, 10x10, 12x12, 14x14, or 16x16)
@@ -60,20 +74,22 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre aDimension != null AND aDimension = [8, 10, 12, 14, or 16]
      *
-     * @post BOARD_DIMENSION = aDimension AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION
-     * = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing
-     * AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post BOARD_DIMENSION = aDimension AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     public CheckerBoardMem(int aDimension) {
         BOARD_DIMENSION = aDimension;
         board = new HashMap<>();
-        pieceCount = new HashMap<>();
+        squareType = new byte[BOARD_DIMENSION * BOARD_DIMENSION / EVEN_DIVISOR];
+        squareSlot = new byte[BOARD_DIMENSION * BOARD_DIMENSION / EVEN_DIVISOR];
     }
 
     /**
-     * Fills in a new, current version of the checkerboard with player pieces. This method utilizes a 2D char array
-     * with the provided board dimension to initialize how large the board is. It also initializes the players'
-     * chars and pieceCounts. Then, it places the character pieces on the board. Finally, it initializes
+     * Fills in a new, current version of the checkerboard with player pieces. This method utilizes a 2D char array with
+     * the provided board dimension to initialize how large the board is. It also initializes the players' chars and
+     * their men and king counts. Then, it places the character pieces on the board. Finally, it initializes
      * viableDirections for the players. Accepts two parameters.
      * @param playerOnePiece The letter that represents player one's piece, as a char
      * @param playerTwoPiece The letter that represents player two's piece, as a char
@@ -81,10 +97,11 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      * @pre playerOnePiece != null AND playerTwoPiece != null AND CheckersFE.PIECE_LETTER_MIN < playerOnePiece <
      * CheckersFE.PIECE_LETTER_MAX AND CheckersFE.PIECE_LETTER_MIN < playerTwoPiece < CheckersFE.PIECE_LETTER_MAX
      *
-     * @post putPlayersOnNewBoard = [board that's filled in] AND pieceCount = pieceCount++ AND viableDirections =
-     * [a starting list of viableDirections for each player] AND board = #board AND pieceCount = #pieceCount AND
-     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
-     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post putPlayersOnNewBoard = [board that's filled in] AND [playerOneMen and playerTwoMen are the men each player
+     * starts with] AND playerOneKings = 0 AND playerTwoKings = 0 AND viableDirections = [a starting list of
+     * viableDirections for each player] AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
      */
     @Override
     public void putPlayersOnNewBoard(char playerOnePiece, char playerTwoPiece) {
@@ -93,6 +110,11 @@ public class CheckerBoardMem extends AbsCheckerBoard {
         int playerOneRowEnd = (BOARD_DIMENSION / EVEN_DIVISOR) - TWO_POSITIONS;
         int playerTwoRowStart = playerOneRowEnd + TWO_POSITIONS + 1;
 
+        // the board is rebuilt from empty lists, so the hash and the index start over
+        ownPieces();
+        resetPosition();
+        Arrays.fill(squareType, (byte) 0);
+
         // initializes player input piece chars
         playerOne = playerOnePiece;
         playerTwo = playerTwoPiece;
@@ -105,14 +127,9 @@ public class CheckerBoardMem extends AbsCheckerBoard {
         board.put(playerTwo, new ArrayList<>());
         board.put(playerTwoKing, new ArrayList<>());
 
-        // pieceCount starts at zero for the players
-        pieceCount = new HashMap<>();
-        pieceCount.put(playerOne, 0);
-        pieceCount.put(playerTwo, 0);
-
         for (row = 0; row < getBoardSize(); row++) {
             for (column = 0; column < getBoardSize(); column++) {
-                pos = new BoardPosition(row, column);
+                pos = BoardPosition.of(row, column);
                 // adds playerOne's pieces to the checkerboard
                 if (row <= playerOneRowEnd && row % EVEN_DIVISOR == 0 && column % EVEN_DIVISOR == 0) {
                     placePiece(pos, getPlayerOne());
@@ -149,9 +166,10 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getViableDirections = viableDirections AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION
-     * = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
-     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post getViableDirections = viableDirections AND board = #board AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public HashMap<Character, ArrayList<DirectionEnum>> getViableDirections() {
@@ -159,55 +177,41 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     }
 
     /**
-     * Simple accessor for the pieceCount HashMap.
-     * @return A player's piece count, as a HashMap containing a Character and an Integer
-     *
-     * @pre None
-     *
-     * @post getPieceCounts = #pieceCount AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
-     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing
-     * AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
-     */
-    @Override
-    public HashMap<Character, Integer> getPieceCounts() {
-        return pieceCount;
-    }
-
-    /**
-     * Sets a given BoardPosition to the board HashMap with the char given by player. Also, updates pieceCount.
-     * Accepts two parameters.
+     * Sets a given BoardPosition to the board HashMap with the char given by player. Also, updates the men and king
+     * counts. Accepts two parameters.
      * @param pos The current position on the checkerboard, as a BoardPosition
      * @param pieceToPlace The letter that represents a player's name and pieces, as a char
      *
      * @pre pos != null AND player != null AND 0 < [position row number] < boardSize AND 0 < [position column number] <
      * boardSize
      *
-     * @post placePiece = [a player's piece as a value in the given boardArray position] AND pieceCount = pieceCount + 1
-     * AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne
-     * AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
-     * viableDirections = #viableDirections
+     * @post placePiece = [a player's piece as a value in the given boardArray position] AND [the men or king count of
+     * the piece's owner is one more, and that of any piece it replaced is one less] AND board = #board AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void placePiece(BoardPosition pos, char pieceToPlace) {
-        char existingPiece = whatsAtPos(pos);
-        int playerOnePieces = pieceCount.getOrDefault(getPlayerOne(), 0), playerTwoPieces = pieceCount.getOrDefault(getPlayerTwo(), 0);
+        ownPieces();
+        int square = pos.getSquare(BOARD_DIMENSION);
+        int type = pieceType(pieceToPlace);
+        ArrayList<BoardPosition> positionsForPiece;
 
         // removes any existing piece from the provided position before a piece gets placed there
-        if (existingPiece != ' ') {
+        if (squareType[square] != 0) {
             removePiece(pos);
         }
-        // adds the position to the ArrayList for the provided piece
-        board.get(pieceToPlace).add(pos);
-        // updates pieceCount for playerOne
-        if (pieceToPlace == getPlayerOne() || pieceToPlace == getPlayerOneKing()) {
-            playerOnePieces++;
-            pieceCount.replace(getPlayerOne(), playerOnePieces);
-        }
-        // updates pieceCount for playerTwo
-        else if (pieceToPlace == getPlayerTwo() || pieceToPlace == getPlayerTwoKing()) {
-            playerTwoPieces++;
-            pieceCount.replace(getPlayerTwo(), playerTwoPieces);
+        // only a player's piece is kept in a list; placing anything else leaves the position empty
+        if (type == NO_PIECE_TYPE) {
+            return;
         }
+        // adds the position to the end of the ArrayList for the provided piece, and indexes its slot
+        positionsForPiece = board.get(pieceToPlace);
+        squareType[square] = (byte) (type + 1);
+        squareSlot[square] = (byte) positionsForPiece.size();
+        positionsForPiece.add(pos);
+        updateHash(square, pieceToPlace);
+        countPiece(square, pieceToPlace, 1);
     }
 
     /**
@@ -218,59 +222,82 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre pos != null AND 0 < [position row number] < boardSize AND 0 < [position column number] < boardSize
      *
-     * @post whatsAtPos = [what is located at pos in boardArray] AND board = #board AND pieceCount = #pieceCount AND
+     * @post whatsAtPos = [what is located at pos in boardArray] AND board = #board AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
      * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
      * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public char whatsAtPos(BoardPosition pos) {
-        int row, column;
-        char charInPos;
+        return whatsAtPos(pos.getRow(), pos.getColumn());
+    }
 
-        // gets the row and column value from BoardPosition object and accesses the character located at that position
-        row = pos.getRow();
-        column = pos.getColumn();
+    /**
+     * A standard accessor for the board Hashmap that does not need a BoardPosition. Identifies the character located
+     * at a given row and column. Accepts two parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @return What is located at the provided row and column, as a char
+     *
+     * @pre 0 <= row < BOARD_DIMENSION AND 0 <= column < BOARD_DIMENSION
+     *
+     * @post whatsAtPos = [what is located at row and column in board] AND board = #board AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND
+     * playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtPos(int row, int column) {
         // identifies black tiles
-        if ((row % EVEN_DIVISOR == 0 && column % EVEN_DIVISOR == 1) || (row % EVEN_DIVISOR == 1 && column % EVEN_DIVISOR == 0)) {
-            charInPos = BLACK_TILE;
+        if ((row + column) % EVEN_DIVISOR != 0) {
+            return BLACK_TILE;
         }
-        // loops through every position for every possible player piece
-        else {
-            charInPos = EMPTY_POS;
-            if (getPlayerOne() != ICheckerBoard.NULL_POS) {
-                for (BoardPosition p : board.get(playerOne)) {
-                    if (pos.equals(p)) {
-                        charInPos = playerOne;
-                        break;
-                    }
-                }
-            }
-            if (getPlayerOneKing() != ICheckerBoard.NULL_POS) {
-                for (BoardPosition p : board.get(playerOneKing)) {
-                    if (pos.equals(p)) {
-                        charInPos = playerOneKing;
-                        break;
-                    }
-                }
-            }
-            if (getPlayerTwo() != ICheckerBoard.NULL_POS) {
-                for (BoardPosition p : board.get(playerTwo)) {
-                    if (pos.equals(p)) {
-                        charInPos = playerTwo;
-                        break;
-                    }
-                }
-            }
-            if (getPlayerTwoKing() != ICheckerBoard.NULL_POS) {
-                for (BoardPosition p : board.get(playerTwoKing)) {
-                    if (pos.equals(p)) {
-                        charInPos = playerTwoKing;
-                        break;
-                    }
-                }
-            }
+        // looks the piece up in the index instead of searching the lists
+        return pieceForType(squareType[BoardPosition.toSquare(row, column, BOARD_DIMENSION)] - 1);
+    }
+
+    /**
+     * A standard accessor for a playable square number that reads the index directly. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return What is located on the provided square, as a char
+     *
+     * @pre 0 <= square < BOARD_DIMENSION * BOARD_DIMENSION / 2
+     *
+     * @post whatsAtSquare = [what is located on the square] AND board = #board AND playerOneMen = #playerOneMen AND
+     * playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    @Override
+    public char whatsAtSquare(int square) {
+        return pieceForType(squareType[square] - 1);
+    }
+
+    /**
+     * Finds the piece that belongs to a type of piece. Accepts one parameter.
+     * @param type The type of piece (PLAYER_ONE_TYPE through PLAYER_TWO_KING_TYPE), or NO_PIECE_TYPE, as an int
+     * @return The piece of that type, or EMPTY_POS for NO_PIECE_TYPE, as a char
+     *
+     * @pre NO_PIECE_TYPE <= type <= PLAYER_TWO_KING_TYPE
+     *
+     * @post pieceForType = [the piece of the type, or EMPTY_POS] AND board = #board AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     */
+    private char pieceForType(int type) {
+        switch (type) {
+            case PLAYER_ONE_TYPE:
+                return playerOne;
+            case PLAYER_ONE_KING_TYPE:
+                return playerOneKing;
+            case PLAYER_TWO_TYPE:
+                return playerTwo;
+            case PLAYER_TWO_KING_TYPE:
+                return playerTwoKing;
+            default:
+                return EMPTY_POS;
         }
-        return charInPos;
     }
 
     /**
@@ -279,34 +306,36 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre pos != null AND 0 < [pos row] < BOARD_DIMENSION AND 0 < [pos column] < BOARD_DIMENSION
      *
-     * @post removePiece = [removes a player's piece that has been jumped from the board] AND pieceCount
-     * = pieceCount - 1 AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing =
-     * #playerTwoKing AND viableDirections = #viableDirections
+     * @post removePiece = [removes a player's piece that has been jumped from the board] AND [the men or king count of
+     * the removed piece's owner is one less] AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND
+     * viableDirections = #viableDirections
      */
     @Override
     public void removePiece(BoardPosition pos) {
-        char pieceToRemove = whatsAtPos(pos);
-        ArrayList<BoardPosition> positionsForPiece = board.get(pieceToRemove);
-        int pieces;
-
-        // removes the position from the list for the provided piece
-        positionsForPiece.remove(pos);
-        // replaces the array of positions for the provided piece
-        board.replace(pieceToRemove, positionsForPiece);
-        // decreases the pieceCount for the player whose piece got jumped
-        // case for playerOne
-        if (pieceToRemove == getPlayerOne() || pieceToRemove == getPlayerOneKing()) {
-            pieces = pieceCount.get(getPlayerOne());
-            pieces--;
-            pieceCount.replace(getPlayerOne(), pieces);
+        int square = pos.getSquare(BOARD_DIMENSION);
+        char pieceToRemove = pieceForType(squareType[square] - 1);
+        ArrayList<BoardPosition> positionsForPiece;
+        BoardPosition last;
+        int slot;
+
+        // an empty position has nothing to remove
+        if (pieceToRemove == EMPTY_POS) {
+            return;
         }
-        // case for playerTwo
-        if (pieceToRemove == getPlayerTwo() || pieceToRemove == getPlayerTwoKing()) {
-            pieces = pieceCount.get(getPlayerTwo());
-            pieces--;
-            pieceCount.replace(getPlayerTwo(), pieces);
+        ownPieces();
+        // removes the position from the list for the provided piece by moving the list's last position into its slot
+        positionsForPiece = board.get(pieceToRemove);
+        slot = squareSlot[square];
+        last = positionsForPiece.remove(positionsForPiece.size() - 1);
+        if (slot < positionsForPiece.size()) {
+            positionsForPiece.set(slot, last);
+            squareSlot[last.getSquare(BOARD_DIMENSION)] = (byte) slot;
         }
+        squareType[square] = 0;
+        updateHash(square, pieceToRemove);
+        // decreases the count of the type of piece that got jumped
+        countPiece(square, pieceToRemove, -1);
     }
 
     /**
@@ -315,7 +344,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getRowNum = [BOARD_DIMENSION] AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getRowNum = [BOARD_DIMENSION] AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -330,7 +360,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getColNum = [BOARD_DIMENSION] AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getColNum = [BOARD_DIMENSION] AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -345,9 +376,10 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getBoardSize = BOARD_DIMENSION AND board = #board AND pieceCount = #pieceCount AND
-     * BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing =
-     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
+     * @post getBoardSize = BOARD_DIMENSION AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
+     * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
+     * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public int getBoardSize() {
@@ -360,7 +392,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerOne = playerOne AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerOne = playerOne AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -370,22 +403,21 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player one's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player one's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerOne = [playerOne gets the value of piece and a starting pieceCount is assigned to piece] AND
-     * playerOne = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerTwo
-     * = #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerOne = [playerOne gets the value of piece] AND playerOne = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * board = #board AND BOARD_DIMENSION = #boardDimension AND playerTwo = #playerTwo AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerOne(char piece) {
         this.playerOne = Character.toLowerCase(piece);
+        ownPieces();
         board.putIfAbsent(playerOne, new ArrayList<>());
-        pieceCount.putIfAbsent(playerOne, 0);
     }
 
     /**
@@ -394,7 +426,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerOneKing = playerOneKing AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerOneKing = playerOneKing AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -404,22 +437,21 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player one king's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player one king's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one king, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerOneKing = [playerOneKing gets the value of piece and a starting pieceCount is assigned to piece]
-     * AND playerOneKing = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerOneKing = [playerOneKing gets the value of piece] AND playerOneKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerOneKing(char piece) {
         this.playerOneKing = Character.toUpperCase(piece);
+        ownPieces();
         board.putIfAbsent(playerOneKing, new ArrayList<>());
-        pieceCount.putIfAbsent(Character.toLowerCase(playerOneKing), 0);
     }
 
     /**
@@ -428,7 +460,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerTwo = playerTwo AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerTwo = playerTwo AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -438,22 +471,21 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player two's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player two's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player two, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerTwo = [playerTwo gets the value of piece and a starting pieceCount is assigned to piece] AND
-     * playerTwo = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne
-     * = #playerOne AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerTwo = [playerTwo gets the value of piece] AND playerTwo = #piece AND playerOneMen = #playerOneMen
+     * AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND
+     * board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerOneKing =
+     * #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerTwo(char piece) {
         this.playerTwo = Character.toLowerCase(piece);
+        ownPieces();
         board.putIfAbsent(playerTwo, new ArrayList<>());
-        pieceCount.putIfAbsent(playerTwo, 0);
     }
 
     /**
@@ -462,7 +494,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      *
      * @pre None
      *
-     * @post getPlayerTwoKing = playerTwoKing AND board = #board AND pieceCount = #pieceCount AND BOARD_DIMENSION =
+     * @post getPlayerTwoKing = playerTwoKing AND board = #board AND playerOneMen = #playerOneMen AND playerOneKings =
+     * #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings = #playerTwoKings AND BOARD_DIMENSION =
      * #boardDimension AND playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND
      * playerTwoKing = #playerTwoKing AND viableDirections = #viableDirections
      */
@@ -472,22 +505,21 @@ public class CheckerBoardMem extends AbsCheckerBoard {
     }
 
     /**
-     * Simple setter for player two king's name/piece name. Also, assigns a starting pieceCount to the provided piece.
-     * Accepts one parameter.
+     * Simple setter for player two king's name/piece name. Accepts one parameter.
      * @param piece The piece associated with player one king, as a char
      *
      * @pre piece != null AND 'a' <= piece <= 'z'
      *
-     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece and a starting pieceCount is assigned to piece]
-     * AND playerTwoKing = #piece AND pieceCount = #0 AND board = #board AND BOARD_DIMENSION = #boardDimension AND
-     * playerOne = #playerOne AND playerTwo = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections =
-     * #viableDirections
+     * @post setPlayerTwoKing = [playerTwoKing gets the value of piece] AND playerTwoKing = #piece AND playerOneMen =
+     * #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND playerTwoKings =
+     * #playerTwoKings AND board = #board AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo AND playerOneKing = #playerOneKing AND viableDirections = #viableDirections
      */
     @Override
     public void setPlayerTwoKing(char piece) {
         this.playerTwoKing = Character.toUpperCase(piece);
+        ownPieces();
         board.putIfAbsent(playerTwoKing, new ArrayList<>());
-        pieceCount.putIfAbsent(Character.toLowerCase(playerTwoKing), 0);
     }
 
     /**
@@ -499,7 +531,8 @@ public class CheckerBoardMem extends AbsCheckerBoard {
      * @pre player != null AND possibleDirections != null
      *
      * @post setViableDirections = [player and ArrayList get updated in viableDirections] AND board = #board AND
-     * pieceCount = #pieceCount AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
+     * playerOneMen = #playerOneMen AND playerOneKings = #playerOneKings AND playerTwoMen = #playerTwoMen AND
+     * playerTwoKings = #playerTwoKings AND BOARD_DIMENSION = #boardDimension AND playerOne = #playerOne AND playerTwo =
      * #playerTwo AND playerOneKing = #playerOneKing AND playerTwoKing = #playerTwoKing AND viableDirections =
      * #viableDirections
      */
@@ -520,4 +553,71 @@ public class CheckerBoardMem extends AbsCheckerBoard {
             viableDirections.put(player, possibleDirections);
         }
     }
+
+    /**
+     * Makes an independent copy of the board. The copy shares the position lists and the index with this board until
+     * either board changes a piece, so a copy that is only read (or a board that is copied often and changed rarely)
+     * never copies them at all.
+     * @return A copy of the board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post copy = [a new CheckerBoardMem with the same players, pieces, player to move, hash, and viableDirections] AND
+     * sharesPieces = true AND [the pieces of self are unchanged]
+     */
+    @Override
+    public ICheckerBoard copy() {
+        return new CheckerBoardMem(this);
+    }
+
+    /**
+     * Copy constructor for CheckerBoardMem object, used by copy(). The pieces are shared with source, and both boards
+     * copy them before their next change. Accepts one parameter.
+     * @param source The board being copied, as a CheckerBoardMem
+     *
+     * @pre source != null
+     *
+     * @post board = source.board AND squareType = source.squareType AND squareSlot = source.squareSlot AND
+     * sharesPieces = true AND source.sharesPieces = true AND [the piece counts are source's]
+     * AND BOARD_DIMENSION = source.BOARD_DIMENSION AND playerOne = source.playerOne AND playerTwo = source.playerTwo AND
+     * playerOneKing = source.playerOneKing AND playerTwoKing = source.playerTwoKing AND viableDirections = [a copy of
+     * source.viableDirections]
+     */
+    private CheckerBoardMem(CheckerBoardMem source) {
+        super(source);
+        BOARD_DIMENSION = source.BOARD_DIMENSION;
+        board = source.board;
+        squareType = source.squareType;
+        squareSlot = source.squareSlot;
+        sharesPieces = true;
+        source.sharesPieces = true;
+        playerOne = source.playerOne;
+        playerTwo = source.playerTwo;
+        playerOneKing = source.playerOneKing;
+        playerTwoKing = source.playerTwoKing;
+        viableDirections = copyViableDirections(source.viableDirections);
+    }
+
+    /**
+     * Gives this board its own copy of the position lists and the index when they are shared, so that they can be
+     * changed without changing another board.
+     *
+     * @pre None
+     *
+     * @post sharesPieces = false AND [board, squareType, and squareSlot are equal to #board, #squareType, and
+     * #squareSlot, and are not shared when #sharesPieces = true]
+     */
+    private void ownPieces() {
+        if (!sharesPieces) {
+            return;
+        }
+        HashMap<Character, ArrayList<BoardPosition>> ownBoard = new HashMap<>();
+        for (Character piece : board.keySet()) {
+            ownBoard.put(piece, new ArrayList<>(board.get(piece)));
+        }
+        board = ownBoard;
+        squareType = squareType.clone();
+        squareSlot = squareSlot.clone();
+        sharesPieces = false;
+    }
 }
@@ -0,0 +1,482 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * GameArchive reads a game archive file written by GameArchiveWriter: a compact binary record of any number of games,
+ * each of which can be found directly by its number and replayed onto any ICheckerBoard of its size. A move takes one
+ * byte on an 8x8 board and two on larger boards, so an archive is a small fraction of the size of the same games in
+ * PDN, and far smaller than a log of every position. Only the index entry and the bytes of the game asked for are ever
+ * read. A GameArchive is not thread safe, but the file can be opened by any number of GameArchives at once.
+ *
+ * The file is a header of HEADER_BYTES bytes (MAGIC and VERSION, as ints), then the games, one after another, then an
+ * index holding the byte offset of every game as a long, then a trailer of TRAILER_BYTES bytes: the number of games
+ * as an int, the offset of the index as a long, and MAGIC again. All numbers are big-endian. Games added to an archive
+ * are written after its old index and trailer, which are left in place (and unused) once the new index and trailer
+ * are written after the new games. A file that does not end in a trailer, because games were being added to it when
+ * its writer stopped, is read as the archive its last complete trailer ends. A game is a header of
+ * GAME_HEADER_BYTES bytes (the board size, player one's and player two's pieces, the ordinal of the result as a
+ * GameStatusEnum, how the game starts (START_POSITION, or PLAYER_ONE_SET_UP or PLAYER_TWO_SET_UP for a position set up
+ * with that player to move), and the number of moves as an int), then, for a set up position, one byte per square
+ * holding the type of its piece plus one (0 for an empty square), then the moves.
+ *
+ * A move is its first step: (from square << 3) | (DirectionEnum ordinal << 1) | (1 for a jump), in one byte on a board
+ * of at most SHORT_FORM_SQUARES squares and in two otherwise. The rest of a capture of several jumps follows in as few
+ * bytes as hold the direction of each later jump, two bits each from the low bits up. The rules decide how many jumps
+ * a capture has once its first jump is known, so no count is stored, and a move is read back by matching it against
+ * the legal moves of the position it is played in.
+ *
+ * @invariant gameCount >= 0 AND [the games are stored in [HEADER_BYTES, indexOffset) of the file] AND [moves holds
+ * moveCount moves of the last game replayed]
+ */
+public final class GameArchive implements Closeable {
+    // represents the first int of every game archive file ("CGA1"), and the version of the file layout
+    public static final int MAGIC = 0x43474131;
+    public static final int VERSION = 1;
+    // represents the size in bytes of the file header, of the trailer, and of the header of each game
+    public static final int HEADER_BYTES = 2 * Integer.BYTES;
+    public static final int TRAILER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+    public static final int GAME_HEADER_BYTES = 5 + Integer.BYTES;
+    // represents the most squares a board can have for each move to be written in one byte (the squares of 8x8)
+    public static final int SHORT_FORM_SQUARES = 32;
+    // represents how a game starts: from the starting position, or from a position set up with either player to move
+    public static final int START_POSITION = 0;
+    public static final int PLAYER_ONE_SET_UP = 1;
+    public static final int PLAYER_TWO_SET_UP = 2;
+    // represents the bits of the first step of a move, and the directions held by each later byte of a capture
+    static final int FROM_SHIFT = 3;
+    static final int DIRECTION_SHIFT = 1;
+    static final int DIRECTION_BITS = 2;
+    static final int DIRECTION_MASK = (1 << DIRECTION_BITS) - 1;
+    static final int JUMP_FLAG = 1;
+    static final int DIRECTIONS_PER_BYTE = Byte.SIZE / DIRECTION_BITS;
+    // represents the byte offsets of the fields of the header of a game
+    private static final int PLAYER_ONE_OFFSET = 1;
+    private static final int PLAYER_TWO_OFFSET = 2;
+    private static final int RESULT_OFFSET = 3;
+    private static final int START_OFFSET = 4;
+    private static final int MOVE_COUNT_OFFSET = 5;
+    // represents the size in bytes of the record buffer and move buffer before they first grow
+    private static final int INITIAL_RECORD_BYTES = 1024;
+    private static final int INITIAL_MOVES = 256;
+    // represents the size in bytes of each piece of a file read while looking back for its last complete trailer
+    private static final int SCAN_BYTES = 8192;
+
+    // cached so that reading a result does not copy GameStatusEnum.values() every time
+    private static final GameStatusEnum[] RESULTS = GameStatusEnum.values();
+
+    /**
+     * the open file, its name for messages, the number of games in it, and the offset of its index
+     */
+    private final FileChannel channel;
+    private final Path file;
+    private final int gameCount;
+    private final long indexOffset;
+
+    /**
+     * the buffer the bytes of a game are read into, the buffer an index entry is read into, and the buffer legal
+     * moves are generated into while a game is replayed, which grows for a position with more legal moves than it holds
+     */
+    private ByteBuffer record = ByteBuffer.allocate(INITIAL_RECORD_BYTES);
+    private final ByteBuffer entry = ByteBuffer.allocate(2 * Long.BYTES);
+    private long[] legalMoves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+    /**
+     * the moves of the last game replayed
+     */
+    private long[] moves = new long[INITIAL_MOVES];
+    private int moveCount;
+
+    /**
+     * Constructor for GameArchive object. Accepts four parameters.
+     * @param aChannel The open file, as a FileChannel
+     * @param aFile The name of the file, as a Path
+     * @param aGameCount The number of games in the file, as an int
+     * @param anIndexOffset The byte offset of the file's index, as a long
+     *
+     * @pre [aChannel is a checked game archive of aGameCount games whose index starts at anIndexOffset]
+     *
+     * @post channel = aChannel AND file = aFile AND gameCount = aGameCount AND indexOffset = anIndexOffset AND
+     * moveCount = 0
+     */
+    private GameArchive(FileChannel aChannel, Path aFile, int aGameCount, long anIndexOffset) {
+        channel = aChannel;
+        file = aFile;
+        gameCount = aGameCount;
+        indexOffset = anIndexOffset;
+    }
+
+    /**
+     * Opens a game archive file, checking its header and trailer. The file stays open until the GameArchive is
+     * closed. Accepts one parameter.
+     * @param file The game archive file, as a Path
+     * @return The archive, as a GameArchive
+     * @throws IOException When the file can not be read, or is not a complete game archive of this version
+     *
+     * @pre file != null
+     *
+     * @post open = [a GameArchive of the games in file]
+     */
+    public static GameArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long[] trailer = readTrailer(channel, file);
+            return new GameArchive(channel, file, (int) trailer[0], trailer[1]);
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads and checks the header and trailer of a game archive file. The trailer is the last one in the file that
+     * ends a complete archive, which is the one at the end of the file unless games were being added to it when its
+     * writer stopped. Accepts two parameters.
+     * @param channel The open file, as a FileChannel
+     * @param file The name of the file, for messages, as a Path
+     * @return The number of games and the offset of the index, as a long[] of two
+     * @throws IOException When the file can not be read, or is not a complete game archive of this version
+     *
+     * @pre channel != null
+     *
+     * @post readTrailer = [the game count and index offset the last complete trailer holds] AND [the file is not
+     * changed]
+     */
+    static long[] readTrailer(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException(file + " is not a game archive");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException(file + " is not a complete game archive of version " + VERSION);
+        }
+
+        // looks back from the end for the MAGIC that ends a trailer, a piece of the file at a time; the pieces overlap
+        // by one byte less than an int, so that a MAGIC split between two pieces is still found
+        ByteBuffer piece = ByteBuffer.allocate(SCAN_BYTES);
+        long pieceEnd = size;
+        while (true) {
+            long pieceStart = Math.max(HEADER_BYTES, pieceEnd - SCAN_BYTES);
+            piece.clear().limit((int) (pieceEnd - pieceStart));
+            readFully(channel, piece, pieceStart);
+            for (int i = piece.limit() - Integer.BYTES; i >= 0; i--) {
+                if (piece.getInt(i) == MAGIC) {
+                    long[] trailer = checkTrailer(channel, pieceStart + i + Integer.BYTES);
+                    if (trailer != null) {
+                        return trailer;
+                    }
+                }
+            }
+            if (pieceStart == HEADER_BYTES) {
+                throw new IOException(file + " is not a complete game archive of version " + VERSION);
+            }
+            pieceEnd = pieceStart + Integer.BYTES - 1;
+        }
+    }
+
+    /**
+     * Reads a trailer that ends at an offset of a file, and checks that it ends a complete archive: that its index
+     * lies just before it. Accepts two parameters.
+     * @param channel The open file, as a FileChannel
+     * @param end The offset just after the trailer, as a long
+     * @return The number of games and the offset of the index, as a long[] of two, or null when the bytes before end
+     * are not a trailer
+     * @throws IOException When the file can not be read
+     *
+     * @pre channel != null AND HEADER_BYTES < end <= channel.size()
+     *
+     * @post checkTrailer = [the game count and index offset of the trailer, or null] AND [the file is not changed]
+     */
+    private static long[] checkTrailer(FileChannel channel, long end) throws IOException {
+        if (end < HEADER_BYTES + TRAILER_BYTES) {
+            return null;
+        }
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+        readFully(channel, trailer, end - TRAILER_BYTES);
+        int gameCount = trailer.getInt(0);
+        long indexOffset = trailer.getLong(Integer.BYTES);
+        if (trailer.getInt(Integer.BYTES + Long.BYTES) != MAGIC || gameCount < 0 || indexOffset < HEADER_BYTES
+                || indexOffset + (long) gameCount * Long.BYTES + TRAILER_BYTES != end) {
+            return null;
+        }
+        return new long[] {gameCount, indexOffset};
+    }
+
+    /**
+     * Fills a buffer from a file, starting at an offset, reading as many times as it takes. Accepts three
+     * parameters.
+     * @param channel The open file, as a FileChannel
+     * @param buffer The buffer to fill from its position to its limit, as a ByteBuffer
+     * @param offset The byte offset of the file to start at, as a long
+     * @throws IOException When the file can not be read, or ends before the buffer is full
+     *
+     * @pre channel != null AND buffer != null AND offset >= 0
+     *
+     * @post [buffer holds the bytes of the file from offset] AND buffer.position() = buffer.limit()
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("a game archive ends in the middle of a record");
+            }
+            offset += read;
+        }
+    }
+
+    /**
+     * Reads all the bytes of one game, found through the index, into record. Accepts one parameter.
+     * @param game The number of the game, from 0, as an int
+     * @throws IOException When the file can not be read, or its index is not valid
+     *
+     * @pre 0 <= game < gameCount
+     *
+     * @post [record holds the bytes of the game from position 0 to its limit]
+     */
+    private void readGame(int game) throws IOException {
+        // the end of a game is the start of the next one, or of the index for the last game
+        entry.clear();
+        if (game + 1 == gameCount) {
+            entry.limit(Long.BYTES);
+        }
+        readFully(channel, entry, indexOffset + (long) game * Long.BYTES);
+        long start = entry.getLong(0);
+        long end = (game + 1 == gameCount) ? indexOffset : entry.getLong(Long.BYTES);
+        if (start < HEADER_BYTES || end > indexOffset || end - start < GAME_HEADER_BYTES || end - start > Integer.MAX_VALUE) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " is not in the file");
+        }
+
+        int length = (int) (end - start);
+        if (record.capacity() < length) {
+            record = ByteBuffer.allocate(Math.max(length, record.capacity() * 2));
+        }
+        record.clear().limit(length);
+        readFully(channel, record, start);
+        record.flip();
+    }
+
+    /**
+     * Finds the board size of one game, so that a board of the right size can be given to replay. Accepts one
+     * parameter.
+     * @param game The number of the game, from 0, as an int
+     * @return The dimension of the game's board, as an int
+     * @throws IOException When the file can not be read, or is not valid
+     *
+     * @pre 0 <= game < gameCount
+     *
+     * @post getBoardSize = [the board size of the game]
+     */
+    public int getBoardSize(int game) throws IOException {
+        readGame(game);
+        return record.get(0);
+    }
+
+    /**
+     * Replays one game onto a board: puts the game's players on it, sets up the position the game started from, and
+     * plays every move, leaving the board at the last position of the game with every move on its undo stack. The
+     * moves are then given by getMoves. Accepts two parameters.
+     * @param game The number of the game, from 0, as an int
+     * @param board The board to replay onto, of the game's size and any implementation, as an ICheckerBoard
+     * @return How the game ended, as a GameStatusEnum. A game that was stopped is IN_PROGRESS.
+     * @throws IOException When the file can not be read, or the game is not valid
+     * @throws IllegalArgumentException When board is not of the game's size
+     *
+     * @pre 0 <= game < gameCount AND board != null
+     *
+     * @post replay = [the game's result] AND [board holds the last position of the game] AND moveCount = [the number
+     * of moves of the game] AND [moves[0, moveCount) are its moves]
+     */
+    public GameStatusEnum replay(int game, ICheckerBoard board) throws IOException {
+        readGame(game);
+        int boardSize = record.get(0);
+        if (board.getBoardSize() != boardSize) {
+            throw new IllegalArgumentException("game " + game + " is on a " + boardSize + "x" + boardSize + " board, not "
+                    + board.getBoardSize() + "x" + board.getBoardSize());
+        }
+        int result = record.get(RESULT_OFFSET), start = record.get(START_OFFSET);
+        int count = record.getInt(MOVE_COUNT_OFFSET);
+        if (result < 0 || result >= RESULTS.length || start < START_POSITION || start > PLAYER_TWO_SET_UP || count < 0
+                || count > record.limit() - GAME_HEADER_BYTES) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " has a header that is not valid");
+        }
+
+        board.putPlayersOnNewBoard((char) record.get(PLAYER_ONE_OFFSET), (char) record.get(PLAYER_TWO_OFFSET));
+        record.position(GAME_HEADER_BYTES);
+        if (start != START_POSITION) {
+            setUpPosition(game, board, start);
+        }
+        if (moves.length < count) {
+            moves = new long[count];
+        }
+        moveCount = 0;
+        while (moveCount < count) {
+            long move = readMove(game, board);
+            board.makeMove(move);
+            moves[moveCount++] = move;
+        }
+        return RESULTS[result];
+    }
+
+    /**
+     * Sets up the position a game starts from, one byte per square, with its player to move. Accepts three
+     * parameters.
+     * @param game The number of the game, for messages, as an int
+     * @param board The board to set up, with the game's players, as an ICheckerBoard
+     * @param start PLAYER_ONE_SET_UP or PLAYER_TWO_SET_UP, as an int
+     * @throws IOException When the game ends before its position, or a square holds no piece type
+     *
+     * @pre [record is positioned at the game's position] AND board != null
+     *
+     * @post [board holds the game's starting position with its player to move] AND [record is positioned after it]
+     */
+    private void setUpPosition(int game, ICheckerBoard board, int start) throws IOException {
+        int boardSize = board.getBoardSize();
+        int squareCount = boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR;
+        char[] pieces = {board.getPlayerOne(), board.getPlayerOneKing(), board.getPlayerTwo(), board.getPlayerTwoKing()};
+        if (record.remaining() < squareCount) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " ends in its position");
+        }
+
+        for (int square = 0; square < squareCount; square++) {
+            int type = record.get() - 1;
+            if (type < ICheckerBoard.NO_PIECE_TYPE || type >= pieces.length) {
+                throw new IOException(file + " is not a valid game archive: game " + game + " has a piece of no type");
+            }
+            if (board.whatsAtSquare(square) != ICheckerBoard.EMPTY_POS) {
+                board.removePiece(BoardPosition.ofSquare(square, boardSize));
+            }
+            if (type != ICheckerBoard.NO_PIECE_TYPE) {
+                board.placePiece(BoardPosition.ofSquare(square, boardSize), pieces[type]);
+            }
+        }
+        board.setPlayerToMove((start == PLAYER_ONE_SET_UP) ? board.getPlayerOne() : board.getPlayerTwo());
+    }
+
+    /**
+     * Reads the next move of a game and finds it among the legal moves of the board, reading one more direction
+     * each time the capture it begins can go on. Accepts two parameters.
+     * @param game The number of the game, for messages, as an int
+     * @param board The board the move is played on, with its player to move set, as an ICheckerBoard
+     * @return The legal move, as a packed long (see Move)
+     * @throws IOException When the game ends in the middle of the move, the move is not legal, or the position has a
+     * capture too long to be played
+     *
+     * @pre [record is positioned at the move] AND board != null
+     *
+     * @post readMove = [the legal move written at record's position] AND [record is positioned after the move] AND
+     * board = #board
+     */
+    private long readMove(int game, ICheckerBoard board) throws IOException {
+        int squareCount = board.getBoardSize() * board.getBoardSize() / ICheckerBoard.EVEN_DIVISOR;
+        int needed = (squareCount <= SHORT_FORM_SQUARES) ? Byte.BYTES : Short.BYTES;
+        if (record.remaining() < needed) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " ends in move " + (moveCount + 1));
+        }
+        int first = (needed == Byte.BYTES) ? record.get() & 0xFF : record.getShort() & 0xFFFF;
+        int from = first >>> FROM_SHIFT, dir = (first >>> DIRECTION_SHIFT) & DIRECTION_MASK;
+        boolean isJump = (first & JUMP_FLAG) != 0;
+
+        // keeps the legal moves that start with the step read, then narrows them one later jump at a time
+        int count;
+        try {
+            count = board.generateLegalMoves(board.getPlayerToMove(), legalMoves);
+            if (count > legalMoves.length) {
+                legalMoves = new long[count];
+                board.generateLegalMoves(board.getPlayerToMove(), legalMoves);
+            }
+        }
+        catch (IllegalStateException e) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " move " + (moveCount + 1) + " has a capture too long to be played", e);
+        }
+        int matching = 0, longest = 0;
+        for (int i = 0; i < count; i++) {
+            long move = legalMoves[i];
+            if (Move.getFrom(move) == from && Move.getStepDirectionIndex(move, 0) == dir && Move.isCapture(move) == isJump) {
+                legalMoves[matching++] = move;
+                longest = Math.max(longest, Move.getStepCount(move));
+            }
+        }
+        int directions = 0;
+        for (int step = 1; step < longest; step++) {
+            if ((step - 1) % DIRECTIONS_PER_BYTE == 0) {
+                if (!record.hasRemaining()) {
+                    throw new IOException(file + " is not a valid game archive: game " + game + " ends in move " + (moveCount + 1));
+                }
+                directions = record.get() & 0xFF;
+            }
+            int next = directions & DIRECTION_MASK;
+            directions >>>= DIRECTION_BITS;
+            int kept = 0;
+            longest = 0;
+            for (int i = 0; i < matching; i++) {
+                if (Move.getStepCount(legalMoves[i]) > step && Move.getStepDirectionIndex(legalMoves[i], step) == next) {
+                    legalMoves[kept++] = legalMoves[i];
+                    longest = Math.max(longest, Move.getStepCount(legalMoves[i]));
+                }
+            }
+            matching = kept;
+        }
+        if (matching == 0) {
+            throw new IOException(file + " is not a valid game archive: game " + game + " move " + (moveCount + 1) + " is not legal");
+        }
+        return legalMoves[0];
+    }
+
+    /**
+     * Simple accessor for the number of games in the archive.
+     * @return The number of games, as an int
+     *
+     * @pre None
+     *
+     * @post getGameCount = gameCount
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Simple accessor for the moves of the last game replayed, which are overwritten by the next replay.
+     * @return The moves, whose first getMoveCount() entries are the game's, as packed longs (see Move), as a long[]
+     *
+     * @pre None
+     *
+     * @post getMoves = moves
+     */
+    public long[] getMoves() {
+        return moves;
+    }
+
+    /**
+     * Simple accessor for the number of moves of the last game replayed.
+     * @return The number of moves, as an int
+     *
+     * @pre None
+     *
+     * @post getMoveCount = moveCount
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Closes the file. Accepts no parameters.
+     * @throws IOException When the file can not be closed
+     *
+     * @pre None
+     *
+     * @post [the file is closed, and no more games can be read]
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
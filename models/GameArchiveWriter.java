@@ -0,0 +1,314 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * GameArchiveWriter writes games to a game archive file (see GameArchive for its layout), adding them after any games
+ * the file already holds. Games can be given whole with addGame, or recorded as they are played: a GameArchiveWriter
+ * is a GameListener, so once it watches a GameSession every game the session finishes is added, with no more work than
+ * copying each move. New games are written after the index and trailer the file already ends with, and the new index
+ * and trailer are written after them when the writer is closed, so until then the file is still read as the archive
+ * it was when it was opened, and a writer that is never closed leaves the games the file held before readable.
+ *
+ * @invariant gameCount >= 0 AND offsets[0, gameCount) = [the byte offset of every game, in order] AND end = [the offset
+ * just after the last game, or after the old trailer when no game has been added to an old archive] AND [start = null
+ * exactly when no game is being recorded]
+ */
+public class GameArchiveWriter implements GameListener, Closeable {
+    // represents the size in bytes of the record buffer, and the number of offsets and recorded moves, before they
+    // first grow
+    private static final int INITIAL_RECORD_BYTES = 1024;
+    private static final int INITIAL_GAMES = 1024;
+    private static final int INITIAL_MOVES = 256;
+
+    /**
+     * the open file, and the offset the next game is written at
+     */
+    private final FileChannel channel;
+    private long end;
+
+    /**
+     * the offset just after the trailer the file ended with when it was opened, or -1 for a new archive
+     */
+    private final long openedEnd;
+
+    /**
+     * the offset of every game in the file, and the number of games
+     */
+    private long[] offsets;
+    private int gameCount;
+
+    /**
+     * the buffer one game is built in before it is written
+     */
+    private ByteBuffer record = ByteBuffer.allocate(INITIAL_RECORD_BYTES);
+
+    /**
+     * the position the game being recorded from a session started from, and its moves so far
+     */
+    private ICheckerBoard start;
+    private long[] moves = new long[INITIAL_MOVES];
+    private int moveCount;
+
+    /**
+     * Constructor for GameArchiveWriter object. Opens a game archive file to add games to, making a new archive when
+     * the file does not exist or is empty. Accepts one parameter.
+     * @param file The game archive file, as a Path
+     * @throws IOException When the file can not be opened, or holds something that is not a complete game archive
+     *
+     * @pre file != null
+     *
+     * @post [offsets and gameCount are the games already in file] AND end = [the offset just after file's trailer, or
+     * HEADER_BYTES for a new archive] AND start = null
+     */
+    public GameArchiveWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(GameArchive.HEADER_BYTES);
+                header.putInt(GameArchive.MAGIC).putInt(GameArchive.VERSION).flip();
+                writeFully(header, 0);
+                offsets = new long[INITIAL_GAMES];
+                end = GameArchive.HEADER_BYTES;
+                openedEnd = -1;
+            }
+            else {
+                // the new games are written after the old trailer, so that the old index and trailer stay whole until
+                // the new ones are written on close; anything after the old trailer was left by a writer that stopped
+                long[] trailer = GameArchive.readTrailer(channel, file);
+                gameCount = (int) trailer[0];
+                ByteBuffer index = ByteBuffer.allocate(gameCount * Long.BYTES);
+                GameArchive.readFully(channel, index, trailer[1]);
+                end = trailer[1] + (long) gameCount * Long.BYTES + GameArchive.TRAILER_BYTES;
+                openedEnd = end;
+                offsets = new long[Math.max(INITIAL_GAMES, gameCount)];
+                index.flip().asLongBuffer().get(offsets, 0, gameCount);
+            }
+        }
+        catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a buffer to the file at an offset, writing as many times as it takes. Accepts two parameters.
+     * @param buffer The bytes to write, from its position to its limit, as a ByteBuffer
+     * @param offset The byte offset of the file to write at, as a long
+     * @throws IOException When the file can not be written
+     *
+     * @pre buffer != null AND offset >= 0
+     *
+     * @post [the file holds the bytes of buffer at offset] AND buffer.position() = buffer.limit()
+     */
+    private void writeFully(ByteBuffer buffer, long offset) throws IOException {
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    /**
+     * Adds one game to the archive: its header, the position it starts from when that is not the starting position,
+     * and its moves. Accepts four parameters.
+     * @param startBoard The board the game started from, with its player to move set, as an ICheckerBoard
+     * @param gameMoves The moves of the game in order, as packed longs (see Move), as a long[]
+     * @param count The number of moves in the game, as an int
+     * @param result How the game ended, as a GameStatusEnum. A game that was stopped is IN_PROGRESS.
+     * @throws IOException When the file can not be written
+     *
+     * @pre startBoard != null AND [gameMoves[0, count) can be played in order from startBoard] AND result != null
+     *
+     * @post [the game is written at end] AND gameCount = #gameCount + 1 AND offsets[#gameCount] = #end AND
+     * startBoard = #startBoard
+     */
+    public void addGame(ICheckerBoard startBoard, long[] gameMoves, int count, GameStatusEnum result) throws IOException {
+        int boardSize = startBoard.getBoardSize();
+        int squareCount = boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR;
+        boolean isShortForm = squareCount <= GameArchive.SHORT_FORM_SQUARES;
+        boolean isSetUp = startBoard.hash() != PdnWriter.startingHash(boardSize);
+
+        // every move takes at most two bytes and one more for every DIRECTIONS_PER_BYTE later jumps
+        int longest = GameArchive.GAME_HEADER_BYTES + (isSetUp ? squareCount : 0)
+                + count * (Short.BYTES + (Move.MAX_STEPS + GameArchive.DIRECTIONS_PER_BYTE - 1) / GameArchive.DIRECTIONS_PER_BYTE);
+        if (record.capacity() < longest) {
+            record = ByteBuffer.allocate(Math.max(longest, record.capacity() * 2));
+        }
+        record.clear();
+        record.put((byte) boardSize).put((byte) startBoard.getPlayerOne()).put((byte) startBoard.getPlayerTwo());
+        record.put((byte) result.ordinal());
+        if (!isSetUp) {
+            record.put((byte) GameArchive.START_POSITION);
+        }
+        else {
+            boolean playerOneMoves = startBoard.getPlayerToMove() == startBoard.getPlayerOne();
+            record.put((byte) (playerOneMoves ? GameArchive.PLAYER_ONE_SET_UP : GameArchive.PLAYER_TWO_SET_UP));
+        }
+        record.putInt(count);
+        if (isSetUp) {
+            for (int square = 0; square < squareCount; square++) {
+                record.put((byte) (startBoard.pieceType(startBoard.whatsAtSquare(square)) + 1));
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            long move = gameMoves[i];
+            int first = (Move.getFrom(move) << GameArchive.FROM_SHIFT)
+                    | (Move.getStepDirectionIndex(move, 0) << GameArchive.DIRECTION_SHIFT)
+                    | (Move.isCapture(move) ? GameArchive.JUMP_FLAG : 0);
+            if (isShortForm) {
+                record.put((byte) first);
+            }
+            else {
+                record.putShort((short) first);
+            }
+            // the later jumps of a capture, packed from the low bits of each byte up
+            int directions = 0, steps = Move.getStepCount(move);
+            for (int step = 1; step < steps; step++) {
+                int shift = ((step - 1) % GameArchive.DIRECTIONS_PER_BYTE) * GameArchive.DIRECTION_BITS;
+                directions |= Move.getStepDirectionIndex(move, step) << shift;
+                if (step % GameArchive.DIRECTIONS_PER_BYTE == 0 || step == steps - 1) {
+                    record.put((byte) directions);
+                    directions = 0;
+                }
+            }
+        }
+
+        record.flip();
+        int length = record.remaining();
+        writeFully(record, end);
+        if (gameCount == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        offsets[gameCount++] = end;
+        end += length;
+    }
+
+    /**
+     * Starts recording the games of a session: adds this writer as one of its listeners, and takes the position on
+     * its board as the start of the game being played. Accepts one parameter.
+     * @param session The session to record, as a GameSession
+     *
+     * @pre session != null AND [the writer watches no other session]
+     *
+     * @post [the writer is a listener of session] AND start = [a copy of session.getBoard()] AND moveCount = 0
+     */
+    public void watch(GameSession session) {
+        session.addListener(this);
+        start = session.getBoard().copy();
+        moveCount = 0;
+    }
+
+    /**
+     * Takes the position a new game of the session starts from, so that it can be recorded. Accepts two parameters.
+     * @param session The session whose turn changed, as a GameSession
+     * @param player The standard piece of the player to move, as a char
+     *
+     * @pre session != null
+     *
+     * @post [when the game has just started, start = a copy of session.getBoard() AND moveCount = 0] AND [otherwise,
+     * nothing changes]
+     */
+    @Override
+    public void turnStarted(GameSession session, char player) {
+        if (session.getPlyCount() == 0) {
+            start = session.getBoard().copy();
+            moveCount = 0;
+        }
+    }
+
+    /**
+     * Records a move of the game being played. Accepts three parameters.
+     * @param session The session the move was played in, as a GameSession
+     * @param player The standard piece of the player who moved, as a char
+     * @param move The move that was played, as a packed long (see Move)
+     *
+     * @pre session != null AND move != Move.NO_MOVE
+     *
+     * @post [when a game is being recorded, moves[#moveCount] = move AND moveCount = #moveCount + 1]
+     */
+    @Override
+    public void movePlayed(GameSession session, char player, long move) {
+        if (start == null) {
+            return;
+        }
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = move;
+    }
+
+    /**
+     * Adds the game that just ended to the archive. Accepts three parameters.
+     * @param session The session whose game ended, as a GameSession
+     * @param status How the game ended, as a GameStatusEnum
+     * @param winner The standard piece of the winner, or NULL_POS for a draw, as a char
+     * @throws IllegalStateException When the game can not be written to the file
+     *
+     * @pre session != null AND status != IN_PROGRESS
+     *
+     * @post [when a game was being recorded, it is added to the archive] AND start = null
+     */
+    @Override
+    public void gameEnded(GameSession session, GameStatusEnum status, char winner) {
+        if (start == null) {
+            return;
+        }
+        try {
+            addGame(start, moves, moveCount, status);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("a game can not be added to the game archive", e);
+        }
+        finally {
+            start = null;
+        }
+    }
+
+    /**
+     * Simple accessor for the number of games in the archive, including those it held when it was opened.
+     * @return The number of games, as an int
+     *
+     * @pre None
+     *
+     * @post getGameCount = gameCount
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Writes the index and trailer after the last game, drops whatever the file held after them, and closes the file.
+     * Accepts no parameters.
+     * @throws IOException When the file can not be written or closed
+     *
+     * @pre None
+     *
+     * @post [the file is a complete game archive of every game added] AND [the file is closed]
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            // with no games added, the old index and trailer already end the archive
+            if (end == openedEnd) {
+                channel.truncate(end);
+                return;
+            }
+            ByteBuffer index = ByteBuffer.allocate(gameCount * Long.BYTES + GameArchive.TRAILER_BYTES);
+            index.asLongBuffer().put(offsets, 0, gameCount);
+            index.position(gameCount * Long.BYTES);
+            index.putInt(gameCount).putLong(end).putInt(GameArchive.MAGIC).flip();
+            writeFully(index, end);
+            channel.truncate(end + (long) gameCount * Long.BYTES + GameArchive.TRAILER_BYTES);
+        }
+        finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+/**
+ * GameListener is told about everything that happens in a GameSession it is added to (see
+ * GameSession.addListener): every move that is played, every turn that starts, and the end of the game. A console,
+ * a network connection, or a game record can each be a GameListener, so GameSession never needs to know how a game is
+ * shown or stored. Every method does nothing unless it is overridden, so a listener only implements the events it
+ * needs. Events are sent on the thread that submitted the move.
+ *
+ * @invariant [every call describes something that has already happened in the session]
+ */
+public interface GameListener {
+    /**
+     * Called after a move is played. Accepts three parameters.
+     * @param session The session the move was played in, as a GameSession
+     * @param player The standard piece of the player who moved, as a char
+     * @param move The move that was played, as a packed long (see Move)
+     *
+     * @pre session != null AND player = [player1 or player2] AND move != Move.NO_MOVE
+     *
+     * @post [the listener has handled the move]
+     */
+    default void movePlayed(GameSession session, char player, long move) {
+    }
+
+    /**
+     * Called when it becomes a player's turn, including the first turn of every game. Accepts two parameters.
+     * @param session The session whose turn changed, as a GameSession
+     * @param player The standard piece of the player to move, as a char
+     *
+     * @pre session != null AND player = [player1 or player2] AND session.getStatus() = IN_PROGRESS
+     *
+     * @post [the listener has handled the new turn]
+     */
+    default void turnStarted(GameSession session, char player) {
+    }
+
+    /**
+     * Called once when a game ends. Accepts three parameters.
+     * @param session The session whose game ended, as a GameSession
+     * @param status How the game ended, as a GameStatusEnum
+     * @param winner The standard piece of the winner, or NULL_POS for a draw, as a char
+     *
+     * @pre session != null AND status != IN_PROGRESS
+     *
+     * @post [the listener has handled the end of the game]
+     */
+    default void gameEnded(GameSession session, GameStatusEnum status, char winner) {
+    }
+}
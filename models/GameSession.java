@@ -0,0 +1,426 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameSession runs one game of checkers on an ICheckerBoard, without any input or output of its own. It keeps whose
+ * turn it is, plays the moves it is given (crowning pieces that reach the other side), and decides when the game is
+ * won or drawn. Moves are submitted with submitMove, which checks the move, plays it, and returns at once; a move that
+ * is not allowed is refused by returning false, so nothing ever waits on a player. Every move must be one of
+ * generateLegalMoves, so a capture can not be declined and a capture goes on for as long as the piece can keep jumping.
+ * A person gives a capture one jump at a time: the jumps are shown on the board as they are given, and the turn stays
+ * with the player until the capture is complete. Everything that happens is sent to the session's GameListeners,
+ * which is how a console, a tournament, or a game record follows the game; they only hear about complete moves.
+ *
+ * A player wins when the opponent has no pieces or no legal moves on their turn, and the game is drawn after
+ * NO_PROGRESS_PLIES plies in a row without a capture or a standard piece moving. A GameSession is not thread safe, but
+ * because it never blocks, one thread can run any number of sessions.
+ *
+ * @invariant board != null AND plyCount >= 0 AND 0 <= quietPlies <= NO_PROGRESS_PLIES AND [status = IN_PROGRESS
+ * exactly when winner = NULL_POS and the game is not drawn] AND [when partialMove != NO_MOVE, it is played on the
+ * board and moves[0, candidateCount) = the legal moves it begins]
+ */
+public class GameSession {
+    // represents the plies in a row without a capture or a standard piece moving after which the game is drawn
+    public static final int NO_PROGRESS_PLIES = 80;
+
+    /**
+     * the board the game is played on, and the geometry of its size
+     */
+    private final ICheckerBoard board;
+    private final SquareTable squares;
+
+    /**
+     * the buffer legal moves are generated into when a move is checked or the end of the game is looked for, which
+     * grows for a position with more legal moves than it holds
+     */
+    private long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+    /**
+     * the jumps given so far of a capture that is not complete, or NO_MOVE, and the number of legal moves of the
+     * position before it that begin with those jumps
+     */
+    private long partialMove = Move.NO_MOVE;
+    private int candidateCount;
+
+    /**
+     * the listeners every event is sent to, in the order they were added
+     */
+    private final List<GameListener> listeners = new ArrayList<>();
+
+    /**
+     * the state of the game: how it stands, who won, the plies played, and the plies since the last capture or
+     * standard piece move
+     */
+    private GameStatusEnum status;
+    private char winner;
+    private int plyCount;
+    private int quietPlies;
+
+    /**
+     * Constructor for GameSession object. The game continues from the position on the board, with the board's player
+     * to move. Accepts one parameter.
+     * @param aBoard The board to play on, with both players' pieces on it, as an ICheckerBoard
+     *
+     * @pre aBoard != null AND [aBoard has had putPlayersOnNewBoard called]
+     *
+     * @post board = aBoard AND plyCount = 0 AND quietPlies = 0 AND status = [PLAYER_ONE_WON or PLAYER_TWO_WON when the
+     * player to move has no legal moves, otherwise IN_PROGRESS]
+     */
+    public GameSession(ICheckerBoard aBoard) {
+        board = aBoard;
+        squares = SquareTable.forSize(board.getBoardSize());
+        status = GameStatusEnum.IN_PROGRESS;
+        winner = ICheckerBoard.NULL_POS;
+        checkForLoss();
+    }
+
+    /**
+     * Starts a new game on the same board with the same players: every piece goes back to its starting position and
+     * player one moves first. Listeners are told that the first turn has started.
+     *
+     * @pre None
+     *
+     * @post [the board holds the starting position] AND board.getPlayerToMove() = player1 AND status = IN_PROGRESS
+     * AND winner = NULL_POS AND plyCount = 0 AND quietPlies = 0 AND partialMove = NO_MOVE
+     */
+    public void newGame() {
+        board.putPlayersOnNewBoard(board.getPlayerOne(), board.getPlayerTwo());
+        partialMove = Move.NO_MOVE;
+        status = GameStatusEnum.IN_PROGRESS;
+        winner = ICheckerBoard.NULL_POS;
+        plyCount = 0;
+        quietPlies = 0;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).turnStarted(this, board.getPlayerToMove());
+        }
+    }
+
+    /**
+     * Adds a listener that is told about every later event. Accepts one parameter.
+     * @param listener The listener to add, as a GameListener
+     *
+     * @pre listener != null
+     *
+     * @post listeners = #listeners + [listener]
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener, so that it is told about no more events. Accepts one parameter.
+     * @param listener The listener to remove, as a GameListener
+     *
+     * @pre None
+     *
+     * @post listeners = #listeners - [listener]
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Plays a packed move for the player to move, when it is one of their legal moves. This is how a computer player,
+     * or anything else that works with whole moves (multi-jump captures included), takes its turn. Accepts one
+     * parameter.
+     * @param move The move to play, as a packed long (see Move)
+     * @return True when the move was played, and false when the game is over, a capture is partway through, or the
+     * move is not legal, as a boolean
+     *
+     * @pre None
+     *
+     * @post submitMove = [true when status was IN_PROGRESS, partialMove = NO_MOVE, and move is a legal move of the
+     * player to move] AND [when true, the move is played and the turn, status, and listeners are updated] AND [when
+     * false, nothing changes]
+     */
+    public boolean submitMove(long move) {
+        if (status != GameStatusEnum.IN_PROGRESS || partialMove != Move.NO_MOVE || move == Move.NO_MOVE) {
+            return false;
+        }
+        int count = generateMoves();
+        for (int i = 0; i < count; i++) {
+            if (moves[i] == move) {
+                play(move);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves one of the player to move's pieces one step in a direction, jumping the opponent's piece when there is one
+     * in the way. This is how a person takes a turn, so the step must begin one of the legal moves, or continue the
+     * capture already partway through. A jump that the capture must go on from is played on the board, but the turn
+     * stays with the player, who must then jump again with the same piece (see getJumpingPosition); the whole capture
+     * is played as one move once its last jump is given. Accepts two parameters.
+     * @param pos The board position of the piece to move, as a BoardPosition
+     * @param dir The direction to move the piece in, as a DirectionEnum
+     * @return True when the step was taken, and false when the game is over, the position is off the board, or no
+     * legal move takes the piece at pos that way next, as a boolean
+     *
+     * @pre pos != null AND dir != null
+     *
+     * @post submitMove = [true when status was IN_PROGRESS and the step is part of a legal move] AND [when true and
+     * the move is complete, it is played and the turn, status, and listeners are updated, and partialMove = NO_MOVE]
+     * AND [when true and the capture must go on, partialMove = #partialMove plus the jump, played on the board] AND
+     * [when false, nothing changes]
+     */
+    public boolean submitMove(BoardPosition pos, DirectionEnum dir) {
+        int boardSize = board.getBoardSize();
+        if (status != GameStatusEnum.IN_PROGRESS || pos.getRow() < 0 || pos.getRow() >= boardSize || pos.getColumn() < 0 || pos.getColumn() >= boardSize) {
+            return false;
+        }
+        int step = (partialMove == Move.NO_MOVE) ? 0 : Move.getStepCount(partialMove);
+        int count = (partialMove == Move.NO_MOVE) ? generateMoves() : candidateCount;
+        int matching = 0;
+        // keeps the legal moves that take this piece in this direction next
+        for (int i = 0; i < count; i++) {
+            if (startsAt(moves[i], pos.getSquare(boardSize)) && Move.getStepDirectionIndex(moves[i], step) == dir.ordinal()) {
+                moves[matching++] = moves[i];
+            }
+        }
+        if (matching == 0) {
+            return false;
+        }
+
+        char side = board.getPlayerToMove();
+        if (partialMove != Move.NO_MOVE) {
+            board.unmakeMove();
+        }
+        // a capture can never be the start of a longer one, so a match that ends here is the only match
+        if (Move.getStepCount(moves[0]) == step + 1) {
+            partialMove = Move.NO_MOVE;
+            play(moves[0]);
+            return true;
+        }
+        int square = Move.getFrom(moves[0]);
+        partialMove = Move.NO_MOVE;
+        for (int i = 0; i <= step; i++) {
+            int dirIndex = Move.getStepDirectionIndex(moves[0], i);
+            int to = squares.jump(square, dirIndex);
+            partialMove = (i == 0) ? Move.of(square, to, Move.direction(dirIndex), true) : Move.addJump(partialMove, to, Move.direction(dirIndex));
+            square = to;
+        }
+        candidateCount = matching;
+        board.makeMove(partialMove);
+        board.setPlayerToMove(side);
+        return true;
+    }
+
+    /**
+     * Finds the directions a piece of the player to move can be moved in next as part of a legal move: the first step
+     * of its moves, or the next jump of the capture partway through. Accepts one parameter.
+     * @param pos The board position of the piece, as a BoardPosition
+     * @return The directions, in the order the legal moves are generated, as an ArrayList of DirectionEnums
+     *
+     * @pre pos != null
+     *
+     * @post getLegalDirections = [every direction submitMove(pos, dir) accepts] AND [nothing changes]
+     */
+    public ArrayList<DirectionEnum> getLegalDirections(BoardPosition pos) {
+        ArrayList<DirectionEnum> directions = new ArrayList<>();
+        int boardSize = board.getBoardSize();
+        if (status != GameStatusEnum.IN_PROGRESS || pos.getRow() < 0 || pos.getRow() >= boardSize || pos.getColumn() < 0 || pos.getColumn() >= boardSize) {
+            return directions;
+        }
+        int step = (partialMove == Move.NO_MOVE) ? 0 : Move.getStepCount(partialMove);
+        int count = (partialMove == Move.NO_MOVE) ? generateMoves() : candidateCount;
+        for (int i = 0; i < count; i++) {
+            DirectionEnum dir = Move.getStepDirection(moves[i], step);
+            if (startsAt(moves[i], pos.getSquare(boardSize)) && !directions.contains(dir)) {
+                directions.add(dir);
+            }
+        }
+        return directions;
+    }
+
+    /**
+     * Simple accessor for the piece that is partway through a capture, which must make the next jump of the turn.
+     * @return The board position of the jumping piece, or null when no capture is partway through, as a BoardPosition
+     *
+     * @pre None
+     *
+     * @post getJumpingPosition = [the square partialMove ends on, or null when partialMove = NO_MOVE]
+     */
+    public BoardPosition getJumpingPosition() {
+        if (partialMove == Move.NO_MOVE) {
+            return null;
+        }
+        return BoardPosition.ofSquare(Move.getTo(partialMove), board.getBoardSize());
+    }
+
+    /**
+     * Checks whether a legal move is the one the next step of the piece on a square belongs to: one that starts on the
+     * square, or, partway through a capture, one that continues it from the square the piece has jumped to. Accepts
+     * two parameters.
+     * @param move A legal move, as a packed long (see Move)
+     * @param square The square of the piece, as an int
+     * @return True when the piece's next step can be part of move, as a boolean
+     *
+     * @pre [move is in moves[0, candidateCount) when partialMove != NO_MOVE]
+     *
+     * @post startsAt = [true when the next step of move is taken from square]
+     */
+    private boolean startsAt(long move, int square) {
+        if (partialMove == Move.NO_MOVE) {
+            return Move.getFrom(move) == square;
+        }
+        return Move.getTo(partialMove) == square;
+    }
+
+    /**
+     * Writes the legal moves of the player to move into the move buffer, first growing it when the position has more
+     * legal moves than it holds. Accepts no parameters.
+     * @return The number of legal moves, as an int
+     *
+     * @pre partialMove = NO_MOVE
+     *
+     * @post generateMoves = [the number of legal moves of the player to move] AND moves[0, generateMoves) = [every
+     * legal move] AND board = #board
+     */
+    private int generateMoves() {
+        int count = board.generateLegalMoves(board.getPlayerToMove(), moves);
+        if (count > moves.length) {
+            moves = new long[count];
+            board.generateLegalMoves(board.getPlayerToMove(), moves);
+        }
+        return count;
+    }
+
+    /**
+     * Plays a move that has already been checked, then passes the turn and decides whether the game is over, telling
+     * the listeners about each. Accepts one parameter.
+     * @param move The move to play, as a packed long (see Move)
+     *
+     * @pre status = IN_PROGRESS AND [move can be played by the player to move]
+     *
+     * @post [the move is played] AND plyCount = #plyCount + 1 AND quietPlies = [0 after a capture or a standard
+     * piece move, otherwise #quietPlies + 1] AND [status and winner show whether the game is over]
+     */
+    private void play(long move) {
+        char side = board.getPlayerToMove();
+        int movingType = board.pieceType(board.whatsAtSquare(Move.getFrom(move)));
+        // captures and standard piece moves can never be taken back, so they reset the draw count
+        boolean isProgress = Move.isCapture(move) || movingType == ICheckerBoard.PLAYER_ONE_TYPE || movingType == ICheckerBoard.PLAYER_TWO_TYPE;
+
+        board.makeMove(move);
+        plyCount++;
+        quietPlies = isProgress ? 0 : quietPlies + 1;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).movePlayed(this, side, move);
+        }
+
+        if (!checkForLoss() && quietPlies >= NO_PROGRESS_PLIES) {
+            status = GameStatusEnum.DRAW;
+        }
+        for (int i = 0; i < listeners.size(); i++) {
+            if (status == GameStatusEnum.IN_PROGRESS) {
+                listeners.get(i).turnStarted(this, board.getPlayerToMove());
+            }
+            else {
+                listeners.get(i).gameEnded(this, status, winner);
+            }
+        }
+    }
+
+    /**
+     * Ends the game when the player to move has no legal moves, which is also the case when they have no pieces.
+     * @return True when the player to move has lost, as a boolean
+     *
+     * @pre None
+     *
+     * @post checkForLoss = [true when the player to move has no legal moves] AND [when true, winner = the opponent and
+     * status = the opponent's win]
+     */
+    private boolean checkForLoss() {
+        char side = board.getPlayerToMove();
+        if (board.generateLegalMoves(side, moves) > 0) {
+            return false;
+        }
+        if (side == board.getPlayerOne()) {
+            winner = board.getPlayerTwo();
+            status = GameStatusEnum.PLAYER_TWO_WON;
+        }
+        else {
+            winner = board.getPlayerOne();
+            status = GameStatusEnum.PLAYER_ONE_WON;
+        }
+        return true;
+    }
+
+    /**
+     * Simple accessor for the board the game is played on. The board should only be changed through submitMove.
+     * @return The board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post getBoard = board
+     */
+    public ICheckerBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Simple accessor for the player whose turn it is.
+     * @return The standard piece of the player to move, as a char
+     *
+     * @pre None
+     *
+     * @post getPlayerToMove = board.getPlayerToMove()
+     */
+    public char getPlayerToMove() {
+        return board.getPlayerToMove();
+    }
+
+    /**
+     * Simple accessor for how the game stands.
+     * @return IN_PROGRESS, PLAYER_ONE_WON, PLAYER_TWO_WON, or DRAW, as a GameStatusEnum
+     *
+     * @pre None
+     *
+     * @post getStatus = status
+     */
+    public GameStatusEnum getStatus() {
+        return status;
+    }
+
+    /**
+     * Simple accessor for the winner of the game.
+     * @return The standard piece of the winner, or NULL_POS when the game is drawn or not over, as a char
+     *
+     * @pre None
+     *
+     * @post getWinner = winner
+     */
+    public char getWinner() {
+        return winner;
+    }
+
+    /**
+     * Simple accessor for the number of plies played since the session was made or the last new game.
+     * @return The number of plies played, as an int
+     *
+     * @pre None
+     *
+     * @post getPlyCount = plyCount
+     */
+    public int getPlyCount() {
+        return plyCount;
+    }
+
+    /**
+     * Simple accessor for the number of plies in a row without a capture or a standard piece moving.
+     * @return The number of quiet plies, as an int
+     *
+     * @pre None
+     *
+     * @post getQuietPlies = quietPlies
+     */
+    public int getQuietPlies() {
+        return quietPlies;
+    }
+}
@@ -2,6 +2,7 @@ package cpsc2150.extendedCheckers.models;
 
 import cpsc2150.extendedCheckers.util.DirectionEnum;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -15,7 +16,7 @@ import java.util.HashMap;
  * determine whether a piece has reached the opposite side of the board using pieceAtOtherSide.
  *
  * @defines self: the board
- *          pieces: the pieceCount of a player
+ *          pieces: the number of men and kings of a player
  *          boardSize: the BOARD_DIMENSION of the checkerboard
  *          player1: the name of playerOne
  *          player2: the name of playerTwo
@@ -37,6 +38,18 @@ public interface ICheckerBoard {
     char BLACK_TILE = '*';
     int EVEN_DIVISOR = 2;
     char NULL_POS = '\0';
+    // represents a move buffer that holds every move generateMoves can write (four per square of a 16x16 board), and
+    // the legal moves of every position of ordinary play; a position with more legal captures than this is possible,
+    // and generateLegalMoves reports it by returning more moves than fit (see generateLegalMoves)
+    int MOVE_BUFFER_SIZE = 512;
+    int MIN_BOARD_SIZE = 8;
+    int MAX_BOARD_SIZE = 16;
+    // represents the types of pieces, used to index per-piece tables such as the Zobrist keys
+    int NO_PIECE_TYPE = -1;
+    int PLAYER_ONE_TYPE = 0;
+    int PLAYER_ONE_KING_TYPE = 1;
+    int PLAYER_TWO_TYPE = 2;
+    int PLAYER_TWO_KING_TYPE = 3;
 
     /**
      * Fills in a new, current version of the checkerboard with player pieces. This method utilizes the provided
@@ -48,10 +61,10 @@ public interface ICheckerBoard {
      * @pre playerOnePiece != null AND playerTwoPiece != null AND CheckersFE.PIECE_LETTER_MIN < playerOnePiece <
      * CheckersFE.PIECE_LETTER_MAX AND CheckersFE.PIECE_LETTER_MIN < playerTwoPiece < CheckersFE.PIECE_LETTER_MAX
      *
-     * @post putPlayersOnNewBoard = [board that's filled in] AND pieceCount = pieceCount++ AND viableDirections =
-     * [a starting list of viableDirections for each player] AND self = #self AND pieces = #pieces AND boardSize
-     * = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King
-     * = #player2King AND directions = #directions
+     * @post putPlayersOnNewBoard = [board that's filled in] AND pieces = [the starting pieces of each player] AND
+     * viableDirections = [a starting list of viableDirections for each player] AND self = #self AND boardSize =
+     * #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King =
+     * #player2King AND directions = #directions
      */
     public void putPlayersOnNewBoard(char playerOnePiece, char playerTwoPiece);
 
@@ -68,7 +81,9 @@ public interface ICheckerBoard {
     HashMap<Character, ArrayList<DirectionEnum>> getViableDirections();
 
     /**
-     * Simple accessor for the pieceCount HashMap.
+     * Accessor for the number of pieces each player has, as a HashMap keyed by each player's standard piece. The
+     * counts themselves are kept as primitives (see getMenCount and getKingCount); the HashMap is only a view of them
+     * for callers that want one, and changing it does not change the board.
      * @return A player's piece count, as a HashMap containing a Character and an Integer
      *
      * @pre None
@@ -79,6 +94,47 @@ public interface ICheckerBoard {
      */
     HashMap<Character, Integer> getPieceCounts();
 
+    /**
+     * Simple accessor for the number of standard (uncrowned) pieces a player has on the board. Accepts one parameter.
+     * @param player The player (or that player's king), as a char
+     * @return The number of the player's standard pieces, or 0 when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post getMenCount = [the number of the player's standard pieces] AND self = #self AND pieces = #pieces AND
+     * boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    int getMenCount(char player);
+
+    /**
+     * Simple accessor for the number of kings a player has on the board. Accepts one parameter.
+     * @param player The player (or that player's king), as a char
+     * @return The number of the player's kings, or 0 when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post getKingCount = [the number of the player's kings] AND self = #self AND pieces = #pieces AND boardSize =
+     * #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King =
+     * #player2King AND directions = #directions
+     */
+    int getKingCount(char player);
+
+    /**
+     * Simple accessor for the number of pieces, standard and kings, a player has on the board. Accepts one parameter.
+     * @param player The player (or that player's king), as a char
+     * @return The number of the player's pieces, or 0 when the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post getPieceCount = getMenCount(player) + getKingCount(player) AND self = #self AND pieces = #pieces AND
+     * boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    default int getPieceCount(char player) {
+        return getMenCount(player) + getKingCount(player);
+    }
+
     /**
      * Calculates a new position given a chosen direction. Accepts one parameter.
      * @param dir The chosen direction the player wants to move their piece in, as a DirectionEnum
@@ -91,11 +147,11 @@ public interface ICheckerBoard {
      */
     static BoardPosition getDirection(DirectionEnum dir) {
         return switch (dir) {
-            // initializes the directions around the current BoardPosition with new BoardPositions
-            case NE -> new BoardPosition(-1, 1);
-            case NW -> new BoardPosition(-1, -1);
-            case SE -> new BoardPosition(1, 1);
-            case SW -> new BoardPosition(1, -1);
+            // finds the offset of each direction among the shared BoardPositions
+            case NE -> BoardPosition.of(-1, 1);
+            case NW -> BoardPosition.of(-1, -1);
+            case SE -> BoardPosition.of(1, 1);
+            case SW -> BoardPosition.of(1, -1);
         };
     }
 
@@ -124,7 +180,7 @@ public interface ICheckerBoard {
     int getColNum();
 
     /**
-     * Sets a given BoardPosition equal to the char given by player. Also, updates pieceCount. Accepts two parameters.
+     * Sets a given BoardPosition equal to the char given by player. Also, updates pieces. Accepts two parameters.
      * @param pos The current position on the checkerboard, as a BoardPosition
      * @param player The letter that represents a player's name and pieces, as a char
      *
@@ -151,6 +207,68 @@ public interface ICheckerBoard {
      */
     char whatsAtPos(BoardPosition pos);
 
+    /**
+     * Sets the listener that is told about every piece placed on or removed from the board, including every step of
+     * makeMove and unmakeMove, so that it can keep its own summary of the position up to date. Only one listener is
+     * kept. Accepts one parameter.
+     * @param listener The listener, or null to stop telling one, as a PositionListener
+     *
+     * @pre None
+     *
+     * @post [listener is told about every later change to the pieces] AND self = #self AND pieces = #pieces AND
+     * boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    void setPositionListener(PositionListener listener);
+
+    /**
+     * Writes the visual representation of the checkerboard (the same text as toString) into an Appendable, so that a
+     * caller can render boards into one reusable buffer or straight into a stream. Accepts one parameter.
+     * @param out Where the board is written, as an Appendable
+     * @throws IOException When out fails to append
+     *
+     * @pre out != null
+     *
+     * @post [out has the board's text appended to it] AND self = #self AND pieces = #pieces AND boardSize =
+     * #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King =
+     * #player2King AND directions = #directions
+     */
+    void renderTo(Appendable out) throws IOException;
+
+    /**
+     * A standard accessor for a row and column of the checkerboard that does not need a BoardPosition. Identifies the
+     * character located at the given row and column. Accepts two parameters.
+     * @param row The row number of the position, as an int
+     * @param column The column number of the position, as an int
+     * @return What is located at the provided row and column, as a char
+     *
+     * @pre 0 <= row < boardSize AND 0 <= column < boardSize
+     *
+     * @post whatsAtPos = [what is located at row and column in boardArray] AND self = #self AND pieces = #pieces AND
+     * boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    default char whatsAtPos(int row, int column) {
+        return whatsAtPos(BoardPosition.of(row, column));
+    }
+
+    /**
+     * A standard accessor for a playable square number (see BoardPosition.toSquare), for code that walks the board
+     * through a SquareTable. Identifies the character located on the square. Accepts one parameter.
+     * @param square The playable square number, as an int
+     * @return What is located on the provided square, as a char
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2
+     *
+     * @post whatsAtSquare = [what is located at the square's row and column in boardArray] AND self = #self AND pieces
+     * = #pieces AND boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King =
+     * #player1King AND player2King = #player2King AND directions = #directions
+     */
+    default char whatsAtSquare(int square) {
+        SquareTable table = SquareTable.forSize(getBoardSize());
+        return whatsAtPos(table.row(square), table.column(square));
+    }
+
     /**
      * Checks if a player has won the game of checkers. Accepts one parameter.
      * @param player The player that is being evaluated to see if they won, as a Character
@@ -165,16 +283,15 @@ public interface ICheckerBoard {
      */
     default boolean checkPlayerWin(Character player) {
         boolean playerWon = false;
-        HashMap<Character, Integer> pieces = getPieceCounts();
         // when it's player1's turn and player2 doesn't have any pieces left, player1 wins
         if (player == getPlayerOne() || player == getPlayerOneKing()) {
-            if (pieces.get(getPlayerTwo()) == 0) {
+            if (getPieceCount(getPlayerTwo()) == 0) {
                 playerWon = true;
             }
         }
         // when it's player2's turn and player1 doesn't have any pieces left, player1 wins
         else if (player == getPlayerTwo() || player == getPlayerTwoKing()) {
-            if (pieces.get(getPlayerOne()) == 0) {
+            if (getPieceCount(getPlayerOne()) == 0) {
                 playerWon = true;
             }
         }
@@ -222,8 +339,8 @@ public interface ICheckerBoard {
      */
     default BoardPosition movePiece(BoardPosition startingPos, DirectionEnum dir) {
         char piece = whatsAtPos(startingPos);
-        // calculates the new BoardPosition the piece will move to, given a direction
-        BoardPosition newPos = new BoardPosition(startingPos.getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn());
+        // finds the BoardPosition the piece will move to, given a direction
+        BoardPosition newPos = BoardPosition.of(startingPos.getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn());
         // removes the piece from where it started
         removePiece(startingPos);
         // places the piece that was moved in the new BoardPosition
@@ -236,8 +353,8 @@ public interface ICheckerBoard {
      * Accepts two parameters.
      * @param startingPos The player's current position on the checkerboard, as a BoardPosition
      * @param dir The direction the player's piece will move in, as a DirectionEnum
-     * @return The new position that a player's piece jumped to, as a BoardPosition. Also, removes one piece
-     * from the opponent's pieceCount
+     * @return The new position that a player's piece jumped to, as a BoardPosition. Also, removes one piece from the
+     * opponent's pieces
      *
      * @pre startingPos != null AND dir != null AND 0 <= [position row number] < boardSize AND 0 <=
      * [position column number] < boardSize
@@ -250,9 +367,9 @@ public interface ICheckerBoard {
         char piece = whatsAtPos(startingPos);
 
         // calculates the new position of a player's piece after it jumps an opponent's piece
-        BoardPosition newPos = new BoardPosition(startingPos.getRow() + getDirection(dir).getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn() + getDirection(dir).getColumn());
+        BoardPosition newPos = BoardPosition.of(startingPos.getRow() + getDirection(dir).getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn() + getDirection(dir).getColumn());
         // locates the position of the opponent's piece that is being captured
-        BoardPosition posToCapture = new BoardPosition(startingPos.getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn());
+        BoardPosition posToCapture = BoardPosition.of(startingPos.getRow() + getDirection(dir).getRow(), startingPos.getColumn() + getDirection(dir).getColumn());
         // remove the player's piece
         removePiece(startingPos);
         // places the player's piece that just jumped in the new position
@@ -289,32 +406,16 @@ public interface ICheckerBoard {
      */
     default HashMap<DirectionEnum, Character> scanSurroundingPositions(BoardPosition startingPos) {
         HashMap<DirectionEnum, Character> resultMap = new HashMap<>();
-        BoardPosition pos;
-        BoardPosition dirPos;
-
-        // checks the area surrounding NE
-        pos = getDirection(DirectionEnum.NE);
-        dirPos = new BoardPosition(startingPos.getRow() + pos.getRow(), startingPos.getColumn() + pos.getColumn());
-        if ((dirPos.getRow() >= 0) && (dirPos.getColumn() < getBoardSize())) {
-            resultMap.put(DirectionEnum.NE, whatsAtPos(dirPos));
-        }
-        // checks the area surrounding NW
-        pos = getDirection(DirectionEnum.NW);
-        dirPos = new BoardPosition(startingPos.getRow() + pos.getRow(), startingPos.getColumn() + pos.getColumn());
-        if ((dirPos.getRow() >= 0) && (dirPos.getColumn() >= 0)) {
-            resultMap.put(DirectionEnum.NW, whatsAtPos(dirPos));
-        }
-        // checks the area surrounding SE
-        pos = getDirection(DirectionEnum.SE);
-        dirPos = new BoardPosition(startingPos.getRow() + pos.getRow(), startingPos.getColumn() + pos.getColumn());
-        if ((dirPos.getRow() < getBoardSize()) && (dirPos.getColumn() < getBoardSize())) {
-            resultMap.put(DirectionEnum.SE, whatsAtPos(dirPos));
-        }
-        // checks the area surrounding SW
-        pos = getDirection(DirectionEnum.SW);
-        dirPos = new BoardPosition(startingPos.getRow() + pos.getRow(), startingPos.getColumn() + pos.getColumn());
-        if ((dirPos.getRow() < getBoardSize()) && (dirPos.getColumn() >= 0)) {
-            resultMap.put(DirectionEnum.SW, whatsAtPos(dirPos));
+        SquareTable table = SquareTable.forSize(getBoardSize());
+        int square = startingPos.getSquare(getBoardSize());
+        int neighbor;
+
+        // checks the area surrounding every direction, skipping the directions that lead off the board
+        for (int dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+            neighbor = table.neighbor(square, dir);
+            if (neighbor != SquareTable.OFF_BOARD) {
+                resultMap.put(Move.direction(dir), whatsAtSquare(neighbor));
+            }
         }
         return resultMap;
     }
@@ -335,7 +436,9 @@ public interface ICheckerBoard {
         char player, opponent, opponentKing;
         boolean isPlayerKing, isPlayerOne, isPlayerTwo;
         ArrayList<DirectionEnum> possibleDirections = new ArrayList<>();
-        int row, column;
+        SquareTable table = SquareTable.forSize(getBoardSize());
+        int square = pos.getSquare(getBoardSize());
+        int landing;
 
         // gets information about the player and determines the opponent
         player = whatsAtPos(pos);
@@ -370,30 +473,26 @@ public interface ICheckerBoard {
 
         // checks the surrounding positions past the initial surrounding positions of a board position to check if a jump can occur (a jump could happen when this position is empty)
         if (surroundingArea.containsKey(DirectionEnum.NE) && ((surroundingArea.get(DirectionEnum.NE) == opponent) || (surroundingArea.get(DirectionEnum.NE) == opponentKing)) && (isPlayerTwo || isPlayerKing)) {
-            row = pos.getRow() - TWO_POSITIONS;
-            column = pos.getColumn() + TWO_POSITIONS;
-            if (row >= 0 && column < getBoardSize() && whatsAtPos(new BoardPosition(row, column)) == EMPTY_POS) {
+            landing = table.jump(square, DirectionEnum.NE.ordinal());
+            if (landing != SquareTable.OFF_BOARD && whatsAtSquare(landing) == EMPTY_POS) {
                 possibleDirections.add(DirectionEnum.NE);
             }
         }
         if (surroundingArea.containsKey(DirectionEnum.NW) && ((surroundingArea.get(DirectionEnum.NW) == opponent) || (surroundingArea.get(DirectionEnum.NW) == opponentKing)) && (isPlayerTwo || isPlayerKing)) {
-            row = pos.getRow() - TWO_POSITIONS;
-            column = pos.getColumn() - TWO_POSITIONS;
-            if (row >= 0 && column >= 0 && whatsAtPos(new BoardPosition(row, column)) == EMPTY_POS) {
+            landing = table.jump(square, DirectionEnum.NW.ordinal());
+            if (landing != SquareTable.OFF_BOARD && whatsAtSquare(landing) == EMPTY_POS) {
                 possibleDirections.add(DirectionEnum.NW);
             }
         }
         if (surroundingArea.containsKey(DirectionEnum.SE) && ((surroundingArea.get(DirectionEnum.SE) == opponent) || (surroundingArea.get(DirectionEnum.SE) == opponentKing)) && (isPlayerOne || isPlayerKing)) {
-            row = pos.getRow() + TWO_POSITIONS;
-            column = pos.getColumn() + TWO_POSITIONS;
-            if (row < getBoardSize() && column < getBoardSize() && whatsAtPos(new BoardPosition(row, column)) == EMPTY_POS) {
+            landing = table.jump(square, DirectionEnum.SE.ordinal());
+            if (landing != SquareTable.OFF_BOARD && whatsAtSquare(landing) == EMPTY_POS) {
                 possibleDirections.add(DirectionEnum.SE);
             }
         }
         if (surroundingArea.containsKey(DirectionEnum.SW) && ((surroundingArea.get(DirectionEnum.SW) == opponent) || (surroundingArea.get(DirectionEnum.SW) == opponentKing)) && (isPlayerOne || isPlayerKing)) {
-            row = pos.getRow() + TWO_POSITIONS;
-            column = pos.getColumn() - TWO_POSITIONS;
-            if (row < getBoardSize() && column >= 0 && whatsAtPos(new BoardPosition(row, column)) == EMPTY_POS) {
+            landing = table.jump(square, DirectionEnum.SW.ordinal());
+            if (landing != SquareTable.OFF_BOARD && whatsAtSquare(landing) == EMPTY_POS) {
                 possibleDirections.add(DirectionEnum.SW);
             }
         }
@@ -403,8 +502,248 @@ public interface ICheckerBoard {
     }
 
     /**
-     * Checks whether a piece has reached the opposite side of the board. This is row 0 for player2 and row boardSize
-     * for player1. Accepts one parameter.
+     * Writes every move that the pieces of one side can make into a caller-supplied buffer of packed moves (see
+     * Move). A move is a step onto an empty diagonal neighbor or a jump over an opponent's piece onto the empty
+     * position behind it, in the same directions determineViableDirections allows for that piece. Unlike
+     * determineViableDirections, this method covers the whole side at once, does not change viableDirections, and
+     * creates no objects, so that bots can call it for every position they search. Accepts two parameters.
+     * @param player The player (or that player's king) whose moves are generated, as a char
+     * @param moves The buffer the packed moves are written into, starting at index 0, as a long[]
+     * @return The number of moves written into the buffer, as an int
+     *
+     * @pre player = [player1, player2, player1King, or player2King] AND moves != null AND moves.length >=
+     * [number of moves available to the side] (MOVE_BUFFER_SIZE is always enough, as a piece has at most four moves)
+     *
+     * @post generateMoves = [the number of moves written] AND moves[0, generateMoves) = [every move available to the
+     * side] AND self = #self AND pieces = #pieces AND boardSize = #boardSize AND player1 = #player1 AND player2 =
+     * #player2 AND player1King = #player1King AND player2King = #player2King AND directions = #directions
+     */
+    default int generateMoves(char player, long[] moves) {
+        int boardSize = getBoardSize();
+        boolean isPlayerOne = (player == getPlayerOne() || player == getPlayerOneKing());
+        char man = isPlayerOne ? getPlayerOne() : getPlayerTwo();
+        char king = isPlayerOne ? getPlayerOneKing() : getPlayerTwoKing();
+        char opponent = isPlayerOne ? getPlayerTwo() : getPlayerOne();
+        char opponentKing = isPlayerOne ? getPlayerTwoKing() : getPlayerOneKing();
+        SquareTable table = SquareTable.forSize(boardSize);
+        int squareCount = table.getSquareCount();
+        int count = 0;
+        int dir, step, jump, from;
+        boolean isKing;
+        char piece, target;
+
+        // only playable squares can hold a piece, so the squares of the table are all that is walked
+        for (from = 0; from < squareCount; from++) {
+            piece = whatsAtSquare(from);
+            if (piece != man && piece != king) {
+                continue;
+            }
+            isKing = (piece == king && king != man);
+            for (dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+                // player one's standard pieces move south and player two's standard pieces move north
+                if (!isKing && (Move.rowStep(dir) < 0) == isPlayerOne) {
+                    continue;
+                }
+                step = table.neighbor(from, dir);
+                if (step == SquareTable.OFF_BOARD) {
+                    continue;
+                }
+                target = whatsAtSquare(step);
+                // an empty neighbor can be moved into
+                if (target == EMPTY_POS) {
+                    moves[count++] = Move.of(from, step, Move.direction(dir), false);
+                }
+                // an opponent's neighbor can be jumped when the position behind it is empty
+                else if (target == opponent || target == opponentKing) {
+                    jump = table.jump(from, dir);
+                    if (jump != SquareTable.OFF_BOARD && whatsAtSquare(jump) == EMPTY_POS) {
+                        moves[count++] = Move.of(from, jump, Move.direction(dir), true);
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes every legal move for one side into a caller-supplied buffer of packed moves (see Move), following the
+     * full rules of the game in a single pass over the board. When any piece of the side can jump, only captures are
+     * legal. A capture always continues for as long as the piece can keep jumping, so each capture holds its complete
+     * chain of jumps, with one move per distinct chain. A standard piece that reaches the opposite side of the board
+     * during a capture is crowned and its move ends there. Jumped pieces count as removed for the rest of the chain,
+     * so a piece is never jumped twice.
+     *
+     * The number of distinct chains grows very quickly with the pieces a king can zigzag through on a large board, so
+     * a position can have more legal moves than MOVE_BUFFER_SIZE, or than any buffer given. No move is ever written
+     * past the end of the buffer: the number of legal moves is returned whether or not they all fit, and a caller
+     * that gets back more than moves.length calls again with a buffer at least that long. Accepts two parameters.
+     * @param player The player (or that player's king) whose moves are generated, as a char
+     * @param moves The buffer the packed moves are written into, starting at index 0, as a long[]
+     * @return The number of legal moves available to the side, which is larger than moves.length when they did not
+     * all fit, as an int
+     * @throws IllegalStateException When a capture goes on for more than Move.MAX_STEPS jumps, which can not be packed
+     * into a move
+     *
+     * @pre player = [player1, player2, player1King, or player2King] AND moves != null
+     *
+     * @post generateLegalMoves = [the number of legal moves available to the side] AND moves[0, min(generateLegalMoves,
+     * moves.length)) = [the first of those moves] AND self = #self AND pieces = #pieces AND boardSize = #boardSize AND
+     * player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King = #player2King AND
+     * directions = #directions
+     */
+    default int generateLegalMoves(char player, long[] moves) {
+        int boardSize = getBoardSize();
+        boolean isPlayerOne = (player == getPlayerOne() || player == getPlayerOneKing());
+        char man = isPlayerOne ? getPlayerOne() : getPlayerTwo();
+        char king = isPlayerOne ? getPlayerOneKing() : getPlayerTwoKing();
+        char opponent = isPlayerOne ? getPlayerTwo() : getPlayerOne();
+        char opponentKing = isPlayerOne ? getPlayerTwoKing() : getPlayerOneKing();
+        SquareTable table = SquareTable.forSize(boardSize);
+        int squareCount = table.getSquareCount();
+        boolean captureFound = false, isKing;
+        int count = 0, capturesBefore;
+        int dir, step, from;
+        char piece;
+
+        for (from = 0; from < squareCount; from++) {
+            piece = whatsAtSquare(from);
+            if (piece != man && piece != king) {
+                continue;
+            }
+            isKing = (piece == king && king != man);
+
+            // the first capture found makes every simple move written so far illegal
+            capturesBefore = captureFound ? count : 0;
+            int afterJumps = addJumps(table, from, from, isKing, isPlayerOne, opponent, opponentKing, 0L, 0L, Move.NO_MOVE, moves, capturesBefore);
+            if (afterJumps > capturesBefore) {
+                captureFound = true;
+                count = afterJumps;
+                continue;
+            }
+            if (captureFound) {
+                continue;
+            }
+            // simple moves are only written while no capture has been found
+            for (dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+                if (!isKing && (Move.rowStep(dir) < 0) == isPlayerOne) {
+                    continue;
+                }
+                step = table.neighbor(from, dir);
+                if (step != SquareTable.OFF_BOARD && whatsAtSquare(step) == EMPTY_POS) {
+                    if (count < moves.length) {
+                        moves[count] = Move.of(from, step, Move.direction(dir), false);
+                    }
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Extends a capture from the position a piece has landed on, writing every complete chain of jumps into the
+     * buffer, as far as it has room, and counting the rest. Squares of pieces already jumped in the chain, and the
+     * square the piece started from, are treated as empty. Accepts twelve parameters.
+     * @param table The neighbors and jump landing squares of the board's size, as a SquareTable
+     * @param square The square the piece is currently on, as an int
+     * @param from The square the piece started the move on, as an int
+     * @param isKing True when the moving piece is a king, as a boolean
+     * @param isPlayerOne True when the moving piece belongs to player one, as a boolean
+     * @param opponent The opponent's standard piece, as a char
+     * @param opponentKing The opponent's king piece, as a char
+     * @param capturedLow The jumped squares 0 to 63, as bits of a long
+     * @param capturedHigh The jumped squares 64 to 127, as bits of a long
+     * @param move The capture so far, or Move.NO_MOVE before the first jump, as a long
+     * @param moves The buffer the complete captures are written into, as a long[]
+     * @param count The number of moves already found, as an int
+     * @return The number of moves found after the complete captures are counted, as an int
+     * @throws IllegalStateException When a capture goes on for more than Move.MAX_STEPS jumps
+     *
+     * @pre table = SquareTable.forSize(boardSize) AND 0 <= square < boardSize * boardSize / 2 AND moves != null
+     *
+     * @post addJumps = [count plus the number of complete captures that continue from square] AND moves[count,
+     * min(addJumps, moves.length)) = [the first of those captures] AND self =
+     * #self AND pieces = #pieces AND boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND
+     * player1King = #player1King AND player2King = #player2King AND directions = #directions
+     */
+    private int addJumps(SquareTable table, int square, int from, boolean isKing, boolean isPlayerOne, char opponent, char opponentKing,
+                         long capturedLow, long capturedHigh, long move, long[] moves, int count) {
+        int crownRow = isPlayerOne ? table.getBoardSize() - 1 : 0;
+        boolean extended = false;
+        int dir, over, to;
+        char target, landing;
+        long next;
+
+        for (dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+            if (!isKing && (Move.rowStep(dir) < 0) == isPlayerOne) {
+                continue;
+            }
+            to = table.jump(square, dir);
+            if (to == SquareTable.OFF_BOARD) {
+                continue;
+            }
+            over = table.neighbor(square, dir);
+            // a piece that was already jumped in this chain counts as removed
+            if (isSquareSet(capturedLow, capturedHigh, over)) {
+                continue;
+            }
+            target = whatsAtSquare(over);
+            if (target != opponent && target != opponentKing) {
+                continue;
+            }
+            landing = whatsAtSquare(to);
+            if (landing != EMPTY_POS && to != from && !isSquareSet(capturedLow, capturedHigh, to)) {
+                continue;
+            }
+
+            extended = true;
+            // a chain that must go on past the longest capture a move can hold can not be played as a shorter one
+            if (move != Move.NO_MOVE && Move.getStepCount(move) == Move.MAX_STEPS) {
+                throw new IllegalStateException("a capture from square " + from + " has more than " + Move.MAX_STEPS + " jumps");
+            }
+            next = (move == Move.NO_MOVE) ? Move.of(from, to, Move.direction(dir), true) : Move.addJump(move, to, Move.direction(dir));
+            // a standard piece that is crowned ends its move
+            if (!isKing && table.row(to) == crownRow) {
+                if (count < moves.length) {
+                    moves[count] = next;
+                }
+                count++;
+            }
+            else if (over < Long.SIZE) {
+                count = addJumps(table, to, from, isKing, isPlayerOne, opponent, opponentKing, capturedLow | (1L << over), capturedHigh, next, moves, count);
+            }
+            else {
+                count = addJumps(table, to, from, isKing, isPlayerOne, opponent, opponentKing, capturedLow, capturedHigh | (1L << over), next, moves, count);
+            }
+        }
+        // the chain is complete once no further jump is possible
+        if (!extended && move != Move.NO_MOVE) {
+            if (count < moves.length) {
+                moves[count] = move;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether a square's bit is set in a pair of longs covering squares 0 to 127. Accepts three parameters.
+     * @param low The bits for squares 0 to 63, as a long
+     * @param high The bits for squares 64 to 127, as a long
+     * @param square The square number, as an int
+     * @return True when the square's bit is set and false otherwise, as a boolean
+     *
+     * @pre 0 <= square < 128
+     *
+     * @post isSquareSet = [true when the square's bit is set]
+     */
+    private static boolean isSquareSet(long low, long high, int square) {
+        return (((square < Long.SIZE) ? low : high) & (1L << square)) != 0;
+    }
+
+    /**
+     * Checks whether a standard piece has reached the opposite side of the board. This is row 0 for player2 and row
+     * boardSize for player1. Kings and empty positions are never at the other side. Accepts one parameter.
      * @param pos The board position of the piece the player is moving, as a BoardPosition
      * @return True when a piece reaches the farthest opposite row on the board and false otherwise
      *
@@ -421,8 +760,8 @@ public interface ICheckerBoard {
         if (whatsAtPos(pos) == getPlayerOne()) {
             atOtherSide = pos.getRow() == (getBoardSize() - 1);
         }
-        // true when player two reaches the top of the board
-        else {
+        // true when player two reaches the top of the board. Kings are already crowned, so they never count
+        else if (whatsAtPos(pos) == getPlayerTwo()) {
             atOtherSide = pos.getRow() == 0;
         }
         return atOtherSide;
@@ -442,6 +781,126 @@ public interface ICheckerBoard {
      */
     void setViableDirections(char player, ArrayList<DirectionEnum> possibleDirections);
 
+    /**
+     * Simple accessor for the 64-bit Zobrist hash of the current position. The hash covers every piece on a playable
+     * square and the player to move, and it is kept up to date by placePiece, removePiece, crownPiece, movePiece,
+     * jumpPiece, and setPlayerToMove, so reading it costs nothing.
+     * @return The hash of the current position, as a long
+     *
+     * @pre None
+     *
+     * @post hash = [the XOR of the Zobrist keys of every piece on the board, and Zobrist.SIDE_KEY when player2 is to
+     * move] AND self = #self AND pieces = #pieces AND boardSize = #boardSize AND player1 = #player1 AND player2 =
+     * #player2 AND player1King = #player1King AND player2King = #player2King AND directions = #directions
+     */
+    long hash();
+
+    /**
+     * Simple accessor for the player whose turn it is.
+     * @return The standard piece of the player to move, as a char. Player one moves first.
+     *
+     * @pre None
+     *
+     * @post getPlayerToMove = [player1 or player2] AND self = #self AND pieces = #pieces AND boardSize = #boardSize AND
+     * player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King = #player2King AND
+     * directions = #directions
+     */
+    char getPlayerToMove();
+
+    /**
+     * Simple setter for the player whose turn it is. Also, updates the hash when the turn changes. Accepts one
+     * parameter.
+     * @param player The player (or that player's king) to move, as a char
+     *
+     * @pre player = [player1, player2, player1King, or player2King]
+     *
+     * @post getPlayerToMove = [the standard piece of player] AND [hash includes Zobrist.SIDE_KEY only when player2 is
+     * to move] AND self = #self AND pieces = #pieces AND boardSize = #boardSize AND player1 = #player1 AND player2 =
+     * #player2 AND player1King = #player1King AND player2King = #player2King AND directions = #directions
+     */
+    void setPlayerToMove(char player);
+
+    /**
+     * Finds the type of a piece, so that per-piece tables can be indexed by it. Accepts one parameter.
+     * @param piece The piece, as a char
+     * @return PLAYER_ONE_TYPE, PLAYER_ONE_KING_TYPE, PLAYER_TWO_TYPE, or PLAYER_TWO_KING_TYPE, or NO_PIECE_TYPE when
+     * the char is not a player's piece, as an int
+     *
+     * @pre None
+     *
+     * @post pieceType = [the type of the piece, or NO_PIECE_TYPE] AND self = #self AND pieces = #pieces AND boardSize
+     * = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King =
+     * #player2King AND directions = #directions
+     */
+    default int pieceType(char piece) {
+        if (piece == NULL_POS || piece == EMPTY_POS || piece == BLACK_TILE) {
+            return NO_PIECE_TYPE;
+        }
+        else if (piece == getPlayerOne()) {
+            return PLAYER_ONE_TYPE;
+        }
+        else if (piece == getPlayerOneKing()) {
+            return PLAYER_ONE_KING_TYPE;
+        }
+        else if (piece == getPlayerTwo()) {
+            return PLAYER_TWO_TYPE;
+        }
+        else if (piece == getPlayerTwoKing()) {
+            return PLAYER_TWO_KING_TYPE;
+        }
+        return NO_PIECE_TYPE;
+    }
+
+    /**
+     * Makes an independent copy of the board, of the same implementation. The copy has the same players, the same
+     * pieces on the same positions, the same player to move, the same hash, and its own viableDirections, so that
+     * changing either board never changes the other.
+     * @return A copy of the board, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post copy = [a new board equal to self that shares no state with self] AND self = #self AND pieces = #pieces
+     * AND boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    ICheckerBoard copy();
+
+    /**
+     * Plays a packed move (see Move) so that it can be taken back with unmakeMove. The moving piece is lifted, every
+     * piece it jumps is removed, and it is put down on its last square, crowned when a standard piece reaches the
+     * opposite side of the board. Then the turn passes to the opponent. Accepts one parameter.
+     * @param move The packed move to play, as a long
+     *
+     * @pre [move was generated for the player to move on the current board]
+     *
+     * @post [the move is played on self] AND [the player to move is the opponent] AND getUndoDepth = #getUndoDepth + 1
+     * AND boardSize = #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND
+     * player2King = #player2King AND directions = #directions
+     */
+    void makeMove(long move);
+
+    /**
+     * Takes back the last move played with makeMove, restoring the moving piece (uncrowned if it was crowned), every
+     * captured piece, the piece counts, the player to move, and the hash exactly.
+     *
+     * @pre getUndoDepth > 0 AND [the board was only changed through makeMove and unmakeMove since that move]
+     *
+     * @post [self is the same as before the last move was made] AND getUndoDepth = #getUndoDepth - 1 AND boardSize =
+     * #boardSize AND player1 = #player1 AND player2 = #player2 AND player1King = #player1King AND player2King =
+     * #player2King AND directions = #directions
+     */
+    void unmakeMove();
+
+    /**
+     * Simple accessor for the number of moves played with makeMove that have not been taken back.
+     * @return The number of moves that unmakeMove can take back, as an int
+     *
+     * @pre None
+     *
+     * @post getUndoDepth = [the number of moves on the undo stack] AND self = #self
+     */
+    int getUndoDepth();
+
     /**
      * Simple accessor for the board size of the game's checkerboard.
      * @return The checkerBoard's maximum dimension, as an int
@@ -0,0 +1,261 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+
+/**
+ * Move is a collection of static methods for packing a checkers move into a single long, so that moves can be
+ * written into a primitive long[] buffer without creating objects. Squares are the playable square numbers given by
+ * BoardPosition.toSquare. A packed move holds the starting square, the ending square, whether the move captures, the
+ * number of steps the piece takes, and the DirectionEnum of every step, so the path of a capture (and every captured
+ * piece) can be rebuilt from the move and the board size.
+ *
+ * Bit layout of a move: [0, 8) from square, [8, 16) to square, [16] capture flag, [17, 22) step count, and
+ * [22, 64) two bits per step holding the DirectionEnum ordinal of that step.
+ *
+ * @invariant 0 <= [step count] <= MAX_STEPS AND [a move that is not a capture has exactly one step]
+ */
+public final class Move {
+    // represents the position and width of every field of a packed move
+    private static final int SQUARE_BITS = 8;
+    private static final long SQUARE_MASK = (1L << SQUARE_BITS) - 1;
+    private static final int TO_SHIFT = SQUARE_BITS;
+    private static final int CAPTURE_SHIFT = TO_SHIFT + SQUARE_BITS;
+    private static final int STEP_COUNT_SHIFT = CAPTURE_SHIFT + 1;
+    private static final int STEP_COUNT_BITS = 5;
+    private static final long STEP_COUNT_MASK = (1L << STEP_COUNT_BITS) - 1;
+    private static final int PATH_SHIFT = STEP_COUNT_SHIFT + STEP_COUNT_BITS;
+    private static final int DIRECTION_BITS = 2;
+    private static final long DIRECTION_MASK = (1L << DIRECTION_BITS) - 1;
+
+    // represents the most steps (jumps) that fit in a packed move
+    public static final int MAX_STEPS = (Long.SIZE - PATH_SHIFT) / DIRECTION_BITS;
+    // represents a buffer slot that holds no move
+    public static final long NO_MOVE = 0L;
+
+    // cached so that decoding a direction does not copy DirectionEnum.values() every time
+    private static final DirectionEnum[] DIRECTIONS = DirectionEnum.values();
+    // represents the number of directions a piece can step in
+    public static final int NUM_DIRECTIONS = DIRECTIONS.length;
+    // represents the row and column change of one step in each direction, indexed by DirectionEnum ordinal
+    private static final int[] ROW_STEP = {-1, -1, 1, 1};
+    private static final int[] COLUMN_STEP = {1, -1, 1, -1};
+
+    /**
+     * Private constructor, so that Move is only used through its static methods.
+     *
+     * @pre None
+     *
+     * @post None
+     */
+    private Move() {
+    }
+
+    /**
+     * Packs a move that takes one step (a simple move, or a single jump). Accepts four parameters.
+     * @param from The square the piece starts on, as an int
+     * @param to The square the piece ends on, as an int
+     * @param dir The direction of the step, as a DirectionEnum
+     * @param isCapture True when the step jumps an opponent's piece, as a boolean
+     * @return The packed move, as a long
+     *
+     * @pre 0 <= from < 256 AND 0 <= to < 256 AND dir != null
+     *
+     * @post of = [a packed move with one step in dir]
+     */
+    public static long of(int from, int to, DirectionEnum dir, boolean isCapture) {
+        long move = (from & SQUARE_MASK) | ((to & SQUARE_MASK) << TO_SHIFT) | (1L << STEP_COUNT_SHIFT)
+                | ((long) dir.ordinal() << PATH_SHIFT);
+        if (isCapture) {
+            move |= 1L << CAPTURE_SHIFT;
+        }
+        return move;
+    }
+
+    /**
+     * Adds one more jump to the end of a capture. Accepts three parameters.
+     * @param move The capture being extended, as a long
+     * @param to The square the piece lands on after the new jump, as an int
+     * @param dir The direction of the new jump, as a DirectionEnum
+     * @return The packed move with the extra jump, as a long
+     *
+     * @pre isCapture(move) AND getStepCount(move) < MAX_STEPS AND 0 <= to < 256 AND dir != null
+     *
+     * @post addJump = [move with its to square replaced and one more step in dir]
+     */
+    public static long addJump(long move, int to, DirectionEnum dir) {
+        int steps = getStepCount(move);
+
+        move &= ~(SQUARE_MASK << TO_SHIFT) & ~(STEP_COUNT_MASK << STEP_COUNT_SHIFT);
+        move |= ((to & SQUARE_MASK) << TO_SHIFT) | ((long) (steps + 1) << STEP_COUNT_SHIFT);
+        return move | ((long) dir.ordinal() << (PATH_SHIFT + steps * DIRECTION_BITS));
+    }
+
+    /**
+     * Simple accessor for the starting square of a move.
+     * @param move The packed move, as a long
+     * @return The square the piece starts on, as an int
+     *
+     * @pre move != NO_MOVE
+     *
+     * @post getFrom = [the starting square of move]
+     */
+    public static int getFrom(long move) {
+        return (int) (move & SQUARE_MASK);
+    }
+
+    /**
+     * Simple accessor for the ending square of a move.
+     * @param move The packed move, as a long
+     * @return The square the piece ends on, as an int
+     *
+     * @pre move != NO_MOVE
+     *
+     * @post getTo = [the ending square of move]
+     */
+    public static int getTo(long move) {
+        return (int) ((move >>> TO_SHIFT) & SQUARE_MASK);
+    }
+
+    /**
+     * Checks whether a move jumps at least one of the opponent's pieces.
+     * @param move The packed move, as a long
+     * @return True when the move is a capture and false otherwise, as a boolean
+     *
+     * @pre move != NO_MOVE
+     *
+     * @post isCapture = [true when the move's capture flag is set]
+     */
+    public static boolean isCapture(long move) {
+        return ((move >>> CAPTURE_SHIFT) & 1L) != 0;
+    }
+
+    /**
+     * Simple accessor for the number of steps in a move. A capture has one step per piece it jumps.
+     * @param move The packed move, as a long
+     * @return The number of steps, as an int
+     *
+     * @pre move != NO_MOVE
+     *
+     * @post getStepCount = [the number of steps in move]
+     */
+    public static int getStepCount(long move) {
+        return (int) ((move >>> STEP_COUNT_SHIFT) & STEP_COUNT_MASK);
+    }
+
+    /**
+     * Simple accessor for the direction of one step of a move. Accepts two parameters.
+     * @param move The packed move, as a long
+     * @param step The index of the step, as an int
+     * @return The direction of the step, as a DirectionEnum
+     *
+     * @pre move != NO_MOVE AND 0 <= step < getStepCount(move)
+     *
+     * @post getStepDirection = [the direction of the step]
+     */
+    public static DirectionEnum getStepDirection(long move, int step) {
+        return DIRECTIONS[getStepDirectionIndex(move, step)];
+    }
+
+    /**
+     * Simple accessor for the DirectionEnum ordinal of one step of a move. Accepts two parameters.
+     * @param move The packed move, as a long
+     * @param step The index of the step, as an int
+     * @return The ordinal of the step's direction, as an int
+     *
+     * @pre move != NO_MOVE AND 0 <= step < getStepCount(move)
+     *
+     * @post getStepDirectionIndex = [the ordinal of the step's direction]
+     */
+    public static int getStepDirectionIndex(long move, int step) {
+        return (int) ((move >>> (PATH_SHIFT + step * DIRECTION_BITS)) & DIRECTION_MASK);
+    }
+
+    /**
+     * Finds the square of the piece that is jumped by one step of a capture. Accepts three parameters.
+     * @param move The packed capture, as a long
+     * @param step The index of the jump, as an int
+     * @param boardSize The dimension of the board the move belongs to, as an int
+     * @return The square of the jumped piece, as an int
+     *
+     * @pre isCapture(move) AND 0 <= step < getStepCount(move) AND boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post getCapturedSquare = [the square between the landing squares of step - 1 and step]
+     */
+    public static int getCapturedSquare(long move, int step, int boardSize) {
+        SquareTable table = SquareTable.forSize(boardSize);
+        int square = getFrom(move);
+
+        // walks the path one jump landing square at a time up to the requested jump
+        for (int i = 0; i < step; i++) {
+            square = table.jump(square, getStepDirectionIndex(move, i));
+        }
+        return table.neighbor(square, getStepDirectionIndex(move, step));
+    }
+
+    /**
+     * Simple accessor for the row change of one step in a direction.
+     * @param dirIndex The DirectionEnum ordinal, as an int
+     * @return -1 for a step north and 1 for a step south, as an int
+     *
+     * @pre 0 <= dirIndex < 4
+     *
+     * @post rowStep = [the row change of the direction]
+     */
+    public static int rowStep(int dirIndex) {
+        return ROW_STEP[dirIndex];
+    }
+
+    /**
+     * Simple accessor for the column change of one step in a direction.
+     * @param dirIndex The DirectionEnum ordinal, as an int
+     * @return -1 for a step west and 1 for a step east, as an int
+     *
+     * @pre 0 <= dirIndex < 4
+     *
+     * @post columnStep = [the column change of the direction]
+     */
+    public static int columnStep(int dirIndex) {
+        return COLUMN_STEP[dirIndex];
+    }
+
+    /**
+     * Simple accessor for the DirectionEnum with a given ordinal, without copying DirectionEnum.values().
+     * @param dirIndex The DirectionEnum ordinal, as an int
+     * @return The direction, as a DirectionEnum
+     *
+     * @pre 0 <= dirIndex < 4
+     *
+     * @post direction = [the DirectionEnum whose ordinal is dirIndex]
+     */
+    public static DirectionEnum direction(int dirIndex) {
+        return DIRECTIONS[dirIndex];
+    }
+
+    /**
+     * Creates a String that represents a move, such as "5,1-4,2" for a simple move or "5,1x3,3x1,5" for a capture.
+     * Accepts two parameters.
+     * @param move The packed move, as a long
+     * @param boardSize The dimension of the board the move belongs to, as an int
+     * @return The rows and columns visited by the move, as a String
+     *
+     * @pre move != NO_MOVE AND boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post toString = [the rows and columns visited by the move, separated by '-' or 'x']
+     */
+    public static String toString(long move, int boardSize) {
+        StringBuilder result = new StringBuilder();
+        int square = getFrom(move);
+        int row = BoardPosition.squareRow(square, boardSize);
+        int column = BoardPosition.squareColumn(square, boardSize);
+        int distance = isCapture(move) ? ICheckerBoard.TWO_POSITIONS : 1;
+        int dir;
+
+        result.append(row).append(",").append(column);
+        for (int i = 0; i < getStepCount(move); i++) {
+            dir = getStepDirectionIndex(move, i);
+            row += ROW_STEP[dir] * distance;
+            column += COLUMN_STEP[dir] * distance;
+            result.append(isCapture(move) ? "x" : "-").append(row).append(",").append(column);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,691 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * PdnReader reads games in Portable Draughts Notation (PDN) one at a time from a Reader, so that a collection of any
+ * size can be read through a buffer of BUFFER_CHARS chars; only the game being read is ever held. Each game's moves are
+ * checked against the legal moves of the position and played on a board of the game's size, so a move only has to
+ * name its first and last squares, and a capture that could land there by more than one path can name the squares in
+ * between. Squares are numbered as PdnWriter writes them, from 1 up.
+ *
+ * The board size is the BoardSize tag, or the board width of the GameType tag, and 8 otherwise. The players are the
+ * Black and White tags when each is one letter from 'a' to 'z' and they are different, and 'x' and 'o' otherwise. A
+ * game starts from the position of its FEN tag, or from the starting position. Comments, variations, move numbers,
+ * annotations, and tags other than these are skipped. A game ends at its result ("1-0", "2-0", "0-1", "0-2",
+ * "1/2-1/2", "1-1", or "*"), at the tags of the next game, or at the end of the text.
+ *
+ * @invariant moveCount >= 0 AND [board holds the starting position of the last game read, and moves[0, moveCount)
+ * are its moves]
+ */
+public class PdnReader {
+    // represents the chars read from the Reader at once, and the moves a game can hold before its buffer first grows
+    private static final int BUFFER_CHARS = 1 << 16;
+    private static final int INITIAL_MOVES = 256;
+    // represents the players of a game whose tags do not name them
+    private static final char DEFAULT_PLAYER_ONE = 'x';
+    private static final char DEFAULT_PLAYER_TWO = 'o';
+    // represents the most digits of a number in movetext, which keeps it from overflowing
+    private static final int MAX_DIGITS = 9;
+    // represents the index of the board width in a GameType tag such as "21,B,8,8,N2,0"
+    private static final int GAME_TYPE_WIDTH = 2;
+    // represents the byte order mark some PDN files start with, which is read as whitespace
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    /**
+     * the text games are read from, the chars read from it but not parsed yet, and a buffer for tag names and values
+     */
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_CHARS];
+    private int position;
+    private int limit;
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * the boards games are played on, made the first time a game of their size is read and indexed by size / 2
+     */
+    private final ICheckerBoard[] boards = new ICheckerBoard[ICheckerBoard.MAX_BOARD_SIZE / ICheckerBoard.EVEN_DIVISOR + 1];
+
+    /**
+     * the buffers a position's legal moves and a move's squares are parsed into, the first of which grows for a
+     * position with more legal moves than it holds
+     */
+    private long[] legalMoves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+    private final int[] path = new int[Move.MAX_STEPS + 1];
+
+    /**
+     * the last game read: its tags, its board, its moves, and how it ended, and the number of games read
+     */
+    private final HashMap<String, String> tags = new HashMap<>();
+    private ICheckerBoard board;
+    private long[] moves = new long[INITIAL_MOVES];
+    private int moveCount;
+    private GameStatusEnum result;
+    private int gameCount;
+
+    /**
+     * Constructor for PdnReader object, with no game read yet. Accepts one parameter.
+     * @param anIn The text to read games from, which the caller closes, as a Reader
+     *
+     * @pre anIn != null
+     *
+     * @post in = anIn AND gameCount = 0 AND moveCount = 0 AND board = null
+     */
+    public PdnReader(Reader anIn) {
+        in = anIn;
+    }
+
+    /**
+     * Reads the next game, playing each of its moves to check it, and then takes the moves back, so that the board
+     * holds the position the game started from. Accepts no parameters.
+     * @return True when a game was read, and false at the end of the text, as a boolean
+     * @throws IOException When the text can not be read, or the game is not valid PDN or has a move that is not legal
+     *
+     * @pre None
+     *
+     * @post next = [true when there was another game] AND [when true, tags, board, moves, moveCount, and result
+     * describe it and gameCount = #gameCount + 1]
+     */
+    public boolean next() throws IOException {
+        boolean seen = false, inMovetext = false, ended = false;
+        tags.clear();
+        moveCount = 0;
+        result = null;
+
+        int c = skipWhitespace();
+        while (c != -1) {
+            if (c == '[') {
+                // the tags of the next game end a game whose result is missing
+                if (inMovetext) {
+                    position--;
+                    break;
+                }
+                readTag();
+            }
+            else if (c == '{') {
+                skipPast('}');
+            }
+            else if (c == ';' || c == '%') {
+                skipPast('\n');
+            }
+            else if (c == '(') {
+                skipVariation();
+            }
+            else if (c == '$' || c == '!' || c == '?') {
+                // numeric and symbolic annotations say nothing about the moves
+                skipAnnotation();
+            }
+            else if (c == '*' || (c >= '0' && c <= '9')) {
+                if (!inMovetext) {
+                    setUpBoard();
+                    inMovetext = true;
+                }
+                if (c == '*') {
+                    result = GameStatusEnum.IN_PROGRESS;
+                    ended = true;
+                }
+                else {
+                    ended = readNumber(c);
+                }
+            }
+            else {
+                throw invalid("'" + (char) c + "' is not expected");
+            }
+            seen = true;
+            c = ended ? -1 : skipWhitespace();
+        }
+        if (!seen) {
+            return false;
+        }
+        if (!inMovetext) {
+            setUpBoard();
+        }
+        if (result == null) {
+            result = parseResult(tags.get("Result"));
+        }
+        for (int i = 0; i < moveCount; i++) {
+            board.unmakeMove();
+        }
+        gameCount++;
+        return true;
+    }
+
+    /**
+     * Reads the next char, filling the buffer from the Reader when it is empty.
+     * @return The char, or -1 at the end of the text, as an int
+     * @throws IOException When the text can not be read
+     *
+     * @pre None
+     *
+     * @post read = [the next char, or -1] AND [position is past it]
+     */
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = Math.max(in.read(buffer, 0, buffer.length), 0);
+            position = 0;
+            if (limit == 0) {
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+
+    /**
+     * Reads past any whitespace, and the byte order mark some files start with.
+     * @return The first char that is not whitespace, or -1 at the end of the text, as an int
+     * @throws IOException When the text can not be read
+     *
+     * @pre None
+     *
+     * @post skipWhitespace = [the next char that is not whitespace, or -1] AND [position is past it]
+     */
+    private int skipWhitespace() throws IOException {
+        int c = read();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == BYTE_ORDER_MARK) {
+            c = read();
+        }
+        return c;
+    }
+
+    /**
+     * Reads past the next occurrence of a char, or to the end of the text. Accepts one parameter.
+     * @param end The char to read past, as a char
+     * @throws IOException When the text can not be read
+     *
+     * @pre None
+     *
+     * @post [position is past the next end, or at the end of the text]
+     */
+    private void skipPast(char end) throws IOException {
+        int c = read();
+        while (c != end && c != -1) {
+            c = read();
+        }
+    }
+
+    /**
+     * Reads past a variation, and every variation and comment inside it.
+     * @throws IOException When the text can not be read
+     *
+     * @pre [the opening '(' has been read]
+     *
+     * @post [position is past the ')' that closes the variation, or at the end of the text]
+     */
+    private void skipVariation() throws IOException {
+        int depth = 1, c = read();
+        while (depth > 0 && c != -1) {
+            if (c == '(') {
+                depth++;
+            }
+            else if (c == ')') {
+                depth--;
+            }
+            else if (c == '{') {
+                skipPast('}');
+            }
+            if (depth > 0) {
+                c = read();
+            }
+        }
+    }
+
+    /**
+     * Reads past the rest of an annotation such as "$4", "!", or "?!".
+     * @throws IOException When the text can not be read
+     *
+     * @pre [the first char of the annotation has been read]
+     *
+     * @post [position is at the first char after the annotation]
+     */
+    private void skipAnnotation() throws IOException {
+        int c = read();
+        while (c == '!' || c == '?' || (c >= '0' && c <= '9')) {
+            c = read();
+        }
+        if (c != -1) {
+            position--;
+        }
+    }
+
+    /**
+     * Reads a tag pair such as [Result "1-0"], un-escaping its value, and keeps it.
+     * @throws IOException When the text can not be read, or the tag is not written as a tag pair
+     *
+     * @pre [the opening '[' has been read]
+     *
+     * @post [position is past the closing ']'] AND tags = #tags + [the tag's name mapped to its value]
+     */
+    private void readTag() throws IOException {
+        int c = skipWhitespace();
+        text.setLength(0);
+        while (c != -1 && c != '"' && c != ']' && c != ' ' && c != '\t') {
+            text.append((char) c);
+            c = read();
+        }
+        String name = text.toString();
+        if (c == ' ' || c == '\t') {
+            c = skipWhitespace();
+        }
+        if (c != '"' || name.isEmpty()) {
+            throw invalid("tag " + name + " has no quoted value");
+        }
+
+        text.setLength(0);
+        c = read();
+        while (c != '"' && c != -1) {
+            if (c == '\\') {
+                c = read();
+            }
+            if (c != -1) {
+                text.append((char) c);
+                c = read();
+            }
+        }
+        if (c == -1) {
+            throw invalid("tag " + name + " is not closed");
+        }
+        tags.put(name, text.toString());
+        skipPast(']');
+    }
+
+    /**
+     * Reads a token of movetext that starts with a digit: a move number, which is skipped, a move, which is played,
+     * or a result, which ends the game. Accepts one parameter.
+     * @param first The first digit, which has been read, as an int
+     * @return True when the token was a result, as a boolean
+     * @throws IOException When the text can not be read, or the token is none of these, or the move is not legal
+     *
+     * @pre '0' <= first <= '9' AND board != null
+     *
+     * @post readNumber = [true when the token was a result] AND [a move is played on board and added to moves, and a
+     * result is kept in result]
+     */
+    private boolean readNumber(int first) throws IOException {
+        int number = readDigits(first);
+        int c = read();
+
+        // a move number, such as "12." or "12...", only counts the moves
+        if (c == '.') {
+            while (c == '.') {
+                c = read();
+            }
+            if (c != -1) {
+                position--;
+            }
+            return false;
+        }
+        if (c == '/') {
+            skipResultText();
+            result = GameStatusEnum.DRAW;
+            return true;
+        }
+        if (c != '-' && c != 'x' && c != ':') {
+            throw invalid("\"" + number + "\" is not a move number or a move");
+        }
+
+        int next = read();
+        if (next < '0' || next > '9') {
+            throw invalid("a move from square " + number + " has no square to go to");
+        }
+        int second = readDigits(next);
+        // there is no square 0 and no move to the square it starts on, so "1-0", "0-2", and "1-1" are results
+        if (c == '-' && (number == 0 || second == 0 || number == second)) {
+            result = (number > second) ? GameStatusEnum.PLAYER_ONE_WON
+                    : (number < second) ? GameStatusEnum.PLAYER_TWO_WON : GameStatusEnum.DRAW;
+            return true;
+        }
+
+        int length = 0;
+        path[length++] = number - 1;
+        path[length++] = second - 1;
+        c = read();
+        while (c == '-' || c == 'x' || c == ':') {
+            next = read();
+            if (next < '0' || next > '9' || length == path.length) {
+                throw invalid("a move from square " + number + " is not written as squares");
+            }
+            path[length++] = readDigits(next) - 1;
+            c = read();
+        }
+        if (c != -1) {
+            position--;
+        }
+        playMove(length);
+        return false;
+    }
+
+    /**
+     * Reads the rest of a number. Accepts one parameter.
+     * @param first The first digit, which has been read, as an int
+     * @return The number, as an int
+     * @throws IOException When the text can not be read, or the number has more than MAX_DIGITS digits
+     *
+     * @pre '0' <= first <= '9'
+     *
+     * @post readDigits = [the number whose digits start with first] AND [position is at the char after it]
+     */
+    private int readDigits(int first) throws IOException {
+        int number = first - '0', digits = 1;
+        int c = read();
+        while (c >= '0' && c <= '9') {
+            if (++digits > MAX_DIGITS) {
+                throw invalid("a number is too long");
+            }
+            number = number * 10 + (c - '0');
+            c = read();
+        }
+        if (c != -1) {
+            position--;
+        }
+        return number;
+    }
+
+    /**
+     * Reads past the rest of a result written with a fraction, such as "1/2-1/2".
+     * @throws IOException When the text can not be read
+     *
+     * @pre [the result has been read up to its first '/']
+     *
+     * @post [position is at the first whitespace after the result, or at the end of the text]
+     */
+    private void skipResultText() throws IOException {
+        int c = read();
+        while (c != -1 && c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+            c = read();
+        }
+        if (c != -1) {
+            position--;
+        }
+    }
+
+    /**
+     * Finds the legal move that visits the squares of path, plays it, and adds it to moves. A path of two squares
+     * names the first and last squares of the move; a longer one names every square a capture lands on.
+     * Accepts one parameter.
+     * @param length The number of squares in path, as an int
+     * @throws IOException When no legal move of the player to move visits the squares, or the position has a capture
+     * too long to be played
+     *
+     * @pre 2 <= length <= path.length AND board != null
+     *
+     * @post [the move is played on board] AND moves[#moveCount] = [the move] AND moveCount = #moveCount + 1
+     */
+    private void playMove(int length) throws IOException {
+        SquareTable table = SquareTable.forSize(board.getBoardSize());
+        int count;
+        try {
+            count = board.generateLegalMoves(board.getPlayerToMove(), legalMoves);
+            if (count > legalMoves.length) {
+                legalMoves = new long[count];
+                board.generateLegalMoves(board.getPlayerToMove(), legalMoves);
+            }
+        }
+        catch (IllegalStateException e) {
+            throw invalid("move " + (moveCount + 1) + " is from a position with a capture too long to be played");
+        }
+        long found = Move.NO_MOVE;
+
+        for (int i = 0; i < count && found == Move.NO_MOVE; i++) {
+            long move = legalMoves[i];
+            if (Move.getFrom(move) != path[0] || Move.getTo(move) != path[length - 1]) {
+                continue;
+            }
+            if (length == 2) {
+                found = move;
+            }
+            else if (Move.isCapture(move) && Move.getStepCount(move) == length - 1) {
+                // every square the capture lands on must be the one written
+                int square = path[0], step = 0;
+                while (step < length - 1 && (square = table.jump(square, Move.getStepDirectionIndex(move, step))) == path[step + 1]) {
+                    step++;
+                }
+                if (step == length - 1) {
+                    found = move;
+                }
+            }
+        }
+        if (found == Move.NO_MOVE) {
+            StringBuilder written = new StringBuilder().append(path[0] + 1);
+            for (int i = 1; i < length; i++) {
+                written.append('-').append(path[i] + 1);
+            }
+            throw invalid("move " + (moveCount + 1) + " (" + written + ") is not legal");
+        }
+
+        board.makeMove(found);
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = found;
+    }
+
+    /**
+     * Sets up the board of the game from its tags: a board of its size, with its players, holding its FEN position
+     * or the starting position.
+     * @throws IOException When the board size is not one that can be played, or the FEN tag is not valid
+     *
+     * @pre [every tag of the game has been read]
+     *
+     * @post board = [the board of the game's size, holding the position the game starts from]
+     */
+    private void setUpBoard() throws IOException {
+        int boardSize = ICheckerBoard.MIN_BOARD_SIZE;
+        String sizeTag = tags.get("BoardSize"), gameType = tags.get("GameType");
+        try {
+            if (sizeTag != null) {
+                boardSize = Integer.parseInt(sizeTag.trim());
+            }
+            else if (gameType != null && gameType.split(",").length > GAME_TYPE_WIDTH) {
+                boardSize = Integer.parseInt(gameType.split(",")[GAME_TYPE_WIDTH].trim());
+            }
+        }
+        catch (NumberFormatException e) {
+            throw invalid("the board size is not a number");
+        }
+        if (boardSize < ICheckerBoard.MIN_BOARD_SIZE || boardSize > ICheckerBoard.MAX_BOARD_SIZE || boardSize % ICheckerBoard.EVEN_DIVISOR != 0) {
+            throw invalid("a board of size " + boardSize + " can not be played");
+        }
+
+        // the players are the Black and White tags when they are pieces that can be played with
+        char playerOne = DEFAULT_PLAYER_ONE, playerTwo = DEFAULT_PLAYER_TWO;
+        String black = tags.get("Black"), white = tags.get("White");
+        if (black != null && white != null && black.length() == 1 && white.length() == 1 && isPlayerLetter(black.charAt(0))
+                && isPlayerLetter(white.charAt(0)) && black.charAt(0) != white.charAt(0)) {
+            playerOne = black.charAt(0);
+            playerTwo = white.charAt(0);
+        }
+
+        int index = boardSize / ICheckerBoard.EVEN_DIVISOR;
+        if (boards[index] == null) {
+            boards[index] = new CheckerBoard(boardSize);
+        }
+        board = boards[index];
+        board.putPlayersOnNewBoard(playerOne, playerTwo);
+        if (tags.containsKey("FEN")) {
+            setUpFen(tags.get("FEN"));
+        }
+    }
+
+    /**
+     * Checks whether a char can be a player's piece: a letter from 'a' to 'z'. Accepts one parameter.
+     * @param c The char, as a char
+     * @return True when the char can be a player's piece, as a boolean
+     *
+     * @pre None
+     *
+     * @post isPlayerLetter = ['a' <= c <= 'z']
+     */
+    private static boolean isPlayerLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    /**
+     * Puts the position of a FEN tag on the board, such as "B:W21,22,K30:B1,2,K3" or "W:B1-12:W21-32": the player to
+     * move (B for player one, W for player two), then the squares of each player's pieces, where K marks a king and
+     * a range such as 1-12 is every square from its first to its last. Accepts one parameter.
+     * @param fen The value of the FEN tag, as a String
+     * @throws IOException When the FEN is not written this way, or names a square that is not on the board
+     *
+     * @pre fen != null AND [board holds the players of the game]
+     *
+     * @post [board holds exactly the pieces of fen, with its player to move]
+     */
+    private void setUpFen(String fen) throws IOException {
+        int boardSize = board.getBoardSize();
+        int squareCount = boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR;
+        String[] fields = fen.replace(" ", "").replace(".", "").split(":");
+        if (fields.length == 0 || fields[0].length() != 1 || "BW".indexOf(fields[0].charAt(0)) < 0) {
+            throw invalid("FEN \"" + fen + "\" does not start with the player to move");
+        }
+        for (int square = 0; square < squareCount; square++) {
+            if (board.whatsAtSquare(square) != ICheckerBoard.EMPTY_POS) {
+                board.removePiece(BoardPosition.ofSquare(square, boardSize));
+            }
+        }
+
+        try {
+            for (int i = 1; i < fields.length; i++) {
+                if (fields[i].isEmpty() || "BW".indexOf(fields[i].charAt(0)) < 0) {
+                    throw invalid("FEN \"" + fen + "\" has pieces of no player");
+                }
+                boolean isPlayerOne = fields[i].charAt(0) == 'B';
+                for (String piece : fields[i].substring(1).split(",")) {
+                    if (piece.isEmpty()) {
+                        continue;
+                    }
+                    boolean isKing = piece.charAt(0) == 'K';
+                    String squares = isKing ? piece.substring(1) : piece;
+                    int dash = squares.indexOf('-');
+                    int first = Integer.parseInt((dash < 0) ? squares : squares.substring(0, dash));
+                    int last = (dash < 0) ? first : Integer.parseInt(squares.substring(dash + 1));
+                    if (first < 1 || last > squareCount || first > last) {
+                        throw invalid("FEN \"" + fen + "\" has a piece off the board");
+                    }
+                    char placed = isPlayerOne ? (isKing ? board.getPlayerOneKing() : board.getPlayerOne())
+                            : (isKing ? board.getPlayerTwoKing() : board.getPlayerTwo());
+                    for (int square = first; square <= last; square++) {
+                        board.placePiece(BoardPosition.ofSquare(square - 1, boardSize), placed);
+                    }
+                }
+            }
+        }
+        catch (NumberFormatException e) {
+            throw invalid("FEN \"" + fen + "\" has a square that is not a number");
+        }
+        board.setPlayerToMove(fields[0].charAt(0) == 'B' ? board.getPlayerOne() : board.getPlayerTwo());
+    }
+
+    /**
+     * Reads the value of a Result tag. Accepts one parameter.
+     * @param value The value of the tag, or null when the game has none, as a String
+     * @return How the game ended, or IN_PROGRESS when it is not known, as a GameStatusEnum
+     *
+     * @pre None
+     *
+     * @post parseResult = [PLAYER_ONE_WON for "1-0" or "2-0", PLAYER_TWO_WON for "0-1" or "0-2", DRAW for "1/2-1/2"
+     * or "1-1", and IN_PROGRESS otherwise]
+     */
+    private static GameStatusEnum parseResult(String value) {
+        if (value == null) {
+            return GameStatusEnum.IN_PROGRESS;
+        }
+        return switch (value.trim()) {
+            case "1-0", "2-0" -> GameStatusEnum.PLAYER_ONE_WON;
+            case "0-1", "0-2" -> GameStatusEnum.PLAYER_TWO_WON;
+            case "1/2-1/2", "1-1" -> GameStatusEnum.DRAW;
+            default -> GameStatusEnum.IN_PROGRESS;
+        };
+    }
+
+    /**
+     * Makes the exception thrown for a game that can not be read, naming the game. Accepts one parameter.
+     * @param reason What is wrong with the game, as a String
+     * @return The exception, as an IOException
+     *
+     * @pre reason != null
+     *
+     * @post invalid = [an IOException whose message names game gameCount + 1 and reason]
+     */
+    private IOException invalid(String reason) {
+        return new IOException("game " + (gameCount + 1) + " is not valid PDN: " + reason);
+    }
+
+    /**
+     * Simple accessor for the value of a tag of the last game read. Accepts one parameter.
+     * @param name The name of the tag, as a String
+     * @return The value of the tag, or null when the game has no such tag, as a String
+     *
+     * @pre name != null
+     *
+     * @post getTag = [the value of the tag named name, or null]
+     */
+    public String getTag(String name) {
+        return tags.get(name);
+    }
+
+    /**
+     * Simple accessor for the board of the last game read, which holds the position the game started from. The
+     * board is used again by the next game of the same size.
+     * @return The board, or null before the first game, as an ICheckerBoard
+     *
+     * @pre None
+     *
+     * @post getBoard = board
+     */
+    public ICheckerBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Simple accessor for the moves of the last game read. The array is filled again by the next game, and may be
+     * longer than the game.
+     * @return The moves in order, in the first getMoveCount() entries, as packed longs (see Move), as a long[]
+     *
+     * @pre None
+     *
+     * @post getMoves = moves
+     */
+    public long[] getMoves() {
+        return moves;
+    }
+
+    /**
+     * Simple accessor for the number of moves of the last game read.
+     * @return The number of moves, as an int
+     *
+     * @pre None
+     *
+     * @post getMoveCount = moveCount
+     */
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /**
+     * Simple accessor for how the last game read ended: by its result, or by its Result tag when it has no result.
+     * @return PLAYER_ONE_WON, PLAYER_TWO_WON, DRAW, or IN_PROGRESS when it is not known, as a GameStatusEnum
+     *
+     * @pre None
+     *
+     * @post getResult = result
+     */
+    public GameStatusEnum getResult() {
+        return result;
+    }
+
+    /**
+     * Simple accessor for the number of games read.
+     * @return The number of games, as an int
+     *
+     * @pre None
+     *
+     * @post getGameCount = gameCount
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+}
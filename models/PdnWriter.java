@@ -0,0 +1,273 @@
+package cpsc2150.extendedCheckers.models;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * PdnWriter writes games in Portable Draughts Notation (PDN), one after another, to a Writer, so that any number of
+ * games can be exported without holding more than one of them. Squares are numbered as in PDN, from 1 up, which is
+ * BoardPosition.toSquare plus one; on an 8x8 board these are the usual 1 to 32. Player one moves first and is written
+ * as Black, and player two as White. A simple move is written "11-15", and a capture with every square it lands on,
+ * e.g. "15x24x31", which needs no board to read back.
+ *
+ * Every game has the tags GameType (21, English draughts, whose rules every board size is played with), BoardSize,
+ * Black and White (the players' pieces, which are the only names the players have), and Result, and a FEN tag when it
+ * does not start from the starting position. Results are "1-0" when player one won, "0-1" when player two won,
+ * "1/2-1/2" for a draw, and "*" for a game that was stopped.
+ *
+ * @invariant gameCount >= 0 AND [every game written so far is complete in out, apart from what out buffers]
+ */
+public class PdnWriter {
+    // represents the line width movetext is wrapped at
+    private static final int LINE_WIDTH = 80;
+    // represents the game type of English draughts
+    private static final String GAME_TYPE = "21";
+    // represents the PDN name of each player and of a king in a FEN tag
+    private static final char BLACK = 'B';
+    private static final char WHITE = 'W';
+    private static final char KING = 'K';
+    // represents every result, by how the game ended
+    private static final String PLAYER_ONE_WON = "1-0";
+    private static final String PLAYER_TWO_WON = "0-1";
+    private static final String DRAW = "1/2-1/2";
+    private static final String UNKNOWN = "*";
+
+    /**
+     * the text written to, and a buffer one line of movetext is built in
+     */
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(LINE_WIDTH * 2);
+
+    /**
+     * the number of games written
+     */
+    private int gameCount;
+
+    /**
+     * Constructor for PdnWriter object. Accepts one parameter.
+     * @param anOut The text to write games to, which the caller closes, as a Writer
+     *
+     * @pre anOut != null
+     *
+     * @post out = anOut AND gameCount = 0
+     */
+    public PdnWriter(Writer anOut) {
+        out = anOut;
+    }
+
+    /**
+     * Writes one game: its tags, its moves, and its result, followed by a blank line. Accepts four parameters.
+     * @param start The board the game started from, with its player to move set, as an ICheckerBoard
+     * @param moves The moves of the game in order, as packed longs (see Move), as a long[]
+     * @param moveCount The number of moves in the game, as an int
+     * @param result How the game ended, as a GameStatusEnum. A game that was stopped (IN_PROGRESS) is written as "*".
+     * @throws IOException When out can not be written
+     *
+     * @pre start != null AND [moves[0, moveCount) can be played in order from start] AND result != null
+     *
+     * @post [the game is written to out] AND gameCount = #gameCount + 1 AND start = #start
+     */
+    public void writeGame(ICheckerBoard start, long[] moves, int moveCount, GameStatusEnum result) throws IOException {
+        int boardSize = start.getBoardSize();
+        String resultText = switch (result) {
+            case PLAYER_ONE_WON -> PLAYER_ONE_WON;
+            case PLAYER_TWO_WON -> PLAYER_TWO_WON;
+            case DRAW -> DRAW;
+            default -> UNKNOWN;
+        };
+
+        writeTag("GameType", GAME_TYPE);
+        writeTag("BoardSize", Integer.toString(boardSize));
+        writeTag("Black", String.valueOf(start.getPlayerOne()));
+        writeTag("White", String.valueOf(start.getPlayerTwo()));
+        writeTag("Result", resultText);
+        if (start.hash() != startingHash(boardSize)) {
+            writeTag("FEN", fenOf(start));
+        }
+        out.write('\n');
+
+        // a game that starts with player two to move numbers its first move "1..."
+        boolean playerOneMoves = start.getPlayerToMove() == start.getPlayerOne();
+        int moveNumber = 1;
+        line.setLength(0);
+        for (int i = 0; i < moveCount; i++) {
+            if (playerOneMoves) {
+                appendToken(moveNumber + ".");
+            }
+            else if (i == 0) {
+                appendToken(moveNumber + "...");
+            }
+            appendToken(moveText(moves[i], boardSize));
+            if (!playerOneMoves) {
+                moveNumber++;
+            }
+            playerOneMoves = !playerOneMoves;
+        }
+        appendToken(resultText);
+        out.write(line.toString());
+        out.write("\n\n");
+        gameCount++;
+    }
+
+    /**
+     * Writes one tag pair, such as [Result "1-0"], on its own line, escaping quotes and backslashes in its value.
+     * Accepts two parameters.
+     * @param name The name of the tag, as a String
+     * @param value The value of the tag, as a String
+     * @throws IOException When out can not be written
+     *
+     * @pre name != null AND value != null
+     *
+     * @post [the tag is written to out]
+     */
+    private void writeTag(String name, String value) throws IOException {
+        out.write('[');
+        out.write(name);
+        out.write(" \"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+            }
+            out.write(c);
+        }
+        out.write("\"]\n");
+    }
+
+    /**
+     * Adds one token of movetext to the line being built, first writing the line out when the token would make it
+     * longer than LINE_WIDTH. Accepts one parameter.
+     * @param token The move number, move, or result, as a String
+     * @throws IOException When out can not be written
+     *
+     * @pre token != null
+     *
+     * @post [line ends with token, and every full line before it is written to out]
+     */
+    private void appendToken(String token) throws IOException {
+        if (line.length() > 0 && line.length() + 1 + token.length() > LINE_WIDTH) {
+            out.write(line.toString());
+            out.write('\n');
+            line.setLength(0);
+        }
+        if (line.length() > 0) {
+            line.append(' ');
+        }
+        line.append(token);
+    }
+
+    /**
+     * Writes a move in PDN: its squares from 1 up, joined by '-' for a simple move and by 'x' for a capture, which
+     * names every square it lands on. Accepts two parameters.
+     * @param move The packed move, as a long
+     * @param boardSize The dimension of the board the move belongs to, as an int
+     * @return The move, as a String
+     *
+     * @pre move != Move.NO_MOVE AND boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post moveText = [the PDN squares the move visits, joined by '-' or 'x']
+     */
+    public static String moveText(long move, int boardSize) {
+        SquareTable table = SquareTable.forSize(boardSize);
+        StringBuilder text = new StringBuilder();
+        int square = Move.getFrom(move);
+
+        text.append(square + 1);
+        if (!Move.isCapture(move)) {
+            return text.append('-').append(Move.getTo(move) + 1).toString();
+        }
+        for (int step = 0; step < Move.getStepCount(move); step++) {
+            square = table.jump(square, Move.getStepDirectionIndex(move, step));
+            text.append('x').append(square + 1);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Describes the position on a board as the value of a PDN FEN tag, e.g. "B:W21,22,K30:B1,2,K3": the player to
+     * move, then every square of White's pieces and of Black's, kings marked with K. Accepts one parameter.
+     * @param board The board, with its player to move set, as an ICheckerBoard
+     * @return The FEN of the position, as a String
+     *
+     * @pre board != null
+     *
+     * @post fenOf = [the FEN of the position on board] AND board = #board
+     */
+    public static String fenOf(ICheckerBoard board) {
+        StringBuilder fen = new StringBuilder();
+        fen.append(board.getPlayerToMove() == board.getPlayerOne() ? BLACK : WHITE);
+        appendPieces(fen, board, WHITE, ICheckerBoard.PLAYER_TWO_TYPE, ICheckerBoard.PLAYER_TWO_KING_TYPE);
+        appendPieces(fen, board, BLACK, ICheckerBoard.PLAYER_ONE_TYPE, ICheckerBoard.PLAYER_ONE_KING_TYPE);
+        return fen.toString();
+    }
+
+    /**
+     * Adds one player's pieces to a FEN: a colon, the player's colour, and the PDN square of every piece, separated
+     * by commas. Accepts five parameters.
+     * @param fen The FEN being built, as a StringBuilder
+     * @param board The board, as an ICheckerBoard
+     * @param colour BLACK or WHITE, as a char
+     * @param menType The piece type of the player's standard pieces, as an int
+     * @param kingType The piece type of the player's kings, as an int
+     *
+     * @pre [colour is the colour of the player whose pieces have menType and kingType]
+     *
+     * @post fen = #fen + [':', colour, and every square of the player's pieces]
+     */
+    private static void appendPieces(StringBuilder fen, ICheckerBoard board, char colour, int menType, int kingType) {
+        int squareCount = board.getBoardSize() * board.getBoardSize() / ICheckerBoard.EVEN_DIVISOR;
+        boolean first = true;
+
+        fen.append(':').append(colour);
+        for (int square = 0; square < squareCount; square++) {
+            int type = board.pieceType(board.whatsAtSquare(square));
+            if (type == menType || type == kingType) {
+                if (!first) {
+                    fen.append(',');
+                }
+                if (type == kingType) {
+                    fen.append(KING);
+                }
+                fen.append(square + 1);
+                first = false;
+            }
+        }
+    }
+
+    /**
+     * Works out the Zobrist hash of the starting position of a board size, with player one to move, without making
+     * a board. Accepts one parameter.
+     * @param boardSize The dimension of the board, as an int
+     * @return The hash of the starting position, as a long
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post startingHash = [the hash of a board of boardSize just after putPlayersOnNewBoard]
+     */
+    static long startingHash(int boardSize) {
+        int perRow = boardSize / ICheckerBoard.EVEN_DIVISOR;
+        long hash = 0;
+
+        // player one fills every row before the two empty middle rows, and player two every row after them
+        for (int square = 0; square < (perRow - 1) * perRow; square++) {
+            hash ^= Zobrist.pieceKey(boardSize, ICheckerBoard.PLAYER_ONE_TYPE, square);
+        }
+        for (int square = (perRow + 1) * perRow; square < boardSize * perRow; square++) {
+            hash ^= Zobrist.pieceKey(boardSize, ICheckerBoard.PLAYER_TWO_TYPE, square);
+        }
+        return hash;
+    }
+
+    /**
+     * Simple accessor for the number of games written.
+     * @return The number of games, as an int
+     *
+     * @pre None
+     *
+     * @post getGameCount = gameCount
+     */
+    public int getGameCount() {
+        return gameCount;
+    }
+}
@@ -0,0 +1,44 @@
+package cpsc2150.extendedCheckers.models;
+
+/**
+ * PositionListener is told about every change to the pieces on a board it is attached to (see
+ * ICheckerBoard.setPositionListener), so that anything that keeps its own summary of a position, such as an
+ * evaluation, can update it a piece at a time instead of reading the whole board again. Pieces are given by their
+ * square (see BoardPosition.toSquare) and their type (see ICheckerBoard.pieceType), so a listener never needs to know
+ * which chars the players chose. A move is told as the moving piece being removed and placed again, along with the
+ * removal of every piece it captures.
+ *
+ * @invariant [every call describes a change that has already been made to the board]
+ */
+public interface PositionListener {
+    /**
+     * Called after a piece is placed on an empty square. Accepts two parameters.
+     * @param square The playable square number the piece was placed on, as an int
+     * @param type The type of the piece (ICheckerBoard.PLAYER_ONE_TYPE through PLAYER_TWO_KING_TYPE), as an int
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2 AND PLAYER_ONE_TYPE <= type <= PLAYER_TWO_KING_TYPE
+     *
+     * @post [the listener's summary includes the piece]
+     */
+    void pieceAdded(int square, int type);
+
+    /**
+     * Called after a piece is removed from a square. Accepts two parameters.
+     * @param square The playable square number the piece was removed from, as an int
+     * @param type The type of the piece (ICheckerBoard.PLAYER_ONE_TYPE through PLAYER_TWO_KING_TYPE), as an int
+     *
+     * @pre 0 <= square < boardSize * boardSize / 2 AND PLAYER_ONE_TYPE <= type <= PLAYER_TWO_KING_TYPE
+     *
+     * @post [the listener's summary no longer includes the piece]
+     */
+    void pieceRemoved(int square, int type);
+
+    /**
+     * Called after every piece is taken off the board at once, when a new game is started.
+     *
+     * @pre None
+     *
+     * @post [the listener's summary is of an empty board]
+     */
+    void positionCleared();
+}
@@ -0,0 +1,187 @@
+package cpsc2150.extendedCheckers.models;
+
+/**
+ * SquareTable holds the geometry of one board size, worked out once so that moving around the board is a single
+ * array load instead of offset arithmetic and bounds checks. For every playable square (numbered as in
+ * BoardPosition.toSquare) and every direction (indexed by DirectionEnum ordinal, as in Move), it gives the adjacent
+ * square, the square a jump in that direction lands on, and the square's row and column. A neighbor or landing square
+ * that would be off the board is OFF_BOARD. There is one shared, unchangeable SquareTable per board size, found with
+ * forSize(int).
+ *
+ * @invariant [every table is built once and never changed] AND [neighbor and jump hold OFF_BOARD or a playable
+ * square number of the same board size] AND squareCount = boardSize * boardSize / 2
+ */
+public final class SquareTable {
+    // represents a neighbor or landing square that is off the board
+    public static final int OFF_BOARD = -1;
+
+    // the shared tables, indexed by boardSize / 2
+    private static final SquareTable[] TABLES = new SquareTable[ICheckerBoard.MAX_BOARD_SIZE / ICheckerBoard.EVEN_DIVISOR + 1];
+
+    static {
+        for (int size = ICheckerBoard.MIN_BOARD_SIZE; size <= ICheckerBoard.MAX_BOARD_SIZE; size += ICheckerBoard.EVEN_DIVISOR) {
+            TABLES[size / ICheckerBoard.EVEN_DIVISOR] = new SquareTable(size);
+        }
+    }
+
+    /**
+     * the dimension of the board and its number of playable squares
+     */
+    private final int boardSize;
+    private final int squareCount;
+
+    /**
+     * the row and column of every square
+     */
+    private final int[] rows;
+    private final int[] columns;
+
+    /**
+     * the adjacent square and the jump landing square of every square and direction, indexed by
+     * square * Move.NUM_DIRECTIONS + direction
+     */
+    private final int[] neighbors;
+    private final int[] jumps;
+
+    /**
+     * Constructor for SquareTable object. Works out the row, column, neighbors, and jump landing squares of every
+     * playable square. Accepts one parameter.
+     * @param aBoardSize The dimension of the board, as an int
+     *
+     * @pre aBoardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post boardSize = aBoardSize AND squareCount = aBoardSize * aBoardSize / 2 AND [rows, columns, neighbors, and
+     * jumps hold the geometry of every playable square]
+     */
+    private SquareTable(int aBoardSize) {
+        int row, column, stepRow, stepColumn, jumpRow, jumpColumn, index;
+
+        boardSize = aBoardSize;
+        squareCount = boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR;
+        rows = new int[squareCount];
+        columns = new int[squareCount];
+        neighbors = new int[squareCount * Move.NUM_DIRECTIONS];
+        jumps = new int[squareCount * Move.NUM_DIRECTIONS];
+
+        for (int square = 0; square < squareCount; square++) {
+            row = BoardPosition.squareRow(square, boardSize);
+            column = BoardPosition.squareColumn(square, boardSize);
+            rows[square] = row;
+            columns[square] = column;
+            for (int dir = 0; dir < Move.NUM_DIRECTIONS; dir++) {
+                index = square * Move.NUM_DIRECTIONS + dir;
+                stepRow = row + Move.rowStep(dir);
+                stepColumn = column + Move.columnStep(dir);
+                jumpRow = stepRow + Move.rowStep(dir);
+                jumpColumn = stepColumn + Move.columnStep(dir);
+                neighbors[index] = isOnBoard(stepRow, stepColumn) ? BoardPosition.toSquare(stepRow, stepColumn, boardSize) : OFF_BOARD;
+                jumps[index] = isOnBoard(jumpRow, jumpColumn) ? BoardPosition.toSquare(jumpRow, jumpColumn, boardSize) : OFF_BOARD;
+            }
+        }
+    }
+
+    /**
+     * Finds the shared table of a board size. Accepts one parameter.
+     * @param boardSize The dimension of the board, as an int
+     * @return The table of that board size, as a SquareTable
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post forSize = [the one SquareTable whose boardSize is boardSize]
+     */
+    public static SquareTable forSize(int boardSize) {
+        return TABLES[boardSize / ICheckerBoard.EVEN_DIVISOR];
+    }
+
+    /**
+     * Checks whether a row and column are on the board. Accepts two parameters.
+     * @param row The row number, as an int
+     * @param column The column number, as an int
+     * @return True when both are between 0 and boardSize - 1, as a boolean
+     *
+     * @pre None
+     *
+     * @post isOnBoard = [0 <= row < boardSize AND 0 <= column < boardSize]
+     */
+    private boolean isOnBoard(int row, int column) {
+        return row >= 0 && row < boardSize && column >= 0 && column < boardSize;
+    }
+
+    /**
+     * Simple accessor for the square next to a square in a direction. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param dir The DirectionEnum ordinal, as an int
+     * @return The adjacent square, or OFF_BOARD, as an int
+     *
+     * @pre 0 <= square < squareCount AND 0 <= dir < Move.NUM_DIRECTIONS
+     *
+     * @post neighbor = neighbors[square * Move.NUM_DIRECTIONS + dir]
+     */
+    public int neighbor(int square, int dir) {
+        return neighbors[square * Move.NUM_DIRECTIONS + dir];
+    }
+
+    /**
+     * Simple accessor for the square a jump from a square in a direction lands on. Accepts two parameters.
+     * @param square The square number, as an int
+     * @param dir The DirectionEnum ordinal, as an int
+     * @return The landing square two positions away, or OFF_BOARD, as an int
+     *
+     * @pre 0 <= square < squareCount AND 0 <= dir < Move.NUM_DIRECTIONS
+     *
+     * @post jump = jumps[square * Move.NUM_DIRECTIONS + dir]
+     */
+    public int jump(int square, int dir) {
+        return jumps[square * Move.NUM_DIRECTIONS + dir];
+    }
+
+    /**
+     * Simple accessor for the row of a square. Accepts one parameter.
+     * @param square The square number, as an int
+     * @return The row number of the square, as an int
+     *
+     * @pre 0 <= square < squareCount
+     *
+     * @post row = rows[square]
+     */
+    public int row(int square) {
+        return rows[square];
+    }
+
+    /**
+     * Simple accessor for the column of a square. Accepts one parameter.
+     * @param square The square number, as an int
+     * @return The column number of the square, as an int
+     *
+     * @pre 0 <= square < squareCount
+     *
+     * @post column = columns[square]
+     */
+    public int column(int square) {
+        return columns[square];
+    }
+
+    /**
+     * Simple accessor for the number of playable squares.
+     * @return The number of playable squares, as an int
+     *
+     * @pre None
+     *
+     * @post getSquareCount = squareCount
+     */
+    public int getSquareCount() {
+        return squareCount;
+    }
+
+    /**
+     * Simple accessor for the dimension of the board the table belongs to.
+     * @return The board size, as an int
+     *
+     * @pre None
+     *
+     * @post getBoardSize = boardSize
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+}
@@ -0,0 +1,68 @@
+package cpsc2150.extendedCheckers.models;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist holds the random keys used to hash checkerboard positions. Every board size (8x8, 10x10, 12x12, 14x14, and
+ * 16x16) gets one key per type of piece per playable square, built once and shared by every board. A position's hash
+ * is the XOR of the keys of every piece on the board, plus SIDE_KEY when player two is the player to move, so the
+ * hash can be updated with a single XOR whenever a piece is placed or removed or the turn changes. The keys come from
+ * a fixed seed, so a position has the same hash in every run and on every ICheckerBoard implementation.
+ *
+ * @invariant [keys for a board size never change once built] AND [keys are the same for every run]
+ */
+public final class Zobrist {
+    // represents the fixed seed the keys are generated from
+    private static final long SEED = 0x2150C4EC6E125L;
+    // represents the number of types of pieces (player1, player1King, player2, player2King)
+    private static final int NUM_PIECE_TYPES = 4;
+
+    /**
+     * the key added to a hash when player two is the player to move
+     */
+    public static final long SIDE_KEY;
+
+    /**
+     * the piece keys for each board size, indexed by [boardSize][pieceType * squares + square]. Odd and unsupported
+     * board sizes are left null.
+     */
+    private static final long[][] PIECE_KEYS = new long[ICheckerBoard.MAX_BOARD_SIZE + 1][];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        SIDE_KEY = random.nextLong();
+        for (int size = ICheckerBoard.MIN_BOARD_SIZE; size <= ICheckerBoard.MAX_BOARD_SIZE; size += ICheckerBoard.EVEN_DIVISOR) {
+            long[] keys = new long[NUM_PIECE_TYPES * size * size / ICheckerBoard.EVEN_DIVISOR];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+            PIECE_KEYS[size] = keys;
+        }
+    }
+
+    /**
+     * Private constructor, so that Zobrist is only used through its static methods.
+     *
+     * @pre None
+     *
+     * @post None
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Simple accessor for the key of one type of piece on one square. Accepts three parameters.
+     * @param boardSize The dimension of the board, as an int
+     * @param pieceType The type of piece (ICheckerBoard.PLAYER_ONE_TYPE through ICheckerBoard.PLAYER_TWO_KING_TYPE),
+     * as an int
+     * @param square The playable square number, as an int
+     * @return The key for the piece on the square, as a long
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16] AND 0 <= pieceType < 4 AND 0 <= square < boardSize * boardSize / 2
+     *
+     * @post pieceKey = [the key for the type of piece on the square]
+     */
+    public static long pieceKey(int boardSize, int pieceType, int square) {
+        return PIECE_KEYS[boardSize][pieceType * (boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR) + square];
+    }
+}
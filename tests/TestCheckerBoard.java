@@ -1,14 +1,22 @@
 package cpsc2150.extendedCheckers.tests;
 import cpsc2150.extendedCheckers.models.BoardPosition;
 import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
 import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
 import cpsc2150.extendedCheckers.util.DirectionEnum;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * TestCheckerBoard contains test case functions to test some of the pivotal functions contained in the CheckerBoard
@@ -36,6 +44,34 @@ public class TestCheckerBoard {
         return new CheckerBoard(aDimension);
     }
 
+    /**
+     * Makes an empty board with an 'X' king at (0,0) and 'o' men on the squares of odd rows and odd columns, first by
+     * row, which the king can jump in long chains of captures. Accepts two parameters.
+     * @param aDimension The size of the board, as an int
+     * @param menCount The number of 'o' men, as an int
+     * @return A board of that size holding the king and the men, as an ICheckerBoard
+     *
+     * @pre aDimension is a valid board size AND 0 <= menCount <= ((aDimension - 2) / 2) ^ 2
+     *
+     * @post makeLattice = [a board with 'X' at (0,0) and menCount 'o' men] AND getPlayerOne() = 'x'
+     */
+    private ICheckerBoard makeLattice(int aDimension, int menCount) {
+        ICheckerBoard board = makeBoard(aDimension);
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        board.placePiece(new BoardPosition(0, 0), 'X');
+        int placed = 0;
+        for (int r = 1; r < aDimension - 1; r += 2) {
+            for (int c = 1; c < aDimension - 1 && placed < menCount; c += 2) {
+                board.placePiece(new BoardPosition(r, c), 'o');
+                placed++;
+            }
+        }
+        return board;
+    }
+
     /**
      * Takes a 2D char array of the checkerboard and turns it into a string.
      * @param charArray The array of characters that makes up the checkerboard, as a 2D character array
@@ -580,5 +616,331 @@ public class TestCheckerBoard {
 
         assertEquals(expectedPos, actualPos);
     }
-}
 
+    // generateMoves(char, long[]) test #1 - routine test - 7 is the number of moves each player has from the starting position when board size is 8
+    @Test
+    public void testGenerateMoves_char_x_o_startingPosition() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        assertEquals(7, board.generateMoves(board.getPlayerOne(), moves));
+        assertEquals(7, board.generateMoves(board.getPlayerTwo(), moves));
+    }
+
+    // generateMoves(char, long[]) test #2 - routine test - 'o' at (5,3) can jump 'x' at (4,4) to reach (3,5) or move NW to (4,2)
+    @Test
+    public void testGenerateMoves_char_o_jumpAvailable() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        int count = board.generateMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(2, count);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(3, 5, 8), DirectionEnum.NE, true), moves[0]);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(4, 2, 8), DirectionEnum.NW, false), moves[1]);
+        assertEquals(BoardPosition.toSquare(4, 4, 8), Move.getCapturedSquare(moves[0], 0, 8));
+    }
+
+    // generateLegalMoves(char, long[]) test #1 - routine test - when 'o' at (5,3) can jump, its simple moves and the simple moves of other pieces are not legal
+    @Test
+    public void testGenerateLegalMoves_char_o_captureIsMandatory() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(3, 5, 8), DirectionEnum.NE, true), moves[0]);
+    }
+
+    // generateLegalMoves(char, long[]) test #2 - routine test - 'o' at (7,1) must keep jumping from (5,3) over (4,4) and (2,4) to finish at (1,3)
+    @Test
+    public void testGenerateLegalMoves_char_o_multiJump() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(6, 2), board.getPlayerOne());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        board.placePiece(new BoardPosition(2, 4), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(3, Move.getStepCount(moves[0]));
+        assertEquals(BoardPosition.toSquare(1, 3, 8), Move.getTo(moves[0]));
+        assertEquals("7,1x5,3x3,5x1,3", Move.toString(moves[0], 8));
+    }
+
+    // generateLegalMoves(char, long[]) test #3 - boundary test - 'o' is crowned when it lands on row 0, which ends its move even though the new king could jump again
+    @Test
+    public void testGenerateLegalMoves_char_o_crowningEndsMove() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(2, 2), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(1, 3), board.getPlayerOne());
+        board.placePiece(new BoardPosition(1, 5), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(1, Move.getStepCount(moves[0]));
+        assertEquals(BoardPosition.toSquare(0, 4, 8), Move.getTo(moves[0]));
+    }
+
+    // generateLegalMoves(char, long[]) test #4 - boundary test - an 'X' king at (0,0) among 21 'o' men on 16x16 has 613 captures, more than MOVE_BUFFER_SIZE, which are counted without writing past the buffer
+    @Test
+    public void testGenerateLegalMoves_char_X_moreCapturesThanBuffer() {
+        ICheckerBoard board = makeLattice(16, 21);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        int count = board.generateLegalMoves(board.getPlayerOne(), moves);
+        long[] all = new long[count];
+        int allCount = board.generateLegalMoves(board.getPlayerOne(), all);
+        HashSet<Long> distinct = new HashSet<>();
+        for (int i = 0; i < allCount; i++) {
+            assertTrue(Move.isCapture(all[i]));
+            distinct.add(all[i]);
+        }
+
+        assertEquals(613, count);
+        assertEquals(count, allCount);
+        assertEquals(count, distinct.size());
+        for (int i = 0; i < moves.length; i++) {
+            assertEquals(all[i], moves[i]);
+        }
+    }
+
+    // generateLegalMoves(char, long[]) test #5 - boundary test - an 'X' king at (0,0) among 25 'o' men on 12x12 can capture more than Move.MAX_STEPS of them, which no move can hold
+    @Test(expected = IllegalStateException.class)
+    public void testGenerateLegalMoves_char_X_captureTooLong() {
+        ICheckerBoard board = makeLattice(12, 25);
+        board.generateLegalMoves(board.getPlayerOne(), new long[ICheckerBoard.MOVE_BUFFER_SIZE]);
+    }
+
+    // hash(void) test #1 - routine test - moving 'o' from (5,3) to (4,4) and back gives back the starting hash, and a different hash in between
+    @Test
+    public void testHash_void_moveAndMoveBack() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long startingHash = board.hash();
+
+        BoardPosition newPos = board.movePiece(new BoardPosition(5, 3), DirectionEnum.NE);
+        long movedHash = board.hash();
+        board.movePiece(newPos, DirectionEnum.SW);
+
+        assertNotEquals(startingHash, movedHash);
+        assertEquals(startingHash, board.hash());
+    }
+
+    // hash(void) test #2 - routine test - the same position has the same hash on every ICheckerBoard implementation
+    @Test
+    public void testHash_void_matchesOtherImplementations() {
+        ICheckerBoard board = makeBoard(10);
+        ICheckerBoard fast = new CheckerBoard(10), mem = new CheckerBoardMem(10), bit = new CheckerBoardBit(10);
+        board.putPlayersOnNewBoard('x', 'o');
+        fast.putPlayersOnNewBoard('x', 'o');
+        mem.putPlayersOnNewBoard('x', 'o');
+        bit.putPlayersOnNewBoard('x', 'o');
+
+        for (ICheckerBoard b : new ICheckerBoard[] {board, fast, mem, bit}) {
+            b.movePiece(new BoardPosition(3, 3), DirectionEnum.SE);
+            b.movePiece(new BoardPosition(6, 6), DirectionEnum.NW);
+            b.jumpPiece(new BoardPosition(4, 4), DirectionEnum.SE);
+        }
+
+        assertEquals(fast.hash(), board.hash());
+        assertEquals(mem.hash(), board.hash());
+        assertEquals(bit.hash(), board.hash());
+    }
+
+    // setPlayerToMove(char) test #1 - routine test - giving the turn to 'o' changes the hash and giving it back to 'x' restores it
+    @Test
+    public void testSetPlayerToMove_char_o_then_x() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long startingHash = board.hash();
+
+        board.setPlayerToMove(board.getPlayerTwo());
+        assertEquals('o', board.getPlayerToMove());
+        assertNotEquals(startingHash, board.hash());
+        board.setPlayerToMove(board.getPlayerOneKing());
+        assertEquals('x', board.getPlayerToMove());
+        assertEquals(startingHash, board.hash());
+    }
+
+    // crownPiece(BoardPosition) test #4 - routine test - crowning 'o' at (0,4) changes the hash to the hash of a king at (0,4)
+    @Test
+    public void testCrownPiece_BoardPosition_0_4_hash() {
+        ICheckerBoard board = makeBoard(8);
+        ICheckerBoard kingBoard = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 4);
+
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('O');
+        kingBoard.setPlayerTwo('o');
+        kingBoard.setPlayerTwoKing('O');
+        board.placePiece(pos, board.getPlayerTwo());
+        board.crownPiece(pos);
+        kingBoard.placePiece(pos, kingBoard.getPlayerTwoKing());
+
+        assertEquals(kingBoard.hash(), board.hash());
+    }
+
+    // copy(void) test #1 - routine test - the copy of a game in progress matches the board, and moving a piece on the copy leaves the board unchanged
+    @Test
+    public void testCopy_void_independent() {
+        ICheckerBoard board = makeBoard(10);
+        board.putPlayersOnNewBoard('x', 'o');
+        board.movePiece(new BoardPosition(3, 3), DirectionEnum.SE);
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        long hash = board.hash();
+
+        ICheckerBoard copy = board.copy();
+        assertEquals(board.getClass(), copy.getClass());
+        assertEquals(before, copy.toString());
+        assertEquals(hash, copy.hash());
+        assertEquals(board.getPlayerToMove(), copy.getPlayerToMove());
+        assertEquals(board.getPieceCounts(), copy.getPieceCounts());
+        assertEquals(board.getViableDirections(), copy.getViableDirections());
+
+        copy.movePiece(new BoardPosition(6, 6), DirectionEnum.NW);
+        copy.getViableDirections().get('x').clear();
+        assertEquals(before, board.toString());
+        assertEquals(hash, board.hash());
+        assertEquals(2, board.getViableDirections().get('x').size());
+    }
+
+    // movePiece(BoardPosition, DirectionEnum) test #4 - routine test - the position returned is the shared BoardPosition of (4,4), which a new BoardPosition equals and hashes like
+    @Test
+    public void testMovePiece_BoardPosition_5_3_DirectionEnum_NE_shared() {
+        ICheckerBoard board = makeBoard(16);
+        BoardPosition startingPos = new BoardPosition(5, 3);
+        HashSet<BoardPosition> visited = new HashSet<>();
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        BoardPosition actualPos = board.movePiece(startingPos, DirectionEnum.NE);
+        visited.add(actualPos);
+
+        assertSame(BoardPosition.of(4, 4), actualPos);
+        assertSame(BoardPosition.of(15, 15), BoardPosition.ofSquare(127, 16));
+        assertEquals(34, actualPos.getSquare(board.getBoardSize()));
+        assertEquals(true, visited.contains(new BoardPosition(4, 4)));
+        assertEquals(false, visited.contains(new BoardPosition(4, 6)));
+    }
+
+    // makeMove(long) and unmakeMove(void) test #1 - routine test - a capture that crowns 'o' is made and unmade, restoring the board, the counts, and the hash
+    @Test
+    public void testMakeUnmakeMove_long_captureCrowns() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        board.placePiece(new BoardPosition(2, 2), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(1, 3), board.getPlayerOne());
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        HashMap<Character, Integer> counts = new HashMap<>(board.getPieceCounts());
+        long hash = board.hash();
+
+        board.makeMove(Move.of(BoardPosition.toSquare(2, 2, 8), BoardPosition.toSquare(0, 4, 8), DirectionEnum.NE, true));
+        assertEquals(board.getPlayerTwoKing(), board.whatsAtPos(new BoardPosition(0, 4)));
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(1, 3)));
+        assertEquals(Integer.valueOf(0), board.getPieceCounts().get('x'));
+        assertEquals(board.getPlayerOne(), board.getPlayerToMove());
+        assertEquals(1, board.getUndoDepth());
+
+        board.unmakeMove();
+        assertEquals(before, board.toString());
+        assertEquals(counts, board.getPieceCounts());
+        assertEquals(hash, board.hash());
+        assertEquals(board.getPlayerTwo(), board.getPlayerToMove());
+        assertEquals(0, board.getUndoDepth());
+    }
+
+    // makeMove(long) and unmakeMove(void) test #2 - routine test - 'o' at (7,1) jumps (6,2) and (4,4) to reach (3,5), 'x' replies, and unmaking both restores the board
+    @Test
+    public void testMakeUnmakeMove_long_doubleJumpAndReply() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(6, 2), board.getPlayerOne());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        board.placePiece(new BoardPosition(0, 0), board.getPlayerOne());
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        long hash = board.hash();
+
+        assertEquals(1, board.generateLegalMoves(board.getPlayerTwo(), moves));
+        board.makeMove(moves[0]);
+        assertEquals(board.getPlayerTwo(), board.whatsAtPos(new BoardPosition(3, 5)));
+        assertEquals(Integer.valueOf(1), board.getPieceCounts().get('x'));
+        board.generateLegalMoves(board.getPlayerOne(), moves);
+        board.makeMove(moves[0]);
+        assertEquals(2, board.getUndoDepth());
+
+        board.unmakeMove();
+        board.unmakeMove();
+        assertEquals(before, board.toString());
+        assertEquals(hash, board.hash());
+        assertEquals(Integer.valueOf(3), board.getPieceCounts().get('x'));
+    }
+
+    // getMenCount(char) and getKingCount(char) test #1 - routine test - crowning a piece, jumping a piece, and placing over a piece keep the men and king counts of both players
+    @Test
+    public void testGetMenKingCount_char_crownJumpAndReplace() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        assertEquals(12, board.getMenCount('x'));
+        assertEquals(0, board.getKingCount('X'));
+
+        board.crownPiece(new BoardPosition(0, 0));
+        board.movePiece(new BoardPosition(5, 5), DirectionEnum.NW);
+        board.movePiece(new BoardPosition(2, 2), DirectionEnum.SE);
+        board.jumpPiece(new BoardPosition(3, 3), DirectionEnum.SE);
+        board.placePiece(new BoardPosition(6, 6), 'X');
+
+        assertEquals(11, board.getMenCount('x'));
+        assertEquals(2, board.getKingCount('x'));
+        assertEquals(10, board.getMenCount('O'));
+        assertEquals(0, board.getKingCount('o'));
+        assertEquals(13, board.getPieceCount('X'));
+        assertEquals(Integer.valueOf(13), board.getPieceCounts().get('x'));
+        assertEquals(Integer.valueOf(10), board.getPieceCounts().get('o'));
+        assertEquals(0, board.getMenCount(ICheckerBoard.EMPTY_POS));
+    }
+
+    // renderTo(Appendable) test #1 - boundary test - rendering a 16x16 board after existing text appends exactly toString, with two digit column and row numbers
+    @Test
+    public void testRenderTo_Appendable_16x16_appends() throws IOException {
+        ICheckerBoard board = makeBoard(16);
+        board.putPlayersOnNewBoard('x', 'o');
+        StringBuilder out = new StringBuilder("log: ");
+
+        board.renderTo(out);
+
+        assertEquals("log: " + board.toString(), out.toString());
+        assertTrue(out.toString().startsWith("log: |  | 0| 1| 2| 3| 4| 5| 6| 7| 8| 9|10|11|12|13|14|15|\n|0 |x |* |"));
+        assertTrue(out.toString().contains("\n|15|* |o |"));
+    }
+}
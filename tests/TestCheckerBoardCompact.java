@@ -0,0 +1,910 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * TestCheckerBoardCompact contains test case functions to test some of the pivotal functions contained in the
+ * CheckerBoardCompact class. The functions it tests include CheckerBoardCompact(int), whatsAtPos(BoardPosition),
+ * placePiece(BoardPosition, char), getPieceCounts(void), getViableDirections(void), getRowNum(void), getColNum(void),
+ * checkPlayerWin(Character), crownPiece(BoardPosition), movePiece(BoardPosition, DirectionEnum),
+ * jumpPiece(BoardPosition, DirectionEnum), scanSurroundingPositions(BoardPosition), and getDirection(DirectionEnum).
+ * TestCheckerBoardCompact contains a function that makes accessing the CheckerBoardCompact constructor easier, and a
+ * functions that turns the board array into a String.
+ *
+ * @invariant [player pieces cannot occupy the positions of black tiles] AND [a player's number of pieces can
+ * never be negative] AND [pieces cannot go past the boardSize row and columns of the board]
+ */
+public class TestCheckerBoardCompact {
+    /**
+     * Accesses and returns the CheckerBoard constructor with the provided dimension size as input. Accepts one
+     * parameter.
+     * @param aDimension The size of the board, as an int
+     * @return The CheckerBoard constructor given a dimension size, which creates a new checkerboard, as a CheckerBoard
+     *
+     * @pre aDimension != null AND aDimension = [8, 10, 12, 14, or 16]
+     *
+     * @post makeBoard = [a new board with a board size of the provided dimension]
+     */
+    private ICheckerBoard makeBoard(int aDimension) {
+        return new CheckerBoardCompact(aDimension);
+    }
+
+    /**
+     * Takes a 2D char array of the checkerboard and turns it into a string.
+     * @param charArray The array of characters that makes up the checkerboard, as a 2D character array
+     * @return A string representation of the 2D char array checkerboard, as a String
+     *
+     * @pre charArrayToBoardString != null AND charArray.length = [8, 10, 12, 14, or 16]
+     *
+     * @post charArrayToBoardString = [A string representation of the 2D char array checkerboard]
+     */
+    private String charArrayToBoardString(char[][] charArray) {
+        StringBuilder result = new StringBuilder();
+        int boardSize = charArray.length;
+        int row, column;
+        char boardChar;
+
+        result.append("|  |");
+        for (column = 0; column < boardSize; column++) {
+            result.append(String.format("%2d|", column));
+        }
+        result.append("\n");
+        for (row = 0; row < boardSize; row++) {
+            result.append(String.format("|%-2d|", row));
+            for (column = 0; column < boardSize; column++) {
+                boardChar = charArray[row][column];
+                result.append(boardChar).append(" |");
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+
+    // CheckerBoardCompact(int) test #1 - boundary test - 8 is the minimum board size dimension that can be input
+    @Test
+    public void testCheckerBoardCompact_Integer_8() {
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+        assertEquals(charArrayToBoardString(expected), makeBoard(8).toString());
+    }
+
+    // CheckerBoardCompact(int) test #2 - boundary test - 16 is the maximum board size dimension that can be input
+    @Test
+    public void testCheckerBoardCompact_Integer_16() {
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+        assertEquals(charArrayToBoardString(expected), makeBoard(16).toString());
+    }
+
+    // CheckerBoardCompact(int) test #3 - routine test - 12 is a common board size dimension that can be input
+    @Test
+    public void testCheckerBoardCompact_Integer_12() {
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+        assertEquals(charArrayToBoardString(expected), makeBoard(12).toString());
+    }
+
+    // whatsAtPos(BoardPosition) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8
+    @Test
+    public void testWhatsAtPos_BoardPosition_0_0() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 0);
+
+        assertEquals(' ', board.whatsAtPos(pos));
+    }
+
+    // whatsAtPos(BoardPosition) test #2 - boundary test - (0,7) is the upper right position of the board when board size is 8
+    @Test
+    public void testWhatsAtPos_BoardPosition_0_7() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 7);
+
+        assertEquals('*', board.whatsAtPos(pos));
+    }
+
+    // whatsAtPos(BoardPosition) test #3 - boundary test - (7,0) is the lower left position of the board when board size is 8
+    @Test
+    public void testWhatsAtPos_BoardPosition_7_0() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(7, 0);
+
+        assertEquals('*', board.whatsAtPos(pos));
+    }
+
+    // whatsAtPos(BoardPosition) test #4 - boundary test - (7,7) is the lower right position of the board when board size is 8
+    @Test
+    public void testWhatsAtPos_BoardPosition_7_7() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(7, 7);
+
+        assertEquals(' ', board.whatsAtPos(pos));
+    }
+
+    // whatsAtPos(BoardPosition) test #5 - routine test - (4,4) is a common position on the board when board size is 8
+    @Test
+    public void testWhatsAtPos_BoardPosition_4_4() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(4, 4);
+
+        assertEquals(' ', board.whatsAtPos(pos));
+    }
+
+    // placePiece(BoardPosition, char) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8
+    @Test
+    public void testPlacePiece_BoardPosition_0_0_char_x() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerOne('x');
+        BoardPosition pos = new BoardPosition(0, 0);
+        char[][] expected = {
+                {'x', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        board.placePiece(pos, 'x');
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // placePiece(BoardPosition, char) test #2 - boundary test - (1,7) is an upper right position of the board when board size is 8
+    @Test
+    public void testPlacePiece_BoardPosition_1_7_char_x() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerOne('x');
+        BoardPosition pos = new BoardPosition(1, 7);
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', 'x'},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        board.placePiece(pos, 'x');
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // placePiece(BoardPosition, char) test #3 - boundary test - (6,0) is a lower left position of the board when board size is 8
+    @Test
+    public void testPlacePiece_BoardPosition_6_0_char_o() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerTwo('o');
+        BoardPosition pos = new BoardPosition(6, 0);
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {'o', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        board.placePiece(pos, 'o');
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // placePiece(BoardPosition, char) test #4 - boundary test - (7,7) is the lower right position of the board when board size is 8
+    @Test
+    public void testPlacePiece_BoardPosition_7_7_char_o() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerTwo('o');
+        BoardPosition pos = new BoardPosition(7, 7);
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', 'o'},
+        };
+
+        board.placePiece(pos, 'o');
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // placePiece(BoardPosition, char) test #5 - routine test - (4,4) is a common position on the board when board size is 8
+    @Test
+    public void testPlacePiece_BoardPosition_4_4_char_o() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerTwo('o');
+        BoardPosition pos = new BoardPosition(4, 4);
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', 'o', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        board.placePiece(pos, 'o');
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // getPieceCounts(void) test #1 - routine test - 12 is the number of starting pieces for both players when board size is 8
+    @Test
+    public void testGetPieceCounts_void_forPlayers_x_o() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        int actualPlayerOnePieces = board.getPieceCounts().get('x');
+        int actualPlayerTwoPieces = board.getPieceCounts().get('o');
+
+        assertEquals(12, actualPlayerOnePieces);
+        assertEquals(12, actualPlayerTwoPieces);
+    }
+
+    // getViableDirections(void) test #1 - routine test - SW and SE are the starting directions for playerOne, and NW and NE are the starting directions for playerTwo
+    @Test
+    public void testGetViableDirections_void_forPlayers_x_o() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        HashMap<Character, ArrayList<DirectionEnum>> viableDirections = board.getViableDirections();
+        ArrayList<DirectionEnum> playerOneDirections = new ArrayList<>(), playerTwoDirections = new ArrayList<>();
+
+        playerOneDirections.add(DirectionEnum.SW);
+        playerOneDirections.add(DirectionEnum.SE);
+        playerTwoDirections.add(DirectionEnum.NW);
+        playerTwoDirections.add(DirectionEnum.NE);
+
+        assertEquals(playerOneDirections, viableDirections.get('x'));
+        assertEquals(playerTwoDirections, viableDirections.get('o'));
+    }
+
+    // getRowNum(void) test #1 - routine test - 8 is the number of rows on the checkerboard when board size is 8
+    @Test
+    public void testGetRowNum_void_boardSize_8() {
+        ICheckerBoard board = makeBoard(8);
+        int actual = board.getRowNum();
+
+        assertEquals(8, actual);
+    }
+
+    // getColNum(void) test #1 - routine test - 8 is the number of columns on the checkerboard when board size is 8
+    @Test
+    public void testGetColNum_void_boardSize_8() {
+        ICheckerBoard board = makeBoard(8);
+        int actual = board.getColNum();
+
+        assertEquals(8, actual);
+    }
+
+    // checkPlayerWin(Character) test #1 - routine test - when playerTwo has no pieces on the board and playerOne has pieces on the board, playerOne wins
+    @Test
+    public void testCheckPlayerWin_Character_x_winningScenario() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(4, 4);
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(pos, 'x');
+
+        boolean expectedPlayerOneWin = board.checkPlayerWin(board.getPlayerOne());
+
+        assertEquals(true, expectedPlayerOneWin);
+    }
+
+    // checkPlayerWin(Character) test #2 - routine test - when playerOne and playerTwo still have pieces on the board, nobody wins the game yet
+    @Test
+    public void testCheckPlayerWin_Character_x_noWinningScenario() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition playerOnePos = new BoardPosition(4, 4);
+        BoardPosition playerTwoPos = new BoardPosition(4, 2);
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(playerOnePos, 'x');
+        board.placePiece(playerTwoPos, 'o');
+
+        boolean expectedPlayerOneWin = board.checkPlayerWin(board.getPlayerOne());
+
+        assertEquals(false, expectedPlayerOneWin);
+    }
+
+    // crownPiece(BoardPosition) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8. 'o' becomes 'O'
+    @Test
+    public void testCrownPiece_BoardPosition_0_0() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 0);
+
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('O');
+        board.placePiece(pos, board.getPlayerTwo());
+        board.crownPiece(pos);
+
+        char[][] expected = {
+                {'O', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // crownPiece(BoardPosition) test #2 - boundary test - (7,7) is the lower right position of the board when board size is 8. 'x' becomes 'X'
+    @Test
+    public void testCrownPiece_BoardPosition_7_7() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(7, 7);
+
+        board.setPlayerOne('x');
+        board.setPlayerOneKing('X');
+        board.placePiece(pos, board.getPlayerOne());
+        board.crownPiece(pos);
+
+        char[][] expected = {
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', 'X'},
+        };
+
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // crownPiece(BoardPosition) test #3 - routine test - (0,4) is a common position on the board when board size is 8. 'o' becomes 'O'
+    @Test
+    public void testCrownPiece_BoardPosition_0_4() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 4);
+
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('O');
+        board.placePiece(pos, board.getPlayerTwo());
+        board.crownPiece(pos);
+
+        char[][] expected = {
+                {' ', '*', ' ', '*', 'O', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+                {' ', '*', ' ', '*', ' ', '*', ' ', '*'},
+                {'*', ' ', '*', ' ', '*', ' ', '*', ' '},
+        };
+
+        assertEquals(charArrayToBoardString(expected), board.toString());
+    }
+
+    // movePiece(BoardPosition, DirectionEnum) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8. 'x' moves SE from (0,0) to (1,1)
+    @Test
+    public void testMovePiece_BoardPosition_0_0_DirectionEnum_SE() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(0, 0);
+        BoardPosition expectedPos = new BoardPosition(1, 1);
+
+        board.setPlayerOne('x');
+        board.placePiece(startingPos, board.getPlayerOne());
+        BoardPosition actualPos = board.movePiece(startingPos, DirectionEnum.SE);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // movePiece(BoardPosition, DirectionEnum) test #2 - boundary test - (7,7) is the lower right position of the board when board size is 8. 'o' moves NW from (7,7) to (6,6)
+    @Test
+    public void testMovePiece_BoardPosition_7_7_DirectionEnum_NW() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(7, 7);
+        BoardPosition expectedPos = new BoardPosition(6, 6);
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        BoardPosition actualPos = board.movePiece(startingPos, DirectionEnum.NW);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // movePiece(BoardPosition, DirectionEnum) test #3 - routine test - (5,3) is a common position on the board when board size is 8. 'o' moves NE from (5,3) to (4,4)
+    @Test
+    public void testMovePiece_BoardPosition_5_3_DirectionEnum_NE() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(5, 3);
+        BoardPosition expectedPos = new BoardPosition(4, 4);
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        BoardPosition actualPos = board.movePiece(startingPos, DirectionEnum.NE);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // jumpPiece(BoardPosition, DirectionEnum) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8. 'x' jumps SE from (0,0) to (2,2)
+    @Test
+    public void testJumpPiece_BoardPosition_0_0_DirectionEnum_SE() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(0, 0);
+        BoardPosition expectedPos = new BoardPosition(2, 2);
+        BoardPosition playerTwoPos = new BoardPosition(1, 1);
+
+        board.setPlayerOne('x');
+        board.placePiece(startingPos, board.getPlayerOne());
+        board.setPlayerTwo('o');
+        board.placePiece(playerTwoPos, board.getPlayerTwo());
+        BoardPosition actualPos = board.jumpPiece(startingPos, DirectionEnum.SE);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // jumpPiece(BoardPosition, DirectionEnum) test #2 - boundary test - (7,7) is the lower right position of the board when board size is 8. 'o' jumps NW from (7,7) to (5,5)
+    @Test
+    public void testJumpPiece_BoardPosition_7_7_DirectionEnum_NW() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(7, 7);
+        BoardPosition expectedPos = new BoardPosition(5, 5);
+        BoardPosition playerOnePos = new BoardPosition(6, 6);
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        board.setPlayerOne('x');
+        board.placePiece(playerOnePos, board.getPlayerOne());
+        BoardPosition actualPos = board.jumpPiece(startingPos, DirectionEnum.NW);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // jumpPiece(BoardPosition, DirectionEnum) test #3 - routine test - (5,3) is a common position on the board when board size is 8. 'o' jumps NE from (5,3) to (3,5)
+    @Test
+    public void testJumpPiece_BoardPosition_5_3_DirectionEnum_NE() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition startingPos = new BoardPosition(5, 3);
+        BoardPosition expectedPos = new BoardPosition(3, 5);
+        BoardPosition playerOnePos = new BoardPosition(4, 4);
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        board.setPlayerOne('x');
+        board.placePiece(playerOnePos, board.getPlayerOne());
+        BoardPosition actualPos = board.jumpPiece(startingPos, DirectionEnum.NE);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // scanSurroundingPositions(BoardPosition) test #1 - boundary test - (0,0) is the upper left position of the board when board size is 8.
+    @Test
+    public void testScanSurroundingPositions_BoardPosition_0_0() {
+        ICheckerBoard board = makeBoard(8);
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.putPlayersOnNewBoard(board.getPlayerOne(), board.getPlayerTwo());
+        BoardPosition startingPos = new BoardPosition(0, 0);
+        HashMap<DirectionEnum, Character> actualPos = board.scanSurroundingPositions(startingPos);
+
+        HashMap<DirectionEnum, Character> expectedPos = new HashMap<>();
+        expectedPos.put(DirectionEnum.SE, board.getPlayerOne());
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // scanSurroundingPositions(BoardPosition) test #2 - boundary test - (7,7) is the lower right position of the board when board size is 8.
+    @Test
+    public void testScanSurroundingPositions_BoardPosition_7_7() {
+        ICheckerBoard board = makeBoard(8);
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.putPlayersOnNewBoard(board.getPlayerOne(), board.getPlayerTwo());
+        BoardPosition startingPos = new BoardPosition(7, 7);
+        HashMap<DirectionEnum, Character> actualPos = board.scanSurroundingPositions(startingPos);
+
+        HashMap<DirectionEnum, Character> expectedPos = new HashMap<>();
+        expectedPos.put(DirectionEnum.NW, board.getPlayerTwo());
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // scanSurroundingPositions(BoardPosition) test #3 - routine test - (2,4) is a common position on the board when board size is 8.
+    @Test
+    public void testScanSurroundingPositions_BoardPosition_2_4() {
+        ICheckerBoard board = makeBoard(8);
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.putPlayersOnNewBoard(board.getPlayerOne(), board.getPlayerTwo());
+        BoardPosition startingPos = new BoardPosition(2, 4);
+        HashMap<DirectionEnum, Character> actualPos = board.scanSurroundingPositions(startingPos);
+
+        HashMap<DirectionEnum, Character> expectedPos = new HashMap<>();
+        expectedPos.put(DirectionEnum.NE, board.getPlayerOne());
+        expectedPos.put(DirectionEnum.NW, board.getPlayerOne());
+        expectedPos.put(DirectionEnum.SE, board.EMPTY_POS);
+        expectedPos.put(DirectionEnum.SW, board.EMPTY_POS);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // getDirection(DirectionEnum) test #1 - routine test - SW is one of four directions that can be obtained
+    @Test
+    public void testGetDirection_DirectionEnum_SW() {
+        ICheckerBoard board = makeBoard(8);
+        BoardPosition expectedPos = new BoardPosition(1, -1);
+        BoardPosition actualPos = ICheckerBoard.getDirection(DirectionEnum.SW);
+
+        assertEquals(expectedPos, actualPos);
+    }
+
+    // jumpPiece(BoardPosition, DirectionEnum) test #4 - boundary test - on a 16x16 board (8,8) to (6,6) crosses from the second word of the masks into the first word
+    @Test
+    public void testJumpPiece_BoardPosition_8_8_DirectionEnum_NW_boardSize_16() {
+        ICheckerBoard board = makeBoard(16);
+        BoardPosition startingPos = new BoardPosition(8, 8);
+        BoardPosition capturePos = new BoardPosition(7, 7);
+        BoardPosition expectedPos = new BoardPosition(6, 6);
+
+        board.setPlayerTwo('o');
+        board.placePiece(startingPos, board.getPlayerTwo());
+        board.setPlayerOne('x');
+        board.placePiece(capturePos, board.getPlayerOne());
+        BoardPosition actualPos = board.jumpPiece(startingPos, DirectionEnum.NW);
+
+        assertEquals(expectedPos, actualPos);
+        assertEquals('o', board.whatsAtPos(expectedPos));
+        assertEquals(' ', board.whatsAtPos(startingPos));
+        assertEquals(' ', board.whatsAtPos(capturePos));
+        assertEquals(1, (int) board.getPieceCounts().get('o'));
+        assertEquals(0, (int) board.getPieceCounts().get('x'));
+    }
+
+    // putPlayersOnNewBoard(char, char) test #1 - routine test - 56 is the number of starting pieces for both players when board size is 16
+    @Test
+    public void testPutPlayersOnNewBoard_char_x_char_o_boardSize_16() {
+        ICheckerBoard board = makeBoard(16);
+        board.putPlayersOnNewBoard('x', 'o');
+
+        assertEquals(56, (int) board.getPieceCounts().get('x'));
+        assertEquals(56, (int) board.getPieceCounts().get('o'));
+        assertEquals('x', board.whatsAtPos(new BoardPosition(6, 14)));
+        assertEquals('o', board.whatsAtPos(new BoardPosition(15, 15)));
+        assertEquals(' ', board.whatsAtPos(new BoardPosition(7, 7)));
+    }
+
+    // generateMoves(char, long[]) test #1 - routine test - 7 is the number of moves each player has from the starting position when board size is 8
+    @Test
+    public void testGenerateMoves_char_x_o_startingPosition() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        assertEquals(7, board.generateMoves(board.getPlayerOne(), moves));
+        assertEquals(7, board.generateMoves(board.getPlayerTwo(), moves));
+    }
+
+    // generateMoves(char, long[]) test #2 - routine test - 'o' at (5,3) can jump 'x' at (4,4) to reach (3,5) or move NW to (4,2)
+    @Test
+    public void testGenerateMoves_char_o_jumpAvailable() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        int count = board.generateMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(2, count);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(3, 5, 8), DirectionEnum.NE, true), moves[0]);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(4, 2, 8), DirectionEnum.NW, false), moves[1]);
+        assertEquals(BoardPosition.toSquare(4, 4, 8), Move.getCapturedSquare(moves[0], 0, 8));
+    }
+
+    // generateLegalMoves(char, long[]) test #1 - routine test - when 'o' at (5,3) can jump, its simple moves and the simple moves of other pieces are not legal
+    @Test
+    public void testGenerateLegalMoves_char_o_captureIsMandatory() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(Move.of(BoardPosition.toSquare(5, 3, 8), BoardPosition.toSquare(3, 5, 8), DirectionEnum.NE, true), moves[0]);
+    }
+
+    // generateLegalMoves(char, long[]) test #2 - routine test - 'o' at (7,1) must keep jumping from (5,3) over (4,4) and (2,4) to finish at (1,3)
+    @Test
+    public void testGenerateLegalMoves_char_o_multiJump() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(6, 2), board.getPlayerOne());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        board.placePiece(new BoardPosition(2, 4), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(3, Move.getStepCount(moves[0]));
+        assertEquals(BoardPosition.toSquare(1, 3, 8), Move.getTo(moves[0]));
+        assertEquals("7,1x5,3x3,5x1,3", Move.toString(moves[0], 8));
+    }
+
+    // generateLegalMoves(char, long[]) test #3 - boundary test - 'o' is crowned when it lands on row 0, which ends its move even though the new king could jump again
+    @Test
+    public void testGenerateLegalMoves_char_o_crowningEndsMove() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.placePiece(new BoardPosition(2, 2), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(1, 3), board.getPlayerOne());
+        board.placePiece(new BoardPosition(1, 5), board.getPlayerOne());
+        int count = board.generateLegalMoves(board.getPlayerTwo(), moves);
+
+        assertEquals(1, count);
+        assertEquals(1, Move.getStepCount(moves[0]));
+        assertEquals(BoardPosition.toSquare(0, 4, 8), Move.getTo(moves[0]));
+    }
+
+    // hash(void) test #1 - routine test - moving 'o' from (5,3) to (4,4) and back gives back the starting hash, and a different hash in between
+    @Test
+    public void testHash_void_moveAndMoveBack() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long startingHash = board.hash();
+
+        BoardPosition newPos = board.movePiece(new BoardPosition(5, 3), DirectionEnum.NE);
+        long movedHash = board.hash();
+        board.movePiece(newPos, DirectionEnum.SW);
+
+        assertNotEquals(startingHash, movedHash);
+        assertEquals(startingHash, board.hash());
+    }
+
+    // hash(void) test #2 - routine test - the same position has the same hash on every ICheckerBoard implementation
+    @Test
+    public void testHash_void_matchesOtherImplementations() {
+        ICheckerBoard board = makeBoard(10);
+        ICheckerBoard fast = new CheckerBoard(10), mem = new CheckerBoardMem(10), bit = new CheckerBoardBit(10);
+        board.putPlayersOnNewBoard('x', 'o');
+        fast.putPlayersOnNewBoard('x', 'o');
+        mem.putPlayersOnNewBoard('x', 'o');
+        bit.putPlayersOnNewBoard('x', 'o');
+
+        for (ICheckerBoard b : new ICheckerBoard[] {board, fast, mem, bit}) {
+            b.movePiece(new BoardPosition(3, 3), DirectionEnum.SE);
+            b.movePiece(new BoardPosition(6, 6), DirectionEnum.NW);
+            b.jumpPiece(new BoardPosition(4, 4), DirectionEnum.SE);
+        }
+
+        assertEquals(fast.hash(), board.hash());
+        assertEquals(mem.hash(), board.hash());
+        assertEquals(bit.hash(), board.hash());
+    }
+
+    // setPlayerToMove(char) test #1 - routine test - giving the turn to 'o' changes the hash and giving it back to 'x' restores it
+    @Test
+    public void testSetPlayerToMove_char_o_then_x() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        long startingHash = board.hash();
+
+        board.setPlayerToMove(board.getPlayerTwo());
+        assertEquals('o', board.getPlayerToMove());
+        assertNotEquals(startingHash, board.hash());
+        board.setPlayerToMove(board.getPlayerOneKing());
+        assertEquals('x', board.getPlayerToMove());
+        assertEquals(startingHash, board.hash());
+    }
+
+    // crownPiece(BoardPosition) test #4 - routine test - crowning 'o' at (0,4) changes the hash to the hash of a king at (0,4)
+    @Test
+    public void testCrownPiece_BoardPosition_0_4_hash() {
+        ICheckerBoard board = makeBoard(8);
+        ICheckerBoard kingBoard = makeBoard(8);
+        BoardPosition pos = new BoardPosition(0, 4);
+
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('O');
+        kingBoard.setPlayerTwo('o');
+        kingBoard.setPlayerTwoKing('O');
+        board.placePiece(pos, board.getPlayerTwo());
+        board.crownPiece(pos);
+        kingBoard.placePiece(pos, kingBoard.getPlayerTwoKing());
+
+        assertEquals(kingBoard.hash(), board.hash());
+    }
+
+    // copy(void) test #1 - routine test - the copy of a game in progress matches the board, and moving a piece on the copy leaves the board unchanged
+    @Test
+    public void testCopy_void_independent() {
+        ICheckerBoard board = makeBoard(10);
+        board.putPlayersOnNewBoard('x', 'o');
+        board.movePiece(new BoardPosition(3, 3), DirectionEnum.SE);
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        long hash = board.hash();
+
+        ICheckerBoard copy = board.copy();
+        assertEquals(board.getClass(), copy.getClass());
+        assertEquals(before, copy.toString());
+        assertEquals(hash, copy.hash());
+        assertEquals(board.getPlayerToMove(), copy.getPlayerToMove());
+        assertEquals(board.getPieceCounts(), copy.getPieceCounts());
+        assertEquals(board.getViableDirections(), copy.getViableDirections());
+
+        copy.movePiece(new BoardPosition(6, 6), DirectionEnum.NW);
+        copy.getViableDirections().get('x').clear();
+        assertEquals(before, board.toString());
+        assertEquals(hash, board.hash());
+        assertEquals(2, board.getViableDirections().get('x').size());
+    }
+
+    // makeMove(long) and unmakeMove(void) test #1 - routine test - a capture that crowns 'o' is made and unmade, restoring the board, the counts, and the hash
+    @Test
+    public void testMakeUnmakeMove_long_captureCrowns() {
+        ICheckerBoard board = makeBoard(8);
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        board.placePiece(new BoardPosition(2, 2), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(1, 3), board.getPlayerOne());
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        HashMap<Character, Integer> counts = new HashMap<>(board.getPieceCounts());
+        long hash = board.hash();
+
+        board.makeMove(Move.of(BoardPosition.toSquare(2, 2, 8), BoardPosition.toSquare(0, 4, 8), DirectionEnum.NE, true));
+        assertEquals(board.getPlayerTwoKing(), board.whatsAtPos(new BoardPosition(0, 4)));
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(1, 3)));
+        assertEquals(Integer.valueOf(0), board.getPieceCounts().get('x'));
+        assertEquals(board.getPlayerOne(), board.getPlayerToMove());
+        assertEquals(1, board.getUndoDepth());
+
+        board.unmakeMove();
+        assertEquals(before, board.toString());
+        assertEquals(counts, board.getPieceCounts());
+        assertEquals(hash, board.hash());
+        assertEquals(board.getPlayerTwo(), board.getPlayerToMove());
+        assertEquals(0, board.getUndoDepth());
+    }
+
+    // makeMove(long) and unmakeMove(void) test #2 - routine test - 'o' at (7,1) jumps (6,2) and (4,4) to reach (3,5), 'x' replies, and unmaking both restores the board
+    @Test
+    public void testMakeUnmakeMove_long_doubleJumpAndReply() {
+        ICheckerBoard board = makeBoard(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        board.placePiece(new BoardPosition(7, 1), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(6, 2), board.getPlayerOne());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        board.placePiece(new BoardPosition(0, 0), board.getPlayerOne());
+        board.setPlayerToMove(board.getPlayerTwo());
+        String before = board.toString();
+        long hash = board.hash();
+
+        assertEquals(1, board.generateLegalMoves(board.getPlayerTwo(), moves));
+        board.makeMove(moves[0]);
+        assertEquals(board.getPlayerTwo(), board.whatsAtPos(new BoardPosition(3, 5)));
+        assertEquals(Integer.valueOf(1), board.getPieceCounts().get('x'));
+        board.generateLegalMoves(board.getPlayerOne(), moves);
+        board.makeMove(moves[0]);
+        assertEquals(2, board.getUndoDepth());
+
+        board.unmakeMove();
+        board.unmakeMove();
+        assertEquals(before, board.toString());
+        assertEquals(hash, board.hash());
+        assertEquals(Integer.valueOf(3), board.getPieceCounts().get('x'));
+    }
+
+    // placePiece(BoardPosition, char) test #6 - boundary test - placing EMPTY_POS over a king on the 16x16 board clears it, and the black tiles around it are still reported
+    @Test
+    public void testPlacePiece_BoardPosition_15_15_char_emptyPos_boardSize_16() {
+        ICheckerBoard board = makeBoard(16);
+        board.putPlayersOnNewBoard('x', 'o');
+        board.crownPiece(new BoardPosition(15, 15));
+        assertEquals('O', board.whatsAtPos(new BoardPosition(15, 15)));
+
+        board.placePiece(new BoardPosition(15, 15), ICheckerBoard.EMPTY_POS);
+
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(15, 15)));
+        assertEquals(ICheckerBoard.BLACK_TILE, board.whatsAtPos(new BoardPosition(15, 14)));
+        assertEquals(ICheckerBoard.BLACK_TILE, board.whatsAtPos(new BoardPosition(14, 15)));
+        assertEquals(55, (int) board.getPieceCounts().get('o'));
+        assertEquals(56, (int) board.getPieceCounts().get('x'));
+    }
+
+    // getMenCount(char) and getKingCount(char) test #1 - routine test - crowning a piece, jumping a piece, and placing over a piece keep the men and king counts of both players
+    @Test
+    public void testGetMenKingCount_char_crownJumpAndReplace() {
+        ICheckerBoard board = makeBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        assertEquals(12, board.getMenCount('x'));
+        assertEquals(0, board.getKingCount('X'));
+
+        board.crownPiece(new BoardPosition(0, 0));
+        board.movePiece(new BoardPosition(5, 5), DirectionEnum.NW);
+        board.movePiece(new BoardPosition(2, 2), DirectionEnum.SE);
+        board.jumpPiece(new BoardPosition(3, 3), DirectionEnum.SE);
+        board.placePiece(new BoardPosition(6, 6), 'X');
+
+        assertEquals(11, board.getMenCount('x'));
+        assertEquals(2, board.getKingCount('x'));
+        assertEquals(10, board.getMenCount('O'));
+        assertEquals(0, board.getKingCount('o'));
+        assertEquals(13, board.getPieceCount('X'));
+        assertEquals(Integer.valueOf(13), board.getPieceCounts().get('x'));
+        assertEquals(Integer.valueOf(10), board.getPieceCounts().get('o'));
+        assertEquals(0, board.getMenCount(ICheckerBoard.EMPTY_POS));
+    }
+}
@@ -0,0 +1,71 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EndgameIndex;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * TestEndgameIndex contains test case functions to test the EndgameIndex class. The functions it tests include
+ * EndgameIndex(int, int, int, int), index(int[], int), index(ICheckerBoard), decode(int, int[]), and
+ * signatureOf(int[]).
+ *
+ * @invariant [every board has players 'x' and 'o']
+ */
+public class TestEndgameIndex {
+    // decode(int, int[]) test #1 - routine test - every number that is a position decodes to pieces that index back to the same number, and only overlapping standard pieces are invalid
+    @Test
+    public void testDecode_int_intArr_roundTrip() {
+        EndgameIndex index = new EndgameIndex(1, 1, 1, 0);
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        int positions = 0;
+
+        for (int number = 0; number < index.getSize(); number++) {
+            int side = index.decode(number, masks);
+            if (side == EndgameIndex.INVALID) {
+                assertNotEquals(0, masks[ICheckerBoard.PLAYER_ONE_TYPE] & masks[ICheckerBoard.PLAYER_TWO_TYPE]);
+                continue;
+            }
+            positions++;
+            assertEquals(index.getSignature(), EndgameIndex.signatureOf(masks));
+            assertEquals(0, masks[ICheckerBoard.PLAYER_ONE_TYPE] & 0xF0000000);
+            assertEquals(0, masks[ICheckerBoard.PLAYER_TWO_TYPE] & 0xF);
+            assertEquals(number, index.index(masks, side));
+        }
+        // a standard piece of each player off their crowning rows, without sharing a square, then a king on any square left
+        assertEquals(2 * (28 * 28 - 24) * 30, positions);
+    }
+
+    // index(ICheckerBoard) test #1 - routine test - a board is numbered by its pieces and player to move, as the masks of its squares are
+    @Test
+    public void testIndex_ICheckerBoard_matchesMasks() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(BoardPosition.ofSquare(5, 8), 'x');
+        board.placePiece(BoardPosition.ofSquare(31, 8), 'O');
+        board.placePiece(BoardPosition.ofSquare(12, 8), 'O');
+        board.setPlayerToMove('o');
+        EndgameIndex index = new EndgameIndex(1, 0, 0, 2);
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        masks[ICheckerBoard.PLAYER_ONE_TYPE] = 1 << 5;
+        masks[ICheckerBoard.PLAYER_TWO_KING_TYPE] = (1 << 31) | (1 << 12);
+
+        assertEquals(index.index(masks, EndgameIndex.PLAYER_TWO_TO_MOVE), index.index(board));
+        assertEquals(EndgameIndex.PLAYER_TWO_TO_MOVE, index.decode(index.index(board), new int[EndgameIndex.PIECE_TYPES]));
+    }
+
+    // EndgameIndex(int, int, int, int) test #1 - boundary test - a player with no pieces has no table
+    @Test(expected = IllegalArgumentException.class)
+    public void testEndgameIndex_int_int_int_int_noPieces() {
+        new EndgameIndex(0, 0, 1, 1);
+    }
+
+    // EndgameIndex(int, int, int, int) test #2 - boundary test - more than MAX_PIECES pieces have no table
+    @Test(expected = IllegalArgumentException.class)
+    public void testEndgameIndex_int_int_int_int_tooManyPieces() {
+        new EndgameIndex(2, 2, 2, 1);
+    }
+}
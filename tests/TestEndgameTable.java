@@ -0,0 +1,74 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EndgameIndex;
+import cpsc2150.extendedCheckers.engine.EndgameTable;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestEndgameTable contains test case functions to test the EndgameTable class. The functions it tests include
+ * win(int), loss(int), distance(byte), write(Path), and read(Path).
+ *
+ * @invariant [every table file is in a temporary directory that is deleted by the test that made it]
+ */
+public class TestEndgameTable {
+    // win(int) and loss(int) test #1 - boundary test - the shortest and longest wins and losses keep their distances, and a draw is neither
+    @Test
+    public void testWinLoss_int_distances() {
+        assertTrue(EndgameTable.isWin(EndgameTable.win(1)));
+        assertEquals(EndgameTable.MAX_DISTANCE, EndgameTable.distance(EndgameTable.win(EndgameTable.MAX_DISTANCE)));
+        assertTrue(EndgameTable.isLoss(EndgameTable.loss(0)));
+        assertEquals(0, EndgameTable.distance(EndgameTable.loss(0)));
+        assertEquals(EndgameTable.MAX_DISTANCE, EndgameTable.distance(EndgameTable.loss(EndgameTable.MAX_DISTANCE)));
+        assertFalse(EndgameTable.isWin(EndgameTable.DRAW));
+        assertFalse(EndgameTable.isLoss(EndgameTable.DRAW));
+    }
+
+    // read(Path) test #1 - routine test - a written table is read back with the same signature and results
+    @Test
+    public void testRead_Path_roundTrip() throws IOException {
+        Path directory = Files.createTempDirectory("endgame");
+        EndgameIndex index = new EndgameIndex(0, 1, 0, 1);
+        byte[] values = new byte[index.getSize()];
+        values[0] = EndgameTable.win(3);
+        values[values.length - 1] = EndgameTable.loss(0);
+        Path file = new EndgameTable(index, values).write(directory);
+        try {
+            EndgameTable table = EndgameTable.read(file);
+
+            assertEquals("endgame-0101.tb", file.getFileName().toString());
+            assertEquals(index.getSignature(), table.getIndex().getSignature());
+            assertEquals(EndgameTable.win(3), table.getValue(0));
+            assertEquals(EndgameTable.DRAW, table.getValue(1));
+            assertEquals(EndgameTable.loss(0), table.getValue(values.length - 1));
+        }
+        finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+
+    // read(Path) test #2 - boundary test - a table file that was cut short is rejected
+    @Test(expected = IOException.class)
+    public void testRead_Path_truncated() throws IOException {
+        Path directory = Files.createTempDirectory("endgame");
+        EndgameIndex index = new EndgameIndex(0, 1, 0, 1);
+        Path file = new EndgameTable(index, new byte[index.getSize()]).write(directory);
+        try {
+            Files.write(file, Arrays.copyOf(Files.readAllBytes(file), EndgameTable.HEADER_BYTES + 1));
+
+            EndgameTable.read(file);
+        }
+        finally {
+            Files.delete(file);
+            Files.delete(directory);
+        }
+    }
+}
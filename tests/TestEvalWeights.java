@@ -0,0 +1,65 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EvalWeights;
+import cpsc2150.extendedCheckers.engine.FeatureEnum;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * TestEvalWeights contains test case functions to test the EvalWeights class. The functions it tests include
+ * load(Path), fromProperties(Properties), with(FeatureEnum, int), and get(FeatureEnum).
+ *
+ * @invariant [every weights file is a temporary file that is deleted by the test that made it]
+ */
+public class TestEvalWeights {
+    // load(Path) test #1 - routine test - the weights a file gives are read, whatever their case and spacing, and every other feature keeps its default
+    @Test
+    public void testLoad_Path_partialFile() throws IOException {
+        Path file = Files.createTempFile("weights", ".properties");
+        try {
+            Files.writeString(file, "# tuned weights\nMAN = 90\nback_rank=-3\n");
+
+            EvalWeights weights = EvalWeights.load(file);
+
+            assertEquals(90, weights.get(FeatureEnum.MAN));
+            assertEquals(-3, weights.get(FeatureEnum.BACK_RANK));
+            assertEquals(FeatureEnum.KING.getDefaultWeight(), weights.get(FeatureEnum.KING));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    // fromProperties(Properties) test #1 - boundary test - a key that is not a feature is rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromProperties_Properties_unknownKey() {
+        Properties properties = new Properties();
+        properties.setProperty("tempo", "5");
+
+        EvalWeights.fromProperties(properties);
+    }
+
+    // fromProperties(Properties) test #2 - boundary test - a weight that is not a whole number is rejected
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromProperties_Properties_notANumber() {
+        Properties properties = new Properties();
+        properties.setProperty("king", "1.5");
+
+        EvalWeights.fromProperties(properties);
+    }
+
+    // with(FeatureEnum, int) test #1 - routine test - the copy has the new weight and the weights it was made from are unchanged
+    @Test
+    public void testWith_FeatureEnum_int_copy() {
+        EvalWeights weights = EvalWeights.DEFAULT.with(FeatureEnum.MOBILITY, 0);
+
+        assertEquals(0, weights.get(FeatureEnum.MOBILITY));
+        assertEquals(FeatureEnum.MOBILITY.getDefaultWeight(), EvalWeights.DEFAULT.get(FeatureEnum.MOBILITY));
+        assertEquals(EvalWeights.DEFAULT.get(FeatureEnum.MAN), weights.get(FeatureEnum.MAN));
+    }
+}
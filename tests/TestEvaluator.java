@@ -0,0 +1,134 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EvalWeights;
+import cpsc2150.extendedCheckers.engine.Evaluator;
+import cpsc2150.extendedCheckers.engine.FeatureEnum;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestEvaluator contains test case functions to test the Evaluator class. The functions it tests include
+ * attach(ICheckerBoard), detach(void), evaluate(char), and the PositionListener functions pieceAdded(int, int),
+ * pieceRemoved(int, int), and positionCleared(void), which an attached board calls as it changes.
+ *
+ * @invariant [every board is set up with putPlayersOnNewBoard('x', 'o') or with players 'x' and 'o']
+ */
+public class TestEvaluator {
+    // attach(ICheckerBoard) and evaluate(char) test #1 - routine test - the starting position is even, and the score of each player is the negative of the other's
+    @Test
+    public void testEvaluate_char_startingPositionEven() {
+        ICheckerBoard board = new CheckerBoard(8);
+        Evaluator evaluator = new Evaluator(EvalWeights.DEFAULT);
+        board.putPlayersOnNewBoard('x', 'o');
+
+        evaluator.attach(board);
+
+        assertEquals(0, evaluator.evaluate('x'));
+        assertEquals(0, evaluator.evaluate('O'));
+    }
+
+    // pieceAdded(int, int) and pieceRemoved(int, int) test #1 - routine test - the score followed through moves made on an attached board matches a new attach on every implementation
+    @Test
+    public void testPieceAddedRemoved_int_int_followsMakeUnmake() {
+        for (ICheckerBoard board : new ICheckerBoard[] {new CheckerBoard(10), new CheckerBoardMem(10), new CheckerBoardBit(10), new CheckerBoardCompact(10)}) {
+            Evaluator followed = new Evaluator(EvalWeights.DEFAULT);
+            Evaluator fresh = new Evaluator(EvalWeights.DEFAULT);
+            Random random = new Random(7);
+            long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            char side = 'x';
+            int played = 0;
+            board.putPlayersOnNewBoard('x', 'o');
+            followed.attach(board);
+
+            for (int i = 0; i < 40; i++) {
+                int count = board.generateLegalMoves(side, moves);
+                if (count == 0) {
+                    break;
+                }
+                board.makeMove(moves[random.nextInt(count)]);
+                played++;
+                side = (side == 'x') ? 'o' : 'x';
+                // a copy has no listener, so the fresh evaluator scores it without taking the board from followed
+                fresh.attach(board.copy());
+                assertEquals(fresh.evaluate('x'), followed.evaluate('x'));
+            }
+            for (int i = 0; i < played; i++) {
+                board.unmakeMove();
+            }
+            assertEquals(0, followed.evaluate('x'));
+            followed.detach();
+            fresh.detach();
+        }
+    }
+
+    // evaluate(char) test #1 - routine test - a king on its own is worth the king weight and its center and mobility bonus, and nothing for the side without pieces
+    @Test
+    public void testEvaluate_char_loneKing() {
+        ICheckerBoard board = new CheckerBoard(8);
+        EvalWeights weights = EvalWeights.DEFAULT.with(FeatureEnum.CENTER, 0);
+        Evaluator evaluator = new Evaluator(weights);
+        board.setPlayerOne('x');
+        board.setPlayerOneKing('x');
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('o');
+        board.placePiece(new BoardPosition(0, 0), 'X');
+
+        evaluator.attach(board);
+
+        assertEquals(weights.get(FeatureEnum.KING) + weights.get(FeatureEnum.MOBILITY), evaluator.evaluate('x'));
+        assertEquals(-evaluator.evaluate('x'), evaluator.evaluate('o'));
+    }
+
+    // pieceAdded(int, int) test #1 - boundary test - a man that steps next to being crowned becomes a runaway, and stops being one when it is blocked
+    @Test
+    public void testPieceAdded_int_int_runaway() {
+        ICheckerBoard board = new CheckerBoard(8);
+        EvalWeights weights = EvalWeights.DEFAULT.with(FeatureEnum.MOBILITY, 0).with(FeatureEnum.ADVANCE, 0).with(FeatureEnum.CENTER, 0);
+        Evaluator evaluator = new Evaluator(weights);
+        board.setPlayerOne('x');
+        board.setPlayerOneKing('x');
+        board.setPlayerTwo('o');
+        board.setPlayerTwoKing('o');
+        board.placePiece(new BoardPosition(4, 4), 'x');
+        evaluator.attach(board);
+        assertEquals(weights.get(FeatureEnum.MAN), evaluator.evaluate('x'));
+
+        board.removePiece(new BoardPosition(4, 4));
+        board.placePiece(new BoardPosition(5, 5), 'x');
+        assertEquals(weights.get(FeatureEnum.MAN) + weights.get(FeatureEnum.RUNAWAY), evaluator.evaluate('x'));
+
+        board.placePiece(new BoardPosition(6, 4), 'O');
+        board.placePiece(new BoardPosition(6, 6), 'O');
+        assertEquals(weights.get(FeatureEnum.MAN) - 2 * weights.get(FeatureEnum.KING), evaluator.evaluate('x'));
+        evaluator.detach();
+    }
+
+    // positionCleared(void) and detach(void) test #1 - routine test - starting a new game on an attached board is followed, and changes after detaching are only seen once attached again
+    @Test
+    public void testPositionCleared_void_newGameThenDetach() {
+        ICheckerBoard board = new CheckerBoardBit(8);
+        Evaluator evaluator = new Evaluator(EvalWeights.DEFAULT);
+        board.putPlayersOnNewBoard('x', 'o');
+        board.removePiece(new BoardPosition(7, 7));
+        evaluator.attach(board);
+        int missingPiece = evaluator.evaluate('x');
+
+        board.putPlayersOnNewBoard('x', 'o');
+        assertEquals(0, evaluator.evaluate('x'));
+
+        evaluator.detach();
+        board.removePiece(new BoardPosition(7, 7));
+        evaluator.attach(board);
+        assertTrue(missingPiece > 0);
+        assertEquals(missingPiece, evaluator.evaluate('x'));
+    }
+}
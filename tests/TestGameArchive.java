@@ -0,0 +1,347 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.GameArchive;
+import cpsc2150.extendedCheckers.models.GameArchiveWriter;
+import cpsc2150.extendedCheckers.models.GameSession;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestGameArchive contains test case functions to test the GameArchive and GameArchiveWriter classes. The functions
+ * it tests include addGame(ICheckerBoard, long[], int, GameStatusEnum), watch(GameSession), open(Path), and
+ * replay(int, ICheckerBoard).
+ *
+ * @invariant [every archive is a temporary file that is deleted by the test that made it] AND [every board has players
+ * 'x' and 'o']
+ */
+public class TestGameArchive {
+    // represents the most plies of a random test game
+    private static final int MAX_TEST_PLIES = 300;
+
+    /**
+     * Plays random legal moves through a session until its game ends or MAX_TEST_PLIES plies have been played.
+     * Accepts three parameters.
+     * @param session The session to play in, as a GameSession
+     * @param random The source of the moves, as a Random
+     * @param played The buffer the moves are written into, which holds MAX_TEST_PLIES moves, as a long[]
+     *
+     * @pre session != null AND played.length >= MAX_TEST_PLIES
+     *
+     * @post [the plies of the game are the first session.getPlyCount() entries of played]
+     */
+    private void playRandomGame(GameSession session, Random random, long[] played) {
+        ICheckerBoard board = session.getBoard();
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        while (session.getStatus() == GameStatusEnum.IN_PROGRESS && session.getPlyCount() < MAX_TEST_PLIES) {
+            long move = moves[random.nextInt(board.generateLegalMoves(session.getPlayerToMove(), moves))];
+            played[session.getPlyCount()] = move;
+            session.submitMove(move);
+        }
+    }
+
+    // replay(int, ICheckerBoard) test #1 - routine test - random games on every board size, captures of several jumps among them, are replayed with the same players, moves, results, and last positions
+    @Test
+    public void testReplay_int_ICheckerBoard_roundTrip() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            Random random = new Random(5);
+            int[] sizes = {8, 10, 8, 12, 8, 14, 8, 16};
+            long[][] games = new long[sizes.length][MAX_TEST_PLIES];
+            int[] plies = new int[sizes.length];
+            long[] lastHashes = new long[sizes.length];
+            GameStatusEnum[] results = new GameStatusEnum[sizes.length];
+            int longCaptures = 0;
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                for (int game = 0; game < sizes.length; game++) {
+                    GameSession session = new GameSession(Perft.makeStartingBoard(CheckersFE.GAME_FAST, sizes[game]));
+                    playRandomGame(session, random, games[game]);
+                    plies[game] = session.getPlyCount();
+                    results[game] = session.getStatus();
+                    lastHashes[game] = session.getBoard().hash();
+                    for (int ply = 0; ply < plies[game]; ply++) {
+                        longCaptures += (Move.getStepCount(games[game][ply]) > 1) ? 1 : 0;
+                    }
+                    writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, sizes[game]), games[game], plies[game], results[game]);
+                }
+            }
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(sizes.length, archive.getGameCount());
+                // the games are read out of order, each straight from the index
+                for (int game = sizes.length - 1; game >= 0; game--) {
+                    assertEquals(sizes[game], archive.getBoardSize(game));
+                    ICheckerBoard board = new CheckerBoardMem(sizes[game]);
+                    assertEquals(results[game], archive.replay(game, board));
+                    assertEquals('x', board.getPlayerOne());
+                    assertEquals('o', board.getPlayerTwo());
+                    assertEquals(plies[game], archive.getMoveCount());
+                    for (int ply = 0; ply < plies[game]; ply++) {
+                        assertEquals(games[game][ply], archive.getMoves()[ply]);
+                    }
+                    assertEquals(lastHashes[game], board.hash());
+                }
+            }
+            assertTrue(longCaptures > 0);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // addGame(ICheckerBoard, long[], int, GameStatusEnum) test #1 - routine test - every move of a game on an 8x8 board takes one byte, and a capture of several jumps one more for every four later jumps
+    @Test
+    public void testAddGame_ICheckerBoard_longArr_int_GameStatusEnum_oneBytePerMove() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            long[] moves = new long[MAX_TEST_PLIES];
+            GameSession session = new GameSession(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8));
+            playRandomGame(session, new Random(1), moves);
+            int plies = session.getPlyCount(), extraBytes = 0;
+            for (int ply = 0; ply < plies; ply++) {
+                extraBytes += (Move.getStepCount(moves[ply]) + 2) / 4;
+            }
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), moves, plies, session.getStatus());
+            }
+
+            assertEquals(GameArchive.HEADER_BYTES + GameArchive.GAME_HEADER_BYTES + plies + extraBytes + Long.BYTES
+                    + GameArchive.TRAILER_BYTES, Files.size(file));
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // addGame(ICheckerBoard, long[], int, GameStatusEnum) test #2 - boundary test - a game from a set up position with player two to move starts from that position
+    @Test
+    public void testAddGame_ICheckerBoard_longArr_int_GameStatusEnum_setUpPosition() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            ICheckerBoard start = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 10);
+            start.placePiece(BoardPosition.ofSquare(7, 10), 'x');
+            start.placePiece(BoardPosition.ofSquare(12, 10), 'O');
+            start.placePiece(BoardPosition.ofSquare(44, 10), 'X');
+            start.setPlayerToMove('o');
+            long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            start.generateLegalMoves('o', moves);
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(start, moves, 1, GameStatusEnum.IN_PROGRESS);
+            }
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                ICheckerBoard board = new CheckerBoard(10);
+                assertEquals(GameStatusEnum.IN_PROGRESS, archive.replay(0, board));
+                assertEquals(moves[0], archive.getMoves()[0]);
+                board.unmakeMove();
+                assertEquals(start.hash(), board.hash());
+                assertEquals('o', board.getPlayerToMove());
+                assertEquals('O', board.whatsAtSquare(12));
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // watch(GameSession) test #1 - routine test - every game a watched session finishes is added as it ends, and a new game of the session is recorded from its start
+    @Test
+    public void testWatch_GameSession_recordsGames() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            Random random = new Random(9);
+            long[][] games = new long[2][MAX_TEST_PLIES];
+            int[] plies = new int[2];
+            GameStatusEnum[] results = new GameStatusEnum[2];
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                GameSession session = new GameSession(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8));
+                writer.watch(session);
+                for (int game = 0; game < 2; game++) {
+                    if (game > 0) {
+                        session.newGame();
+                    }
+                    playRandomGame(session, random, games[game]);
+                    plies[game] = session.getPlyCount();
+                    results[game] = session.getStatus();
+                }
+
+                assertTrue(results[0] != GameStatusEnum.IN_PROGRESS && results[1] != GameStatusEnum.IN_PROGRESS);
+                assertEquals(2, writer.getGameCount());
+            }
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                for (int game = 0; game < 2; game++) {
+                    assertEquals(results[game], archive.replay(game, new CheckerBoard(8)));
+                    assertEquals(plies[game], archive.getMoveCount());
+                    for (int ply = 0; ply < plies[game]; ply++) {
+                        assertEquals(games[game][ply], archive.getMoves()[ply]);
+                    }
+                }
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // GameArchiveWriter(Path) test #1 - routine test - games added to an archive that already exists follow the games it held
+    @Test
+    public void testGameArchiveWriter_Path_appends() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            long[] moves = new long[MAX_TEST_PLIES];
+            GameSession session = new GameSession(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8));
+            playRandomGame(session, new Random(2), moves);
+            int plies = session.getPlyCount();
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), moves, plies, session.getStatus());
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), moves, 1, GameStatusEnum.IN_PROGRESS);
+            }
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                assertEquals(2, writer.getGameCount());
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 12), new long[0], 0, GameStatusEnum.DRAW);
+            }
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(3, archive.getGameCount());
+                assertEquals(session.getStatus(), archive.replay(0, new CheckerBoard(8)));
+                assertEquals(plies, archive.getMoveCount());
+                assertEquals(GameStatusEnum.IN_PROGRESS, archive.replay(1, new CheckerBoard(8)));
+                assertEquals(1, archive.getMoveCount());
+                assertEquals(GameStatusEnum.DRAW, archive.replay(2, new CheckerBoard(12)));
+                assertEquals(0, archive.getMoveCount());
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // GameArchiveWriter(Path) test #2 - boundary test - games being added to an archive leave the games it held readable
+    @Test
+    public void testGameArchiveWriter_Path_oldGamesReadableWhileAdding() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), new long[0], 0, GameStatusEnum.DRAW);
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 10), new long[0], 0, GameStatusEnum.IN_PROGRESS);
+            }
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 12), new long[0], 0, GameStatusEnum.DRAW);
+
+                try (GameArchive archive = GameArchive.open(file)) {
+                    assertEquals(2, archive.getGameCount());
+                    assertEquals(GameStatusEnum.DRAW, archive.replay(0, new CheckerBoard(8)));
+                    assertEquals(GameStatusEnum.IN_PROGRESS, archive.replay(1, new CheckerBoard(10)));
+                }
+            }
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(3, archive.getGameCount());
+                assertEquals(GameStatusEnum.DRAW, archive.replay(2, new CheckerBoard(12)));
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // GameArchiveWriter(Path) test #3 - boundary test - an archive a writer stopped adding games to can still be read and added to
+    @Test
+    public void testGameArchiveWriter_Path_afterStoppedWriter() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), new long[0], 0, GameStatusEnum.DRAW);
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 10), new long[0], 0, GameStatusEnum.IN_PROGRESS);
+            }
+            long size = Files.size(file);
+            // the part of a game a writer that stopped left after the trailer
+            Files.write(file, new byte[] {8, 'x', 'o', 0, 0, 0}, StandardOpenOption.APPEND);
+
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(2, archive.getGameCount());
+                assertEquals(GameStatusEnum.IN_PROGRESS, archive.replay(1, new CheckerBoard(10)));
+            }
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                assertEquals(2, writer.getGameCount());
+            }
+            assertEquals(size, Files.size(file));
+
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 12), new long[0], 0, GameStatusEnum.DRAW);
+            }
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(3, archive.getGameCount());
+                assertEquals(GameStatusEnum.DRAW, archive.replay(0, new CheckerBoard(8)));
+                assertEquals(GameStatusEnum.DRAW, archive.replay(2, new CheckerBoard(12)));
+            }
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    // open(Path) test #1 - boundary test - a file that is not a game archive is rejected
+    @Test
+    public void testOpen_Path_notAnArchive() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        try {
+            Files.writeString(file, "this is not a game archive, even though it is long enough to be one");
+
+            GameArchive.open(file).close();
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage().contains("is not a complete game archive"));
+            return;
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+        throw new AssertionError("a file that is not a game archive was opened");
+    }
+
+    // replay(int, ICheckerBoard) test #2 - boundary test - a board of another size than the game's is refused
+    @Test
+    public void testReplay_int_ICheckerBoard_wrongSize() throws IOException {
+        Path file = Files.createTempFile("games", ".cga");
+        Files.delete(file);
+        try {
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                writer.addGame(Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8), new long[0], 0, GameStatusEnum.DRAW);
+            }
+            try (GameArchive archive = GameArchive.open(file)) {
+                archive.replay(0, new CheckerBoard(10));
+            }
+        }
+        catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("8x8"));
+            return;
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+        throw new AssertionError("a game was replayed onto a board of another size");
+    }
+}
@@ -0,0 +1,270 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.GameListener;
+import cpsc2150.extendedCheckers.models.GameSession;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestGameSession contains test case functions to test the GameSession class. The functions it tests include
+ * submitMove(long), submitMove(BoardPosition, DirectionEnum), getLegalDirections(BoardPosition), getJumpingPosition(void),
+ * newGame(void), and the GameListener events the session sends.
+ *
+ * @invariant [every board has players 'x' and 'o', and player 'x' moves first]
+ */
+public class TestGameSession {
+    /**
+     * EventCounter is a GameListener that counts the events it is sent, and keeps the last move and the end of the
+     * game.
+     *
+     * @invariant moves >= 0 AND turns >= 0 AND ends >= 0
+     */
+    private static class EventCounter implements GameListener {
+        private int moves, turns, ends;
+        private long lastMove = Move.NO_MOVE;
+        private char lastMover, winner;
+        private GameStatusEnum endStatus = GameStatusEnum.IN_PROGRESS;
+
+        @Override
+        public void movePlayed(GameSession session, char player, long move) {
+            moves++;
+            lastMover = player;
+            lastMove = move;
+        }
+
+        @Override
+        public void turnStarted(GameSession session, char player) {
+            turns++;
+        }
+
+        @Override
+        public void gameEnded(GameSession session, GameStatusEnum status, char aWinner) {
+            ends++;
+            endStatus = status;
+            winner = aWinner;
+        }
+    }
+
+    // submitMove(long) test #1 - routine test - a legal move is played, the turn passes, and the listener hears about both
+    @Test
+    public void testSubmitMove_long_legalMove() {
+        ICheckerBoard board = new CheckerBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        GameSession session = new GameSession(board);
+        EventCounter counter = new EventCounter();
+        session.addListener(counter);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.generateLegalMoves('x', moves);
+
+        assertTrue(session.submitMove(moves[0]));
+
+        assertEquals('o', session.getPlayerToMove());
+        assertEquals(1, session.getPlyCount());
+        assertEquals(GameStatusEnum.IN_PROGRESS, session.getStatus());
+        assertEquals(1, counter.moves);
+        assertEquals('x', counter.lastMover);
+        assertEquals(moves[0], counter.lastMove);
+        assertEquals(1, counter.turns);
+        assertEquals(0, counter.ends);
+    }
+
+    // submitMove(long) test #2 - boundary test - a move that is not legal for the player to move is refused and nothing changes
+    @Test
+    public void testSubmitMove_long_illegalMove() {
+        ICheckerBoard board = new CheckerBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        GameSession session = new GameSession(board);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.generateLegalMoves('o', moves);
+        long hash = board.hash();
+
+        assertFalse(session.submitMove(moves[0]));
+        assertFalse(session.submitMove(Move.NO_MOVE));
+
+        assertEquals(hash, board.hash());
+        assertEquals('x', session.getPlayerToMove());
+        assertEquals(0, session.getPlyCount());
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #1 - routine test - a player's step forward is played like a move from a person at the console
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_step() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(2, 2), 'x');
+        board.placePiece(new BoardPosition(5, 5), 'o');
+        GameSession session = new GameSession(board);
+
+        assertTrue(session.submitMove(new BoardPosition(2, 2), DirectionEnum.SE));
+
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(2, 2)));
+        assertEquals('x', board.whatsAtPos(new BoardPosition(3, 3)));
+        assertEquals('o', session.getPlayerToMove());
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #2 - boundary test - the opponent's piece, a backward step, and a position off the board are refused
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_refused() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(2, 2), 'x');
+        board.placePiece(new BoardPosition(5, 5), 'o');
+        GameSession session = new GameSession(board);
+
+        assertFalse(session.submitMove(new BoardPosition(5, 5), DirectionEnum.NW));
+        assertFalse(session.submitMove(new BoardPosition(2, 2), DirectionEnum.NW));
+        assertFalse(session.submitMove(new BoardPosition(8, 0), DirectionEnum.SE));
+
+        assertEquals('x', board.whatsAtPos(new BoardPosition(2, 2)));
+        assertEquals('x', session.getPlayerToMove());
+        assertEquals(0, session.getPlyCount());
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #3 - boundary test - jumping the opponent's last piece wins the game, and no more moves are taken
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_winningJump() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(2, 2), 'x');
+        board.placePiece(new BoardPosition(3, 3), 'o');
+        GameSession session = new GameSession(board);
+        EventCounter counter = new EventCounter();
+        session.addListener(counter);
+
+        assertTrue(session.submitMove(new BoardPosition(2, 2), DirectionEnum.SE));
+
+        assertEquals('x', board.whatsAtPos(new BoardPosition(4, 4)));
+        assertEquals(GameStatusEnum.PLAYER_ONE_WON, session.getStatus());
+        assertEquals('x', session.getWinner());
+        assertEquals(1, counter.ends);
+        assertEquals(GameStatusEnum.PLAYER_ONE_WON, counter.endStatus);
+        assertEquals('x', counter.winner);
+        assertEquals(0, counter.turns);
+        assertFalse(session.submitMove(new BoardPosition(4, 4), DirectionEnum.SE));
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #4 - boundary test - kings that only move back and forth draw the game after NO_PROGRESS_PLIES plies
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_noProgressDraw() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(0, 0), 'X');
+        board.placePiece(new BoardPosition(7, 7), 'O');
+        GameSession session = new GameSession(board);
+        EventCounter counter = new EventCounter();
+        session.addListener(counter);
+
+        for (int ply = 0; ply < GameSession.NO_PROGRESS_PLIES; ply += 4) {
+            assertTrue(session.submitMove(new BoardPosition(0, 0), DirectionEnum.SE));
+            assertTrue(session.submitMove(new BoardPosition(7, 7), DirectionEnum.NW));
+            assertTrue(session.submitMove(new BoardPosition(1, 1), DirectionEnum.NW));
+            assertTrue(session.submitMove(new BoardPosition(6, 6), DirectionEnum.SE));
+        }
+
+        assertEquals(GameStatusEnum.DRAW, session.getStatus());
+        assertEquals(ICheckerBoard.NULL_POS, session.getWinner());
+        assertEquals(GameSession.NO_PROGRESS_PLIES, session.getPlyCount());
+        assertEquals(GameStatusEnum.DRAW, counter.endStatus);
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #5 - boundary test - a step that declines a capture is refused, from the start x 2,2 SE and o 5,5 NW, and the capture is taken instead
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_captureIsMandatory() {
+        ICheckerBoard board = new CheckerBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        GameSession session = new GameSession(board);
+        assertTrue(session.submitMove(new BoardPosition(2, 2), DirectionEnum.SE));
+        assertTrue(session.submitMove(new BoardPosition(5, 5), DirectionEnum.NW));
+        long hash = board.hash();
+
+        assertFalse(session.submitMove(new BoardPosition(2, 0), DirectionEnum.SE));
+        assertEquals(hash, board.hash());
+        assertEquals(2, session.getPlyCount());
+
+        assertTrue(session.submitMove(new BoardPosition(3, 3), DirectionEnum.SE));
+        assertEquals('x', board.whatsAtPos(new BoardPosition(5, 5)));
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(4, 4)));
+        assertEquals('o', session.getPlayerToMove());
+    }
+
+    // submitMove(BoardPosition, DirectionEnum) test #6 - routine test - a two jump capture is given one jump at a time, the turn stays with 'x' in between, and listeners only hear about the whole move
+    @Test
+    public void testSubmitMove_BoardPosition_DirectionEnum_twoJumps() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(1, 1), 'x');
+        board.placePiece(new BoardPosition(2, 2), 'o');
+        board.placePiece(new BoardPosition(4, 4), 'o');
+        board.placePiece(new BoardPosition(7, 1), 'o');
+        GameSession session = new GameSession(board);
+        EventCounter counter = new EventCounter();
+        session.addListener(counter);
+
+        assertTrue(session.submitMove(new BoardPosition(1, 1), DirectionEnum.SE));
+
+        assertEquals('x', board.whatsAtPos(new BoardPosition(3, 3)));
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(2, 2)));
+        assertEquals('x', session.getPlayerToMove());
+        assertEquals(new BoardPosition(3, 3), session.getJumpingPosition());
+        assertEquals(0, session.getPlyCount());
+        assertEquals(0, counter.moves);
+        assertFalse(session.submitMove(new BoardPosition(3, 3), DirectionEnum.SW));
+        assertFalse(session.submitMove(new BoardPosition(7, 1), DirectionEnum.NE));
+
+        assertTrue(session.submitMove(new BoardPosition(3, 3), DirectionEnum.SE));
+
+        assertEquals('x', board.whatsAtPos(new BoardPosition(5, 5)));
+        assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtPos(new BoardPosition(4, 4)));
+        assertEquals(null, session.getJumpingPosition());
+        assertEquals('o', session.getPlayerToMove());
+        assertEquals(1, session.getPlyCount());
+        assertEquals(1, counter.moves);
+        assertEquals("1,1x3,3x5,5", Move.toString(counter.lastMove, 8));
+        assertEquals(1, board.getUndoDepth());
+    }
+
+    // getLegalDirections(BoardPosition) test #1 - routine test - only the directions of legal moves are listed: none for a piece that would decline a capture, and the next jump partway through a capture
+    @Test
+    public void testGetLegalDirections_BoardPosition_capture() {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(1, 1), 'x');
+        board.placePiece(new BoardPosition(1, 5), 'x');
+        board.placePiece(new BoardPosition(2, 2), 'o');
+        board.placePiece(new BoardPosition(4, 4), 'o');
+        GameSession session = new GameSession(board);
+
+        assertEquals(0, session.getLegalDirections(new BoardPosition(1, 5)).size());
+        assertEquals(1, session.getLegalDirections(new BoardPosition(1, 1)).size());
+        assertEquals(DirectionEnum.SE, session.getLegalDirections(new BoardPosition(1, 1)).get(0));
+
+        session.submitMove(new BoardPosition(1, 1), DirectionEnum.SE);
+
+        assertEquals(1, session.getLegalDirections(new BoardPosition(3, 3)).size());
+        assertEquals(DirectionEnum.SE, session.getLegalDirections(new BoardPosition(3, 3)).get(0));
+    }
+
+    // newGame(void) test #1 - routine test - a game in progress starts again from the starting position with player one to move
+    @Test
+    public void testNewGame_void_afterMove() {
+        ICheckerBoard board = new CheckerBoard(8);
+        board.putPlayersOnNewBoard('x', 'o');
+        GameSession session = new GameSession(board);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        long startingHash = board.hash();
+        board.generateLegalMoves('x', moves);
+        session.submitMove(moves[0]);
+
+        session.newGame();
+
+        assertEquals(startingHash, board.hash());
+        assertEquals('x', session.getPlayerToMove());
+        assertEquals(GameStatusEnum.IN_PROGRESS, session.getStatus());
+        assertEquals(0, session.getPlyCount());
+        assertEquals(0, session.getQuietPlies());
+    }
+}
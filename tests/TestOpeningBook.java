@@ -0,0 +1,179 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.OpeningBook;
+import cpsc2150.extendedCheckers.engine.OpeningBookBuilder;
+import cpsc2150.extendedCheckers.engine.SearchEngine;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.models.PdnReader;
+import cpsc2150.extendedCheckers.models.PdnWriter;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestOpeningBook contains test case functions to test the OpeningBook and OpeningBookBuilder classes. The functions it
+ * tests include OpeningBookBuilder.write(Path, int), OpeningBookBuilder.addGames(PdnReader), open(Path),
+ * findMove(ICheckerBoard), and a SearchEngine playing from a book.
+ *
+ * @invariant [every book file is a temporary file that is deleted by the test that made it] AND [every board has
+ * players 'x' and 'o', and player 'x' moves first]
+ */
+public class TestOpeningBook {
+    /**
+     * Builds a book of three games from the starting position: two that open with the second legal move and answer it
+     * with the first legal reply (one won by 'x' and one drawn), and one that opens with the first legal move and is
+     * won by 'o'. Accepts two parameters.
+     * @param file The file to write the book to, as a Path
+     * @param minGames The fewest games a move must be played in to be written, as an int
+     * @return The number of records written, as an int
+     * @throws IOException When the file can not be written
+     *
+     * @pre file != null AND minGames >= 1
+     *
+     * @post buildBook = [the number of records written] AND [file holds the book]
+     */
+    private int buildBook(Path file, int minGames) throws IOException {
+        ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        long[] replies = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.generateLegalMoves('x', moves);
+        board.makeMove(moves[1]);
+        board.generateLegalMoves('o', replies);
+        board.unmakeMove();
+        OpeningBookBuilder builder = new OpeningBookBuilder(8, 16);
+
+        builder.addGame(board, new long[] {moves[1], replies[0]}, 2, GameStatusEnum.PLAYER_ONE_WON);
+        builder.addGame(board, new long[] {moves[1], replies[0]}, 2, GameStatusEnum.DRAW);
+        builder.addGame(board, new long[] {moves[0]}, 1, GameStatusEnum.PLAYER_TWO_WON);
+
+        assertEquals(3, builder.getGameCount());
+        assertEquals(2, builder.getPositionCount());
+        return builder.write(file, minGames);
+    }
+
+    // findMove(ICheckerBoard) test #1 - routine test - the most played move of a position is found, with the games and half points of every move in order
+    @Test
+    public void testFindMove_ICheckerBoard_mostPlayedMove() throws IOException {
+        Path file = Files.createTempFile("openings", ".book");
+        try {
+            assertEquals(3, buildBook(file, 1));
+            OpeningBook book = OpeningBook.open(file);
+            ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+            long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            board.generateLegalMoves('x', moves);
+
+            assertEquals(moves[1], book.findMove(board));
+
+            int record = book.firstRecord(board.hash());
+            assertEquals(8, book.getBoardSize());
+            assertEquals(3, book.getRecordCount());
+            assertEquals(2, book.getGames(record));
+            assertEquals(3, book.getHalfPoints(record));
+            assertEquals(moves[0], book.getMove(record + 1));
+            assertEquals(1, book.getGames(record + 1));
+            assertEquals(0, book.getHalfPoints(record + 1));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    // OpeningBookBuilder.addGames(PdnReader) test #1 - routine test - the games of a PDN collection on the builder's board size are added, and a game on another size is skipped
+    @Test
+    public void testAddGames_PdnReader_buildsBook() throws IOException {
+        String pdn = "[Result \"1-0\"]\n1. 12-16 22-19 1-0\n"
+                + "[BoardSize \"10\"]\n1. 16-21 *\n"
+                + "1. 12-16 22-18 1/2-1/2\n";
+        OpeningBookBuilder builder = new OpeningBookBuilder(8, 16);
+        Path file = Files.createTempFile("openings", ".book");
+        try {
+            assertEquals(2, builder.addGames(new PdnReader(new StringReader(pdn))));
+            assertEquals(2, builder.getGameCount());
+            assertEquals(3, builder.write(file, 1));
+            OpeningBook book = OpeningBook.open(file);
+            ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+
+            assertEquals("12-16", PdnWriter.moveText(book.findMove(board), 8));
+            assertEquals(2, book.getGames(book.firstRecord(board.hash())));
+            assertEquals(3, book.getHalfPoints(book.firstRecord(board.hash())));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    // findMove(ICheckerBoard) test #2 - boundary test - a position played in fewer than the minimum games, and a board of another size, have no book move
+    @Test
+    public void testFindMove_ICheckerBoard_notInBook() throws IOException {
+        Path file = Files.createTempFile("openings", ".book");
+        try {
+            assertEquals(2, buildBook(file, 2));
+            OpeningBook book = OpeningBook.open(file);
+            ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+            long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            board.generateLegalMoves('x', moves);
+            board.makeMove(moves[0]);
+            ICheckerBoard largerBoard = new CheckerBoard(10);
+            largerBoard.putPlayersOnNewBoard('x', 'o');
+
+            assertEquals(Move.NO_MOVE, book.findMove(board));
+            assertEquals(-1, book.firstRecord(board.hash()));
+            assertEquals(Move.NO_MOVE, book.findMove(largerBoard));
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+
+    // open(Path) test #1 - boundary test - a file that is not an opening book is rejected
+    @Test
+    public void testOpen_Path_notABook() throws IOException {
+        Path file = Files.createTempFile("openings", ".book");
+        try {
+            Files.writeString(file, "this is not an opening book");
+
+            OpeningBook.open(file);
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage().contains("not an opening book"));
+            return;
+        }
+        finally {
+            Files.delete(file);
+        }
+        throw new AssertionError("a file that is not an opening book was opened");
+    }
+
+    // findBestMove(ICheckerBoard, char) test #1 - routine test - an engine with a book plays the book move without searching, and leaves the board as it was
+    @Test
+    public void testFindBestMove_ICheckerBoard_char_playsBookMove() throws IOException {
+        Path file = Files.createTempFile("openings", ".book");
+        try {
+            buildBook(file, 1);
+            ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+            long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            board.generateLegalMoves('x', moves);
+            long hash = board.hash();
+            SearchEngine engine = new SearchEngine();
+            engine.setOpeningBook(OpeningBook.open(file));
+
+            assertEquals(moves[1], engine.findBestMove(board, 'x'));
+
+            assertEquals(0, engine.getDepthReached());
+            assertEquals(hash, board.hash());
+        }
+        finally {
+            Files.delete(file);
+        }
+    }
+}
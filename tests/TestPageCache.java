@@ -0,0 +1,82 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.PageCache;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * TestPageCache contains test case functions to test the PageCache class. The functions it tests include
+ * PageCache(int, int), get(long), and put(long, byte[]).
+ *
+ * @invariant [every page cached is a new array holding its own key]
+ */
+public class TestPageCache {
+    /**
+     * Makes a page that holds its own key, so that the page found for a key can be checked. Accepts one parameter.
+     * @param key The key of the page, as a long
+     * @return The page, as a byte[]
+     *
+     * @pre None
+     *
+     * @post page = [a new one-byte array holding the low byte of key]
+     */
+    private byte[] page(long key) {
+        return new byte[] {(byte) key};
+    }
+
+    // get(long) test #1 - routine test - a page that was put is found, and a key never put is not
+    @Test
+    public void testGet_long_putPageFound() {
+        PageCache cache = new PageCache(16, 4);
+        byte[] page = page(7);
+        cache.put(7, page);
+
+        assertSame(page, cache.get(7));
+        assertNull(cache.get(8));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    // put(long, byte[]) test #1 - routine test - a full stripe throws away its least recently used page, not the one just looked up
+    @Test
+    public void testPut_long_byteArr_evictsLeastRecentlyUsed() {
+        PageCache cache = new PageCache(3, 1);
+        cache.put(1, page(1));
+        cache.put(2, page(2));
+        cache.put(3, page(3));
+        cache.get(1);
+        cache.put(4, page(4));
+
+        assertNull(cache.get(2));
+        assertArrayEquals(page(1), cache.get(1));
+        assertArrayEquals(page(3), cache.get(3));
+        assertArrayEquals(page(4), cache.get(4));
+    }
+
+    // put(long, byte[]) test #2 - boundary test - putting many more pages than fit never holds more than the capacity
+    @Test
+    public void testPut_long_byteArr_boundedByCapacity() {
+        PageCache cache = new PageCache(64, 8);
+        for (long key = 0; key < 10000; key++) {
+            cache.put(key, page(key));
+        }
+
+        assertEquals(64, cache.getCapacity());
+        assertEquals(64, cache.getPageCount());
+    }
+
+    // PageCache(int, int) test #1 - boundary test - a cache of no pages still holds one page per stripe, and the stripes are rounded down to a power of two
+    @Test
+    public void testPageCache_int_int_smallest() {
+        PageCache cache = new PageCache(0, 6);
+        for (long key = 0; key < 100; key++) {
+            cache.put(key, page(key));
+        }
+
+        assertEquals(4, cache.getCapacity());
+        assertEquals(4, cache.getPageCount());
+    }
+}
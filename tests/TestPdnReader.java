@@ -0,0 +1,154 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.GameSession;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.PdnReader;
+import cpsc2150.extendedCheckers.models.PdnWriter;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestPdnReader contains test case functions to test the PdnReader class. The functions it tests include next(void),
+ * getMoves(void), getResult(void), and getBoard(void).
+ *
+ * @invariant [every game is read from text held in memory]
+ */
+public class TestPdnReader {
+    // represents the most plies of a random test game
+    private static final int MAX_TEST_PLIES = 300;
+
+    /**
+     * Plays a game of random legal moves from the starting position through a GameSession. Accepts four parameters.
+     * @param boardSize The dimension of the board, as an int
+     * @param random The source of the moves, as a Random
+     * @param played The buffer the moves are written into, which holds MAX_TEST_PLIES moves, as a long[]
+     * @param board The board to play on, with players set, as an ICheckerBoard
+     * @return The session that played the game, as a GameSession
+     *
+     * @pre boardSize = board.getBoardSize() AND played.length >= MAX_TEST_PLIES
+     *
+     * @post playRandomGame = [the session, whose plies are the first getPlyCount() entries of played] AND [board
+     * holds the last position of the game]
+     */
+    private GameSession playRandomGame(int boardSize, Random random, long[] played, ICheckerBoard board) {
+        GameSession session = new GameSession(board);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        while (session.getStatus() == GameStatusEnum.IN_PROGRESS && session.getPlyCount() < MAX_TEST_PLIES) {
+            long move = moves[random.nextInt(board.generateLegalMoves(session.getPlayerToMove(), moves))];
+            played[session.getPlyCount()] = move;
+            session.submitMove(move);
+        }
+        return session;
+    }
+
+    // next(void) test #1 - routine test - random games on two board sizes written by PdnWriter are read back with the same players, moves, and results
+    @Test
+    public void testNext_void_roundTrip() throws IOException {
+        Random random = new Random(3);
+        int[] sizes = {8, 10, 8, 12, 8, 16};
+        long[][] games = new long[sizes.length][MAX_TEST_PLIES];
+        int[] plies = new int[sizes.length];
+        GameStatusEnum[] results = new GameStatusEnum[sizes.length];
+        StringWriter text = new StringWriter();
+        PdnWriter writer = new PdnWriter(text);
+
+        for (int game = 0; game < sizes.length; game++) {
+            ICheckerBoard start = new CheckerBoard(sizes[game]);
+            start.putPlayersOnNewBoard('b', 'w');
+            ICheckerBoard board = new CheckerBoard(sizes[game]);
+            board.putPlayersOnNewBoard('b', 'w');
+            GameSession session = playRandomGame(sizes[game], random, games[game], board);
+            plies[game] = session.getPlyCount();
+            results[game] = session.getStatus();
+            writer.writeGame(start, games[game], plies[game], results[game]);
+        }
+        PdnReader reader = new PdnReader(new StringReader(text.toString()));
+
+        for (int game = 0; game < sizes.length; game++) {
+            assertTrue(reader.next());
+            assertEquals(sizes[game], reader.getBoard().getBoardSize());
+            assertEquals('b', reader.getBoard().getPlayerOne());
+            assertEquals('w', reader.getBoard().getPlayerTwo());
+            assertEquals(plies[game], reader.getMoveCount());
+            for (int ply = 0; ply < plies[game]; ply++) {
+                assertEquals(games[game][ply], reader.getMoves()[ply]);
+            }
+            assertEquals(results[game], reader.getResult());
+            ICheckerBoard start = new CheckerBoard(sizes[game]);
+            start.putPlayersOnNewBoard('b', 'w');
+            assertEquals(start.hash(), reader.getBoard().hash());
+        }
+        assertFalse(reader.next());
+        assertEquals(sizes.length, reader.getGameCount());
+    }
+
+    // next(void) test #2 - routine test - comments, variations, annotations, and a capture naming only its ends are skipped or understood, and a game with no result takes it from its Result tag
+    @Test
+    public void testNext_void_commentsAndShortCaptures() throws IOException {
+        String pdn = "\uFEFF; a collection of two games\n"
+                + "[Event \"test\"]\n[Black \"Someone \\\"quoted\\\"\"]\n[Result \"2-0\"]\n"
+                + "1. 12-16 {a comment} 22-19 ( 22-18 ) 2. 8-12 23-20 $1 3. 16x23 27x20!\n"
+                + "4. 11-15 20x11 5. 6x22\n"
+                + "[Result \"1/2-1/2\"]\n1. 9-13 1/2-1/2\n";
+        PdnReader reader = new PdnReader(new StringReader(pdn));
+
+        assertTrue(reader.next());
+        assertEquals("Someone \"quoted\"", reader.getTag("Black"));
+        assertEquals('x', reader.getBoard().getPlayerOne());
+        assertEquals(9, reader.getMoveCount());
+        assertEquals(GameStatusEnum.PLAYER_ONE_WON, reader.getResult());
+        assertEquals("6x15x22", PdnWriter.moveText(reader.getMoves()[8], 8));
+
+        assertTrue(reader.next());
+        assertEquals(1, reader.getMoveCount());
+        assertEquals(GameStatusEnum.DRAW, reader.getResult());
+        assertFalse(reader.next());
+    }
+
+    // next(void) test #3 - boundary test - a game set up by a FEN tag starts from its position with its player to move
+    @Test
+    public void testNext_void_fen() throws IOException {
+        PdnReader reader = new PdnReader(new StringReader("[FEN \"W:WK31,K30:B1-3\"]\n1... 31-27 0-1\n"));
+
+        assertTrue(reader.next());
+        ICheckerBoard board = reader.getBoard();
+        assertEquals('o', board.getPlayerToMove());
+        assertEquals('O', board.whatsAtSquare(30));
+        assertEquals('O', board.whatsAtSquare(29));
+        assertEquals('x', board.whatsAtSquare(2));
+        assertEquals(3, board.getMenCount('x'));
+        assertEquals(2, board.getKingCount('o'));
+        assertEquals(1, reader.getMoveCount());
+        assertEquals(GameStatusEnum.PLAYER_TWO_WON, reader.getResult());
+    }
+
+    // next(void) test #4 - boundary test - a move that is not legal in the position is rejected, naming the game and move
+    @Test
+    public void testNext_void_illegalMove() {
+        PdnReader reader = new PdnReader(new StringReader("1. 11-15 24-20\n2. 15-18 *\n"));
+        try {
+            reader.next();
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage().contains("game 1"));
+            assertTrue(e.getMessage().contains("move 3 (15-18)"));
+            return;
+        }
+        throw new AssertionError("an illegal move was read");
+    }
+
+    // next(void) test #5 - boundary test - text with no games has nothing to read
+    @Test
+    public void testNext_void_noGames() throws IOException {
+        assertFalse(new PdnReader(new StringReader("  \n\n")).next());
+    }
+}
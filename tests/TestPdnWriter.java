@@ -0,0 +1,76 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.models.PdnWriter;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestPdnWriter contains test case functions to test the PdnWriter class. The functions it tests include
+ * moveText(long, int), fenOf(ICheckerBoard), and writeGame(ICheckerBoard, long[], int, GameStatusEnum).
+ *
+ * @invariant [every board has players 'x' and 'o']
+ */
+public class TestPdnWriter {
+    // moveText(long, int) test #1 - routine test - a simple move is its two squares joined by '-', and a capture names every square it lands on
+    @Test
+    public void testMoveText_long_int_simpleAndCapture() {
+        long step = Move.of(BoardPosition.toSquare(2, 2, 8), BoardPosition.toSquare(3, 3, 8), DirectionEnum.SE, false);
+        long capture = Move.of(BoardPosition.toSquare(2, 2, 8), BoardPosition.toSquare(4, 4, 8), DirectionEnum.SE, true);
+        capture = Move.addJump(capture, BoardPosition.toSquare(6, 2, 8), DirectionEnum.SW);
+
+        assertEquals("10-14", PdnWriter.moveText(step, 8));
+        assertEquals("10x19x26", PdnWriter.moveText(capture, 8));
+    }
+
+    // writeGame(ICheckerBoard, long[], int, GameStatusEnum) test #1 - routine test - a game from the starting position is written with its tags, numbered moves, and result, and no FEN
+    @Test
+    public void testWriteGame_ICheckerBoard_longArr_int_GameStatusEnum_fromStart() throws IOException {
+        ICheckerBoard board = Perft.makeStartingBoard(CheckersFE.GAME_FAST, 8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        long[] replies = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.generateLegalMoves('x', moves);
+        board.makeMove(moves[0]);
+        board.generateLegalMoves('o', replies);
+        board.unmakeMove();
+        StringWriter text = new StringWriter();
+        PdnWriter writer = new PdnWriter(text);
+
+        writer.writeGame(board, new long[] {moves[0], replies[0]}, 2, GameStatusEnum.PLAYER_TWO_WON);
+
+        String pdn = text.toString();
+        assertTrue(pdn.startsWith("[GameType \"21\"]\n[BoardSize \"8\"]\n[Black \"x\"]\n[White \"o\"]\n[Result \"0-1\"]\n\n"));
+        assertTrue(pdn.endsWith("1. " + PdnWriter.moveText(moves[0], 8) + " " + PdnWriter.moveText(replies[0], 8) + " 0-1\n\n"));
+        assertFalse(pdn.contains("FEN"));
+        assertEquals(1, writer.getGameCount());
+    }
+
+    // writeGame(ICheckerBoard, long[], int, GameStatusEnum) test #2 - boundary test - a game from another position with player two to move has a FEN, and its first move is numbered "1..."
+    @Test
+    public void testWriteGame_ICheckerBoard_longArr_int_GameStatusEnum_fromFen() throws IOException {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(BoardPosition.ofSquare(0, 8), 'x');
+        board.placePiece(BoardPosition.ofSquare(30, 8), 'O');
+        board.setPlayerToMove('o');
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        board.generateLegalMoves('o', moves);
+        StringWriter text = new StringWriter();
+
+        new PdnWriter(text).writeGame(board, moves, 1, GameStatusEnum.IN_PROGRESS);
+
+        assertEquals("W:WK31:B1", PdnWriter.fenOf(board));
+        assertTrue(text.toString().contains("[FEN \"W:WK31:B1\"]\n"));
+        assertTrue(text.toString().endsWith("1... " + PdnWriter.moveText(moves[0], 8) + " *\n\n"));
+    }
+}
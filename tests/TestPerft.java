@@ -0,0 +1,106 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * TestPerft contains test case functions to test the Perft class. The functions it tests include count(int),
+ * divide(int, long[], long[]), and makeEmptyBoard(char, int). The 8x8 counts are the published perft numbers for
+ * English draughts, and every ICheckerBoard implementation must match them and each other.
+ *
+ * @invariant [every board counted starts from putPlayersOnNewBoard('x', 'o')]
+ */
+public class TestPerft {
+    // represents the published 8x8 perft counts for depths 0 through 6
+    private static final long[] EXPECTED_8X8 = {1, 7, 49, 302, 1469, 7361, 36768};
+
+    /**
+     * Makes one board of every ICheckerBoard implementation with the starting position. Accepts one parameter.
+     * @param aDimension The size of the boards, as an int
+     * @return The boards, as an ICheckerBoard[]
+     *
+     * @pre aDimension = [8, 10, 12, 14, or 16]
+     *
+     * @post makeStartingBoards = [a CheckerBoard, a CheckerBoardMem, a CheckerBoardBit, and a
+     * CheckerBoardCompact with the starting position]
+     */
+    private ICheckerBoard[] makeStartingBoards(int aDimension) {
+        ICheckerBoard[] boards = {new CheckerBoard(aDimension), new CheckerBoardMem(aDimension), new CheckerBoardBit(aDimension),
+                new CheckerBoardCompact(aDimension)};
+        for (ICheckerBoard board : boards) {
+            board.putPlayersOnNewBoard('x', 'o');
+        }
+        return boards;
+    }
+
+    // count(int) test #1 - routine test - every implementation matches the published 8x8 counts, and the board is unchanged afterwards
+    @Test
+    public void testCount_int_8x8_published() {
+        for (ICheckerBoard board : makeStartingBoards(8)) {
+            String before = board.toString();
+            long hash = board.hash();
+            Perft perft = new Perft(board, EXPECTED_8X8.length - 1, 0);
+
+            for (int depth = 0; depth < EXPECTED_8X8.length; depth++) {
+                assertEquals(EXPECTED_8X8[depth], perft.count(depth));
+            }
+            assertEquals(before, board.toString());
+            assertEquals(hash, board.hash());
+        }
+    }
+
+    // count(int) test #2 - routine test - the hash-cached count matches the uncached count on a 12x12 board
+    @Test
+    public void testCount_int_12x12_cached() {
+        ICheckerBoard[] boards = makeStartingBoards(12);
+        long uncached = new Perft(boards[0], 5, 0).count(5);
+
+        assertEquals(78629, uncached);
+        assertEquals(uncached, new Perft(boards[1], 5, 1).count(5));
+        assertEquals(uncached, new Perft(boards[2], 5, 1).count(5));
+        assertEquals(uncached, new Perft(boards[3], 5, 1).count(5));
+    }
+
+    // divide(int, long[], long[]) test #1 - boundary test - the counts below the 16x16 root moves add up to the full count
+    @Test
+    public void testDivide_int_16x16_sum() {
+        ICheckerBoard board = makeStartingBoards(16)[2];
+        long[] rootMoves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        long[] counts = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        Perft perft = new Perft(board, 3, 0);
+        long sum = 0;
+
+        int count = perft.divide(3, rootMoves, counts);
+        for (int i = 0; i < count; i++) {
+            sum += counts[i];
+        }
+
+        assertEquals(15, count);
+        assertEquals(perft.count(3), sum);
+    }
+
+    // makeEmptyBoard(char, int) test #1 - boundary test - every type of board is made with no pieces and player 'x' to move
+    @Test
+    public void testMakeEmptyBoard_char_int_noPieces() {
+        char[] backends = {CheckersFE.GAME_FAST, CheckersFE.GAME_MEM_EFFICIENT, CheckersFE.GAME_BITBOARD, CheckersFE.GAME_COMPACT};
+
+        for (char backend : backends) {
+            ICheckerBoard board = Perft.makeEmptyBoard(backend, 10);
+
+            assertEquals(10, board.getBoardSize());
+            assertEquals(0, board.getPieceCount('x'));
+            assertEquals(0, board.getPieceCount('o'));
+            assertEquals('x', board.getPlayerToMove());
+            for (int square = 0; square < 50; square++) {
+                assertEquals(ICheckerBoard.EMPTY_POS, board.whatsAtSquare(square));
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.ParallelSearch;
+import cpsc2150.extendedCheckers.engine.SearchEngine;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestSearchEngine contains test case functions to test the SearchEngine and ParallelSearch classes. The functions it
+ * tests include findBestMove(ICheckerBoard, char) of SearchEngine and ParallelSearch, getBestScore(void), and
+ * getNodes(void).
+ * TestSearchEngine contains a function that makes a board with two players and no pieces on it.
+ *
+ * @invariant [the boards searched are the same after every search as they were before it]
+ */
+public class TestSearchEngine {
+    /**
+     * Sets up an empty board of a given implementation with players 'x' and 'o'. Accepts one parameter.
+     * @param board A new board of the implementation to use, as an ICheckerBoard
+     * @return The board with its players set and no pieces on it, as an ICheckerBoard
+     *
+     * @pre board != null AND [board has no pieces on it]
+     *
+     * @post makeEmptyBoard = board AND [board's players are 'x' and 'o', and their kings are 'X' and 'O']
+     */
+    private ICheckerBoard makeEmptyBoard(ICheckerBoard board) {
+        board.setPlayerOne('x');
+        board.setPlayerTwo('o');
+        board.setPlayerOneKing('X');
+        board.setPlayerTwoKing('O');
+        return board;
+    }
+
+    // findBestMove(ICheckerBoard, char) test #1 - routine test - when 'o' has only one legal move (a capture), that move is returned
+    @Test
+    public void testFindBestMove_o_onlyLegalMove() {
+        ICheckerBoard board = makeEmptyBoard(new CheckerBoard(8));
+        SearchEngine engine = new SearchEngine();
+
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(6, 6), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        board.placePiece(new BoardPosition(0, 0), board.getPlayerOne());
+        long move = engine.findBestMove(board, board.getPlayerTwo());
+
+        assertEquals("5,3x3,5", Move.toString(move, 8));
+    }
+
+    // findBestMove(ICheckerBoard, char) test #2 - routine test - when both of 'o's captures take the last 'x' piece, the score is a win in one ply
+    @Test
+    public void testFindBestMove_o_winningCapture() {
+        ICheckerBoard board = makeEmptyBoard(new CheckerBoardMem(8));
+        SearchEngine engine = new SearchEngine();
+
+        board.placePiece(new BoardPosition(5, 3), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(5, 5), board.getPlayerTwo());
+        board.placePiece(new BoardPosition(4, 4), board.getPlayerOne());
+        long move = engine.findBestMove(board, board.getPlayerTwo());
+
+        assertTrue(Move.isCapture(move));
+        assertEquals(SearchEngine.WIN_SCORE - 1, engine.getBestScore());
+    }
+
+    // findBestMove(ICheckerBoard, char) test #3 - boundary test - when 'x' has no pieces that can move, there is no move to return
+    @Test
+    public void testFindBestMove_x_noLegalMoves() {
+        ICheckerBoard board = makeEmptyBoard(new CheckerBoardBit(8));
+        SearchEngine engine = new SearchEngine();
+
+        board.placePiece(new BoardPosition(7, 7), board.getPlayerOne());
+        board.placePiece(new BoardPosition(3, 3), board.getPlayerTwo());
+
+        assertEquals(Move.NO_MOVE, engine.findBestMove(board, board.getPlayerOne()));
+    }
+
+    // findBestMove(ICheckerBoard, char) test #4 - routine test - searching the starting position leaves every kind of board, its hash, and its player to move unchanged
+    @Test
+    public void testFindBestMove_x_boardUnchanged() {
+        ICheckerBoard[] boards = {new CheckerBoard(8), new CheckerBoardMem(8), new CheckerBoardBit(8)};
+        SearchEngine engine = new SearchEngine();
+        engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+        engine.setMaxDepth(6);
+
+        for (ICheckerBoard board : boards) {
+            board.putPlayersOnNewBoard('x', 'o');
+            String before = board.toString();
+            long hash = board.hash();
+            long move = engine.findBestMove(board, board.getPlayerOne());
+
+            assertNotEquals(Move.NO_MOVE, move);
+            assertEquals(6, engine.getDepthReached());
+            assertEquals(before, board.toString());
+            assertEquals(hash, board.hash());
+            assertEquals(board.getPlayerOne(), board.getPlayerToMove());
+        }
+    }
+
+    // findBestMove(ICheckerBoard, char) test #5 - boundary test - a search with a node budget stops once the budget is spent
+    @Test
+    public void testFindBestMove_x_nodeLimit() {
+        ICheckerBoard board = new CheckerBoard(10);
+        SearchEngine engine = new SearchEngine();
+        engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+        engine.setNodeLimit(5000);
+
+        board.putPlayersOnNewBoard('x', 'o');
+        long move = engine.findBestMove(board, board.getPlayerOne());
+
+        assertNotEquals(Move.NO_MOVE, move);
+        assertTrue(engine.getNodes() <= 5000);
+    }
+
+    // findBestMove(ICheckerBoard, char) test #6 - boundary test - a node budget too small to finish the first iteration still returns a legal move, on the smallest and largest boards
+    @Test
+    public void testFindBestMove_x_tinyNodeLimit() {
+        long[] legalMoves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        for (int size : new int[] {8, 16}) {
+            ICheckerBoard board = new CheckerBoard(size);
+            board.putPlayersOnNewBoard('x', 'o');
+            int count = board.generateLegalMoves(board.getPlayerOne(), legalMoves);
+            for (long nodeLimit = 1; nodeLimit <= 8; nodeLimit++) {
+                SearchEngine engine = new SearchEngine();
+                engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+                engine.setNodeLimit(nodeLimit);
+
+                long move = engine.findBestMove(board, board.getPlayerOne());
+
+                boolean legal = false;
+                for (int i = 0; i < count; i++) {
+                    legal |= legalMoves[i] == move;
+                }
+                assertTrue(legal);
+            }
+        }
+    }
+
+    // findBestMove(ICheckerBoard, char) test #7 - boundary test - an 'X' king at (0,0) among 21 'o' men on 16x16 has more captures than MOVE_BUFFER_SIZE, and one of them is returned
+    @Test
+    public void testFindBestMove_x_moreCapturesThanBuffer() {
+        ICheckerBoard board = makeEmptyBoard(new CheckerBoard(16));
+        board.placePiece(new BoardPosition(0, 0), 'X');
+        int placed = 0;
+        for (int r = 1; r < 15; r += 2) {
+            for (int c = 1; c < 15 && placed < 21; c += 2) {
+                board.placePiece(new BoardPosition(r, c), 'o');
+                placed++;
+            }
+        }
+        SearchEngine engine = new SearchEngine();
+        engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+        engine.setNodeLimit(5000);
+        long[] legalMoves = new long[board.generateLegalMoves(board.getPlayerOne(), new long[0])];
+        int count = board.generateLegalMoves(board.getPlayerOne(), legalMoves);
+
+        long move = engine.findBestMove(board, board.getPlayerOne());
+
+        boolean legal = false;
+        for (int i = 0; i < count; i++) {
+            legal |= legalMoves[i] == move;
+        }
+        assertTrue(count > ICheckerBoard.MOVE_BUFFER_SIZE);
+        assertTrue(legal);
+    }
+
+    // ParallelSearch findBestMove(ICheckerBoard, char) test #1 - routine test - two threads pick a legal move and leave the board unchanged
+    @Test
+    public void testParallelFindBestMove_x_twoThreads() {
+        ICheckerBoard board = new CheckerBoardMem(8);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        boolean legal = false;
+
+        board.putPlayersOnNewBoard('x', 'o');
+        String before = board.toString();
+        int count = board.generateLegalMoves(board.getPlayerOne(), moves);
+        try (ParallelSearch search = new ParallelSearch(2, 1)) {
+            search.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+            search.setMaxDepth(6);
+            long move = search.findBestMove(board, board.getPlayerOne());
+
+            for (int i = 0; i < count; i++) {
+                legal = legal || moves[i] == move;
+            }
+            assertTrue(legal);
+            assertTrue(search.getDepthReached() >= 6);
+            assertTrue(search.getNodes() > 0);
+            assertEquals(before, board.toString());
+        }
+    }
+}
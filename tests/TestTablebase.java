@@ -0,0 +1,291 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EndgameIndex;
+import cpsc2150.extendedCheckers.engine.EndgameTable;
+import cpsc2150.extendedCheckers.engine.SearchEngine;
+import cpsc2150.extendedCheckers.engine.Tablebase;
+import cpsc2150.extendedCheckers.engine.TranspositionTable;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import cpsc2150.extendedCheckers.views.TablebaseGenerator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestTablebase contains test case functions to test the Tablebase class. The functions it tests include
+ * write(EndgameTable, Path, int), open(Path, int), and probe(ICheckerBoard), and the search of an engine that probes
+ * a tablebase.
+ *
+ * @invariant [every table file is in a temporary directory that is deleted by the test that made it] AND [every board
+ * has players 'x' and 'o']
+ */
+public class TestTablebase {
+    // represents the most pieces of a solved test table, which keeps the tests quick
+    private static final int TEST_PIECES = 3;
+    // represents a block size small enough that every test table is split into many blocks
+    private static final int TEST_BLOCK_BYTES = 256;
+
+    /**
+     * Solves every signature with up to TEST_PIECES pieces and writes each as a compressed table file.
+     * Accepts one parameter.
+     * @param directory The directory to write into, as a Path
+     * @return The generator holding the solved tables, as a TablebaseGenerator
+     * @throws IOException When a table file can not be written
+     *
+     * @pre [directory exists]
+     *
+     * @post writeTables = [a generator holding every table of at most TEST_PIECES pieces] AND [directory holds a
+     * compressed file of each]
+     */
+    private TablebaseGenerator writeTables(Path directory) throws IOException {
+        TablebaseGenerator generator = new TablebaseGenerator(1);
+        for (EndgameIndex index : TablebaseGenerator.signatures(TEST_PIECES)) {
+            Tablebase.write(generator.solve(index), directory, TEST_BLOCK_BYTES);
+        }
+        return generator;
+    }
+
+    /**
+     * Deletes a temporary directory and every file in it. Accepts one parameter.
+     * @param directory The directory, as a Path
+     * @throws IOException When a file can not be deleted
+     *
+     * @pre [directory holds no directories]
+     *
+     * @post [directory no longer exists]
+     */
+    private void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Checks that a tablebase finds the same result as the solved table for every position of every signature, set
+     * up on a board of its own. Accepts two parameters.
+     * @param tablebase The tablebase to probe, as a Tablebase
+     * @param generator The generator holding the solved tables, as a TablebaseGenerator
+     * @return The number of positions whose results differ, as an int
+     *
+     * @pre [generator holds every table of tablebase]
+     *
+     * @post countMismatches = [the number of positions tablebase and generator disagree on]
+     */
+    private int countMismatches(Tablebase tablebase, TablebaseGenerator generator) {
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        char[] pieces = {'x', 'X', 'o', 'O'};
+        int mismatches = 0;
+
+        for (EndgameIndex index : TablebaseGenerator.signatures(TEST_PIECES)) {
+            EndgameTable table = generator.getTable(index.getSignature());
+            for (int position = 0; position < index.getSize(); position++) {
+                int side = index.decode(position, masks);
+                if (side == EndgameIndex.INVALID) {
+                    continue;
+                }
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    for (int mask = masks[type]; mask != 0; mask &= mask - 1) {
+                        board.placePiece(BoardPosition.ofSquare(Integer.numberOfTrailingZeros(mask), 8), pieces[type]);
+                    }
+                }
+                board.setPlayerToMove((side == EndgameIndex.PLAYER_ONE_TO_MOVE) ? 'x' : 'o');
+
+                if (tablebase.probe(board) != table.getValue(position)) {
+                    mismatches++;
+                }
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    for (int mask = masks[type]; mask != 0; mask &= mask - 1) {
+                        board.removePiece(BoardPosition.ofSquare(Integer.numberOfTrailingZeros(mask), 8));
+                    }
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    // probe(ICheckerBoard) test #1 - routine test - every position is found with the result of its solved table, with a large cache and with the smallest cache
+    @Test
+    public void testProbe_ICheckerBoard_matchesTables() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            TablebaseGenerator generator = writeTables(directory);
+            Tablebase tablebase = Tablebase.open(directory, Tablebase.DEFAULT_CACHE_MB);
+            Tablebase smallest = Tablebase.open(directory, 0);
+
+            assertEquals(TEST_PIECES, tablebase.getMaxPieces());
+            assertEquals(0, countMismatches(tablebase, generator));
+            assertEquals(0, countMismatches(smallest, generator));
+            assertTrue(smallest.getCache().getPageCount() <= smallest.getCache().getCapacity());
+            assertTrue(tablebase.getCache().getHits() > tablebase.getCache().getMisses());
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    // probe(ICheckerBoard) test #2 - routine test - threads sharing one small cache all find the results of the solved tables
+    @Test
+    public void testProbe_ICheckerBoard_concurrentThreads() throws IOException, InterruptedException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            TablebaseGenerator generator = writeTables(directory);
+            Tablebase tablebase = Tablebase.open(directory, 0);
+            AtomicInteger mismatches = new AtomicInteger(), finished = new AtomicInteger();
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    mismatches.addAndGet(countMismatches(tablebase, generator));
+                    finished.incrementAndGet();
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(threads.length, finished.get());
+            assertEquals(0, mismatches.get());
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    // probe(ICheckerBoard) test #3 - boundary test - a board that is not 8x8, or has more pieces than any table, is not found
+    @Test
+    public void testProbe_ICheckerBoard_notFound() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            EndgameIndex index = new EndgameIndex(0, 1, 0, 1);
+            Tablebase.write(new EndgameTable(index, new byte[index.getSize()]), directory, Tablebase.DEFAULT_BLOCK_BYTES);
+            Tablebase tablebase = Tablebase.open(directory, Tablebase.DEFAULT_CACHE_MB);
+            ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+            board.placePiece(BoardPosition.ofSquare(0, 8), 'X');
+            board.placePiece(BoardPosition.ofSquare(31, 8), 'O');
+
+            assertEquals(EndgameTable.DRAW, tablebase.probe(board));
+
+            board.placePiece(BoardPosition.ofSquare(15, 8), 'O');
+
+            assertEquals(Tablebase.NOT_FOUND, tablebase.probe(board));
+
+            ICheckerBoard tenByTen = new CheckerBoard(10);
+            tenByTen.putPlayersOnNewBoard('x', 'o');
+
+            assertEquals(Tablebase.NOT_FOUND, tablebase.probe(tenByTen));
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    // open(Path, int) test #1 - boundary test - a file named as a compressed table that is not one is rejected
+    @Test
+    public void testOpen_Path_int_notATable() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            Files.writeString(directory.resolve("endgame-0101.tbz"), "this is not a compressed endgame table");
+
+            Tablebase.open(directory, Tablebase.DEFAULT_CACHE_MB);
+        }
+        catch (IOException e) {
+            assertTrue(e.getMessage().contains("not a compressed endgame table"));
+            return;
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+        throw new AssertionError("a file that is not a compressed endgame table was opened");
+    }
+
+    // findBestMove(ICheckerBoard, char) test #1 - routine test - an engine probing the tablebase scores a won endgame by its distance in the table, and plays a move to a lost position
+    @Test
+    public void testFindBestMove_ICheckerBoard_char_playsTablebaseWin() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            TablebaseGenerator generator = writeTables(directory);
+            ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+            board.placePiece(BoardPosition.ofSquare(0, 8), 'X');
+            board.placePiece(BoardPosition.ofSquare(1, 8), 'X');
+            board.placePiece(BoardPosition.ofSquare(31, 8), 'O');
+            board.setPlayerToMove('x');
+            byte value = generator.getTable(EndgameIndex.signature(0, 2, 0, 1)).probe(board);
+            SearchEngine engine = new SearchEngine();
+            engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+            engine.setNodeLimit(20000);
+            engine.setTablebase(Tablebase.open(directory, Tablebase.DEFAULT_CACHE_MB));
+
+            long move = engine.findBestMove(board, 'x');
+
+            assertTrue(EndgameTable.isWin(value));
+            assertEquals(SearchEngine.TABLEBASE_WIN_SCORE - EndgameTable.distance(value), engine.getBestScore());
+            board.makeMove(move);
+            byte reply = generator.getTable(EndgameIndex.signature(0, 2, 0, 1)).probe(board);
+            assertTrue(EndgameTable.isLoss(reply));
+            assertEquals(EndgameTable.distance(value) - 1, EndgameTable.distance(reply));
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+    }
+
+    // findBestMove(ICheckerBoard, char) test #2 - boundary test - tablebase scores stored in a shared table two plies closer to the root are read back two plies further away, so the search scores the same as with a fresh table
+    @Test
+    public void testFindBestMove_ICheckerBoard_char_tableScoresByPly() throws IOException {
+        Path directory = Files.createTempDirectory("tablebase");
+        try {
+            writeTables(directory);
+            Tablebase tablebase = Tablebase.open(directory, Tablebase.DEFAULT_CACHE_MB);
+            // 'x' kings on squares 7 and 2 against an 'o' king on square 27 and an 'o' man on square 15, which is in no table
+            ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+            board.placePiece(BoardPosition.ofSquare(7, 8), 'X');
+            board.placePiece(BoardPosition.ofSquare(2, 8), 'X');
+            board.placePiece(BoardPosition.ofSquare(27, 8), 'O');
+            board.placePiece(BoardPosition.ofSquare(15, 8), 'o');
+            board.setPlayerToMove('x');
+            // the position two plies before it, when the kings on squares 11 and 31 step to squares 7 and 27
+            ICheckerBoard earlier = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+            earlier.placePiece(BoardPosition.ofSquare(11, 8), 'X');
+            earlier.placePiece(BoardPosition.ofSquare(2, 8), 'X');
+            earlier.placePiece(BoardPosition.ofSquare(31, 8), 'O');
+            earlier.placePiece(BoardPosition.ofSquare(15, 8), 'o');
+            earlier.setPlayerToMove('x');
+            TranspositionTable shared = new TranspositionTable(1);
+            SearchEngine filler = new SearchEngine(shared);
+            SearchEngine reader = new SearchEngine(shared);
+            SearchEngine fresh = new SearchEngine();
+            for (SearchEngine engine : new SearchEngine[] {filler, reader, fresh}) {
+                engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+                engine.setTablebase(tablebase);
+            }
+            // the filler searches the later position as deep as the reader searches it two plies from its root
+            filler.setMaxDepth(4);
+            reader.setMaxDepth(6);
+            fresh.setMaxDepth(6);
+
+            filler.findBestMove(board, 'x');
+            reader.findBestMove(earlier, 'x');
+            fresh.findBestMove(earlier, 'x');
+
+            assertTrue(fresh.getBestScore() > SearchEngine.TABLEBASE_WIN_SCORE - SearchEngine.MAX_PLY - EndgameTable.MAX_DISTANCE);
+            assertEquals(fresh.getBestScore(), reader.getBestScore());
+        }
+        finally {
+            deleteDirectory(directory);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EndgameIndex;
+import cpsc2150.extendedCheckers.engine.EndgameTable;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.Perft;
+import cpsc2150.extendedCheckers.views.TablebaseGenerator;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestTablebaseGenerator contains test case functions to test the TablebaseGenerator class. The functions it tests
+ * include signatures(int) and solve(EndgameIndex).
+ *
+ * @invariant [every board has players 'x' and 'o', and every generator solves signatures in the order signatures
+ * gives]
+ */
+public class TestTablebaseGenerator {
+    // represents the most pieces of a solved test table, which keeps the tests quick
+    private static final int TEST_PIECES = 3;
+
+    /**
+     * Solves every signature with up to a number of pieces. Accepts two parameters.
+     * @param threads The number of threads to solve on, as an int
+     * @param pieces The most pieces of a signature, as an int
+     * @return The generator holding the tables, as a TablebaseGenerator
+     *
+     * @pre threads >= 1 AND 2 <= pieces <= TEST_PIECES
+     *
+     * @post solveAll = [a generator holding every table of at most pieces pieces]
+     */
+    private TablebaseGenerator solveAll(int threads, int pieces) {
+        TablebaseGenerator generator = new TablebaseGenerator(threads);
+        for (EndgameIndex index : TablebaseGenerator.signatures(pieces)) {
+            generator.solve(index);
+        }
+        return generator;
+    }
+
+    /**
+     * Works out the result a position must have from the results of the positions its moves lead to, looked up in
+     * the generator's tables: a win by the fastest move to a loss, a loss by the slowest move when every move leads
+     * to a win for the opponent, and otherwise a draw. A capture or crowning is 1 ply from conversion whatever follows
+     * it. Accepts two parameters.
+     * @param generator The generator holding every table the position's moves lead into, as a TablebaseGenerator
+     * @param board The board holding the position, with its player to move set, as an ICheckerBoard
+     * @return The result the position must have, as a byte
+     *
+     * @pre [every table the position's moves lead into is solved]
+     *
+     * @post expectedValue = [the result made from the results of the moves] AND board = #board
+     */
+    private byte expectedValue(TablebaseGenerator generator, ICheckerBoard board) {
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        int count = board.generateLegalMoves(board.getPlayerToMove(), moves);
+        int signature = signatureOf(board);
+        int fastestWin = Integer.MAX_VALUE, slowestLoss = 0;
+        boolean everyMoveLoses = true;
+
+        for (int i = 0; i < count; i++) {
+            board.makeMove(moves[i]);
+            char opponent = board.getPlayerToMove();
+            char opponentKing = (opponent == board.getPlayerOne()) ? board.getPlayerOneKing() : board.getPlayerTwoKing();
+            byte child = (board.getPieceCount(opponent) + board.getPieceCount(opponentKing) == 0) ? EndgameTable.loss(0)
+                    : generator.getTable(signatureOf(board)).probe(board);
+            int distance = (signatureOf(board) == signature) ? EndgameTable.distance(child) + 1 : 1;
+            board.unmakeMove();
+
+            if (EndgameTable.isLoss(child)) {
+                fastestWin = Math.min(fastestWin, distance);
+            }
+            else if (EndgameTable.isWin(child)) {
+                slowestLoss = Math.max(slowestLoss, distance);
+            }
+            else {
+                everyMoveLoses = false;
+            }
+        }
+        if (fastestWin != Integer.MAX_VALUE) {
+            return EndgameTable.win(fastestWin);
+        }
+        return everyMoveLoses ? EndgameTable.loss(slowestLoss) : EndgameTable.DRAW;
+    }
+
+    /**
+     * Finds the material signature of the pieces on a board. Accepts one parameter.
+     * @param board The board, as an ICheckerBoard
+     * @return The signature (see EndgameIndex.signature), as an int
+     *
+     * @pre board.getBoardSize() = 8
+     *
+     * @post signatureOf = [the signature of the pieces on board]
+     */
+    private int signatureOf(ICheckerBoard board) {
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        for (int square = 0; square < EndgameIndex.SQUARE_COUNT; square++) {
+            int type = board.pieceType(board.whatsAtSquare(square));
+            if (type != ICheckerBoard.NO_PIECE_TYPE) {
+                masks[type] |= 1 << square;
+            }
+        }
+        return EndgameIndex.signatureOf(masks);
+    }
+
+    // signatures(int) test #1 - routine test - every signature comes after the ones with fewer pieces and the ones with fewer standard pieces
+    @Test
+    public void testSignatures_int_order() {
+        List<EndgameIndex> signatures = TablebaseGenerator.signatures(4);
+
+        assertEquals(4 + 12 + 25, signatures.size());
+        assertEquals("0101", signatures.get(0).toString());
+        for (int i = 1; i < signatures.size(); i++) {
+            EndgameIndex before = signatures.get(i - 1), after = signatures.get(i);
+            int piecesBefore = 0, piecesAfter = 0;
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                piecesBefore += before.getPieceCount(type);
+                piecesAfter += after.getPieceCount(type);
+            }
+            int menBefore = before.getPieceCount(ICheckerBoard.PLAYER_ONE_TYPE) + before.getPieceCount(ICheckerBoard.PLAYER_TWO_TYPE);
+            int menAfter = after.getPieceCount(ICheckerBoard.PLAYER_ONE_TYPE) + after.getPieceCount(ICheckerBoard.PLAYER_TWO_TYPE);
+            assertTrue(piecesBefore < piecesAfter || (piecesBefore == piecesAfter && menBefore <= menAfter));
+        }
+    }
+
+    // solve(EndgameIndex) test #1 - routine test - every result of the three-piece tables agrees with the results of the positions its moves lead to
+    @Test
+    public void testSolve_EndgameIndex_resultsAgreeWithMoves() {
+        TablebaseGenerator generator = solveAll(2, TEST_PIECES);
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        char[] pieces = {'x', 'X', 'o', 'O'};
+
+        for (EndgameIndex index : new EndgameIndex[] {new EndgameIndex(0, 1, 0, 2), new EndgameIndex(1, 0, 1, 1), new EndgameIndex(2, 0, 1, 0)}) {
+            EndgameTable table = generator.getTable(index.getSignature());
+            for (int position = 0; position < index.getSize(); position++) {
+                int side = index.decode(position, masks);
+                if (side == EndgameIndex.INVALID) {
+                    continue;
+                }
+                ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    for (int mask = masks[type]; mask != 0; mask &= mask - 1) {
+                        board.placePiece(BoardPosition.ofSquare(Integer.numberOfTrailingZeros(mask), 8), pieces[type]);
+                    }
+                }
+                board.setPlayerToMove((side == EndgameIndex.PLAYER_ONE_TO_MOVE) ? 'x' : 'o');
+
+                assertEquals(expectedValue(generator, board), table.getValue(position));
+            }
+        }
+    }
+
+    // solve(EndgameIndex) test #2 - boundary test - a standard piece blocked at the edge has lost in 0 plies, and a king that can take the last piece has won in 1 ply
+    @Test
+    public void testSolve_EndgameIndex_immediateResults() {
+        TablebaseGenerator generator = solveAll(1, 2);
+        ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_FAST, 8);
+        board.placePiece(new BoardPosition(6, 0), 'x');
+        board.placePiece(new BoardPosition(7, 1), 'o');
+        board.setPlayerToMove('x');
+
+        assertEquals(EndgameTable.loss(0), generator.getTable(EndgameIndex.signature(1, 0, 1, 0)).probe(board));
+
+        board.removePiece(new BoardPosition(6, 0));
+        board.removePiece(new BoardPosition(7, 1));
+        board.placePiece(new BoardPosition(7, 1), 'X');
+        board.placePiece(new BoardPosition(6, 2), 'o');
+
+        assertEquals(EndgameTable.win(1), generator.getTable(EndgameIndex.signature(0, 1, 1, 0)).probe(board));
+    }
+
+    // solve(EndgameIndex) test #3 - routine test - the tables are the same whatever the number of threads
+    @Test
+    public void testSolve_EndgameIndex_sameOnAnyThreads() {
+        TablebaseGenerator oneThread = solveAll(1, TEST_PIECES);
+        TablebaseGenerator fourThreads = solveAll(4, TEST_PIECES);
+
+        for (EndgameIndex index : TablebaseGenerator.signatures(TEST_PIECES)) {
+            EndgameTable expected = oneThread.getTable(index.getSignature());
+            EndgameTable actual = fourThreads.getTable(index.getSignature());
+            for (int position = 0; position < index.getSize(); position++) {
+                assertEquals(expected.getValue(position), actual.getValue(position));
+            }
+        }
+    }
+}
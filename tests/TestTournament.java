@@ -0,0 +1,107 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.EvalWeights;
+import cpsc2150.extendedCheckers.engine.FeatureEnum;
+import cpsc2150.extendedCheckers.views.CheckersFE;
+import cpsc2150.extendedCheckers.views.GameResult;
+import cpsc2150.extendedCheckers.views.Tournament;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * TestTournament contains test case functions to test the Tournament class. The functions it tests include
+ * playGame(char, int, int), run(int[], char[], int, int), eloDifference(double), and eloMargin(int, int, int).
+ *
+ * @invariant [every tournament searches few nodes per move, so that its games are quick]
+ */
+public class TestTournament {
+    // represents the nodes per move of every test tournament
+    private static final long NODES_PER_MOVE = 300;
+
+    // playGame(char, int, int) test #1 - routine test - a game is the same every time it is played, and on every board implementation
+    @Test
+    public void testPlayGame_char_int_int_repeatableOnEveryBoard() {
+        Tournament tournament = new Tournament(EvalWeights.DEFAULT, EvalWeights.DEFAULT, NODES_PER_MOVE, 3);
+        GameResult expected = tournament.playGame(CheckersFE.GAME_FAST, 8, 1);
+
+        for (char backend : new char[] {CheckersFE.GAME_FAST, CheckersFE.GAME_MEM_EFFICIENT, CheckersFE.GAME_BITBOARD, CheckersFE.GAME_COMPACT}) {
+            GameResult result = tournament.playGame(backend, 8, 1);
+            assertEquals(backend, result.getBackend());
+            assertEquals(expected.getScore(), result.getScore(), 0);
+            assertEquals(expected.getPlies(), result.getPlies());
+            assertEquals(expected.getCandidateNodes(), result.getCandidateNodes());
+            assertEquals(expected.getBaselineNodes(), result.getBaselineNodes());
+        }
+        assertTrue(expected.getPlies() > 0);
+        assertEquals(false, expected.isCandidatePlayerOne());
+    }
+
+    // playGame(char, int, int) test #2 - boundary test - engines whose budget is too small to finish a search still play every move, so the game goes on past its opening and ends
+    @Test
+    public void testPlayGame_char_int_int_tinyNodeBudget() {
+        Tournament tournament = new Tournament(EvalWeights.DEFAULT, EvalWeights.DEFAULT, 5, 1);
+
+        GameResult result = tournament.playGame(CheckersFE.GAME_FAST, 8, 0);
+
+        assertTrue(result.getPlies() > 4);
+        assertEquals(result.getPlies(), result.getMoves().length);
+    }
+
+    // run(int[], char[], int, int) test #1 - routine test - every game is played once, in order of board size, board type, and game number, whatever the number of threads
+    @Test
+    public void testRun_intArr_charArr_int_int_orderedResults() {
+        Tournament tournament = new Tournament(EvalWeights.DEFAULT, EvalWeights.DEFAULT.with(FeatureEnum.MOBILITY, 0), NODES_PER_MOVE, 1);
+        int[] sizes = {8, 10};
+        char[] backends = {CheckersFE.GAME_FAST, CheckersFE.GAME_MEM_EFFICIENT};
+
+        List<GameResult> results = tournament.run(sizes, backends, 2, 2);
+
+        assertEquals(8, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(sizes[i / 4], results.get(i).getBoardSize());
+            assertEquals(backends[i / 2 % 2], results.get(i).getBackend());
+            assertEquals(i % 2, results.get(i).getGameNumber());
+            assertEquals(i % 2 == 0, results.get(i).isCandidatePlayerOne());
+        }
+        // the board implementations play the same games
+        for (int i = 0; i < results.size(); i += 4) {
+            assertEquals(results.get(i).getPlies(), results.get(i + 2).getPlies());
+            assertEquals(results.get(i + 1).getScore(), results.get(i + 3).getScore(), 0);
+        }
+    }
+
+    // eloDifference(double) test #1 - routine test - an even score is no difference, and three points in four is about 191 Elo
+    @Test
+    public void testEloDifference_double_routine() {
+        assertEquals(0, Tournament.eloDifference(0.5), 1e-9);
+        assertEquals(190.85, Tournament.eloDifference(0.75), 0.01);
+        assertEquals(-190.85, Tournament.eloDifference(0.25), 0.01);
+    }
+
+    // eloDifference(double) test #2 - boundary test - winning or losing every game is an unbounded difference
+    @Test
+    public void testEloDifference_double_allOrNothing() {
+        assertEquals(Double.POSITIVE_INFINITY, Tournament.eloDifference(1), 0);
+        assertEquals(Double.NEGATIVE_INFINITY, Tournament.eloDifference(0), 0);
+    }
+
+    // eloMargin(int, int, int) test #1 - routine test - the margin shrinks as more games with the same spread are played
+    @Test
+    public void testEloMargin_int_int_int_shrinksWithGames() {
+        double small = Tournament.eloMargin(30, 40, 30);
+        double large = Tournament.eloMargin(300, 400, 300);
+
+        assertTrue(small > 0);
+        // ten times the games cuts the margin by about the square root of ten
+        assertEquals(Math.sqrt(10), small / large, 0.1);
+    }
+
+    // eloMargin(int, int, int) test #2 - boundary test - a margin that reaches a perfect score is unbounded
+    @Test
+    public void testEloMargin_int_int_int_perfectScore() {
+        assertEquals(Double.POSITIVE_INFINITY, Tournament.eloMargin(10, 0, 0), 0);
+    }
+}
@@ -0,0 +1,101 @@
+package cpsc2150.extendedCheckers.tests;
+import cpsc2150.extendedCheckers.engine.TranspositionTable;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.util.DirectionEnum;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * TestTranspositionTable contains test case functions to test the TranspositionTable class. The functions it tests
+ * include TranspositionTable(int), probe(long), store(long, int, int, int, long), newSearch(void), clear(void), and
+ * the accessors for the fields packed into an entry and for the hit, miss, and collision counters.
+ *
+ * @invariant [every key used in a test is a made-up hash, so that keys that share a bucket can be chosen]
+ */
+public class TestTranspositionTable {
+    // represents a 1 MB table's number of buckets, so that KEY and KEY + BUCKETS share a bucket
+    private static final long BUCKETS = 1 << 15;
+    private static final long KEY = 0x5DEECE66DL;
+
+    // TranspositionTable(int) test #1 - routine test - a 1 MB table holds 32 byte buckets of two entries each
+    @Test
+    public void testTranspositionTable_int_capacity() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        assertEquals(2 * BUCKETS, table.getCapacity());
+    }
+
+    // probe(long) and store(long, int, int, int, long) test #1 - routine test - every stored field, including a negative score, is read back
+    @Test
+    public void testStoreProbe_long_roundTrip() {
+        TranspositionTable table = new TranspositionTable(1);
+        long move = Move.addJump(Move.of(9, 18, DirectionEnum.SE, true), 27, DirectionEnum.SE);
+
+        table.store(KEY, 7, TranspositionTable.UPPER_BOUND, -999986, move);
+        long data = table.probe(KEY);
+
+        assertEquals(7, TranspositionTable.getDepth(data));
+        assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.getBound(data));
+        assertEquals(-999986, TranspositionTable.getScore(data));
+        assertEquals(move & TranspositionTable.MOVE_HINT_MASK, TranspositionTable.getMoveHint(data));
+        assertEquals(1, table.getHits());
+    }
+
+    // probe(long) test #1 - boundary test - looking up a position that is not stored misses, and counts a collision only when its bucket holds another position
+    @Test
+    public void testProbe_long_missAndCollision() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+        assertEquals(0, table.getCollisions());
+
+        table.store(KEY, 1, TranspositionTable.EXACT, 0, Move.NO_MOVE);
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY + BUCKETS));
+        assertEquals(2, table.getMisses());
+        assertEquals(1, table.getCollisions());
+    }
+
+    // store(long, int, int, int, long) test #1 - routine test - a shallower position sharing a bucket goes into the always-replace entry, keeping the deeper one
+    @Test
+    public void testStore_long_depthPreferred() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(KEY, 9, TranspositionTable.EXACT, 10, Move.NO_MOVE);
+        table.store(KEY + BUCKETS, 3, TranspositionTable.EXACT, 20, Move.NO_MOVE);
+        table.store(KEY + 2 * BUCKETS, 2, TranspositionTable.EXACT, 30, Move.NO_MOVE);
+
+        assertEquals(10, TranspositionTable.getScore(table.probe(KEY)));
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY + BUCKETS));
+        assertEquals(30, TranspositionTable.getScore(table.probe(KEY + 2 * BUCKETS)));
+    }
+
+    // newSearch(void) test #1 - routine test - a deep entry from an older search is replaced by a shallower one from the current search
+    @Test
+    public void testNewSearch_void_replacesOldEntries() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(KEY, 9, TranspositionTable.EXACT, 10, Move.NO_MOVE);
+        table.newSearch();
+        table.store(KEY + BUCKETS, 1, TranspositionTable.LOWER_BOUND, 20, Move.NO_MOVE);
+        table.store(KEY + 2 * BUCKETS, 0, TranspositionTable.LOWER_BOUND, 30, Move.NO_MOVE);
+
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+        assertEquals(20, TranspositionTable.getScore(table.probe(KEY + BUCKETS)));
+        assertEquals(30, TranspositionTable.getScore(table.probe(KEY + 2 * BUCKETS)));
+    }
+
+    // clear(void) test #1 - boundary test - clearing the table forgets every entry and resets the counters
+    @Test
+    public void testClear_void_empty() {
+        TranspositionTable table = new TranspositionTable(1);
+
+        table.store(KEY, 4, TranspositionTable.EXACT, 5, Move.NO_MOVE);
+        table.probe(KEY);
+        table.clear();
+
+        assertEquals(0, table.getHits());
+        assertEquals(TranspositionTable.NO_ENTRY, table.probe(KEY));
+        assertEquals(1, table.getMisses());
+    }
+}
@@ -0,0 +1,16 @@
+package cpsc2150.extendedCheckers.util;
+
+/**
+ * GameStatusEnum is an enumeration designed to represent the state of a game of checkers. In GameStatusEnum.java, a
+ * game is either still being played, won by one of the two players, or drawn.
+ *
+ * @invariant [IN_PROGRESS means moves can still be submitted] AND [PLAYER_ONE_WON means player two has no pieces or
+ * no legal moves] AND [PLAYER_TWO_WON means player one has no pieces or no legal moves] AND [DRAW means the game
+ * ended without a winner]
+ */
+public enum GameStatusEnum {
+    IN_PROGRESS,
+    PLAYER_ONE_WON,
+    PLAYER_TWO_WON,
+    DRAW
+}
@@ -1,12 +1,23 @@
 package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.engine.EvalWeights;
+import cpsc2150.extendedCheckers.engine.OpeningBook;
+import cpsc2150.extendedCheckers.engine.SearchEngine;
+import cpsc2150.extendedCheckers.engine.Tablebase;
 import cpsc2150.extendedCheckers.models.BoardPosition;
 import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
 import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.GameListener;
+import cpsc2150.extendedCheckers.models.GameSession;
 import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
 import cpsc2150.extendedCheckers.util.DirectionEnum;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Scanner;
 
 /**
@@ -56,12 +67,16 @@ public class CheckersFE {
     // represents the boundary of piece chars that players can choose to play as
     public static final char PIECE_LETTER_MIN = 'a';
     public static final char PIECE_LETTER_MAX = 'z';
-    // represents the chars a user can choose from when determining whether to play a fast game or a memory efficient game
+    // represents the chars a user can choose from when determining whether to play a fast game, a memory efficient game, a bitboard game, or a compact game
     public static final char GAME_FAST = 'f';
     public static final char GAME_MEM_EFFICIENT = 'm';
+    public static final char GAME_BITBOARD = 'b';
+    public static final char GAME_COMPACT = 'c';
     // represents the minimum and maximum board sizes a user can choose to play on
     public static final int BOARD_SIZE_MIN = 8;
     public static final int BOARD_SIZE_MAX = 16;
+    // represents the time in milliseconds the computer may spend picking each move
+    public static final long COMPUTER_TIME_MILLIS = 1000;
 
     /**
      * Checks whether a user's input position numbers for row and column are numbers between 0 and
@@ -169,15 +184,16 @@ public class CheckersFE {
     }
 
     /**
-     * Prompts a user to input whether they want to play a fast game or a memory efficient game. Also, validates the
-     * user's input. Accepts one parameter.
+     * Prompts a user to input whether they want to play a fast game, a memory efficient game, a bitboard game, or a compact game.
+     * Also, validates the user's input. Accepts one parameter.
      * @param scan The user's input, as a Scanner
-     * @return The type of game the user chose to play (a fast or a memory efficient game), as a char
+     * @return The type of game the user chose to play (a fast, a memory efficient, a bitboard, or a compact game), as a lowercase
+     * char
      *
      * @pre scan != null
      *
-     * @post getGameFastOrMemEfficient = [The type of game the user chose to play (a fast or a memory efficient game),
-     * as a char] AND PLAYER_ONE_NUM = #PLAYER_ONE_NUM AND PLAYER_TWO_NUM = #PLAYER_TWO_NUM AND playerOne = #playerOne
+     * @post getGameFastOrMemEfficient = [The type of game the user chose to play (a fast, a memory efficient, a
+     * bitboard, or a compact game), as a lowercase char] AND PLAYER_ONE_NUM = #PLAYER_ONE_NUM AND PLAYER_TWO_NUM = #PLAYER_TWO_NUM AND playerOne = #playerOne
      * AND playerTwo = #playerTwo
      */
     private static char getGameFastOrMemEfficient(Scanner scan) {
@@ -185,23 +201,169 @@ public class CheckersFE {
         String playerInput;
         char gameType = ' ';
 
-        // prompts a player to input a char that corresponds with choosing to play a fast game or a memory efficient game
-        System.out.println("Do you want a fast game (F/f) or a memory efficient game (M/m)?");
+        // prompts a player to input a char that corresponds with choosing to play a fast game, a memory efficient game, a bitboard game, or a compact game
+        System.out.println("Do you want a fast game (F/f), a memory efficient game (M/m), a bitboard game (B/b), or a compact game (C/c)?");
         while (gameTypeIsValid == false) {
             playerInput = scan.nextLine();
-            // when a player inputs a char that corresponds with a fast game or a memory efficient game, it is valid and gets initialized
-            if (playerInput.equalsIgnoreCase(Character.toString(GAME_FAST)) || playerInput.equalsIgnoreCase(Character.toString(GAME_MEM_EFFICIENT))) {
-                gameType = playerInput.charAt(0);
+            // when a player inputs a char that corresponds with a fast game, a memory efficient game, a bitboard game, or a compact game, it is valid and gets initialized
+            if (playerInput.equalsIgnoreCase(Character.toString(GAME_FAST)) || playerInput.equalsIgnoreCase(Character.toString(GAME_MEM_EFFICIENT)) || playerInput.equalsIgnoreCase(Character.toString(GAME_BITBOARD)) || playerInput.equalsIgnoreCase(Character.toString(GAME_COMPACT))) {
+                gameType = Character.toLowerCase(playerInput.charAt(0));
                 gameTypeIsValid = true;
             }
-            // re-prompts a player to input a char that corresponds with a fast game or a memory efficient game while the input is invalid
+            // re-prompts a player to input a char that corresponds with a fast game, a memory efficient game, a bitboard game, or a compact game while the input is invalid
             else {
-                System.out.println("Do you want a fast game (F/f) or a memory efficient game (M/m)?");
+                System.out.println("Do you want a fast game (F/f), a memory efficient game (M/m), a bitboard game (B/b), or a compact game (C/c)?");
             }
         }
         return gameType;
     }
 
+    /**
+     * Prompts a user to input whether a player is played by the computer. Also, validates the user's input. Accepts
+     * two parameters.
+     * @param scan The user's input, as a Scanner
+     * @param playerNum The number representation of the player being asked about, as an int
+     * @return True when the computer plays for the player and false otherwise, as a boolean
+     *
+     * @pre scan != null AND playerNum = 1 or playerNum = 2
+     *
+     * @post isComputerPlayer = [True when the user answered 'Y' and false when the user answered 'N'] AND
+     * PLAYER_ONE_NUM = #PLAYER_ONE_NUM AND PLAYER_TWO_NUM = #PLAYER_TWO_NUM AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo
+     */
+    private static boolean isComputerPlayer(Scanner scan, int playerNum) {
+        String playerInput;
+
+        // prompts the user to choose whether the computer plays for a player
+        System.out.printf("Should the computer play for player %d? Enter 'Y' or 'N'\n", playerNum);
+        playerInput = scan.nextLine();
+        // re-prompts the user while the input is neither yes nor no
+        while (!playerInput.equalsIgnoreCase("Y") && !playerInput.equalsIgnoreCase("N")) {
+            System.out.printf("Should the computer play for player %d? Enter 'Y' or 'N'\n", playerNum);
+            playerInput = scan.nextLine();
+        }
+        return playerInput.equalsIgnoreCase("Y");
+    }
+
+    /**
+     * Prints the board, rendering it into a buffer that is reused every turn instead of building a new String. Accepts
+     * two parameters.
+     * @param checkerBoard The object that represents the checkerboard, as an ICheckerBoard
+     * @param boardText The buffer the board is rendered into, as a StringBuilder
+     *
+     * @pre checkerBoard != null AND boardText != null
+     *
+     * @post printBoard = [prints the board followed by a blank line] AND boardText = [the printed text] AND
+     * PLAYER_ONE_NUM = #PLAYER_ONE_NUM AND PLAYER_TWO_NUM = #PLAYER_TWO_NUM AND playerOne = #playerOne AND playerTwo
+     * = #playerTwo
+     */
+    private static void printBoard(ICheckerBoard checkerBoard, StringBuilder boardText) {
+        boardText.setLength(0);
+        try {
+            checkerBoard.renderTo(boardText);
+        }
+        catch (IOException e) {
+            throw new IllegalStateException("a StringBuilder can not fail to append", e);
+        }
+        boardText.append('\n');
+        System.out.print(boardText);
+    }
+
+    /**
+     * Prompts a player to pick one of their pieces and a direction to move it in, re-prompting until both are part of
+     * a legal move, then submits the step to the game session. Partway through a capture, the piece that is jumping is
+     * picked without asking. Accepts two parameters.
+     * @param scan The user's input, as a Scanner
+     * @param session The game being played, as a GameSession
+     *
+     * @pre scan != null AND session != null AND session.getStatus() = IN_PROGRESS
+     *
+     * @post playPlayerMove = [prints user prompts and the player's step is taken in session, or the reason it was
+     * refused is printed] AND PLAYER_ONE_NUM = #PLAYER_ONE_NUM AND PLAYER_TWO_NUM = #PLAYER_TWO_NUM AND playerOne =
+     * #playerOne AND playerTwo = #playerTwo
+     */
+    private static void playPlayerMove(Scanner scan, GameSession session) {
+        ICheckerBoard checkerBoard = session.getBoard();
+        char playerName = session.getPlayerToMove();
+        int outerBoardSizeBoundary = checkerBoard.getBoardSize() - 1;
+        int row, column;
+        BoardPosition positionOnBoard = session.getJumpingPosition();
+        boolean inputPosResult = positionOnBoard != null, inputDirectionValid = false;
+        ArrayList<DirectionEnum> possibleDirections = new ArrayList<>();
+        String inputDirection = " ";
+
+        // partway through a capture, the piece that is jumping must jump again
+        if (inputPosResult) {
+            System.out.printf("player %c, your piece at %d %d must keep jumping.\n", playerName, positionOnBoard.getRow(), positionOnBoard.getColumn());
+            possibleDirections = session.getLegalDirections(positionOnBoard);
+        }
+        // when a player inputs a desired board position (a row and column value) that is invalid, they get re-prompted to input a valid position
+        while (inputPosResult == false) {
+            // gets player input, listing only the pieces that have a legal move
+            System.out.printf("player %c, which piece do you wish to move? Enter the row followed by a space followed by the column. Pieces that can move:", playerName);
+            String separator = " ";
+            for (int r = 0; r <= outerBoardSizeBoundary; r++) {
+                for (int c = r % EVEN_DIVISOR; c <= outerBoardSizeBoundary; c += EVEN_DIVISOR) {
+                    if (!session.getLegalDirections(BoardPosition.of(r, c)).isEmpty()) {
+                        System.out.printf("%s%d %d", separator, r, c);
+                        separator = ", ";
+                    }
+                }
+            }
+            System.out.println();
+            row = scan.nextInt();
+            column = scan.nextInt();
+            scan.nextLine();
+
+            // when the input board position row and column values are not between 0 and the board size, an error message shows and re-prompting occurs
+            if (validInputPos(row, column, checkerBoard) == false) {
+                System.out.printf("Invalid input. Please enter values between 0 and %d.\n", outerBoardSizeBoundary);
+                continue;
+            }
+            positionOnBoard = BoardPosition.of(row, column);
+            // when the input board position contains a char that does not belong to a player, an error message shows and re-prompting occurs
+            if (validInputPosChar(playerName, positionOnBoard, checkerBoard) == false) {
+                System.out.printf("Player %c, that isn't your piece. Pick one of your pieces.\n", playerName);
+            } else {
+                possibleDirections = session.getLegalDirections(positionOnBoard);
+                // when the piece has no legal move, an error message shows and re-prompting occurs
+                if (possibleDirections.isEmpty()) {
+                    System.out.println("Invalid piece. That piece has no legal move, and a capture must be taken when one is available. Pick another piece.");
+                }
+                // otherwise, the entered board position is valid
+                else {
+                    inputPosResult = true;
+                }
+            }
+        }
+
+        // prompts a player to choose a direction from a list of directions that are part of a legal move for their chosen piece
+        System.out.println("In which direction do you wish to move the piece? Enter one of these options:");
+        for (int i = 0; i < possibleDirections.size(); i++) {
+            System.out.printf("%s\n", possibleDirections.get(i));
+        }
+        // checks whether a player entered valid input for the direction they want to move
+        while (inputDirectionValid == false) {
+            inputDirection = scan.nextLine();
+            for (int j = 0; j < possibleDirections.size(); j++) {
+                if (inputDirection.equalsIgnoreCase(possibleDirections.get(j).toString())) {
+                    inputDirectionValid = true;
+                    break;
+                }
+            }
+            // when input is not valid, an error message shows and re-prompting occurs
+            if (inputDirectionValid == false) {
+                System.out.printf("Invalid input. Please enter a valid direction.\n");
+                System.out.println("In which direction do you wish to move the piece? Enter one of these options:");
+            }
+        }
+
+        // the session moves or jumps the piece, crowns it when it reaches the other side, and passes the turn once the move is complete
+        if (!session.submitMove(positionOnBoard, DirectionEnum.valueOf(inputDirection.toUpperCase().trim()))) {
+            System.out.printf("Player %c, that move is not legal. A capture must be taken when one is available, and goes on while the piece can keep jumping.\n", playerName);
+        }
+    }
+
     /**
      * Prompts a user to input a desired board size for the checkerboard they will play the game on. Also, validates the
      * user's input. Accepts one parameter.
@@ -238,7 +400,10 @@ public class CheckersFE {
     /**
      * Main function for the checkers game. This is where print statements occur and where user input is obtained. This
      * is also where functions from classes are called to perform the game actions/procedures. Accepts one parameter.
-     * @param args Takes in command line arguments, as an array of Strings
+     * @param args Takes in command line arguments: the path of an evaluation weights file (see EvalWeights) for the
+     * computer player, then the path of an opening book file (see OpeningBook) it plays from, and then the path of
+     * a directory of compressed endgame tables (see Tablebase) it probes, all of which are optional, as an array of
+     * Strings
      *
      * @pre None
      *
@@ -247,14 +412,42 @@ public class CheckersFE {
      * = #playerOne AND playerTwo = #playerTwo
      */
     public static void main(String[] args) {
-        boolean gameWon, inputDirectionValid, keepPlaying = true;
-        int turnCount = 0, boardSize;
+        boolean keepPlaying = true;
+        int boardSize;
         Scanner scan = new Scanner(System.in);
-        ArrayList<DirectionEnum> possibleDirections;
-        HashMap<Character, ArrayList<DirectionEnum>> viableDirections;
-        HashMap<DirectionEnum, Character> surroundingPositions;
         String keepPlayingResponse;
         char playerOneChosenPiece, playerTwoChosenPiece, typeOfGameResponse;
+        boolean playerOneIsComputer, playerTwoIsComputer;
+        SearchEngine engine = new SearchEngine();
+        long computerMove;
+        StringBuilder boardText = new StringBuilder();
+
+        // the computer scores positions with the weights in the file named on the command line, if there is one
+        if (args.length > 0) {
+            try {
+                engine.setWeights(EvalWeights.load(Path.of(args[0])));
+            }
+            catch (IOException | IllegalArgumentException e) {
+                System.out.println("The weights file could not be read, so the default weights are used: " + e.getMessage());
+            }
+        }
+        // the computer plays the moves of the opening book named after it, if there is one, before it starts searching
+        if (args.length > 1) {
+            try {
+                engine.setOpeningBook(OpeningBook.open(Path.of(args[1])));
+            }
+            catch (IOException e) {
+                System.out.println("The opening book could not be read, so the computer plays without one: " + e.getMessage());
+            }
+        }
+        if (args.length > 2) {
+            try {
+                engine.setTablebase(Tablebase.open(Path.of(args[2]), Tablebase.DEFAULT_CACHE_MB));
+            }
+            catch (IOException e) {
+                System.out.println("The endgame tables could not be read, so the computer plays without them: " + e.getMessage());
+            }
+        }
 
         // gets input from the user regarding desired player piece chars, game type (fast or memory efficient), and board size
         System.out.println("Welcome to Checkers!");
@@ -265,8 +458,11 @@ public class CheckersFE {
             playerTwoChosenPiece = getPlayerPiece(scan, PLAYER_TWO_NUM);
             playerTwo = playerTwoChosenPiece;
         } while (playerOneChosenPiece == playerTwoChosenPiece);
+        playerOneIsComputer = isComputerPlayer(scan, PLAYER_ONE_NUM);
+        playerTwoIsComputer = isComputerPlayer(scan, PLAYER_TWO_NUM);
         typeOfGameResponse = getGameFastOrMemEfficient(scan);
         boardSize = getBoardSize(scan);
+        engine.setTimeLimitMillis(COMPUTER_TIME_MILLIS);
 
         // creates the checkerboard with the user's provided board size
         ICheckerBoard checkerBoard;
@@ -274,145 +470,54 @@ public class CheckersFE {
             // when user's the desired game type is fast, a CheckerBoard object is used
             checkerBoard = new CheckerBoard(boardSize);
         }
+        else if (typeOfGameResponse == GAME_BITBOARD) {
+            // when user's the desired game type is bitboard, a CheckerBoardBit object is used
+            checkerBoard = new CheckerBoardBit(boardSize);
+        }
+        else if (typeOfGameResponse == GAME_COMPACT) {
+            // when user's the desired game type is compact, a CheckerBoardCompact object is used
+            checkerBoard = new CheckerBoardCompact(boardSize);
+        }
         else {
             // when user's the desired game type is memory efficient, a CheckerBoardMem object is used
             checkerBoard = new CheckerBoardMem(boardSize);
         }
-        // fills in the checkerboard
+        // fills in the checkerboard, and plays every game on it through a session that announces how each game ends
         checkerBoard.putPlayersOnNewBoard(playerOneChosenPiece, playerTwoChosenPiece);
+        GameSession session = new GameSession(checkerBoard);
+        session.addListener(new GameListener() {
+            @Override
+            public void gameEnded(GameSession endedSession, GameStatusEnum status, char winner) {
+                if (status == GameStatusEnum.DRAW) {
+                    System.out.println("The game is a draw!");
+                }
+                else {
+                    System.out.printf("Player %c has won!\n", winner);
+                }
+            }
+        });
 
         // when the user chooses to continue playing the checkers game, multiple games can be played
         while(keepPlaying) {
-            gameWon = false;
-            char playerName = checkerBoard.getPlayerOne();
-            char playerNameKing = checkerBoard.getPlayerOneKing();
-            char opponentName = checkerBoard.getPlayerTwo();
-            char opponentNameKing = checkerBoard.getPlayerTwoKing();
-            String inputDirection = " ";
-            DirectionEnum playerDirection;
-            int outerBoardSizeBoundary = boardSize - 1;
-
             // when a player has not won the current game, the game continues
-            while (gameWon == false) {
-                turnCount++;
+            while (session.getStatus() == GameStatusEnum.IN_PROGRESS) {
                 // prints the state of the current board, so that players can see it
-                System.out.printf("%s\n", checkerBoard);
-                int row = 0, column = 0;
-                BoardPosition positionOnBoard = new BoardPosition(row, column);
-                boolean inputPosResult = false;
+                printBoard(checkerBoard, boardText);
+                char playerName = session.getPlayerToMove();
 
-                // when the turn count is even, it's player two's turn. When turn count is odd, it's player one's turn
-                if (turnCount % EVEN_DIVISOR == 0) {
-                    playerName = checkerBoard.getPlayerTwo();
-                } else if (turnCount % EVEN_DIVISOR != 0) {
-                    playerName = checkerBoard.getPlayerOne();
-                }
-
-                // when a player inputs a desired board position (a row and column value) that is invalid, they get re-prompted to input a valid position
-                while (inputPosResult == false) {
-                    // gets player input
-                    System.out.printf("player %c, which piece do you wish to move? Enter the row followed by a space followed by the column.\n", playerName);
-                    row = scan.nextInt();
-                    column = scan.nextInt();
-                    scan.nextLine();
-                    positionOnBoard = new BoardPosition(row, column);
-
-                    // when the input board position row and column values are not between 0 and the board size, an error message shows and re-prompting occurs
-                    if (validInputPos(row, column, checkerBoard) == false) {
-                        System.out.printf("Invalid input. Please enter values between 0 and %d.\n", outerBoardSizeBoundary);
-                    }
-                    // when the input board position contains a char that does not belong to a player, an error message shows and re-prompting occurs
-                    else if (validInputPosChar(playerName, positionOnBoard, checkerBoard) == false) {
-                        System.out.printf("Player %c, that isn't your piece. Pick one of your pieces.\n", playerName);
-                    } else {
-                        checkerBoard.determineViableDirections(positionOnBoard);
-                        possibleDirections = checkerBoard.getViableDirections().get(playerName);
-                        // when there are no directions to move in, an error message shows and re-prompting occurs
-                        if (possibleDirections.isEmpty()) {
-                            System.out.println("Invalid piece. No available directions to move to. Pick another piece.");
-                        }
-                        // otherwise, the entered board position is valid
-                        else {
-                            inputPosResult = true;
-                        }
-                    }
-                }
-
-                // prompts a player to choose a direction from a list of directions they are allowed to move their chosen piece in
-                inputDirectionValid = false;
-                System.out.println("In which direction do you wish to move the piece? Enter one of these options:");
-                viableDirections = checkerBoard.getViableDirections();
-                // prints the viable directions that correspond to the chosen piece's board position
-                for (int i = 0; i < viableDirections.get(playerName).size(); i++) {
-                    System.out.printf("%s\n", viableDirections.get(playerName).get(i));
-                }
-                // checks whether a player entered valid input for the direction they want to move
-                while (inputDirectionValid == false) {
-                    inputDirection = scan.nextLine();
-                    for (int j = 0; j < viableDirections.get(playerName).size(); j++) {
-                        if (inputDirection.equalsIgnoreCase(viableDirections.get(playerName).get(j).toString())) {
-                            inputDirectionValid = true;
-                            break;
-                        }
+                // when the computer plays for the current player, the search engine picks the move
+                if ((playerName == checkerBoard.getPlayerOne()) ? playerOneIsComputer : playerTwoIsComputer) {
+                    computerMove = engine.findBestMove(checkerBoard, playerName);
+                    System.out.printf("player %c moves %s\n", playerName, Move.toString(computerMove, boardSize));
+                    // a refused move would be searched for and refused again, so the game is stopped instead
+                    if (!session.submitMove(computerMove)) {
+                        System.out.printf("The move of player %c was refused, so the game is stopped.\n", playerName);
+                        break;
                     }
-                    // when input is not valid, an error message shows and re-prompting occurs
-                    if (inputDirectionValid == false) {
-                        System.out.printf("Invalid input. Please enter a valid direction.\n");
-                        System.out.println("In which direction do you wish to move the piece? Enter one of these options:");
-                    }
-                }
-                // initializes a player's chosen direction
-                playerDirection = DirectionEnum.valueOf(inputDirection.toUpperCase().trim());
-
-                // the positions surrounding a player's board position are checked to see if moving and/or jumping is possible
-                surroundingPositions = checkerBoard.scanSurroundingPositions(positionOnBoard);
-                // when a board position is empty, a player might be able to move there
-                if (surroundingPositions.get(playerDirection) == CheckerBoard.EMPTY_POS) {
-                    positionOnBoard = checkerBoard.movePiece(positionOnBoard, playerDirection);
                 }
-                // when a board position contains the opponent's piece, a player might be able to jump it
-                else if (surroundingPositions.get(playerDirection) == opponentName || surroundingPositions.get(playerDirection) == opponentNameKing) {
-                    positionOnBoard = checkerBoard.jumpPiece(positionOnBoard, playerDirection);
-                }
-
-                // crowns a piece if it reaches the other side of the board
-                if (checkerBoard.pieceAtOtherSide(positionOnBoard)) {
-                    checkerBoard.crownPiece(positionOnBoard);
-                }
-
-                // switches the current player to the other player (player one or player two) to recognize changing turns
-                // current player switches
-                if (playerName == checkerBoard.getPlayerOne()) {
-                    playerName = checkerBoard.getPlayerTwo();
-                } else {
-                    playerName = checkerBoard.getPlayerOne();
-                }
-                // player king switches
-                if (playerName == checkerBoard.getPlayerOne()) {
-                    playerNameKing = checkerBoard.getPlayerOneKing();
-                } else {
-                    playerNameKing = checkerBoard.getPlayerTwoKing();
-                }
-                // opponent player switches
-                if (playerName == checkerBoard.getPlayerOne()) {
-                    opponentName = checkerBoard.getPlayerTwo();
-                } else {
-                    opponentName = checkerBoard.getPlayerOne();
-                }
-                // opponent king switches
-                if (playerName == checkerBoard.getPlayerOne()) {
-                    opponentNameKing = checkerBoard.getPlayerTwoKing();
-                } else {
-                    opponentNameKing = checkerBoard.getPlayerOneKing();
-                }
-
-                // determines if a player has won the game. If a player did win, the game ends
-                if (checkerBoard.checkPlayerWin(checkerBoard.getPlayerOne())) {
-                    gameWon = true;
-                    System.out.printf("Player %c has won!\n", checkerBoard.getPlayerOne());
-                } else if (checkerBoard.checkPlayerWin(checkerBoard.getPlayerTwo())) {
-                    gameWon = true;
-                    System.out.printf("Player %c has won!\n", checkerBoard.getPlayerTwo());
+                // otherwise, the player picks a piece and a direction to move it in
+                else {
+                    playPlayerMove(scan, session);
                 }
             }
 
@@ -422,6 +527,9 @@ public class CheckersFE {
             if (keepPlayingResponse.equalsIgnoreCase("N")) {
                 keepPlaying = false;
             }
+            else {
+                session.newGame();
+            }
         }
     }
 }
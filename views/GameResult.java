@@ -0,0 +1,219 @@
+package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.util.Arrays;
+
+/**
+ * GameResult records one game a Tournament played between its candidate and baseline engines: the board it was played
+ * on, which side the candidate played, how it ended for the candidate, its moves, and what it cost. GameResult can not
+ * be changed once it is made.
+ *
+ * @invariant score = [WIN, DRAW, or LOSS] AND plies >= 0 AND moves.length = plies AND candidateNodes >= 0 AND
+ * baselineNodes >= 0 AND wallNanos >= 0
+ */
+public final class GameResult {
+    // represents the score of a game the candidate won, drew, or lost
+    public static final double WIN = 1.0;
+    public static final double DRAW = 0.5;
+    public static final double LOSS = 0.0;
+
+    /**
+     * the dimension and type of the board the game was played on (see Perft.makeStartingBoard)
+     */
+    private final int boardSize;
+    private final char backend;
+
+    /**
+     * the game number within its board, and whether the candidate played player one
+     */
+    private final int gameNumber;
+    private final boolean candidateIsPlayerOne;
+
+    /**
+     * the score of the game for the candidate, and the number of plies played
+     */
+    private final double score;
+    private final int plies;
+
+    /**
+     * the moves of the game in order, as packed longs (see Move)
+     */
+    private final long[] moves;
+
+    /**
+     * the positions searched by each engine over the whole game, and the time the game took in nanoseconds
+     */
+    private final long candidateNodes;
+    private final long baselineNodes;
+    private final long wallNanos;
+
+    /**
+     * Constructor for GameResult object. Accepts ten parameters.
+     * @param aBoardSize The dimension of the board, as an int
+     * @param aBackend The type of board, as a char
+     * @param aGameNumber The game number within its board, as an int
+     * @param aCandidateIsPlayerOne True when the candidate played player one, as a boolean
+     * @param aScore The score of the game for the candidate, as a double
+     * @param aPlies The number of plies played, as an int
+     * @param aMoves The moves of the game in order, which are copied, as a long[]
+     * @param aCandidateNodes The positions the candidate searched, as a long
+     * @param aBaselineNodes The positions the baseline searched, as a long
+     * @param aWallNanos The time the game took in nanoseconds, as a long
+     *
+     * @pre aScore = [WIN, DRAW, or LOSS] AND aPlies >= 0 AND aMoves.length >= aPlies AND aCandidateNodes >= 0 AND
+     * aBaselineNodes >= 0 AND aWallNanos >= 0
+     *
+     * @post boardSize = aBoardSize AND backend = aBackend AND gameNumber = aGameNumber AND candidateIsPlayerOne =
+     * aCandidateIsPlayerOne AND score = aScore AND plies = aPlies AND moves = [the first aPlies moves of aMoves] AND
+     * candidateNodes = aCandidateNodes AND baselineNodes = aBaselineNodes AND wallNanos = aWallNanos
+     */
+    public GameResult(int aBoardSize, char aBackend, int aGameNumber, boolean aCandidateIsPlayerOne, double aScore,
+                      int aPlies, long[] aMoves, long aCandidateNodes, long aBaselineNodes, long aWallNanos) {
+        boardSize = aBoardSize;
+        backend = aBackend;
+        gameNumber = aGameNumber;
+        candidateIsPlayerOne = aCandidateIsPlayerOne;
+        score = aScore;
+        plies = aPlies;
+        moves = Arrays.copyOf(aMoves, aPlies);
+        candidateNodes = aCandidateNodes;
+        baselineNodes = aBaselineNodes;
+        wallNanos = aWallNanos;
+    }
+
+    /**
+     * Simple accessor for the dimension of the board the game was played on.
+     * @return The board size, as an int
+     *
+     * @pre None
+     *
+     * @post getBoardSize = boardSize
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Simple accessor for the type of board the game was played on.
+     * @return The board type (CheckersFE.GAME_FAST, GAME_MEM_EFFICIENT, GAME_BITBOARD, or GAME_COMPACT), as a char
+     *
+     * @pre None
+     *
+     * @post getBackend = backend
+     */
+    public char getBackend() {
+        return backend;
+    }
+
+    /**
+     * Simple accessor for the game number within its board.
+     * @return The game number, as an int
+     *
+     * @pre None
+     *
+     * @post getGameNumber = gameNumber
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    /**
+     * Simple accessor for the side the candidate played.
+     * @return True when the candidate played player one, as a boolean
+     *
+     * @pre None
+     *
+     * @post isCandidatePlayerOne = candidateIsPlayerOne
+     */
+    public boolean isCandidatePlayerOne() {
+        return candidateIsPlayerOne;
+    }
+
+    /**
+     * Simple accessor for the score of the game for the candidate.
+     * @return WIN, DRAW, or LOSS, as a double
+     *
+     * @pre None
+     *
+     * @post getScore = score
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * Simple accessor for the length of the game.
+     * @return The number of plies played, as an int
+     *
+     * @pre None
+     *
+     * @post getPlies = plies
+     */
+    public int getPlies() {
+        return plies;
+    }
+
+    /**
+     * Simple accessor for the moves of the game.
+     * @return A copy of the moves in order, as packed longs (see Move), as a long[]
+     *
+     * @pre None
+     *
+     * @post getMoves = [a copy of moves]
+     */
+    public long[] getMoves() {
+        return moves.clone();
+    }
+
+    /**
+     * Finds how the game ended for the players rather than for the candidate.
+     * @return PLAYER_ONE_WON, PLAYER_TWO_WON, or DRAW, as a GameStatusEnum
+     *
+     * @pre None
+     *
+     * @post getStatus = [DRAW when score = DRAW, otherwise the win of the player the candidate played when score = WIN,
+     * or of the other player when score = LOSS]
+     */
+    public GameStatusEnum getStatus() {
+        if (score == DRAW) {
+            return GameStatusEnum.DRAW;
+        }
+        return ((score == WIN) == candidateIsPlayerOne) ? GameStatusEnum.PLAYER_ONE_WON : GameStatusEnum.PLAYER_TWO_WON;
+    }
+
+    /**
+     * Simple accessor for the positions the candidate searched over the whole game.
+     * @return The candidate's node count, as a long
+     *
+     * @pre None
+     *
+     * @post getCandidateNodes = candidateNodes
+     */
+    public long getCandidateNodes() {
+        return candidateNodes;
+    }
+
+    /**
+     * Simple accessor for the positions the baseline searched over the whole game.
+     * @return The baseline's node count, as a long
+     *
+     * @pre None
+     *
+     * @post getBaselineNodes = baselineNodes
+     */
+    public long getBaselineNodes() {
+        return baselineNodes;
+    }
+
+    /**
+     * Simple accessor for the time the game took.
+     * @return The wall time of the game in nanoseconds, as a long
+     *
+     * @pre None
+     *
+     * @post getWallNanos = wallNanos
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+}
@@ -0,0 +1,304 @@
+package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.CheckerBoardBit;
+import cpsc2150.extendedCheckers.models.CheckerBoardCompact;
+import cpsc2150.extendedCheckers.models.CheckerBoardMem;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+
+/**
+ * Perft counts every legal move path from the starting position to a given depth. The counts only depend on the rules,
+ * so every ICheckerBoard implementation must produce the same numbers, which makes perft a correctness check for new
+ * board representations as well as a throughput benchmark. Perft.java contains a main function that prints the count,
+ * time, and nodes per second of every depth, for one board size or for every board size, and can divide the deepest
+ * count among the root moves.
+ *
+ * Usage: Perft depth [size|all] [f|m|b|c] [divide] [hash=MB]. The size defaults to 8 and the board to f
+ * (CheckerBoard); m is CheckerBoardMem, b is CheckerBoardBit, and c is CheckerBoardCompact. divide prints the count
+ * below each root move, and hash=MB caches subtree counts by position in a table of the given size.
+ *
+ * @invariant 0 <= depth AND [cacheKeys and cacheCounts are null, or both have a power of two length]
+ */
+public class Perft {
+    // represents the board size and board type used when none is given
+    private static final int DEFAULT_BOARD_SIZE = 8;
+    private static final char DEFAULT_BACKEND = CheckersFE.GAME_FAST;
+    // represents the argument values that select every board size, divide output, and the hash cache
+    private static final String ALL_SIZES = "all";
+    private static final String DIVIDE = "divide";
+    private static final String HASH_PREFIX = "hash=";
+    // represents the number of longs per cached entry (the key and the count) and the bytes per megabyte
+    private static final int CACHE_ENTRY_BYTES = 2 * Long.BYTES;
+    private static final int BYTES_PER_MB = 1024 * 1024;
+    // represents the number of bits of a cache key used to store the depth the count belongs to
+    private static final int DEPTH_BITS = 8;
+
+    /**
+     * the board being counted
+     */
+    private final ICheckerBoard board;
+
+    /**
+     * the move buffer of every ply, each of which grows for a position with more legal moves than it holds
+     */
+    private final long[][] moves;
+
+    /**
+     * the cached subtree counts, keyed by the position's hash mixed with the depth, or null when caching is off
+     */
+    private final long[] cacheKeys;
+    private final long[] cacheCounts;
+
+    /**
+     * Constructor for Perft object. Accepts three parameters.
+     * @param aBoard The board to count move paths on, as an ICheckerBoard
+     * @param maxDepth The deepest count that will be asked for, as an int
+     * @param cacheSizeMb The size of the hash cache in megabytes, or 0 for no cache, as an int
+     *
+     * @pre aBoard != null AND maxDepth >= 0 AND cacheSizeMb >= 0
+     *
+     * @post board = aBoard AND moves = [one buffer per ply up to maxDepth] AND [the cache holds the most entries that
+     * fit in cacheSizeMb megabytes, or is null when cacheSizeMb = 0]
+     */
+    public Perft(ICheckerBoard aBoard, int maxDepth, int cacheSizeMb) {
+        board = aBoard;
+        moves = new long[maxDepth + 1][ICheckerBoard.MOVE_BUFFER_SIZE];
+        if (cacheSizeMb > 0) {
+            int entries = (int) Math.min(Long.highestOneBit((long) cacheSizeMb * BYTES_PER_MB / CACHE_ENTRY_BYTES), 1 << 30);
+            cacheKeys = new long[entries];
+            cacheCounts = new long[entries];
+        }
+        else {
+            cacheKeys = null;
+            cacheCounts = null;
+        }
+    }
+
+    /**
+     * Counts every legal move path of a given length from the current position, for the player to move. Accepts one
+     * parameter.
+     * @param depth The number of plies in each path, as an int
+     * @return The number of move paths, as a long
+     *
+     * @pre 0 <= depth <= [the maxDepth the Perft was made with]
+     *
+     * @post count = [the number of legal move paths of depth plies] AND board = #board
+     */
+    public long count(int depth) {
+        return count(board.getPlayerToMove(), depth);
+    }
+
+    /**
+     * Counts the move paths below each legal root move, writing the root moves and their counts into the given
+     * arrays. Accepts three parameters.
+     * @param depth The number of plies in each path, counting the root move, as an int
+     * @param rootMoves The buffer the root moves are written into, as a long[]
+     * @param counts The buffer the count below each root move is written into, as a long[]
+     * @return The number of root moves, as an int
+     *
+     * @pre 1 <= depth <= [the maxDepth the Perft was made with] AND rootMoves.length >= [the number of root moves]
+     * AND counts.length >= [the number of root moves]
+     *
+     * @post divide = [the number of root moves] AND [the counts add up to count(depth)] AND board = #board
+     */
+    public int divide(int depth, long[] rootMoves, long[] counts) {
+        char side = board.getPlayerToMove();
+        int count = board.generateLegalMoves(side, rootMoves);
+
+        for (int i = 0; i < count; i++) {
+            board.makeMove(rootMoves[i]);
+            counts[i] = count(board.getPlayerToMove(), depth - 1);
+            board.unmakeMove();
+        }
+        return count;
+    }
+
+    /**
+     * Counts the move paths of a given length for a player, playing and undoing every move on the board. The last ply
+     * is counted straight from the number of legal moves instead of being played. Accepts two parameters.
+     * @param side The player to move, as a char
+     * @param depth The number of plies left, as an int
+     * @return The number of move paths, as a long
+     *
+     * @pre side = [player1 or player2] AND 0 <= depth <= [the maxDepth the Perft was made with]
+     *
+     * @post count = [the number of legal move paths of depth plies] AND board = #board
+     */
+    private long count(char side, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        int index = 0;
+        long key = 0;
+        // a count already cached for this position and depth is used without searching again
+        if (cacheKeys != null && depth > 1) {
+            key = Long.rotateLeft(board.hash(), DEPTH_BITS) ^ depth;
+            index = (int) (key & (cacheKeys.length - 1));
+            if (cacheKeys[index] == key && cacheCounts[index] != 0) {
+                return cacheCounts[index];
+            }
+        }
+
+        long[] plyMoves = moves[depth];
+        int count = board.generateLegalMoves(side, plyMoves);
+        if (depth == 1) {
+            return count;
+        }
+        if (count > plyMoves.length) {
+            plyMoves = new long[count];
+            moves[depth] = plyMoves;
+            board.generateLegalMoves(side, plyMoves);
+        }
+        char opponent = (side == board.getPlayerOne()) ? board.getPlayerTwo() : board.getPlayerOne();
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            board.makeMove(plyMoves[i]);
+            nodes += count(opponent, depth - 1);
+            board.unmakeMove();
+        }
+
+        if (cacheKeys != null) {
+            cacheKeys[index] = key;
+            cacheCounts[index] = nodes;
+        }
+        return nodes;
+    }
+
+    /**
+     * Makes a board of the chosen type and size with the starting position. Tournament and the tests make their boards
+     * here too. Accepts two parameters.
+     * @param backend The type of board (CheckersFE.GAME_FAST, GAME_MEM_EFFICIENT, GAME_BITBOARD, or
+     * GAME_COMPACT), as a char
+     * @param boardSize The dimension of the board, as an int
+     * @return A board with both players' pieces in their starting positions, as an ICheckerBoard
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post makeStartingBoard = [a new board of the chosen type after putPlayersOnNewBoard('x', 'o')]
+     */
+    public static ICheckerBoard makeStartingBoard(char backend, int boardSize) {
+        ICheckerBoard board;
+
+        if (backend == CheckersFE.GAME_MEM_EFFICIENT) {
+            board = new CheckerBoardMem(boardSize);
+        }
+        else if (backend == CheckersFE.GAME_BITBOARD) {
+            board = new CheckerBoardBit(boardSize);
+        }
+        else if (backend == CheckersFE.GAME_COMPACT) {
+            board = new CheckerBoardCompact(boardSize);
+        }
+        else {
+            board = new CheckerBoard(boardSize);
+        }
+        board.putPlayersOnNewBoard('x', 'o');
+        return board;
+    }
+
+    /**
+     * Makes a board of the chosen type and size with both players put on it and then every piece taken off again, so
+     * that positions can be set up on it with placePiece. Accepts two parameters.
+     * @param backend The type of board (see makeStartingBoard), as a char
+     * @param boardSize The dimension of the board, as an int
+     * @return A board with no pieces and player one to move, as an ICheckerBoard
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16]
+     *
+     * @post makeEmptyBoard = [a new board of the chosen type with players 'x' and 'o', no pieces, and 'x' to move]
+     */
+    public static ICheckerBoard makeEmptyBoard(char backend, int boardSize) {
+        ICheckerBoard board = makeStartingBoard(backend, boardSize);
+        int squareCount = boardSize * boardSize / ICheckerBoard.EVEN_DIVISOR;
+
+        for (int square = 0; square < squareCount; square++) {
+            if (board.whatsAtSquare(square) != ICheckerBoard.EMPTY_POS) {
+                board.removePiece(BoardPosition.ofSquare(square, boardSize));
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Runs perft on one board size: prints the count, time, and nodes per second of every depth from 1 to the given
+     * depth, and the divided count of the deepest depth when asked. Accepts five parameters.
+     * @param backend The type of board, as a char
+     * @param boardSize The dimension of the board, as an int
+     * @param depth The deepest depth to count, as an int
+     * @param divide True when the deepest count should be divided among the root moves, as a boolean
+     * @param cacheSizeMb The size of the hash cache in megabytes, or 0 for no cache, as an int
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16] AND depth >= 1 AND cacheSizeMb >= 0
+     *
+     * @post runSize = [prints one line per depth, and one line per root move when divide is true]
+     */
+    private static void runSize(char backend, int boardSize, int depth, boolean divide, int cacheSizeMb) {
+        ICheckerBoard board = makeStartingBoard(backend, boardSize);
+        Perft perft = new Perft(board, depth, cacheSizeMb);
+
+        System.out.printf("%s %dx%d\n", board.getClass().getSimpleName(), boardSize, boardSize);
+        System.out.printf("%5s %16s %10s %14s\n", "depth", "nodes", "ms", "nps");
+        for (int d = 1; d <= depth; d++) {
+            long start = System.nanoTime();
+            long nodes = perft.count(d);
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%5d %16d %10.1f %14.0f\n", d, nodes, elapsed / 1e6, nodes / Math.max(elapsed / 1e9, 1e-9));
+        }
+        if (divide) {
+            long[] rootMoves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            long[] counts = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+            int count = perft.divide(depth, rootMoves, counts);
+            for (int i = 0; i < count; i++) {
+                System.out.printf("%s: %d\n", Move.toString(rootMoves[i], boardSize), counts[i]);
+            }
+        }
+        System.out.println();
+    }
+
+    /**
+     * Main function for perft. Reads the depth, board size, board type, and options from the command line, then counts
+     * and prints. Accepts one parameter.
+     * @param args The depth, followed by any of: a board size or "all", a board type (f, m, b, or c), "divide", and
+     * "hash=MB", as an array of Strings
+     *
+     * @pre args.length >= 1 AND [args[0] is a number of at least 1]
+     *
+     * @post main = [prints the perft results of every chosen board size, or the usage when args is empty]
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: Perft depth [size|all] [f|m|b|c] [divide] [hash=MB]");
+            return;
+        }
+        int depth = Integer.parseInt(args[0]);
+        int firstSize = DEFAULT_BOARD_SIZE, lastSize = DEFAULT_BOARD_SIZE, cacheSizeMb = 0;
+        char backend = DEFAULT_BACKEND;
+        boolean divide = false;
+
+        // reads the options, which may be given in any order
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i].toLowerCase();
+            if (arg.equals(ALL_SIZES)) {
+                firstSize = CheckersFE.BOARD_SIZE_MIN;
+                lastSize = CheckersFE.BOARD_SIZE_MAX;
+            }
+            else if (arg.equals(DIVIDE)) {
+                divide = true;
+            }
+            else if (arg.startsWith(HASH_PREFIX)) {
+                cacheSizeMb = Integer.parseInt(arg.substring(HASH_PREFIX.length()));
+            }
+            else if (arg.length() == 1 && Character.isLetter(arg.charAt(0))) {
+                backend = arg.charAt(0);
+            }
+            else {
+                firstSize = Integer.parseInt(arg);
+                lastSize = firstSize;
+            }
+        }
+
+        for (int size = firstSize; size <= lastSize; size += CheckersFE.EVEN_DIVISOR) {
+            runSize(backend, size, depth, divide, cacheSizeMb);
+        }
+    }
+}
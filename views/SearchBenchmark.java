@@ -0,0 +1,63 @@
+package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.engine.ParallelSearch;
+import cpsc2150.extendedCheckers.models.CheckerBoard;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+
+/**
+ * SearchBenchmark measures how the nodes per second of a ParallelSearch scale with the number of threads. After one
+ * untimed warm-up run, it searches the starting position for a fixed time with 1, 2, 4, ... threads up to a maximum,
+ * each time with a fresh table, and prints the nodes per second of each run and its speedup over one thread.
+ *
+ * Usage: SearchBenchmark [maxThreads] [millisPerRun] [boardSize]. The defaults are every available core, 2000
+ * milliseconds, and an 8x8 board.
+ *
+ * @invariant [args from compilation are always obtained via the terminal]
+ */
+public class SearchBenchmark {
+    // represents the size in megabytes of the table shared by the threads of each run
+    private static final int TABLE_SIZE_MB = 256;
+    // represents the time in milliseconds a run searches for when none is given
+    private static final long DEFAULT_MILLIS = 2000;
+    // represents the board size searched when none is given
+    private static final int DEFAULT_BOARD_SIZE = 8;
+
+    /**
+     * Main function for the benchmark. Runs one timed search per thread count and prints a line for each. Accepts one
+     * parameter.
+     * @param args The maximum number of threads, the time per run in milliseconds, and the board size, as an array of
+     * Strings
+     *
+     * @pre [every argument given is a positive number] AND [the board size, when given, is 8, 10, 12, 14, or 16]
+     *
+     * @post main = [prints the threads, nodes, nodes per second, speedup, and depth reached of every run]
+     */
+    public static void main(String[] args) {
+        int maxThreads = (args.length > 0) ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long millis = (args.length > 1) ? Long.parseLong(args[1]) : DEFAULT_MILLIS;
+        int boardSize = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_BOARD_SIZE;
+        double baseNps = 0;
+
+        ICheckerBoard board = new CheckerBoard(boardSize);
+        board.putPlayersOnNewBoard('x', 'o');
+        // warms up the JIT with one untimed run, so that the single thread run is not measured while still compiling
+        try (ParallelSearch warmUp = new ParallelSearch(1, TABLE_SIZE_MB)) {
+            warmUp.setTimeLimitMillis(millis);
+            warmUp.findBestMove(board, board.getPlayerOne());
+        }
+        System.out.printf("%7s %12s %12s %8s %6s\n", "threads", "nodes", "nps", "speedup", "depth");
+        // doubles the threads each run, finishing with exactly maxThreads
+        for (int threads = 1; threads <= maxThreads; threads = (threads == maxThreads) ? threads + 1 : Math.min(threads * 2, maxThreads)) {
+            try (ParallelSearch search = new ParallelSearch(threads, TABLE_SIZE_MB)) {
+                search.setTimeLimitMillis(millis);
+                long start = System.nanoTime();
+                search.findBestMove(board, board.getPlayerOne());
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double nps = search.getNodes() / seconds;
+                if (threads == 1) {
+                    baseNps = nps;
+                }
+                System.out.printf("%7d %12d %12.0f %7.2fx %6d\n", threads, search.getNodes(), nps, nps / baseNps, search.getDepthReached());
+            }
+        }
+    }
+}
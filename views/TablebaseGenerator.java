@@ -0,0 +1,524 @@
+package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.engine.EndgameIndex;
+import cpsc2150.extendedCheckers.engine.EndgameTable;
+import cpsc2150.extendedCheckers.engine.Tablebase;
+import cpsc2150.extendedCheckers.models.BoardPosition;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.Move;
+import cpsc2150.extendedCheckers.models.SquareTable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * TablebaseGenerator solves every 8x8 endgame with up to a given number of pieces by retrograde analysis, one material
+ * signature at a time, and writes each as a block-compressed Tablebase file (and, when asked, as an uncompressed
+ * EndgameTable file too). Signatures are solved from the fewest pieces up, and
+ * with the fewest standard pieces first, so every capture or crowning leads into a table that is already solved.
+ *
+ * A signature is solved in passes over every position it numbers. The first pass finds the positions whose player to
+ * move has no moves (lost in 0 plies) or can win at once by converting into a solved table, and remembers how the
+ * conversions of every other position turn out. Pass n then finds the wins in n plies (a move to a position lost in
+ * n - 1) and the losses in n plies (every move leads to a win for the opponent, the slowest in n - 1), until a pass
+ * finds nothing; every position still unsolved is a draw. Each pass is split across every core with fork-join. A pass
+ * only reads results shorter than the ones it writes, so its threads never depend on each other's progress and the
+ * tables are the same whatever the number of threads.
+ *
+ * Usage: TablebaseGenerator [pieces=N] [threads=N] [dir=DIRECTORY] [raw]. The defaults are 4 pieces, every available
+ * core, and the directory "tablebase", which is made when it does not exist. raw also writes every table uncompressed.
+ *
+ * @invariant [every table in tables is solved] AND [pool runs every pass]
+ */
+public class TablebaseGenerator {
+    // represents the options of main and their defaults
+    private static final int DEFAULT_PIECES = 4;
+    private static final String DEFAULT_DIRECTORY = "tablebase";
+    private static final String PIECES_PREFIX = "pieces=";
+    private static final String THREADS_PREFIX = "threads=";
+    private static final String DIRECTORY_PREFIX = "dir=";
+    private static final String RAW_OPTION = "raw";
+    // represents the fewest pieces a table holds: one for each player
+    private static final int MIN_PIECES = 2;
+    // represents the positions a fork-join task solves itself instead of splitting
+    private static final int TASK_POSITIONS = 4096;
+    // represents how the captures and crownings of a position turn out for the player to move, and a number that is
+    // not a position
+    private static final byte NO_CONVERSION = 0;
+    private static final byte CONVERSION_WINS = 1;
+    private static final byte CONVERSION_DRAWS = 2;
+    private static final byte CONVERSION_LOSES = 3;
+    private static final byte NOT_A_POSITION = 4;
+
+    /**
+     * the threads every pass runs on, the board and buffers of each thread, and every table solved so far keyed by
+     * its signature
+     */
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+    private final HashMap<Integer, EndgameTable> tables = new HashMap<>();
+
+    /**
+     * Worker is one thread's board, emptied and then set up with one position after another, and the buffers its
+     * moves and positions are written into.
+     *
+     * @invariant [board holds exactly the pieces of masks]
+     */
+    private static final class Worker {
+        private final ICheckerBoard board = Perft.makeEmptyBoard(CheckersFE.GAME_BITBOARD, EndgameIndex.BOARD_SIZE);
+        private final SquareTable squares = SquareTable.forSize(EndgameIndex.BOARD_SIZE);
+        private final char[] pieces = {board.getPlayerOne(), board.getPlayerOneKing(), board.getPlayerTwo(), board.getPlayerTwoKing()};
+        private final long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        private final int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        private final int[] childMasks = new int[EndgameIndex.PIECE_TYPES];
+
+        /**
+         * Sets the board up with a numbered position, with its player to move. Accepts two parameters.
+         * @param index The numbering of the position's signature, as an EndgameIndex
+         * @param position The number of the position, as an int
+         * @return The player to move, or EndgameIndex.INVALID when the number is not a position, as an int
+         *
+         * @pre 0 <= position < index.getSize()
+         *
+         * @post setUp = index.decode(position, masks) AND [board holds the position, or is empty when it is INVALID]
+         */
+        private int setUp(EndgameIndex index, int position) {
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                for (int mask = masks[type]; mask != 0; mask &= mask - 1) {
+                    board.removePiece(BoardPosition.ofSquare(Integer.numberOfTrailingZeros(mask), EndgameIndex.BOARD_SIZE));
+                }
+            }
+            int side = index.decode(position, masks);
+            if (side == EndgameIndex.INVALID) {
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    masks[type] = 0;
+                }
+                return side;
+            }
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                for (int mask = masks[type]; mask != 0; mask &= mask - 1) {
+                    board.placePiece(BoardPosition.ofSquare(Integer.numberOfTrailingZeros(mask), EndgameIndex.BOARD_SIZE), pieces[type]);
+                }
+            }
+            board.setPlayerToMove(pieces[manType(side)]);
+            return side;
+        }
+
+        /**
+         * Checks whether a move changes the signature: a capture, or a standard piece reaching its crowning row.
+         * Accepts two parameters.
+         * @param side The player making the move, as an int
+         * @param move The move, as a packed long (see Move)
+         * @return True when the move is a capture or crowns a piece, as a boolean
+         *
+         * @pre [move is a legal move of side on board]
+         *
+         * @post isConversion = [move is a capture, or moves a standard piece onto its crowning row]
+         */
+        private boolean isConversion(int side, long move) {
+            if (Move.isCapture(move)) {
+                return true;
+            }
+            int crownRow = (side == EndgameIndex.PLAYER_ONE_TO_MOVE) ? EndgameIndex.BOARD_SIZE - 1 : 0;
+            return (masks[manType(side)] & (1 << Move.getFrom(move))) != 0 && squares.row(Move.getTo(move)) == crownRow;
+        }
+
+        /**
+         * Reads the squares of every piece type on the board into childMasks.
+         *
+         * @pre None
+         *
+         * @post childMasks = [the squares of each piece type on board]
+         */
+        private void readBoard() {
+            for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                childMasks[type] = 0;
+            }
+            for (int square = 0; square < EndgameIndex.SQUARE_COUNT; square++) {
+                int type = board.pieceType(board.whatsAtSquare(square));
+                if (type != ICheckerBoard.NO_PIECE_TYPE) {
+                    childMasks[type] |= 1 << square;
+                }
+            }
+        }
+    }
+
+    /**
+     * PassTask runs one pass over a range of a signature's positions, splitting the range in half across the pool
+     * until it is at most TASK_POSITIONS long.
+     *
+     * @invariant 0 <= low <= high <= values.length AND pass >= 0
+     */
+    private final class PassTask extends RecursiveTask<Integer> {
+        // represents the version of the serialized form, which is never used because a PassTask is never serialized
+        private static final long serialVersionUID = 1L;
+
+        private final EndgameIndex index;
+        private final byte[] values;
+        private final byte[] conversions;
+        private final int pass;
+        private final int low;
+        private final int high;
+
+        /**
+         * Constructor for PassTask object. Accepts six parameters.
+         * @param anIndex The numbering of the signature, as an EndgameIndex
+         * @param aValues The results found so far, as a byte[]
+         * @param aConversions How the conversions of every position turn out, as a byte[]
+         * @param aPass The pass number, as an int
+         * @param aLow The first position of the range, as an int
+         * @param aHigh The position after the last of the range, as an int
+         *
+         * @pre 0 <= aLow <= aHigh <= aValues.length AND aPass >= 0
+         *
+         * @post index = anIndex AND values = aValues AND conversions = aConversions AND pass = aPass AND low = aLow
+         * AND high = aHigh
+         */
+        private PassTask(EndgameIndex anIndex, byte[] aValues, byte[] aConversions, int aPass, int aLow, int aHigh) {
+            index = anIndex;
+            values = aValues;
+            conversions = aConversions;
+            pass = aPass;
+            low = aLow;
+            high = aHigh;
+        }
+
+        /**
+         * Runs the pass over the range.
+         * @return The number of positions the pass solved, as an Integer
+         *
+         * @pre None
+         *
+         * @post compute = [the number of positions in the range solved by this pass]
+         */
+        @Override
+        protected Integer compute() {
+            if (high - low > TASK_POSITIONS) {
+                int middle = (low + high) >>> 1;
+                PassTask left = new PassTask(index, values, conversions, pass, low, middle);
+                left.fork();
+                int solved = new PassTask(index, values, conversions, pass, middle, high).compute();
+                return solved + left.join();
+            }
+            Worker worker = workers.get();
+            int solved = 0;
+            for (int position = low; position < high; position++) {
+                if (values[position] == EndgameTable.DRAW && conversions[position] != NOT_A_POSITION
+                        && ((pass == 0) ? firstPass(worker, position) : laterPass(worker, position))) {
+                    solved++;
+                }
+            }
+            return solved;
+        }
+
+        /**
+         * Solves a position that has no moves, or that wins by converting, and remembers how its conversions turn
+         * out. Accepts two parameters.
+         * @param worker The calling thread's Worker, as a Worker
+         * @param position The number of the position, as an int
+         * @return True when the position was solved, as a boolean
+         *
+         * @pre [every table a conversion leads into is solved]
+         *
+         * @post firstPass = [the position is lost in 0 or won in 1] AND conversions[position] = [how its conversions
+         * turn out, or NOT_A_POSITION]
+         */
+        private boolean firstPass(Worker worker, int position) {
+            int side = worker.setUp(index, position);
+            if (side == EndgameIndex.INVALID) {
+                conversions[position] = NOT_A_POSITION;
+                return false;
+            }
+            int count = worker.board.generateLegalMoves(worker.pieces[manType(side)], worker.moves);
+            if (count == 0) {
+                values[position] = EndgameTable.loss(0);
+                return true;
+            }
+            byte conversion = NO_CONVERSION;
+            for (int i = 0; i < count && conversion != CONVERSION_WINS; i++) {
+                if (worker.isConversion(side, worker.moves[i])) {
+                    byte child = probeConversion(worker, side, worker.moves[i]);
+                    if (EndgameTable.isLoss(child)) {
+                        conversion = CONVERSION_WINS;
+                    }
+                    else if (!EndgameTable.isWin(child) || conversion == CONVERSION_DRAWS) {
+                        conversion = CONVERSION_DRAWS;
+                    }
+                    else {
+                        conversion = CONVERSION_LOSES;
+                    }
+                }
+            }
+            conversions[position] = conversion;
+            if (conversion == CONVERSION_WINS) {
+                values[position] = EndgameTable.win(1);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Solves a position that wins or loses in exactly pass plies. Only the moves that keep the signature are
+         * played, since the conversions were already looked at by the first pass. Accepts two parameters.
+         * @param worker The calling thread's Worker, as a Worker
+         * @param position The number of the position, as an int
+         * @return True when the position was solved, as a boolean
+         *
+         * @pre pass >= 1 AND [every result shorter than pass plies is in values] AND [position is not solved]
+         *
+         * @post laterPass = [the position is won or lost in pass plies] AND [when true, values[position] holds it]
+         */
+        private boolean laterPass(Worker worker, int position) {
+            int side = worker.setUp(index, position);
+            int count = worker.board.generateLegalMoves(worker.pieces[manType(side)], worker.moves);
+            boolean everyMoveLoses = conversions[position] != CONVERSION_DRAWS;
+
+            for (int i = 0; i < count; i++) {
+                long move = worker.moves[i];
+                if (worker.isConversion(side, move)) {
+                    continue;
+                }
+                // a move that keeps the signature only moves one piece from one square to another
+                int from = Move.getFrom(move), to = Move.getTo(move);
+                for (int type = 0; type < EndgameIndex.PIECE_TYPES; type++) {
+                    worker.childMasks[type] = worker.masks[type];
+                    if ((worker.masks[type] & (1 << from)) != 0) {
+                        worker.childMasks[type] ^= (1 << from) | (1 << to);
+                    }
+                }
+                byte child = values[index.index(worker.childMasks, 1 - side)];
+                if (EndgameTable.isLoss(child) && EndgameTable.distance(child) == pass - 1) {
+                    values[position] = EndgameTable.win(pass);
+                    return true;
+                }
+                // results of pass plies or more may be written by this pass at the same time, so they are not counted
+                if (!EndgameTable.isWin(child) || EndgameTable.distance(child) >= pass) {
+                    everyMoveLoses = false;
+                }
+            }
+            if (everyMoveLoses) {
+                values[position] = EndgameTable.loss(pass);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Looks up the result of a conversion in the table it leads into, for the opponent who moves next. Accepts
+         * three parameters.
+         * @param worker The calling thread's Worker, as a Worker
+         * @param side The player making the move, as an int
+         * @param move The capture or crowning move, as a packed long (see Move)
+         * @return The result for the opponent, who has lost in 0 plies when the move took their last piece, as a byte
+         * @throws IllegalStateException When the table the move leads into has not been solved
+         *
+         * @pre [move is a legal conversion of side on the worker's board]
+         *
+         * @post probeConversion = [the result of the position after move] AND [the worker's board is unchanged]
+         */
+        private byte probeConversion(Worker worker, int side, long move) {
+            worker.board.makeMove(move);
+            worker.readBoard();
+            worker.board.unmakeMove();
+            int opponent = 1 - side;
+            if ((worker.childMasks[manType(opponent)] | worker.childMasks[manType(opponent) + 1]) == 0) {
+                return EndgameTable.loss(0);
+            }
+            EndgameTable table = tables.get(EndgameIndex.signatureOf(worker.childMasks));
+            if (table == null) {
+                throw new IllegalStateException("endgame " + index + " leads into a table that is not solved");
+            }
+            return table.getValue(table.getIndex().index(worker.childMasks, opponent));
+        }
+    }
+
+    /**
+     * Constructor for TablebaseGenerator object, with no tables solved. Accepts one parameter.
+     * @param threads The number of threads every pass is split across, as an int
+     *
+     * @pre threads >= 1
+     *
+     * @post pool = [a fork-join pool of threads threads] AND tables = [empty]
+     */
+    public TablebaseGenerator(int threads) {
+        pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Finds the piece type of a player's standard pieces. A player's kings are the type after it. Accepts one
+     * parameter.
+     * @param side PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE, as an int
+     * @return ICheckerBoard.PLAYER_ONE_TYPE or PLAYER_TWO_TYPE, as an int
+     *
+     * @pre side = [PLAYER_ONE_TO_MOVE or PLAYER_TWO_TO_MOVE]
+     *
+     * @post manType = [the standard piece type of side]
+     */
+    private static int manType(int side) {
+        return (side == EndgameIndex.PLAYER_ONE_TO_MOVE) ? ICheckerBoard.PLAYER_ONE_TYPE : ICheckerBoard.PLAYER_TWO_TYPE;
+    }
+
+    /**
+     * Lists every signature with up to a number of pieces, in an order they can be solved in: by the number of pieces,
+     * then by the number of standard pieces. Accepts one parameter.
+     * @param maxPieces The most pieces a signature holds, as an int
+     * @return The signatures, as a List<EndgameIndex>
+     *
+     * @pre MIN_PIECES <= maxPieces <= EndgameIndex.MAX_PIECES
+     *
+     * @post signatures = [every signature of at most maxPieces pieces, each after every signature its captures and
+     * crownings lead into]
+     */
+    public static List<EndgameIndex> signatures(int maxPieces) {
+        List<EndgameIndex> signatures = new ArrayList<>();
+        for (int pieces = MIN_PIECES; pieces <= maxPieces; pieces++) {
+            for (int men = 0; men <= pieces; men++) {
+                for (int menOne = 0; menOne <= men; menOne++) {
+                    for (int kingsOne = 0; kingsOne <= pieces - men; kingsOne++) {
+                        int menTwo = men - menOne, kingsTwo = pieces - men - kingsOne;
+                        if (menOne + kingsOne > 0 && menTwo + kingsTwo > 0) {
+                            signatures.add(new EndgameIndex(menOne, kingsOne, menTwo, kingsTwo));
+                        }
+                    }
+                }
+            }
+        }
+        return signatures;
+    }
+
+    /**
+     * Solves every position of a signature, and keeps the table so that later signatures can convert into it.
+     * Accepts one parameter.
+     * @param index The numbering of the signature, as an EndgameIndex
+     * @return The solved table, as an EndgameTable
+     * @throws IllegalStateException When a table the signature converts into has not been solved, or a result is
+     * further than EndgameTable.MAX_DISTANCE plies from conversion
+     *
+     * @pre index != null
+     *
+     * @post solve = [the table of index] AND tables = #tables + [solve]
+     */
+    public EndgameTable solve(EndgameIndex index) {
+        byte[] values = new byte[index.getSize()];
+        byte[] conversions = new byte[index.getSize()];
+
+        pool.invoke(new PassTask(index, values, conversions, 0, 0, values.length));
+        // the first pass also finds wins in 1 ply, so pass 2 runs even when pass 1 finds nothing
+        for (int pass = 1; pass <= EndgameTable.MAX_DISTANCE; pass++) {
+            int solved = pool.invoke(new PassTask(index, values, conversions, pass, 0, values.length));
+            if (solved == 0 && pass > 1) {
+                EndgameTable table = new EndgameTable(index, values);
+                tables.put(index.getSignature(), table);
+                return table;
+            }
+        }
+        throw new IllegalStateException("endgame " + index + " has results over " + EndgameTable.MAX_DISTANCE + " plies from conversion");
+    }
+
+    /**
+     * Simple accessor for a solved table. Accepts one parameter.
+     * @param signature The signature of the table (see EndgameIndex.signature), as an int
+     * @return The table, or null when it has not been solved, as an EndgameTable
+     *
+     * @pre None
+     *
+     * @post getTable = [the solved table of signature, or null]
+     */
+    public EndgameTable getTable(int signature) {
+        return tables.get(signature);
+    }
+
+    /**
+     * Prints the results of a solved table: its positions won, lost, and drawn by the player to move, and its longest
+     * distance to conversion, with the size of its compressed file. Accepts three parameters.
+     * @param table The solved table, as an EndgameTable
+     * @param bytes The size of its compressed file, as a long
+     * @param nanos The time solving it took in nanoseconds, as a long
+     *
+     * @pre table != null
+     *
+     * @post printTable = [prints one line]
+     */
+    private static void printTable(EndgameTable table, long bytes, long nanos) {
+        EndgameIndex index = table.getIndex();
+        int[] masks = new int[EndgameIndex.PIECE_TYPES];
+        int wins = 0, losses = 0, draws = 0, longest = 0;
+
+        for (int position = 0; position < index.getSize(); position++) {
+            if (index.decode(position, masks) == EndgameIndex.INVALID) {
+                continue;
+            }
+            byte value = table.getValue(position);
+            if (EndgameTable.isWin(value)) {
+                wins++;
+            }
+            else if (EndgameTable.isLoss(value)) {
+                losses++;
+            }
+            else {
+                draws++;
+            }
+            longest = Math.max(longest, EndgameTable.distance(value));
+        }
+        System.out.printf("%9s %10d %10d %10d %10d %7d %10d %8.2f\n", index, wins + losses + draws, wins, losses, draws, longest, bytes, nanos / 1e9);
+    }
+
+    /**
+     * Main function for the tablebase generator. Reads the options from the command line, then solves, writes, and
+     * prints every table. Accepts one parameter.
+     * @param args Any of: "pieces=N", "threads=N", "dir=DIRECTORY", and "raw", as an array of Strings
+     * @throws IOException When the directory or a table file can not be written
+     *
+     * @pre [pieces is between MIN_PIECES and EndgameIndex.MAX_PIECES] AND [threads is positive]
+     *
+     * @post main = [a compressed table file (and an uncompressed one, when raw is given) for every signature of at most
+     * pieces pieces is in the directory, and a line is printed for each]
+     */
+    public static void main(String[] args) throws IOException {
+        int pieces = DEFAULT_PIECES, threads = Runtime.getRuntime().availableProcessors();
+        Path directory = Path.of(DEFAULT_DIRECTORY);
+        boolean raw = false;
+
+        // reads the options, which may be given in any order
+        for (String option : args) {
+            String arg = option.toLowerCase();
+            if (arg.startsWith(PIECES_PREFIX)) {
+                pieces = Integer.parseInt(arg.substring(PIECES_PREFIX.length()));
+            }
+            else if (arg.startsWith(THREADS_PREFIX)) {
+                threads = Integer.parseInt(arg.substring(THREADS_PREFIX.length()));
+            }
+            else if (arg.startsWith(DIRECTORY_PREFIX)) {
+                directory = Path.of(option.substring(DIRECTORY_PREFIX.length()));
+            }
+            else if (arg.equals(RAW_OPTION)) {
+                raw = true;
+            }
+            else {
+                System.out.println("Usage: TablebaseGenerator [pieces=N] [threads=N] [dir=DIRECTORY] [raw]");
+                return;
+            }
+        }
+
+        Files.createDirectories(directory);
+        TablebaseGenerator generator = new TablebaseGenerator(threads);
+        long start = System.nanoTime(), totalBytes = 0;
+        System.out.printf("%9s %10s %10s %10s %10s %7s %10s %8s\n", "signature", "positions", "won", "lost", "drawn", "longest", "bytes", "seconds");
+        for (EndgameIndex index : signatures(pieces)) {
+            long tableStart = System.nanoTime();
+            EndgameTable table = generator.solve(index);
+            long bytes = Files.size(Tablebase.write(table, directory, Tablebase.DEFAULT_BLOCK_BYTES));
+            if (raw) {
+                table.write(directory);
+            }
+            totalBytes += bytes;
+            printTable(table, bytes, System.nanoTime() - tableStart);
+        }
+        System.out.printf("%d tables (%d bytes compressed) in %.1f s\n", signatures(pieces).size(), totalBytes, (System.nanoTime() - start) / 1e9);
+    }
+}
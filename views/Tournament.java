@@ -0,0 +1,574 @@
+package cpsc2150.extendedCheckers.views;
+import cpsc2150.extendedCheckers.engine.EvalWeights;
+import cpsc2150.extendedCheckers.engine.OpeningBook;
+import cpsc2150.extendedCheckers.engine.OpeningBookBuilder;
+import cpsc2150.extendedCheckers.engine.SearchEngine;
+import cpsc2150.extendedCheckers.engine.Tablebase;
+import cpsc2150.extendedCheckers.engine.TranspositionTable;
+import cpsc2150.extendedCheckers.models.GameArchiveWriter;
+import cpsc2150.extendedCheckers.models.GameSession;
+import cpsc2150.extendedCheckers.models.ICheckerBoard;
+import cpsc2150.extendedCheckers.models.PdnWriter;
+import cpsc2150.extendedCheckers.util.GameStatusEnum;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tournament plays a candidate engine against a baseline engine without anyone at the keyboard, many games at once on
+ * a pool of threads, and estimates the difference in their strength as an Elo rating with a 95% margin of error. Every
+ * game is played on its own board, of any size and type, so the results of the board implementations can be compared
+ * side by side, and a board that breaks shows up as results that differ from the others. Each game opens with a few
+ * random plies picked from a seeded Random, and every opening is played twice with the sides swapped, so the engines'
+ * results do not depend on who moves first. The engines are limited by nodes instead of time, which makes every game
+ * repeatable whatever the number of threads or the load of the machine. Every game is run by a GameSession, which
+ * decides when it is won or drawn, and a game that reaches MAX_PLIES plies is stopped and counted as a draw. An engine
+ * that plays a move the session refuses forfeits the game.
+ *
+ * Usage: Tournament [games=N] [nodes=N] [threads=N] [seed=N] [size|all]... [f|m|b|c]... [candidate=FILE]
+ * [baseline=FILE] [book=FILE] [writebook=FILE] [tablebase=DIR] [pdn=FILE] [archive=FILE]. The defaults are 100 games
+ * per board, 20000 nodes per move (which must be at least MIN_NODES), every available core, seed 1, an 8x8 board, and
+ * both CheckerBoard (f) and CheckerBoardMem (m); the weights files are read as by EvalWeights.load, and both engines
+ * use the default weights when none are given. book is an opening book both engines consult, and writebook writes the
+ * first BOOK_PLIES plies of every game on the first board size as a new opening book. tablebase is a directory of
+ * compressed endgame tables both engines probe, sharing one cache, pdn writes every game played in Portable Draughts
+ * Notation (see PdnWriter), and archive adds every game played to a binary game archive (see GameArchive).
+ *
+ * @invariant nodesPerMove > 0 AND [every thread's engines use candidate and baseline weights]
+ */
+public class Tournament {
+    // represents the plies played at random at the start of every game, so that the games differ
+    private static final int OPENING_PLIES = 4;
+    // represents the length of a game that is stopped and counted as a draw
+    private static final int MAX_PLIES = 400;
+    // represents the size in megabytes of the transposition table of each engine
+    private static final int TABLE_SIZE_MB = 4;
+    // represents the scale of the Elo curve, and the z value of a 95% confidence interval
+    private static final double ELO_SCALE = 400;
+    private static final double Z_95 = 1.96;
+
+    // represents the settings used when none are given
+    private static final int DEFAULT_GAMES = 100;
+    private static final long DEFAULT_NODES = 20000;
+    // represents the fewest nodes per move that let an engine finish a shallow search in every position
+    private static final long MIN_NODES = 100;
+    private static final long DEFAULT_SEED = 1;
+    private static final int DEFAULT_BOARD_SIZE = 8;
+    private static final char[] DEFAULT_BACKENDS = {CheckersFE.GAME_FAST, CheckersFE.GAME_MEM_EFFICIENT};
+    // represents the argument values that select every board size, and the prefixes of the other options
+    private static final String ALL_SIZES = "all";
+    private static final String GAMES_PREFIX = "games=";
+    private static final String NODES_PREFIX = "nodes=";
+    private static final String THREADS_PREFIX = "threads=";
+    private static final String SEED_PREFIX = "seed=";
+    private static final String CANDIDATE_PREFIX = "candidate=";
+    private static final String BASELINE_PREFIX = "baseline=";
+    private static final String BOOK_PREFIX = "book=";
+    private static final String WRITE_BOOK_PREFIX = "writebook=";
+    private static final String TABLEBASE_PREFIX = "tablebase=";
+    private static final String PDN_PREFIX = "pdn=";
+    private static final String ARCHIVE_PREFIX = "archive=";
+    // represents the plies of each game a written opening book holds, and the fewest games a book move must be played in
+    private static final int BOOK_PLIES = 16;
+    private static final int BOOK_MIN_GAMES = 2;
+
+    /**
+     * the weights of the engine being tested and of the engine it is measured against
+     */
+    private final EvalWeights candidate;
+    private final EvalWeights baseline;
+
+    /**
+     * the nodes each engine may search per move, and the seed the random openings are picked with
+     */
+    private final long nodesPerMove;
+    private final long seed;
+
+    /**
+     * the opening book both engines consult, or null
+     */
+    private final OpeningBook book;
+
+    /**
+     * the endgame tablebase both engines probe, or null
+     */
+    private final Tablebase tablebase;
+
+    /**
+     * the candidate and baseline engines of each thread, made the first time the thread plays a game
+     */
+    private final ThreadLocal<SearchEngine[]> engines;
+
+    /**
+     * Constructor for Tournament object, with no opening book or tablebase. Accepts four parameters.
+     * @param aCandidate The weights of the engine being tested, as an EvalWeights
+     * @param aBaseline The weights of the engine it is measured against, as an EvalWeights
+     * @param aNodesPerMove The nodes each engine may search per move, as a long
+     * @param aSeed The seed the random openings are picked with, as a long
+     *
+     * @pre aCandidate != null AND aBaseline != null AND aNodesPerMove > 0
+     *
+     * @post candidate = aCandidate AND baseline = aBaseline AND nodesPerMove = aNodesPerMove AND seed = aSeed AND
+     * book = null AND tablebase = null
+     */
+    public Tournament(EvalWeights aCandidate, EvalWeights aBaseline, long aNodesPerMove, long aSeed) {
+        this(aCandidate, aBaseline, aNodesPerMove, aSeed, null);
+    }
+
+    /**
+     * Constructor for Tournament object, with no tablebase. Accepts five parameters.
+     * @param aCandidate The weights of the engine being tested, as an EvalWeights
+     * @param aBaseline The weights of the engine it is measured against, as an EvalWeights
+     * @param aNodesPerMove The nodes each engine may search per move, as a long
+     * @param aSeed The seed the random openings are picked with, as a long
+     * @param aBook The opening book both engines consult after the random opening plies, or null, as an OpeningBook
+     *
+     * @pre aCandidate != null AND aBaseline != null AND aNodesPerMove > 0
+     *
+     * @post candidate = aCandidate AND baseline = aBaseline AND nodesPerMove = aNodesPerMove AND seed = aSeed AND
+     * book = aBook AND tablebase = null
+     */
+    public Tournament(EvalWeights aCandidate, EvalWeights aBaseline, long aNodesPerMove, long aSeed, OpeningBook aBook) {
+        this(aCandidate, aBaseline, aNodesPerMove, aSeed, aBook, null);
+    }
+
+    /**
+     * Constructor for Tournament object. Accepts six parameters.
+     * @param aCandidate The weights of the engine being tested, as an EvalWeights
+     * @param aBaseline The weights of the engine it is measured against, as an EvalWeights
+     * @param aNodesPerMove The nodes each engine may search per move, as a long
+     * @param aSeed The seed the random openings are picked with, as a long
+     * @param aBook The opening book both engines consult after the random opening plies, or null, as an OpeningBook
+     * @param aTablebase The endgame tablebase both engines probe while searching, or null, as a Tablebase
+     *
+     * @pre aCandidate != null AND aBaseline != null AND aNodesPerMove > 0
+     *
+     * @post candidate = aCandidate AND baseline = aBaseline AND nodesPerMove = aNodesPerMove AND seed = aSeed AND
+     * book = aBook AND tablebase = aTablebase
+     */
+    public Tournament(EvalWeights aCandidate, EvalWeights aBaseline, long aNodesPerMove, long aSeed, OpeningBook aBook,
+                      Tablebase aTablebase) {
+        candidate = aCandidate;
+        baseline = aBaseline;
+        nodesPerMove = aNodesPerMove;
+        seed = aSeed;
+        book = aBook;
+        tablebase = aTablebase;
+        engines = ThreadLocal.withInitial(() -> new SearchEngine[] {makeEngine(candidate), makeEngine(baseline)});
+    }
+
+    /**
+     * Makes an engine that searches a fixed number of nodes per move with no time limit. Accepts one parameter.
+     * @param weights The weights the engine scores positions with, as an EvalWeights
+     * @return A new engine with its own small transposition table, as a SearchEngine
+     *
+     * @pre weights != null
+     *
+     * @post makeEngine = [a new SearchEngine limited to nodesPerMove nodes per move that uses weights, book, and
+     * tablebase]
+     */
+    private SearchEngine makeEngine(EvalWeights weights) {
+        SearchEngine engine = new SearchEngine(new TranspositionTable(TABLE_SIZE_MB));
+        engine.setTimeLimitMillis(SearchEngine.NO_LIMIT);
+        engine.setNodeLimit(nodesPerMove);
+        engine.setWeights(weights);
+        engine.setOpeningBook(book);
+        engine.setTablebase(tablebase);
+        return engine;
+    }
+
+    /**
+     * Plays every game of the tournament on a pool of threads: a number of games on every board type at every board
+     * size. Accepts four parameters.
+     * @param boardSizes The dimensions of the boards to play on, as an int[]
+     * @param backends The types of board to play on (see Perft.makeStartingBoard), as a char[]
+     * @param gamesPerBoard The number of games to play on each board type at each board size, as an int
+     * @param threads The number of games to play at once, as an int
+     * @return The result of every game, ordered by board size, then board type, then game number, as a
+     * List<GameResult>
+     *
+     * @pre [every board size is 8, 10, 12, 14, or 16] AND gamesPerBoard >= 0 AND threads >= 1
+     *
+     * @post run = [boardSizes.length * backends.length * gamesPerBoard results]
+     */
+    public List<GameResult> run(int[] boardSizes, char[] backends, int gamesPerBoard, int threads) {
+        List<Future<GameResult>> futures = new ArrayList<>(boardSizes.length * backends.length * gamesPerBoard);
+        List<GameResult> results = new ArrayList<>(boardSizes.length * backends.length * gamesPerBoard);
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tournament-game");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            for (int boardSize : boardSizes) {
+                for (char backend : backends) {
+                    for (int game = 0; game < gamesPerBoard; game++) {
+                        int gameNumber = game;
+                        futures.add(pool.submit(() -> playGame(backend, boardSize, gameNumber)));
+                    }
+                }
+            }
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("tournament interrupted", e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("tournament game failed", e.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * Plays one game between the candidate and the baseline on a new board, with the calling thread's engines. The
+     * opening is picked from the game number, so games 2k and 2k + 1 share an opening and the candidate plays player
+     * one in the even game. Accepts three parameters.
+     * @param backend The type of board (see Perft.makeStartingBoard), as a char
+     * @param boardSize The dimension of the board, as an int
+     * @param gameNumber The game number within its board, as an int
+     * @return The result of the game, as a GameResult
+     *
+     * @pre boardSize = [8, 10, 12, 14, or 16] AND gameNumber >= 0
+     *
+     * @post playGame = [the result of the game, which is the same every time it is played with the same settings]
+     */
+    public GameResult playGame(char backend, int boardSize, int gameNumber) {
+        SearchEngine[] threadEngines = engines.get();
+        ICheckerBoard board = Perft.makeStartingBoard(backend, boardSize);
+        GameSession session = new GameSession(board);
+        Random random = new Random(seed + gameNumber / 2);
+        long[] moves = new long[ICheckerBoard.MOVE_BUFFER_SIZE];
+        boolean candidateIsPlayerOne = gameNumber % 2 == 0;
+        long[] nodes = new long[threadEngines.length];
+        long[] played = new long[MAX_PLIES];
+        char forfeited = ICheckerBoard.NULL_POS;
+        double score;
+        long start = System.nanoTime();
+
+        // an empty table makes the game the same whichever games this thread played before
+        for (SearchEngine engine : threadEngines) {
+            engine.getTranspositionTable().clear();
+        }
+        while (session.getStatus() == GameStatusEnum.IN_PROGRESS && session.getPlyCount() < MAX_PLIES) {
+            char side = session.getPlayerToMove();
+            long move;
+            if (session.getPlyCount() < OPENING_PLIES) {
+                int count = board.generateLegalMoves(side, moves);
+                if (count > moves.length) {
+                    moves = new long[count];
+                    board.generateLegalMoves(side, moves);
+                }
+                move = moves[random.nextInt(count)];
+            }
+            else {
+                int engineIndex = ((side == board.getPlayerOne()) == candidateIsPlayerOne) ? 0 : 1;
+                move = threadEngines[engineIndex].findBestMove(board, side);
+                nodes[engineIndex] += threadEngines[engineIndex].getNodes();
+            }
+            played[session.getPlyCount()] = move;
+            // a refused move is never played, so the game could not go on: its player forfeits instead
+            if (!session.submitMove(move)) {
+                forfeited = side;
+                break;
+            }
+        }
+
+        // a forfeit is lost by the player who forfeited, and a game still being played after MAX_PLIES plies is a draw
+        if (forfeited != ICheckerBoard.NULL_POS) {
+            score = ((forfeited == board.getPlayerOne()) == candidateIsPlayerOne) ? GameResult.LOSS : GameResult.WIN;
+        }
+        else if (session.getStatus() == GameStatusEnum.PLAYER_ONE_WON) {
+            score = candidateIsPlayerOne ? GameResult.WIN : GameResult.LOSS;
+        }
+        else if (session.getStatus() == GameStatusEnum.PLAYER_TWO_WON) {
+            score = candidateIsPlayerOne ? GameResult.LOSS : GameResult.WIN;
+        }
+        else {
+            score = GameResult.DRAW;
+        }
+        return new GameResult(boardSize, backend, gameNumber, candidateIsPlayerOne, score, session.getPlyCount(), played, nodes[0], nodes[1], System.nanoTime() - start);
+    }
+
+    /**
+     * Converts an average score into the Elo difference that predicts it. Accepts one parameter.
+     * @param score The candidate's average score per game, as a double
+     * @return The candidate's Elo rating minus the baseline's, or an infinity when score is 0 or 1, as a double
+     *
+     * @pre 0 <= score <= 1
+     *
+     * @post eloDifference = -ELO_SCALE * log10(1 / score - 1)
+     */
+    public static double eloDifference(double score) {
+        if (score <= 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        if (score >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return -ELO_SCALE * Math.log10(1 / score - 1);
+    }
+
+    /**
+     * Works out the 95% margin of error of the Elo difference of a number of wins, draws, and losses, from the spread
+     * of the score of a single game. Accepts three parameters.
+     * @param wins The candidate's wins, as an int
+     * @param draws The draws, as an int
+     * @param losses The candidate's losses, as an int
+     * @return Half the width of the 95% confidence interval of the Elo difference, or infinity when the interval
+     * reaches a score of 0 or 1, as a double
+     *
+     * @pre wins >= 0 AND draws >= 0 AND losses >= 0 AND wins + draws + losses > 0
+     *
+     * @post eloMargin = [(eloDifference(high) - eloDifference(low)) / 2, where low and high are the average score
+     * minus and plus Z_95 standard errors]
+     */
+    public static double eloMargin(int wins, int draws, int losses) {
+        int games = wins + draws + losses;
+        double score = (wins * GameResult.WIN + draws * GameResult.DRAW + losses * GameResult.LOSS) / games;
+        double winSpread = GameResult.WIN - score, drawSpread = GameResult.DRAW - score, lossSpread = GameResult.LOSS - score;
+        double variance = (wins * winSpread * winSpread + draws * drawSpread * drawSpread + losses * lossSpread * lossSpread) / games;
+        double error = Z_95 * Math.sqrt(variance / games);
+
+        if (score - error <= 0 || score + error >= 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (eloDifference(score + error) - eloDifference(score - error)) / 2;
+    }
+
+    /**
+     * Prints one line of totals for every board type and size, and the candidate's results and Elo difference over
+     * every game. Accepts two parameters.
+     * @param results The results of the tournament, ordered as run returns them, as a List<GameResult>
+     * @param wallNanos The time the whole tournament took in nanoseconds, as a long
+     *
+     * @pre results != null AND [results is not empty]
+     *
+     * @post printReport = [prints a line per board type and size, and the totals]
+     */
+    private static void printReport(List<GameResult> results, long wallNanos) {
+        int wins = 0, draws = 0, losses = 0;
+        int first = 0;
+
+        System.out.printf("%4s %5s %6s %5s %5s %5s %7s %12s %9s\n", "size", "board", "games", "won", "drawn", "lost", "plies", "nodes/game", "ms/game");
+        for (int i = 1; i <= results.size(); i++) {
+            // a board ends where the next result is of another size or type, or where the results end
+            if (i < results.size() && results.get(i).getBoardSize() == results.get(first).getBoardSize() && results.get(i).getBackend() == results.get(first).getBackend()) {
+                continue;
+            }
+            int boardWins = 0, boardDraws = 0, boardLosses = 0;
+            long plies = 0, nodes = 0, nanos = 0;
+            for (GameResult result : results.subList(first, i)) {
+                if (result.getScore() == GameResult.WIN) {
+                    boardWins++;
+                }
+                else if (result.getScore() == GameResult.DRAW) {
+                    boardDraws++;
+                }
+                else {
+                    boardLosses++;
+                }
+                plies += result.getPlies();
+                nodes += result.getCandidateNodes() + result.getBaselineNodes();
+                nanos += result.getWallNanos();
+            }
+            int games = i - first;
+            System.out.printf("%4d %5c %6d %5d %5d %5d %7.1f %12d %9.1f\n", results.get(first).getBoardSize(), results.get(first).getBackend(), games,
+                    boardWins, boardDraws, boardLosses, (double) plies / games, nodes / games, nanos / 1e6 / games);
+            wins += boardWins;
+            draws += boardDraws;
+            losses += boardLosses;
+            first = i;
+        }
+
+        double score = (wins * GameResult.WIN + draws * GameResult.DRAW + losses * GameResult.LOSS) / results.size();
+        System.out.printf("candidate: +%d =%d -%d, score %.1f%%, Elo %+.1f +/- %.1f\n", wins, draws, losses, score * 100,
+                eloDifference(score), eloMargin(wins, draws, losses));
+        System.out.printf("%d games in %.1f s (%.1f games/s)\n", results.size(), wallNanos / 1e9, results.size() / (wallNanos / 1e9));
+    }
+
+    /**
+     * Main function for the tournament. Reads the options from the command line, plays every game, and prints the
+     * report. Accepts one parameter.
+     * @param args Any of: "games=N", "nodes=N", "threads=N", "seed=N", board sizes or "all", board types (f, m, b, or
+     * c), "candidate=FILE", "baseline=FILE", "book=FILE", "writebook=FILE", "tablebase=DIR", "pdn=FILE", and
+     * "archive=FILE", as an array of Strings
+     * @throws IOException When a weights file, the opening book, or the endgame tables can not be read, or the new
+     * opening book or the games can not be written
+     *
+     * @pre [every board size given is 8, 10, 12, 14, or 16] AND [every number given is positive]
+     *
+     * @post main = [prints the results of every board and the candidate's Elo difference, or that nodes is too small
+     * when it is below MIN_NODES]
+     */
+    public static void main(String[] args) throws IOException {
+        int games = DEFAULT_GAMES, threads = Runtime.getRuntime().availableProcessors();
+        long nodes = DEFAULT_NODES, seed = DEFAULT_SEED;
+        EvalWeights candidate = EvalWeights.DEFAULT, baseline = EvalWeights.DEFAULT;
+        OpeningBook book = null;
+        Tablebase tablebase = null;
+        Path bookFile = null, pdnFile = null, archiveFile = null;
+        List<Integer> sizes = new ArrayList<>();
+        StringBuilder backends = new StringBuilder();
+
+        // reads the options, which may be given in any order
+        for (String option : args) {
+            String arg = option.toLowerCase();
+            if (arg.startsWith(GAMES_PREFIX)) {
+                games = Integer.parseInt(arg.substring(GAMES_PREFIX.length()));
+            }
+            else if (arg.startsWith(NODES_PREFIX)) {
+                nodes = Long.parseLong(arg.substring(NODES_PREFIX.length()));
+            }
+            else if (arg.startsWith(THREADS_PREFIX)) {
+                threads = Integer.parseInt(arg.substring(THREADS_PREFIX.length()));
+            }
+            else if (arg.startsWith(SEED_PREFIX)) {
+                seed = Long.parseLong(arg.substring(SEED_PREFIX.length()));
+            }
+            else if (arg.startsWith(CANDIDATE_PREFIX)) {
+                candidate = EvalWeights.load(Path.of(option.substring(CANDIDATE_PREFIX.length())));
+            }
+            else if (arg.startsWith(BASELINE_PREFIX)) {
+                baseline = EvalWeights.load(Path.of(option.substring(BASELINE_PREFIX.length())));
+            }
+            else if (arg.startsWith(BOOK_PREFIX)) {
+                book = OpeningBook.open(Path.of(option.substring(BOOK_PREFIX.length())));
+            }
+            else if (arg.startsWith(TABLEBASE_PREFIX)) {
+                tablebase = Tablebase.open(Path.of(option.substring(TABLEBASE_PREFIX.length())), Tablebase.DEFAULT_CACHE_MB);
+            }
+            else if (arg.startsWith(PDN_PREFIX)) {
+                pdnFile = Path.of(option.substring(PDN_PREFIX.length()));
+            }
+            else if (arg.startsWith(ARCHIVE_PREFIX)) {
+                archiveFile = Path.of(option.substring(ARCHIVE_PREFIX.length()));
+            }
+            else if (arg.startsWith(WRITE_BOOK_PREFIX)) {
+                bookFile = Path.of(option.substring(WRITE_BOOK_PREFIX.length()));
+            }
+            else if (arg.equals(ALL_SIZES)) {
+                for (int size = CheckersFE.BOARD_SIZE_MIN; size <= CheckersFE.BOARD_SIZE_MAX; size += CheckersFE.EVEN_DIVISOR) {
+                    sizes.add(size);
+                }
+            }
+            else if (arg.length() == 1 && Character.isLetter(arg.charAt(0))) {
+                backends.append(arg.charAt(0));
+            }
+            else {
+                sizes.add(Integer.parseInt(arg));
+            }
+        }
+        if (nodes < MIN_NODES) {
+            System.out.println("nodes must be at least " + MIN_NODES);
+            return;
+        }
+        if (sizes.isEmpty()) {
+            sizes.add(DEFAULT_BOARD_SIZE);
+        }
+        char[] boardTypes = (backends.length() == 0) ? DEFAULT_BACKENDS : backends.toString().toCharArray();
+        int[] boardSizes = sizes.stream().mapToInt(Integer::intValue).toArray();
+
+        Tournament tournament = new Tournament(candidate, baseline, nodes, seed, book, tablebase);
+        long start = System.nanoTime();
+        List<GameResult> results = tournament.run(boardSizes, boardTypes, games, threads);
+        if (results.isEmpty()) {
+            System.out.println("no games were played");
+            return;
+        }
+        printReport(results, System.nanoTime() - start);
+        if (bookFile != null) {
+            writeBook(results, boardSizes[0], bookFile);
+        }
+        if (pdnFile != null) {
+            writePdn(results, pdnFile);
+        }
+        if (archiveFile != null) {
+            writeArchive(results, archiveFile);
+        }
+    }
+
+    /**
+     * Writes the openings of every game on one board size as an opening book, and prints how big it is. Accepts three
+     * parameters.
+     * @param results The results of the tournament, as a List<GameResult>
+     * @param boardSize The board size whose games go in the book, as an int
+     * @param file The book file to write, as a Path
+     * @throws IOException When the file can not be written
+     *
+     * @pre results != null AND boardSize = [8, 10, 12, 14, or 16] AND file != null
+     *
+     * @post writeBook = [file holds the first BOOK_PLIES plies of every game on boardSize, and a line is printed]
+     */
+    private static void writeBook(List<GameResult> results, int boardSize, Path file) throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(boardSize, BOOK_PLIES);
+        for (GameResult result : results) {
+            if (result.getBoardSize() == boardSize) {
+                long[] moves = result.getMoves();
+                builder.addGame(Perft.makeStartingBoard(result.getBackend(), boardSize), moves, moves.length, result.getStatus());
+            }
+        }
+        int records = builder.write(file, BOOK_MIN_GAMES);
+        System.out.printf("opening book %s: %d moves from %d positions of %d games\n", file, records, builder.getPositionCount(), builder.getGameCount());
+    }
+
+    /**
+     * Writes every game of the tournament in Portable Draughts Notation, in the order they were played, and prints
+     * how many were written. Accepts two parameters.
+     * @param results The results of the tournament, as a List<GameResult>
+     * @param file The PDN file to write, which is replaced when it exists, as a Path
+     * @throws IOException When the file can not be written
+     *
+     * @pre results != null AND file != null
+     *
+     * @post writePdn = [file holds every game of results, and a line is printed]
+     */
+    private static void writePdn(List<GameResult> results, Path file) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file)) {
+            PdnWriter writer = new PdnWriter(out);
+            for (GameResult result : results) {
+                long[] moves = result.getMoves();
+                writer.writeGame(Perft.makeStartingBoard(result.getBackend(), result.getBoardSize()), moves, moves.length, result.getStatus());
+            }
+            System.out.printf("games %s: %d games in PDN\n", file, writer.getGameCount());
+        }
+    }
+
+    /**
+     * Adds every game of the tournament to a game archive, in the order they were played, and prints how many games
+     * the archive holds and how big it is. Accepts two parameters.
+     * @param results The results of the tournament, as a List<GameResult>
+     * @param file The game archive to add to, which is made when it does not exist, as a Path
+     * @throws IOException When the file can not be read or written, or is not a game archive
+     *
+     * @pre results != null AND file != null
+     *
+     * @post writeArchive = [file holds every game it held before and every game of results, and a line is printed]
+     */
+    private static void writeArchive(List<GameResult> results, Path file) throws IOException {
+        int gameCount;
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            for (GameResult result : results) {
+                long[] moves = result.getMoves();
+                writer.addGame(Perft.makeStartingBoard(result.getBackend(), result.getBoardSize()), moves, moves.length, result.getStatus());
+            }
+            gameCount = writer.getGameCount();
+        }
+        System.out.printf("games %s: %d games in a %d byte archive\n", file, gameCount, Files.size(file));
+    }
+}